@@ -25,7 +25,9 @@ import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
 import io.frinx.cli.unit.ios.init.IosCliInitializerUnit;
+import io.frinx.cli.unit.ios.init.probe.CapabilityProbes;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import java.util.Collections;
@@ -44,8 +46,10 @@ public class BrocadeCliInitializerUnit extends AbstractUnit {
 
     private static final Command WRITE_MEMORY = Command.writeCommandNoChecks("write memory");
 
-    private static final Pattern INVALID_COMMAND = Pattern.compile("Invalid input.*");
-    private static final Pattern ERROR_COMMAND = Pattern.compile("Error.*");
+    private static final ErrorPatternMatcher ERROR_PATTERNS = ErrorPatternMatcher.builder()
+            .add(Pattern.compile("Invalid input.*"), "invalid input")
+            .add(Pattern.compile("Error.*"), "error")
+            .build();
 
     public BrocadeCliInitializerUnit(@Nonnull final TranslationUnitCollector registry) {
         super(registry);
@@ -89,7 +93,14 @@ public class BrocadeCliInitializerUnit extends AbstractUnit {
 
     @Override
     public Set<Pattern> getErrorPatterns() {
-        return Sets.newHashSet(INVALID_COMMAND, ERROR_COMMAND);
+        return Sets.newLinkedHashSet(ERROR_PATTERNS.getPatterns());
+    }
+
+    /**
+     * Compiled {@link #getErrorPatterns()}.
+     */
+    public ErrorPatternMatcher getErrorPatternMatcher() {
+        return ERROR_PATTERNS;
     }
 
     @Override
@@ -98,6 +109,8 @@ public class BrocadeCliInitializerUnit extends AbstractUnit {
                                 @Nonnull final TranslateUnit.Context context) {
         readRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
         writeRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
+        // device (re)connected, capabilities probed over a previous connection may be outdated
+        CapabilityProbes.reset(context.getTransport());
     }
 }
 
@@ -17,6 +17,10 @@
 package io.frinx.cli.unit.brocade.ifc;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounters;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -38,6 +42,34 @@ public final class Util {
     private static final Set<Class<? extends InterfaceType>> PHYS_IFC_TYPES =
             Collections.singleton(EthernetCsmacd.class);
 
+    /**
+     * Interface configuration blocks read at once, see {@link InterfaceConfigBlocks}.
+     */
+    public static final InterfaceBlockRules INTERFACE_BLOCKS = new InterfaceBlockRules(
+            "show running-config interface",
+            Pattern.compile("^interface (?<name>\\S+ \\S+)\\s*$"),
+            Pattern.compile("^show running-config interface (?<name>\\S+ \\S+)"
+                    + "(?:\\s*\\|\\s*include (?<include>.+))?$"));
+
+    /**
+     * Counters in "show interface" output. Unicast packets are printed after broadcasts and multicasts.
+     */
+    public static final InterfaceCounters INTERFACE_COUNTERS = InterfaceCounters.of(
+            ImmutableMap.<InterfaceCounters.Counter, Pattern>builder()
+                    .put(InterfaceCounters.Counter.IN_PKTS, Pattern.compile("(?<value>\\d+) packets input, .*"))
+                    .put(InterfaceCounters.Counter.IN_OCTETS,
+                            Pattern.compile("\\d+ packets input, (?<value>\\d+) bytes.*"))
+                    .put(InterfaceCounters.Counter.IN_UNICAST_PKTS,
+                            Pattern.compile("Received \\d+ broadcasts, \\d+ multicasts, (?<value>\\d+) unicasts.*"))
+                    .put(InterfaceCounters.Counter.IN_ERRORS, Pattern.compile("(?<value>\\d+) input errors.*"))
+                    .put(InterfaceCounters.Counter.OUT_PKTS, Pattern.compile("(?<value>\\d+) packets output, .*"))
+                    .put(InterfaceCounters.Counter.OUT_OCTETS,
+                            Pattern.compile("\\d+ packets output, (?<value>\\d+) bytes.*"))
+                    .put(InterfaceCounters.Counter.OUT_UNICAST_PKTS,
+                            Pattern.compile("Transmitted \\d+ broadcasts, \\d+ multicasts, (?<value>\\d+) unicasts.*"))
+                    .put(InterfaceCounters.Counter.OUT_ERRORS, Pattern.compile("(?<value>\\d+) output errors.*"))
+                    .build());
+
     private Util() {
     }
 
@@ -19,6 +19,8 @@ package io.frinx.cli.unit.brocade.ifc.handler;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.LineScanner;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.brocade.extension.rev190726.IfBrocadePriorityAug;
@@ -68,21 +70,17 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
     }
 
     @Override
-    public void parseInterface(String output, ConfigBuilder builder, String name) {
-        super.parseInterface(output, builder, name);
+    protected void parseInterface(String output, LineScanner.Result<Field> lines, ConfigBuilder builder,
+                                  String name) {
+        super.parseInterface(output, lines, builder, name);
         parsePriority(output, builder);
     }
 
     @Override
-    public void parseEnabled(final String output, final ConfigBuilder builder) {
-        // Set disabled unless proven otherwise
-        builder.setEnabled(false);
-
-        // Actually check if enabled
-        ParsingUtils.parseField(output, 0,
-            SHUTDOWN_LINE::matcher,
-            matcher -> true,
-            builder::setEnabled);
+    protected void parseEnabled(final String output, final LineScanner.Result<Field> lines,
+                                final ConfigBuilder builder) {
+        // Disabled unless proven otherwise
+        builder.setEnabled(lines.get(Field.SHUTDOWN).isPresent());
     }
 
     private void parsePriority(String output, ConfigBuilder builder) {
@@ -99,4 +97,9 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
 
         builder.addAugmentation(IfBrocadePriorityAug.class, priorityBuilder.build());
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
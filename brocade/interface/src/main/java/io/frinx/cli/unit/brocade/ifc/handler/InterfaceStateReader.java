@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceStateReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounters;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.StateBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
@@ -66,6 +67,11 @@ public final class InterfaceStateReader extends AbstractInterfaceStateReader {
         return DESCR_LINE;
     }
 
+    @Override
+    protected InterfaceCounters getInterfaceCounters() {
+        return Util.INTERFACE_COUNTERS;
+    }
+
     @Override
     @VisibleForTesting
     protected void parseInterfaceState(final String output, final StateBuilder builder, final String name) {
@@ -22,6 +22,8 @@ import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.io.Command;
 import io.frinx.cli.unit.brocade.ifc.Util;
+import io.frinx.cli.unit.ios.init.probe.CapabilityProbe;
+import io.frinx.cli.unit.ios.init.probe.CapabilityProbes;
 import io.frinx.cli.unit.utils.CliWriter;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
@@ -36,6 +38,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public final class TpIdInterfaceWriter implements CliWriter<Config1> {
 
     private static final Pattern TAG1_TAG2_PATTERN = Pattern.compile("\\s+tag-value\\s+.*tag1, tag2.*");
+    private static final CapabilityProbe<Boolean> TAG_ALIASES_PROBE = TpIdInterfaceWriter::probeTagAliases;
 
     private static final String WRITE_TEMPLATE = "configure terminal\n"
             + "{% if ($delete) %}no {% endif %}tag-type {$tpId} {$typeOnDevice} {$ifcNumber}\n"
@@ -69,12 +72,9 @@ public final class TpIdInterfaceWriter implements CliWriter<Config1> {
 
     private boolean isUsingTagAliases(@Nonnull InstanceIdentifier<Config1> id,
                                       @Nonnull Config1 data) throws WriteFailedException.CreateFailedException {
-        // Determine what syntax to use to set tagging
+        // Determine what syntax to use to set tagging, probed once per session
         try {
-            cli.execute(Command.writeCommand("configure terminal")).toCompletableFuture().get();
-            String helpOutput = cli.executeAndRead(Command.writeCommand("?"), "<cr>").toCompletableFuture().get();
-            String checkOutput = blockingWriteAndRead(cli, id, data, "end");
-            return TAG1_TAG2_PATTERN.matcher(helpOutput + checkOutput).find();
+            return CapabilityProbes.get(cli, TAG_ALIASES_PROBE);
         } catch (InterruptedException var6) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("Interrupted", var6);
@@ -82,7 +82,13 @@ public final class TpIdInterfaceWriter implements CliWriter<Config1> {
             LOG.warn("{}: Unable to write: {}, {} by executing: {}", cli, id, data, "configure terminal\n?", var7);
             throw new WriteFailedException.CreateFailedException(id, data, var7);
         }
+    }
 
+    private static boolean probeTagAliases(@Nonnull Cli cli) throws ExecutionException, InterruptedException {
+        cli.execute(Command.writeCommand("configure terminal")).toCompletableFuture().get();
+        String helpOutput = cli.executeAndRead(Command.writeCommand("?"), "<cr>").toCompletableFuture().get();
+        String checkOutput = cli.executeAndRead(Command.writeCommand("end")).toCompletableFuture().get();
+        return TAG1_TAG2_PATTERN.matcher(helpOutput + checkOutput).find();
     }
 
     @VisibleForTesting
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.brocade.ifc.handler.subifc.ip4;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
 
@@ -42,4 +43,9 @@ public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
     protected Pattern getIpLine() {
         return INTERFACE_IP_LINE;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.brocade.ifc.handler.subifc.ip6;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
 
@@ -50,4 +51,9 @@ public final class Ipv6AddressReader extends AbstractIpv6AddressesReader {
     protected Pattern getUnicastIpLine() {
         return IPV6_UNICAST_ADDRESS;
     }
-}
\ No newline at end of file
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
+}
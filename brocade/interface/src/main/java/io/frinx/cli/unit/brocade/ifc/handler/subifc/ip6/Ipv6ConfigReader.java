@@ -19,6 +19,7 @@ package io.frinx.cli.unit.brocade.ifc.handler.subifc.ip6;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.brocade.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6ConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -65,4 +66,9 @@ public final class Ipv6ConfigReader extends AbstractIpv6ConfigReader {
             m -> Short.parseShort(m.group("prefix")),
             configBuilder::setPrefixLength);
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
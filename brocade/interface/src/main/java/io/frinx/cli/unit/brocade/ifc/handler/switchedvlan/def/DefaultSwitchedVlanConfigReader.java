@@ -23,13 +23,9 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
-import java.util.List;
-import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.vlan.rev170714.vlan.switched.top.switched.vlan.Config;
@@ -64,15 +60,8 @@ public class DefaultSwitchedVlanConfigReader implements CompositeReader.Child<Co
 
     @VisibleForTesting
     static void parseVlanConfig(String output, ConfigBuilder configBuilder, String ifcName, ReadContext readContext) {
-        List<Vlan> vlans = (List<Vlan>) readContext.getModificationCache().get(VLAN_KEY);
-        if (vlans == null) {
-            readContext.getModificationCache().put(VLAN_KEY, vlans = ParsingUtils.NEWLINE
-                    .splitAsStream(NEWLINE.matcher(output).replaceAll(" "))
-                    .map(Vlan::create)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList()));
-        }
-        vlans.forEach(v -> Vlan.buildConfiguration(ifcName, configBuilder, v));
+        VlanIndex.getVlanIndex(output, readContext).getSwitchedVlans(ifcName)
+                .forEach(v -> Vlan.buildConfiguration(ifcName, configBuilder, v));
 
         configBuilder.setTrunkVlans(Vlan.optimizeTrunkVlans(configBuilder.getTrunkVlans()));
     }
@@ -57,6 +57,14 @@ public class InterfaceRangeInVlan implements SWInterface {
         return false;
     }
 
+    /**
+     * Slot of all interfaces in this range. Null if the range was not recognized or spans more slots, such range
+     * contains no interface.
+     */
+    Integer getSlot() {
+        return slotLow != null && slotLow.equals(slotHigh) ? slotLow : null;
+    }
+
     @Override
     public String getTag() {
         return tagName;
@@ -20,12 +20,8 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
-import java.util.List;
-import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.vlan.rev170714.vlan.routed.top.routed.vlan.Config;
@@ -56,16 +52,7 @@ public class RoutedVlanConfigReader implements CliConfigReader<Config, ConfigBui
 
     private static void parseVlanConfig(String output, ConfigBuilder routedVlanBuilder,
                                 String ifcName, ReadContext readContext) {
-        List<Vlan> vlans = (List<Vlan>) readContext.getModificationCache()
-                .get(DefaultSwitchedVlanConfigReader.VLAN_KEY);
-        if (vlans == null) {
-            readContext.getModificationCache().put(DefaultSwitchedVlanConfigReader.VLAN_KEY,
-                    vlans = ParsingUtils.NEWLINE.splitAsStream(DefaultSwitchedVlanConfigReader.NEWLINE.matcher(output)
-                            .replaceAll(" "))
-                    .map(Vlan::create)
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList()));
-        }
-        vlans.forEach(v -> Vlan.buildConfiguration(ifcName, routedVlanBuilder, v));
+        VlanIndex.getVlanIndex(output, readContext).getVlans(ifcName)
+                .forEach(v -> Vlan.buildConfiguration(ifcName, routedVlanBuilder, v));
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.brocade.ifc.handler.switchedvlan.def;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * VLANs of {@link DefaultSwitchedVlanConfigReader#SWITCHED_VLAN_CONFIG} indexed by their member interfaces.
+ *
+ * <p>Reading VLAN configuration of an interface only visits VLANs the interface is member of (plus default VLAN),
+ * instead of checking every interface entry of every VLAN. Interface ranges (e.g. "ethe 1/1 to 1/24") are expanded
+ * when an interface of their slot is looked up for the first time.
+ */
+final class VlanIndex {
+
+    private static final Pattern ETHERNET = Pattern.compile("(?<slot>\\d)/(?<port>\\d+)");
+    private static final Pattern ROUTER_IFC = Pattern.compile("ve (?<port>\\d+)");
+    private static final int DEFAULT_VLAN = 1;
+
+    private final List<Vlan> vlans;
+    private final BitSet defaultVlans = new BitSet();
+    // single interfaces, formatted as in SWInterface#getInterfaces, mapped to positions of their VLANs
+    private final Map<String, BitSet> members = new HashMap<>();
+    // interface ranges by slot, each with position of its VLAN
+    private final Map<Integer, List<Map.Entry<InterfaceRangeInVlan, Integer>>> ranges = new HashMap<>();
+    // expanded interface ranges: slot -> port -> positions of VLANs
+    private final Map<Integer, Map<Integer, BitSet>> rangeMembers = new ConcurrentHashMap<>();
+
+    private VlanIndex(List<Vlan> vlans) {
+        this.vlans = ImmutableList.copyOf(vlans);
+        for (int position = 0; position < vlans.size(); position++) {
+            Vlan vlan = vlans.get(position);
+            if (vlan.getId().getValue() == DEFAULT_VLAN) {
+                defaultVlans.set(position);
+            }
+            for (SWInterface ifc : vlan.getInterfaces()) {
+                if (ifc instanceof InterfaceRangeInVlan) {
+                    Integer slot = ((InterfaceRangeInVlan) ifc).getSlot();
+                    if (slot != null) {
+                        ranges.computeIfAbsent(slot, s -> new ArrayList<>())
+                                .add(new AbstractMap.SimpleEntry<>((InterfaceRangeInVlan) ifc, position));
+                    }
+                } else {
+                    for (String name : ifc.getInterfaces()) {
+                        members.computeIfAbsent(name, n -> new BitSet()).set(position);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Index of {@link DefaultSwitchedVlanConfigReader#SWITCHED_VLAN_CONFIG} output shared by all readers within
+     * one read transaction.
+     */
+    @Nonnull
+    static VlanIndex getVlanIndex(@Nonnull String output, @Nonnull ReadContext readContext) {
+        VlanIndex index = (VlanIndex) readContext.getModificationCache().get(DefaultSwitchedVlanConfigReader.VLAN_KEY);
+        if (index == null) {
+            index = parse(output);
+            readContext.getModificationCache().put(DefaultSwitchedVlanConfigReader.VLAN_KEY, index);
+        }
+        return index;
+    }
+
+    @Nonnull
+    static VlanIndex parse(@Nonnull String output) {
+        return new VlanIndex(ParsingUtils.NEWLINE
+                .splitAsStream(DefaultSwitchedVlanConfigReader.NEWLINE.matcher(output).replaceAll(" "))
+                .map(Vlan::create)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * VLANs affecting switched configuration of an ethernet interface: its VLANs and default VLAN, in device order.
+     * @param ifcName ethernet interface, e.g. "1/5"
+     */
+    @Nonnull
+    List<Vlan> getSwitchedVlans(@Nonnull String ifcName) {
+        BitSet positions = getPositions(ifcName);
+        positions.or(defaultVlans);
+        return toVlans(positions);
+    }
+
+    /**
+     * VLANs the interface is member of, in device order.
+     * @param ifcName ethernet interface, e.g. "1/5", or router interface, e.g. "ve 5"
+     */
+    @Nonnull
+    List<Vlan> getVlans(@Nonnull String ifcName) {
+        return toVlans(getPositions(ifcName));
+    }
+
+    private BitSet getPositions(String ifcName) {
+        BitSet positions = new BitSet();
+        Matcher ethernet = ETHERNET.matcher(ifcName);
+        if (ethernet.matches()) {
+            Integer slot = Integer.valueOf(ethernet.group("slot"));
+            Integer port = Integer.valueOf(ethernet.group("port"));
+            orIfPresent(positions, members.get(String.format("ethernet %s/%s", slot, port)));
+            orIfPresent(positions, rangeMembers.computeIfAbsent(slot, this::expandRanges).get(port));
+        }
+        Matcher router = ROUTER_IFC.matcher(ifcName.trim());
+        if (router.matches()) {
+            orIfPresent(positions, members.get(String.format("ve %s", router.group("port"))));
+        }
+        return positions;
+    }
+
+    private Map<Integer, BitSet> expandRanges(Integer slot) {
+        Map<Integer, BitSet> ports = new HashMap<>();
+        for (Map.Entry<InterfaceRangeInVlan, Integer> range : ranges.getOrDefault(slot, new ArrayList<>())) {
+            for (String name : range.getKey().getInterfaces()) {
+                Matcher matcher = ETHERNET.matcher(name.substring(name.indexOf(' ') + 1));
+                if (matcher.matches()) {
+                    ports.computeIfAbsent(Integer.valueOf(matcher.group("port")), p -> new BitSet())
+                            .set(range.getValue());
+                }
+            }
+        }
+        return ports;
+    }
+
+    private static void orIfPresent(BitSet positions, BitSet other) {
+        if (other != null) {
+            positions.or(other);
+        }
+    }
+
+    private List<Vlan> toVlans(BitSet positions) {
+        return positions.stream()
+                .mapToObj(vlans::get)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.brocade.ifc.handler.switchedvlan.def;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class VlanIndexTest {
+
+    private static final String OUTPUT = "vlan 1 name DEFAULT-VLAN \n"
+            + " no untagged ethe 1/2 ethe 1/4 ethe 1/18 to 1/19 \n"
+            + "vlan 12 name Management-VLAN \n"
+            + " tagged ethe 1/2 to 1/5 ethe 1/14 \n"
+            + " router-interface ve 12 \n"
+            + "vlan 13 \n"
+            + " tagged ethe 1/2 to 1/3 ethe 2/1 to 2/4 \n"
+            + "vlan 111 name 213.143.111.32/28 \n"
+            + " untagged ethe 1/6 to 1/13 \n"
+            + " tagged ethe 1/5 ethe 2/15 \n"
+            + "vlan 1501 \n";
+
+    @Test
+    public void testGetVlans() {
+        VlanIndex index = VlanIndex.parse(OUTPUT);
+
+        Assert.assertEquals(Arrays.asList(12, 13), ids(index.getVlans("1/3")));
+        Assert.assertEquals(Arrays.asList(12, 111), ids(index.getVlans("1/5")));
+        Assert.assertEquals(Arrays.asList(1, 12, 111), ids(index.getSwitchedVlans("1/5")));
+        Assert.assertEquals(Collections.singletonList(13), ids(index.getVlans("2/4")));
+        Assert.assertEquals(Collections.singletonList(111), ids(index.getVlans("2/15")));
+        Assert.assertEquals(Collections.emptyList(), ids(index.getVlans("2/5")));
+        Assert.assertEquals(Collections.singletonList(1), ids(index.getVlans("1/18")));
+        Assert.assertEquals(Collections.singletonList(1), ids(index.getSwitchedVlans("1/24")));
+        Assert.assertEquals(Collections.singletonList(12), ids(index.getVlans("ve 12")));
+        Assert.assertEquals(Collections.emptyList(), ids(index.getVlans("ve 13")));
+    }
+
+    @Test
+    public void testIndexSharedPerReadContext() {
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+
+        VlanIndex index = VlanIndex.getVlanIndex(OUTPUT, readContext);
+        Assert.assertSame(index, VlanIndex.getVlanIndex(OUTPUT, readContext));
+    }
+
+    private static List<Integer> ids(List<Vlan> vlans) {
+        return vlans.stream()
+                .map(vlan -> vlan.getId().getValue())
+                .collect(Collectors.toList());
+    }
+}
@@ -23,19 +23,14 @@ import io.frinx.cli.unit.brocade.isis.BrocadeIsisUnit;
 import io.frinx.cli.unit.brocade.network.instance.BrocadeNetworkInstanceUnit;
 import io.frinx.cli.unit.brocade.stp.BrocadeStpUnit;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
-import java.net.InetSocketAddress;
+import io.frinx.cli.unit.ios.it.sim.SimulatedDevice;
+import io.frinx.cli.unit.ios.it.sim.Transcript;
+import java.io.IOException;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNode;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeConnectionParameters;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.credentials.credentials.LoginPasswordBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.keepalive.keepalive.strategy.KeepaliveBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.Device;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.DeviceIdBuilder;
 
@@ -46,33 +41,11 @@ public class BrocadeAll extends io.frinx.cli.unit.ios.it.IosAll {
             .setDeviceVersion("*")
             .build();
 
-    private static final int PORT = 23;
-    private static final String HOST = "213.143.100.21";
-    private static final InetSocketAddress IOS_ADDR = new InetSocketAddress(HOST, PORT);
-
     public BrocadeAll() {
         // Set false to not fail immediately when a read exception occurs
         this.failFast = false;
     }
 
-    private static final CliNode CLI_CFG = new CliNodeBuilder()
-            .setPort(new PortNumber(PORT))
-            .setHost(new Host(new IpAddress(new Ipv4Address(HOST))))
-            .setDeviceType(BROCADE.getDeviceType())
-            .setDeviceVersion(BROCADE.getDeviceVersion())
-            .setTransportType(CliNodeConnectionParameters.TransportType.Telnet)
-            .setCredentials(new LoginPasswordBuilder()
-                    .setUsername("frinx")
-                    .setPassword("Igasp4WE!")
-                    .build())
-            .setKeepaliveStrategy(new KeepaliveBuilder()
-                    .setKeepaliveDelay(30)
-                    .setKeepaliveTimeout(30)
-                    .setKeepaliveInitialDelay(30)
-                    .build())
-            .build();
-
-
     @Override
     protected Device getDeviceId() {
         return BROCADE;
@@ -80,11 +53,21 @@ public class BrocadeAll extends io.frinx.cli.unit.ios.it.IosAll {
 
     @Override
     protected CliNode getCliNode() {
-        return CLI_CFG;
+        return cliNode(CliNodeConnectionParameters.TransportType.Telnet, "frinx", "Igasp4WE!");
     }
 
-    protected InetSocketAddress getAddress() {
-        return IOS_ADDR;
+    @Override
+    protected SimulatedDevice createDevice() throws IOException {
+        return SimulatedDevice.builder("ironware")
+                .telnet()
+                .prompt("telnet@MLX>")
+                .enable("enable", "Igasp4WE!", "telnet@MLX#")
+                .configMode("configure terminal", "telnet@MLX(config)#", "end")
+                .login("frinx", "Igasp4WE!")
+                .unknownCommandOutput("Invalid input -> ^\r\nType ? for a list\r\n")
+                .latency(DEVICE_LATENCY)
+                .transcript(Transcript.fromResource("/sim/ironware.transcript"))
+                .start();
     }
 
     @Override
@@ -16,19 +16,9 @@
 
 package io.frinx.cli.unit.brocade.network.instance.l2p2p;
 
-import io.fd.honeycomb.translate.read.ReadContext;
-import io.fd.honeycomb.translate.read.ReadFailedException;
-import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ni.base.handler.l2p2p.AbstractL2P2PReader;
-import io.frinx.cli.unit.utils.CliReader;
-import java.util.AbstractMap;
-import java.util.List;
 import java.util.regex.Pattern;
-import javax.annotation.Nonnull;
-import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
-import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
-import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class L2P2PReader extends AbstractL2P2PReader {
 
@@ -61,23 +51,4 @@ public final class L2P2PReader extends AbstractL2P2PReader {
     protected Pattern getLocalRemoteLine() {
         return VLL_ID_LINE;
     }
-
-    @Override
-    public List<NetworkInstanceKey> getAllIds(@Nonnull InstanceIdentifier<?> instanceIdentifier,
-                                              @Nonnull ReadContext ctx,
-                                              @Nonnull CliReader reader) throws ReadFailedException {
-        // Caching here to speed up reading
-        if (ctx.getModificationCache().get(new AbstractMap.SimpleEntry<>(L2P2PReader.class, reader)) != null) {
-            return (List<NetworkInstanceKey>) ctx.getModificationCache()
-                    .get(new AbstractMap.SimpleEntry<>(L2P2PReader.class, reader));
-        }
-
-        if (!instanceIdentifier.getTargetType().equals(NetworkInstance.class)) {
-            instanceIdentifier = RWUtils.cutId(instanceIdentifier, NetworkInstance.class);
-        }
-
-        List<NetworkInstanceKey> allIds = super.getAllIds(instanceIdentifier, ctx, reader);
-        ctx.getModificationCache().put(new AbstractMap.SimpleEntry<>(L2P2PReader.class, reader), allIds);
-        return allIds;
-    }
 }
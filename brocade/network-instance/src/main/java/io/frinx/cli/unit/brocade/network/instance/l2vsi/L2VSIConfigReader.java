@@ -75,7 +75,7 @@ public final class L2VSIConfigReader implements CliConfigReader<Config, ConfigBu
     }
 
     private boolean isVSI(InstanceIdentifier<Config> id, ReadContext readContext) throws ReadFailedException {
-        return L2VSIReader.getAllIds(id, readContext, cli, this).contains(id.firstKeyOf(NetworkInstance.class));
+        return L2VSIReader.getL2Vsis(id, readContext, cli, this).contains(id.firstKeyOf(NetworkInstance.class));
     }
 
     @Override
@@ -23,17 +23,19 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ni.base.handler.NetworkInstanceCatalog;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeListReader;
-import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L2VSI;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class L2VSIReader implements
@@ -60,20 +62,19 @@ public final class L2VSIReader implements
                                                      @Nonnull ReadContext readContext,
                                                      @Nonnull Cli cli,
                                                      @Nonnull CliReader reader) throws ReadFailedException {
-        // Caching here to speed up reading
-        if (readContext.getModificationCache().get(new AbstractMap.SimpleEntry<>(L2VSIReader.class, reader)) != null) {
-            return (List<NetworkInstanceKey>) readContext.getModificationCache()
-                    .get(new AbstractMap.SimpleEntry<>(L2VSIReader.class, reader));
-        }
-
-        if (!instanceIdentifier.getTargetType().equals(NetworkInstance.class)) {
-            instanceIdentifier = RWUtils.cutId(instanceIdentifier, NetworkInstance.class);
-        }
+        return new ArrayList<>(getL2Vsis(instanceIdentifier, readContext, cli, reader).getKeys());
+    }
 
-        List<NetworkInstanceKey> allIds =
-                parseL2Vsis(reader.blockingRead(SH_L2_VSI, cli, instanceIdentifier, readContext));
-        readContext.getModificationCache().put(new AbstractMap.SimpleEntry<>(L2VSIReader.class, reader), allIds);
-        return allIds;
+    static NetworkInstanceCatalog.Instances<NetworkInstanceKey> getL2Vsis(
+            @Nonnull InstanceIdentifier<?> instanceIdentifier,
+            @Nonnull ReadContext readContext,
+            @Nonnull Cli cli,
+            @Nonnull CliReader reader) throws ReadFailedException {
+        InstanceIdentifier<?> id = !instanceIdentifier.getTargetType().equals(NetworkInstance.class)
+                ? RWUtils.cutId(instanceIdentifier, NetworkInstance.class)
+                : instanceIdentifier;
+        return NetworkInstanceCatalog.get(readContext).getKeys(L2VSI.class, SH_L2_VSI,
+            () -> parseL2Vsis(reader.blockingRead(SH_L2_VSI, cli, id, readContext)));
     }
 
     @VisibleForTesting
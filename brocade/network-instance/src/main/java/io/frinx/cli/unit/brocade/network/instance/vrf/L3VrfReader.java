@@ -23,7 +23,6 @@ import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ni.base.handler.vrf.AbstractL3VrfReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.openconfig.network.instance.NetworInstance;
-import java.util.AbstractMap;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -53,20 +52,12 @@ public final class L3VrfReader extends AbstractL3VrfReader {
     public List<NetworkInstanceKey> getAllIds(@Nonnull CliReader reader,
                                               @Nonnull InstanceIdentifier<?> id,
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
-        // Caching here to speed up reading
-        if (readContext.getModificationCache().get(new AbstractMap.SimpleEntry<>(L3VrfReader.class, reader)) != null) {
-            return (List<NetworkInstanceKey>) readContext.getModificationCache()
-                    .get(new AbstractMap.SimpleEntry<>(L3VrfReader.class, reader));
-        }
-
         if (!id.getTargetType().equals(NetworkInstance.class)) {
             id = RWUtils.cutId(id, NetworkInstance.class);
         }
 
         List<NetworkInstanceKey> keys = super.getAllIds(reader, id, readContext);
         keys.add(NetworInstance.DEFAULT_NETWORK);
-        readContext.getModificationCache().put(new AbstractMap.SimpleEntry<>(L3VrfReader.class, reader), keys);
         return keys;
-
     }
 }
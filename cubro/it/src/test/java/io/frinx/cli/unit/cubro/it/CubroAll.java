@@ -44,10 +44,14 @@ import io.frinx.cli.unit.cubro.ifc.CubroInterfaceUnit;
 import io.frinx.cli.unit.cubro.init.CubroCliInitializerUnit;
 import io.frinx.cli.unit.cubro.unit.acl.AclUnit;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.ios.it.sim.SimulatedDevice;
+import io.frinx.cli.unit.ios.it.sim.Transcript;
 import io.frinx.openconfig.openconfig.interfaces.IIDs;
 import io.frinx.translate.unit.commons.utils.NoopDataBroker;
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.security.Security;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
@@ -56,6 +60,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -106,26 +111,7 @@ public class CubroAll {
             .build();
 
     private static final String MOUNT_ID = "cubro-it";
-    private static final int PORT = 56800;
-
-    private static final String HOST = "213.143.110.252";
-    private static final InetSocketAddress CUBRO_ADDR = new InetSocketAddress(HOST, PORT);
-    private static final CliNode CLI_CFG = new CliNodeBuilder()
-            .setPort(new PortNumber(PORT))
-            .setHost(new Host(new IpAddress(new Ipv4Address(HOST))))
-            .setDeviceType(CUBRO_ALL.getDeviceType())
-            .setDeviceVersion(CUBRO_ALL.getDeviceVersion())
-            .setTransportType(CliNodeConnectionParameters.TransportType.Ssh)
-            .setCredentials(new LoginPasswordBuilder()
-                    .setUsername("root")
-                    .setPassword("burningfirebeanplant")
-                    .build())
-            .setKeepaliveStrategy(new KeepaliveBuilder()
-                    .setKeepaliveDelay(30)
-                    .setKeepaliveTimeout(30)
-                    .setKeepaliveInitialDelay(30)
-                    .build())
-            .build();
+    private static final Duration DEVICE_LATENCY = Duration.ofMillis(5);
 
     private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(4);
 
@@ -162,6 +148,7 @@ public class CubroAll {
     private Cli cli;
 
     protected boolean failFast = true;
+    protected SimulatedDevice device;
 
     @Before
     public void setUp() throws Exception {
@@ -169,6 +156,7 @@ public class CubroAll {
         setRootLogLevel();
         MockitoAnnotations.initMocks(this);
         mockBroker();
+        device = createDevice();
 
         TranslateRegistryImpl reg = getTranslateRegistry(mockBroker);
 
@@ -221,8 +209,33 @@ public class CubroAll {
         }.load(DataBroker.class).get());
     }
 
+    @After
+    public void tearDown() throws Exception {
+        if (cli != null) {
+            cli.close();
+        }
+        if (device != null) {
+            device.close();
+        }
+    }
+
+    /**
+     * Device the tests are executed against. Recorded outputs are in src/test/resources/sim.
+     */
+    protected SimulatedDevice createDevice() throws IOException {
+        return SimulatedDevice.builder("cubro")
+                .prompt("root@cubro:~#")
+                .shell("vtysh", "cubro#")
+                .configMode("configure terminal", "cubro(config)#", "end")
+                .login("root", "burningfirebeanplant")
+                .unknownCommandOutput("% Unknown command.\r\n")
+                .latency(DEVICE_LATENCY)
+                .transcript(Transcript.fromResource("/sim/cubro.transcript"))
+                .start();
+    }
+
     protected InetSocketAddress getAddress() {
-        return CUBRO_ADDR;
+        return device.getAddress();
     }
 
     protected Device getDeviceId() {
@@ -295,6 +308,7 @@ public class CubroAll {
     @Test
     public void testConnectivity() throws Exception {
         cli.close();
+        cli = null;
 
         TranslateRegistryImpl reg = getTranslateRegistry(mockBroker);
         TranslateContext translateContext = reg.getTranslateContext(getDeviceId());
@@ -323,7 +337,22 @@ public class CubroAll {
     }
 
     protected CliNode getCliNode() {
-        return CLI_CFG;
+        return new CliNodeBuilder()
+                .setPort(new PortNumber(getAddress().getPort()))
+                .setHost(new Host(new IpAddress(new Ipv4Address(getAddress().getAddress().getHostAddress()))))
+                .setDeviceType(CUBRO_ALL.getDeviceType())
+                .setDeviceVersion(CUBRO_ALL.getDeviceVersion())
+                .setTransportType(CliNodeConnectionParameters.TransportType.Ssh)
+                .setCredentials(new LoginPasswordBuilder()
+                        .setUsername("root")
+                        .setPassword("burningfirebeanplant")
+                        .build())
+                .setKeepaliveStrategy(new KeepaliveBuilder()
+                        .setKeepaliveDelay(30)
+                        .setKeepaliveTimeout(30)
+                        .setKeepaliveInitialDelay(30)
+                        .build())
+                .build();
     }
 
     @Ignore
@@ -20,13 +20,13 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
-import io.frinx.cli.io.PromptResolutionStrategy;
 import io.frinx.cli.io.Session;
 import io.frinx.cli.io.SessionException;
 import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import java.util.Arrays;
@@ -111,12 +111,10 @@ public class NosCliInitializerUnit extends AbstractUnit {
      * Initialize NOS CLI session to be usable by various CRUD and RPC handlers.
      */
     public static final class NosCliInitializer implements SessionInitializationStrategy {
-        private static final String PASSWORD_PROMPT = "Password:";
         private static final String PRIVILEGED_PROMPT_SUFFIX = "#";
         private static final String ENABLE_COMMAND = "enable";
         private static final String SET_TERMINAL_LENGTH_COMMAND = "terminal length 0";
-        private static final int WRITE_TIMEOUT_SECONDS = 10;
-        private static final int READ_TIMEOUT_SECONDS = 1;
+        private static final int EXPECT_TIMEOUT_SECONDS = 10;
 
         private final CliNode context;
         private final RemoteDeviceId id;
@@ -129,24 +127,23 @@ public class NosCliInitializerUnit extends AbstractUnit {
         @Override
         public void accept(@Nonnull Session session, @Nonnull String newline) {
             try {
-
+                SessionExpect expect = new SessionExpect(session, EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
                 // Set terminal length to 0 to prevent "--More--" situation
                 LOG.debug("{}: Setting terminal length to 0 to prevent \"--More--\" situation", id);
                 write(session, newline, SET_TERMINAL_LENGTH_COMMAND);
-                session.readUntilTimeout(READ_TIMEOUT_SECONDS);
+                expect.expect(SessionExpect.PROMPT);
 
                 // If already in privileged mode, don't do anything else
-                if (PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim()
-                        .endsWith(PRIVILEGED_PROMPT_SUFFIX)) {
+                if (expect.resolvePrompt(newline).endsWith(PRIVILEGED_PROMPT_SUFFIX)) {
                     LOG.info("{}: NOS cli session initialized successfully", id);
                     return;
                 }
 
                 // Enable privileged mode
-                tryToEnterPrivilegedMode(session, newline);
+                tryToEnterPrivilegedMode(session, expect, newline);
 
                 // Check if we are actually in privileged mode
-                String prompt = PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
+                String prompt = expect.resolvePrompt(newline);
 
                 // If not, fail
                 Preconditions.checkState(prompt.endsWith(PRIVILEGED_PROMPT_SUFFIX),
@@ -163,34 +160,36 @@ public class NosCliInitializerUnit extends AbstractUnit {
             }
         }
 
-        private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull String newline)
+        private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull SessionExpect expect,
+                                              @Nonnull String newline)
                 throws InterruptedException, ExecutionException, TimeoutException {
 
             write(session, newline, ENABLE_COMMAND);
-            String enableCommandOutput = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
+            SessionExpect.Match enableCommandOutput = expect.expect(SessionExpect.PASSWORD_PROMPT,
+                    SessionExpect.PROMPT);
 
             // password is requested
-            if (enableCommandOutput.endsWith(PASSWORD_PROMPT)) {
+            if (enableCommandOutput.is(SessionExpect.PASSWORD_PROMPT)) {
                 String password = getEnablePasswordFromCliNode();
                 write(session, newline, password);
 
-                String output = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
-                if (output.endsWith(PASSWORD_PROMPT)) {
+                SessionExpect.Match output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
+                if (output.is(SessionExpect.PASSWORD_PROMPT)) {
                     LOG.warn("{}: Specified enable password is not correct", id);
 
                     // We have entered incorrect password and we can be asked for
                     // correct one multiple times. Just skip those requests.
-                    while (output.endsWith(PASSWORD_PROMPT)) {
-                        session.write(newline).toCompletableFuture().get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                        output = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
+                    while (output.is(SessionExpect.PASSWORD_PROMPT)) {
+                        session.write(newline).toCompletableFuture().get(EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
                     }
 
                 } else {
-                    LOG.debug("{}: Entering enable password resulted in output: {}", id, output);
+                    LOG.debug("{}: Entering enable password resulted in output: {}", id, output.getOutput());
                 }
             } else {
                 LOG.debug("{}: enable command did not resulted in password prompt, enable command output: {}",
-                        id, enableCommandOutput);
+                        id, enableCommandOutput.getOutput());
             }
         }
 
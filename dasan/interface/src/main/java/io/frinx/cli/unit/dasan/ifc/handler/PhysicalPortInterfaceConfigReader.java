@@ -23,6 +23,7 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
+import io.frinx.cli.unit.dasan.utils.PortIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -103,12 +104,13 @@ public class PhysicalPortInterfaceConfigReader implements CliConfigReader<Config
 
     @VisibleForTesting
     static void parseJumboFrame(String output, List<String> ports, String name, ConfigBuilder builder) {
+        PortIndex portIndex = PortIndex.of(ports);
 
         ParsingUtils.NEWLINE.splitAsStream(output)
             .map(String::trim)
             .map(JUMBO_FRAME_LINE::matcher)
             .filter(Matcher::matches)
-            .filter(m -> DasanCliUtil.containsPort(ports, m.group("ports"), name))
+            .filter(m -> portIndex.parse(m.group("ports")).contains(name))
             .map(m -> m.group("size"))
             .findFirst()
             .ifPresent(s -> builder.setMtu(Integer.valueOf(s)));
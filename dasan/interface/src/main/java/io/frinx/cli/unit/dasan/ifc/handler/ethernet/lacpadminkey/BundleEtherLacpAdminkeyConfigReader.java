@@ -26,6 +26,7 @@ import io.frinx.cli.unit.dasan.ifc.handler.InterfaceReader;
 import io.frinx.cli.unit.dasan.ifc.handler.PhysicalPortInterfaceConfigWriter;
 import io.frinx.cli.unit.dasan.ifc.handler.PhysicalPortInterfaceReader;
 import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
+import io.frinx.cli.unit.dasan.utils.PortIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -71,18 +72,22 @@ public class BundleEtherLacpAdminkeyConfigReader implements CliConfigReader<Conf
             return;
         }
         List<String> ports = DasanCliUtil.getPhysicalPorts(cli, this, id, ctx);
-        parseEthernetConfig(blockingRead(SHOW_LACP_PORT, cli, id, ctx), builder, ports, portId);
+        parseEthernetConfig(blockingRead(SHOW_LACP_PORT, cli, id, ctx), builder, PortIndex.of(ports, ctx), portId);
     }
 
     @VisibleForTesting
     static void parseEthernetConfig(String output, ConfigBuilder builder, List<String> ports, String portId) {
+        parseEthernetConfig(output, builder, PortIndex.of(ports), portId);
+    }
+
+    private static void parseEthernetConfig(String output, ConfigBuilder builder, PortIndex ports, String portId) {
 
         Config1Builder ethIfAggregationConfigBuilder = new Config1Builder();
         ParsingUtils.NEWLINE.splitAsStream(output)
             .map(String::trim)
             .map(ADMIN_KEY_LINE_PATTERN::matcher)
             .filter(Matcher::matches)
-            .filter(m -> DasanCliUtil.containsPort(ports, m.group("ports"), portId))
+            .filter(m -> ports.parse(m.group("ports")).contains(portId))
             .map(m -> m.group("size"))
             .findFirst()
             .ifPresent(s -> (ethIfAggregationConfigBuilder).setAdminKey(Integer.valueOf(s)));
@@ -26,6 +26,7 @@ import io.frinx.cli.unit.dasan.ifc.handler.InterfaceReader;
 import io.frinx.cli.unit.dasan.ifc.handler.PhysicalPortInterfaceConfigWriter;
 import io.frinx.cli.unit.dasan.ifc.handler.PhysicalPortInterfaceReader;
 import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
+import io.frinx.cli.unit.dasan.utils.PortIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -108,12 +109,13 @@ public class BundleEtherLacpMemberConfigReader implements CliConfigReader<Config
             ReadContext ctx) throws ReadFailedException {
 
         String output = cliReader.blockingRead(SHOW_LACP_PORT, cli, id, ctx);
+        PortIndex portIndex = PortIndex.of(ports, ctx);
 
         return ParsingUtils.NEWLINE.splitAsStream(output)
                 .map(String::trim)
                 .map(LACP_PORT_LINE_PATTERN::matcher)
                 .filter(Matcher::matches)
-                .filter(m -> DasanCliUtil.containsPort(ports, m.group("ports"), portId))
+                .filter(m -> portIndex.parse(m.group("ports")).contains(portId))
                 .map(m -> m.group("id"))
                 .findFirst();
     }
@@ -139,13 +141,14 @@ public class BundleEtherLacpMemberConfigReader implements CliConfigReader<Config
         ReadContext ctx) throws ReadFailedException {
 
         String output = cliReader.blockingRead(SHOW_LACP_PORT, cli, id, ctx);
+        PortIndex portIndex = PortIndex.of(ports, ctx);
 
         return ParsingUtils.NEWLINE.splitAsStream(output)
             .map(String::trim)
             .map(LACP_PORT_LINE_PATTERN::matcher)
             .filter(Matcher::matches)
             .filter(m -> lacpId.equals(m.group("id")))
-            .flatMap(m -> DasanCliUtil.parsePortRanges(ports, m.group("ports")).stream())
+            .flatMap(m -> portIndex.parse(m.group("ports")).stream())
             .collect(Collectors.toList());
     }
 
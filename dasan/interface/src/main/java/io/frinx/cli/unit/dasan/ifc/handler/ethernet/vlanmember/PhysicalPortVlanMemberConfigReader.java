@@ -25,6 +25,8 @@ import io.frinx.cli.unit.dasan.ifc.handler.PhysicalPortInterfaceConfigWriter;
 import io.frinx.cli.unit.dasan.ifc.handler.PhysicalPortInterfaceReader;
 import io.frinx.cli.unit.dasan.ifc.handler.ethernet.lacpmember.BundleEtherLacpMemberConfigReader;
 import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
+import io.frinx.cli.unit.dasan.utils.IdRangeSet;
+import io.frinx.cli.unit.dasan.utils.PortIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -81,17 +83,21 @@ public class PhysicalPortVlanMemberConfigReader implements CliConfigReader<Confi
         if (BundleEtherLacpMemberConfigReader.getAssignedLacpId(portId, ports, this, cli, id, ctx).isPresent()) {
             return;
         }
-        parseEthernetConfig(blockingRead(SHOW_VLAN_ADD, cli, id, ctx), builder, ports, portId);
+        parseEthernetConfig(blockingRead(SHOW_VLAN_ADD, cli, id, ctx), builder, PortIndex.of(ports, ctx), portId);
     }
 
     @VisibleForTesting
     static void parseEthernetConfig(String output, ConfigBuilder builder, List<String> ports, String portId) {
+        parseEthernetConfig(output, builder, PortIndex.of(ports), portId);
+    }
+
+    private static void parseEthernetConfig(String output, ConfigBuilder builder, PortIndex ports, String portId) {
         Map<String, List<String>> vlansmap = ParsingUtils.NEWLINE
                 .splitAsStream(output)
                 .map(String::trim)
                 .map(VLAN_ADD_LINE_PATTERN::matcher)
                 .filter(Matcher::matches)
-                .filter(m -> DasanCliUtil.containsPort(ports, m.group("ports"), portId))
+                .filter(m -> ports.parse(m.group("ports")).contains(portId))
                 .collect(Collectors.groupingBy(
                     m -> m.group("vlanmode"),
                     Collectors.mapping(m -> m.group("ids"),
@@ -103,7 +109,7 @@ public class PhysicalPortVlanMemberConfigReader implements CliConfigReader<Confi
             List<TrunkVlans> natives = vlansmap.get("untagged").stream()
                     .map(s -> StringUtils.removeAll(s, "br"))
                     .filter(s -> !"default".equals(s))
-                    .flatMap(s -> DasanCliUtil.parseIdRanges(s).stream()).map(Integer::valueOf).map(VlanId::new)
+                    .flatMap(s -> IdRangeSet.parse(s).stream().boxed()).map(VlanId::new)
                     .map(TrunkVlans::new).collect(Collectors.toList());
 
             if (!natives.isEmpty()) {
@@ -114,8 +120,8 @@ public class PhysicalPortVlanMemberConfigReader implements CliConfigReader<Confi
             List<TrunkVlans> trunks = vlansmap.get("tagged").stream()
                     .map(s -> StringUtils.removeAll(s, "br"))
                     .filter(s -> !"default".equals(s))
-                    .flatMap(s -> DasanCliUtil.parseIdRanges(s).stream())
-                    .map(Integer::valueOf).map(VlanId::new)
+                    .flatMap(s -> IdRangeSet.parse(s).stream().boxed())
+                    .map(VlanId::new)
                     .map(TrunkVlans::new).collect(Collectors.toList());
             if (trunks.isEmpty()) {
                 return;
@@ -22,6 +22,8 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.dasan.ifc.handler.ethernet.lacpmember.BundleEtherLacpMemberConfigReader;
 import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
+import io.frinx.cli.unit.dasan.utils.IdRangeSet;
+import io.frinx.cli.unit.dasan.utils.PortIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -75,17 +77,21 @@ public class TrunkPortVlanMemberConfigReader implements CliConfigReader<Config,
         }
 
         List<String> ports = DasanCliUtil.getPhysicalPorts(cli, this, id, ctx);
-        parseTrunkConfig(blockingRead(SHOW_VLAN_ADD, cli, id, ctx), builder, ports, portId);
+        parseTrunkConfig(blockingRead(SHOW_VLAN_ADD, cli, id, ctx), builder, PortIndex.of(ports, ctx), portId);
     }
 
     @VisibleForTesting
     static void parseTrunkConfig(String output, ConfigBuilder builder, List<String> ports, String portId) {
+        parseTrunkConfig(output, builder, PortIndex.of(ports), portId);
+    }
+
+    private static void parseTrunkConfig(String output, ConfigBuilder builder, PortIndex ports, String portId) {
         Map<String, List<String>> vlansmap = ParsingUtils.NEWLINE
                 .splitAsStream(output)
                 .map(String::trim)
                 .map(VLAN_ADD_LINE_PATTERN::matcher)
                 .filter(Matcher::matches)
-                .filter(m -> DasanCliUtil.containsPort(ports, m.group("ports"), portId))
+                .filter(m -> ports.parse(m.group("ports")).contains(portId))
                 .collect(Collectors.groupingBy(
                     m -> m.group("vlanmode"),
                     Collectors.mapping(m -> m.group("ids"),
@@ -97,8 +103,7 @@ public class TrunkPortVlanMemberConfigReader implements CliConfigReader<Config,
             List<TrunkVlans> natives = nativeIds.stream()
                     .map(s -> StringUtils.removeAll(s, "br"))
                     .filter(s -> !"default".equals(s))
-                    .flatMap(s -> DasanCliUtil.parseIdRanges(s).stream())
-                    .map(Integer::valueOf)
+                    .flatMap(s -> IdRangeSet.parse(s).stream().boxed())
                     .map(VlanId::new)
                     .map(TrunkVlans::new)
                     .collect(Collectors.toList());
@@ -111,8 +116,8 @@ public class TrunkPortVlanMemberConfigReader implements CliConfigReader<Config,
             List<TrunkVlans> trunks = trunkIds.stream()
                     .map(s -> StringUtils.removeAll(s, "br"))
                     .filter(s -> !"default".equals(s))
-                    .flatMap(s -> DasanCliUtil.parseIdRanges(s).stream())
-                    .map(Integer::valueOf).map(VlanId::new)
+                    .flatMap(s -> IdRangeSet.parse(s).stream().boxed())
+                    .map(VlanId::new)
                     .map(TrunkVlans::new).collect(Collectors.toList());
             if (trunks.isEmpty()) {
                 return;
@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.dasan.ifc.handler.ethernet.lacpadminkey;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.dasan.ifc.handler.InterfaceReader;
@@ -86,6 +87,7 @@ public class BundleEtherLacpAdminKeyConfigReaderTest {
                 .child(Config.class);
 
         final ReadContext ctx = Mockito.mock(ReadContext.class);
+        Mockito.when(ctx.getModificationCache()).thenReturn(new ModificationCache());
 
         final String outputSingleInterface = StringUtils.join(new String[] { " lacp port 3/4 aggregator 8",
             " Ethernet  1  Up/Up    Force/Full/1000 Off/ Off       Y", }, "\n");
@@ -116,6 +118,7 @@ public class BundleEtherLacpAdminKeyConfigReaderTest {
                 .child(Config.class);
 
         final ReadContext ctx = Mockito.mock(ReadContext.class);
+        Mockito.when(ctx.getModificationCache()).thenReturn(new ModificationCache());
 
         final String outputSingleInterface = StringUtils.join(new String[] { " lacp port 3/4 aggregator 8",
             " Ethernet  1  Up/Up    Force/Full/1000 Off/ Off       Y", }, "\n");
@@ -146,6 +149,7 @@ public class BundleEtherLacpAdminKeyConfigReaderTest {
                 .child(Config.class);
 
         final ReadContext ctx = Mockito.mock(ReadContext.class);
+        Mockito.when(ctx.getModificationCache()).thenReturn(new ModificationCache());
 
         final String outputSingleInterface = StringUtils.join(new String[] { " lacp portAA 3/4 aggregator 8",
             " Ethernet  1  Up/Up    Force/Full/1000 Off/ Off       Y", }, "\n");
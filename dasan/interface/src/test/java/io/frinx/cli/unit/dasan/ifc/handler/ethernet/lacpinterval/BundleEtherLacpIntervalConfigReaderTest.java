@@ -17,6 +17,7 @@
 package io.frinx.cli.unit.dasan.ifc.handler.ethernet.lacpinterval;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
@@ -59,6 +60,7 @@ public class BundleEtherLacpIntervalConfigReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new BundleEtherLacpIntervalConfigReader(cli));
     }
 
@@ -98,8 +100,6 @@ public class BundleEtherLacpIntervalConfigReaderTest {
         PowerMockito.mockStatic(DasanCliUtil.class);
         PowerMockito.doReturn(GET_PHYSICAL_PORTS_RESULT)
             .when(DasanCliUtil.class, "getPhysicalPorts" , cli, target, id, readContext);
-        PowerMockito.doReturn(Boolean.TRUE)
-            .when(DasanCliUtil.class, "containsPort", GET_PHYSICAL_PORTS_RESULT, "3/4,7/1-7/2", "3/4");
 
         // test
         target.readCurrentAttributes(id, builder, readContext);
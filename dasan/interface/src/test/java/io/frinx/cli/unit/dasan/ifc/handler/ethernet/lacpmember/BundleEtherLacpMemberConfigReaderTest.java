@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.dasan.ifc.handler.ethernet.lacpmember;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
@@ -59,6 +60,7 @@ public class BundleEtherLacpMemberConfigReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(ctx.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new BundleEtherLacpMemberConfigReader(cli));
 
         Mockito.doReturn(SHOW_PORT_OUTPUT).when(target).blockingRead(
@@ -15,6 +15,7 @@
  */
 package io.frinx.cli.unit.dasan.ifc.handler.ethernet.vlanmember;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.dasan.ifc.handler.ethernet.lacpmember.BundleEtherLacpMemberConfigReader;
@@ -92,6 +93,7 @@ public class PhysicalPortVlanMemberConfigReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(ctx.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new PhysicalPortVlanMemberConfigReader(cli));
         builder = new ConfigBuilder();
         Mockito.doReturn(SHOW_PORT_OUTPUT).when(target).blockingRead(
@@ -22,7 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
-import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
+import io.frinx.cli.unit.dasan.utils.IdRangeSet;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -108,10 +108,7 @@ public class VlanConfigReader implements CliConfigReader<Config, ConfigBuilder>,
                 .map(String::trim)
                 .map(VLAN_CREATE_LINE_PATTERN::matcher)
                 .filter(Matcher::matches)
-                .filter(m -> DasanCliUtil.parseIdRanges(m.group("ids")).stream()
-                .map(Integer::valueOf)
-                .filter(vlanIdValue::equals)
-                .findFirst().isPresent())
+                .filter(m -> IdRangeSet.parse(m.group("ids")).contains(vlanIdValue))
                 .findFirst()
                 .ifPresent(m -> {
                     builder.setVlanId(vlanId);
@@ -22,7 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
-import io.frinx.cli.unit.dasan.utils.DasanCliUtil;
+import io.frinx.cli.unit.dasan.utils.IdRangeSet;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -84,8 +84,7 @@ public class VlanReader implements CliConfigListReader<Vlan, VlanKey, VlanBuilde
                 .map(String::trim)
                 .map(VLAN_CREATE_LINE_PATTERN::matcher)
                 .filter(Matcher::matches)
-                .flatMap(m -> DasanCliUtil.parseIdRanges(m.group("ids")).stream())
-                .map(Integer::valueOf)
+                .flatMap(m -> IdRangeSet.parse(m.group("ids")).stream().boxed())
                 .map(VlanId::new)
                 .map(VlanKey::new)
                 .collect(Collectors.toList());
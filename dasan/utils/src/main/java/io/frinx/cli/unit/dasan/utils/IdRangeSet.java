@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.dasan.utils;
+
+import java.util.BitSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+
+/**
+ * Set of numeric ids (e.g. VLAN ids) parsed from range notation such as "1,3-5,100".
+ *
+ * <p>Ids are kept in a bit set, so "1-4094" costs 512 bytes instead of 4094 strings.
+ */
+public final class IdRangeSet {
+
+    private static final int VLAN_ID_COUNT = 4096;
+    private static final Pattern FIELD_SEPARATOR_PATTERN = Pattern.compile(",");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(?<start>[^-]+)-(?<end>.*)");
+
+    private final BitSet ids;
+
+    private IdRangeSet(BitSet ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Parse range notation.
+     * @param ranges range notation, e.g. "1,3-5"
+     * @return ids in range
+     * @throws NumberFormatException if the notation contains non-numeric id
+     */
+    @Nonnull
+    public static IdRangeSet parse(@Nonnull String ranges) {
+        BitSet ids = new BitSet(VLAN_ID_COUNT);
+        for (String range : FIELD_SEPARATOR_PATTERN.split(ranges)) {
+            Matcher rangeMatcher = RANGE_PATTERN.matcher(range);
+            if (rangeMatcher.matches()) {
+                int start = Integer.parseInt(rangeMatcher.group("start"));
+                int end = Integer.parseInt(rangeMatcher.group("end"));
+                if (start <= end) {
+                    ids.set(start, end + 1);
+                }
+            } else if (!range.isEmpty()) {
+                ids.set(Integer.parseInt(range));
+            }
+        }
+        return new IdRangeSet(ids);
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && ids.get(id);
+    }
+
+    @Nonnull
+    public IdRangeSet union(@Nonnull IdRangeSet other) {
+        BitSet union = (BitSet) ids.clone();
+        union.or(other.ids);
+        return new IdRangeSet(union);
+    }
+
+    /**
+     * Ids in ascending order.
+     */
+    @Nonnull
+    public IntStream stream() {
+        return ids.stream();
+    }
+
+    public int size() {
+        return ids.cardinality();
+    }
+
+    public boolean isEmpty() {
+        return ids.isEmpty();
+    }
+
+    /**
+     * Range notation with consecutive ids compressed into ranges, e.g. "1,3-5".
+     */
+    @Override
+    public String toString() {
+        StringBuilder ranges = new StringBuilder();
+        for (int start = ids.nextSetBit(0); start >= 0; start = ids.nextSetBit(ids.nextClearBit(start))) {
+            int end = ids.nextClearBit(start) - 1;
+            if (ranges.length() > 0) {
+                ranges.append(',');
+            }
+            ranges.append(start);
+            if (end > start) {
+                ranges.append('-').append(end);
+            }
+        }
+        return ranges.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IdRangeSet)) {
+            return false;
+        }
+        return ids.equals(((IdRangeSet) obj).ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return ids.hashCode();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.dasan.utils;
+
+import io.fd.honeycomb.translate.read.ReadContext;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+
+/**
+ * Positions of physical ports as printed by "show port", used to parse port range notation such as
+ * "1/1-1/4,t/1". A range covers all ports listed between its first and last port.
+ *
+ * <p>Parsed ranges are remembered per range notation, so a range repeated in many lines or read by many readers
+ * is parsed only once.
+ */
+public final class PortIndex {
+
+    private static final Pattern FIELD_SEPARATOR_PATTERN = Pattern.compile(",");
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^(?<start>[^-]+)-(?<end>.*)");
+
+    private final List<String> ports;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final Map<String, PortRangeSet> parsed = new ConcurrentHashMap<>();
+
+    private PortIndex(List<String> ports) {
+        this.ports = ports;
+        for (int i = 0; i < ports.size(); i++) {
+            positions.putIfAbsent(ports.get(i), i);
+        }
+    }
+
+    /**
+     * Index of physical ports.
+     * @param ports all physical ports
+     * @return index of physical ports
+     */
+    @Nonnull
+    public static PortIndex of(@Nonnull List<String> ports) {
+        return new PortIndex(new ArrayList<>(ports));
+    }
+
+    /**
+     * Index of physical ports shared by all readers within one read transaction.
+     * @param ports all physical ports
+     * @param readContext context of current read transaction holding the index
+     * @return index of physical ports
+     */
+    @Nonnull
+    public static PortIndex of(@Nonnull List<String> ports, @Nonnull ReadContext readContext) {
+        Object key = new AbstractMap.SimpleEntry<>(PortIndex.class, ports);
+        PortIndex index = (PortIndex) readContext.getModificationCache().get(key);
+        if (index == null) {
+            index = of(ports);
+            readContext.getModificationCache().put(new AbstractMap.SimpleEntry<>(PortIndex.class, index.ports), index);
+        }
+        return index;
+    }
+
+    /**
+     * Parse port range notation. Unknown ports are ignored.
+     * @param ranges range notation, e.g. "1/1-1/4,t/1"
+     * @return ports in range
+     */
+    @Nonnull
+    public PortRangeSet parse(@Nonnull String ranges) {
+        return parsed.computeIfAbsent(ranges, this::parseRanges);
+    }
+
+    private PortRangeSet parseRanges(String ranges) {
+        List<int[]> intervals = new ArrayList<>();
+        for (String range : FIELD_SEPARATOR_PATTERN.split(ranges)) {
+            Matcher rangeMatcher = RANGE_PATTERN.matcher(range);
+            if (rangeMatcher.matches()) {
+                int start = indexOf(rangeMatcher.group("start"));
+                int end = indexOf(rangeMatcher.group("end"));
+                if (start >= 0 && start <= end) {
+                    intervals.add(new int[]{start, end});
+                }
+            } else {
+                int position = indexOf(range);
+                if (position >= 0) {
+                    intervals.add(new int[]{position, position});
+                }
+            }
+        }
+        return PortRangeSet.of(this, intervals);
+    }
+
+    int indexOf(String port) {
+        return positions.getOrDefault(port, -1);
+    }
+
+    String portAt(int position) {
+        return ports.get(position);
+    }
+}
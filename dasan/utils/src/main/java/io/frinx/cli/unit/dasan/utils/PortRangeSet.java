@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.dasan.utils;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.annotation.Nonnull;
+
+/**
+ * Set of physical ports kept as sorted, non-overlapping intervals of positions in {@link PortIndex}.
+ */
+public final class PortRangeSet {
+
+    private final PortIndex index;
+    // start and end (inclusive) of every interval
+    private final int[] bounds;
+
+    private PortRangeSet(PortIndex index, int[] bounds) {
+        this.index = index;
+        this.bounds = bounds;
+    }
+
+    static PortRangeSet of(PortIndex index, List<int[]> intervals) {
+        intervals.sort(Comparator.comparingInt(interval -> interval[0]));
+        int[] bounds = new int[intervals.size() * 2];
+        int size = 0;
+        for (int[] interval : intervals) {
+            if (size > 0 && interval[0] <= bounds[size - 1] + 1) {
+                bounds[size - 1] = Math.max(bounds[size - 1], interval[1]);
+            } else {
+                bounds[size++] = interval[0];
+                bounds[size++] = interval[1];
+            }
+        }
+        return new PortRangeSet(index, Arrays.copyOf(bounds, size));
+    }
+
+    public boolean contains(@Nonnull String port) {
+        int position = index.indexOf(port);
+        if (position < 0) {
+            return false;
+        }
+        int found = Arrays.binarySearch(bounds, position);
+        // either a bound itself, or inside an interval (insertion point after its start)
+        return found >= 0 || (-found - 1) % 2 == 1;
+    }
+
+    @Nonnull
+    public PortRangeSet union(@Nonnull PortRangeSet other) {
+        Preconditions.checkArgument(index == other.index, "Port ranges of different port indices");
+        List<int[]> intervals = new ArrayList<>();
+        for (int[] set : new int[][]{bounds, other.bounds}) {
+            for (int i = 0; i < set.length; i += 2) {
+                intervals.add(new int[]{set[i], set[i + 1]});
+            }
+        }
+        return of(index, intervals);
+    }
+
+    /**
+     * Ports in the order printed by "show port".
+     */
+    @Nonnull
+    public Stream<String> stream() {
+        return IntStream.range(0, bounds.length / 2)
+                .flatMap(i -> IntStream.rangeClosed(bounds[2 * i], bounds[2 * i + 1]))
+                .mapToObj(index::portAt);
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < bounds.length; i += 2) {
+            size += bounds[i + 1] - bounds[i] + 1;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return bounds.length == 0;
+    }
+
+    /**
+     * Range notation with consecutive ports compressed into ranges, e.g. "1/1-1/4,t/1".
+     */
+    @Override
+    public String toString() {
+        StringBuilder ranges = new StringBuilder();
+        for (int i = 0; i < bounds.length; i += 2) {
+            if (ranges.length() > 0) {
+                ranges.append(',');
+            }
+            ranges.append(index.portAt(bounds[i]));
+            if (bounds[i + 1] > bounds[i]) {
+                ranges.append('-').append(index.portAt(bounds[i + 1]));
+            }
+        }
+        return ranges.toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PortRangeSet)) {
+            return false;
+        }
+        PortRangeSet other = (PortRangeSet) obj;
+        return index == other.index && Arrays.equals(bounds, other.bounds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bounds);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.dasan.utils;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IdRangeSetTest {
+
+    @Test
+    public void testParse() {
+        IdRangeSet ids = IdRangeSet.parse("2,4-6,10");
+
+        Assert.assertFalse(ids.contains(1));
+        Assert.assertTrue(ids.contains(2));
+        Assert.assertFalse(ids.contains(3));
+        Assert.assertTrue(ids.contains(5));
+        Assert.assertTrue(ids.contains(10));
+        Assert.assertFalse(ids.contains(-1));
+        Assert.assertEquals(5, ids.size());
+        Assert.assertEquals(Arrays.asList(2, 4, 5, 6, 10), ids.stream().boxed().collect(Collectors.toList()));
+
+        Assert.assertEquals(4094, IdRangeSet.parse("1-4094").size());
+        Assert.assertTrue(IdRangeSet.parse("10-5").isEmpty());
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseNonNumeric() {
+        IdRangeSet.parse("10,default");
+    }
+
+    @Test
+    public void testUnionAndToString() {
+        IdRangeSet ids = IdRangeSet.parse("5,1-3").union(IdRangeSet.parse("4,7,100-4094"));
+
+        Assert.assertEquals("1-5,7,100-4094", ids.toString());
+        Assert.assertEquals(IdRangeSet.parse("1,2,3,4,5,7,100-4094"), ids);
+        Assert.assertEquals("", IdRangeSet.parse("").toString());
+    }
+
+    @Test
+    public void testSameAsParseIdRanges() {
+        String ranges = "1-3,10,20-25,4000-4094";
+
+        Assert.assertEquals(DasanCliUtil.parseIdRanges(ranges), IdRangeSet.parse(ranges).stream()
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toSet()));
+    }
+}
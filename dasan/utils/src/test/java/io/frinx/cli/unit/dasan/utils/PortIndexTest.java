@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.dasan.utils;
+
+import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class PortIndexTest {
+
+    private static final List<String> PORTS = Lists.newArrayList(
+        "1/1", "1/2",
+        "2/1", "2/2",
+        "t/1", "t/2", "t/3");
+
+    @Test
+    public void testParse() {
+        PortIndex index = PortIndex.of(PORTS);
+
+        Assert.assertTrue(index.parse("1/0").isEmpty());
+        Assert.assertEquals(Collections.singletonList("1/1"), ports(index.parse("1/1")));
+        Assert.assertEquals(Arrays.asList("1/1", "2/2"), ports(index.parse("2/2,1/1")));
+        Assert.assertEquals(Arrays.asList("1/2", "2/1", "2/2", "t/1"), ports(index.parse("1/2-t/1")));
+        Assert.assertEquals(Arrays.asList("1/1", "2/2", "t/1", "t/3"), ports(index.parse("1/1,2/2-t/1,t/3")));
+        // unknown ports are ignored
+        Assert.assertEquals(Collections.singletonList("t/3"), ports(index.parse("1/0-2/1,9/9,t/3")));
+        Assert.assertSame(index.parse("1/1,t/1"), index.parse("1/1,t/1"));
+    }
+
+    @Test
+    public void testContains() {
+        PortRangeSet ports = PortIndex.of(PORTS).parse("1/1,2/1-2/2,t/3");
+
+        Assert.assertTrue(ports.contains("1/1"));
+        Assert.assertFalse(ports.contains("1/2"));
+        Assert.assertTrue(ports.contains("2/1"));
+        Assert.assertTrue(ports.contains("2/2"));
+        Assert.assertFalse(ports.contains("t/1"));
+        Assert.assertTrue(ports.contains("t/3"));
+        Assert.assertFalse(ports.contains("9/9"));
+        Assert.assertEquals(4, ports.size());
+    }
+
+    @Test
+    public void testUnionAndToString() {
+        PortIndex index = PortIndex.of(PORTS);
+        PortRangeSet ports = index.parse("1/1,2/2").union(index.parse("1/2-2/1,t/3"));
+
+        Assert.assertEquals("1/1-2/2,t/3", ports.toString());
+        Assert.assertEquals(index.parse("1/1-2/2,t/3"), ports);
+        Assert.assertEquals("1/1,t/1-t/2", index.parse("t/2,t/1,1/1").toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnionOfDifferentIndices() {
+        PortIndex.of(PORTS).parse("1/1").union(PortIndex.of(PORTS).parse("1/2"));
+    }
+
+    @Test
+    public void testSameAsParsePortRanges() {
+        String ranges = "1/1,1/2-2/2,t/2-t/3";
+
+        Assert.assertEquals(DasanCliUtil.parsePortRanges(PORTS, ranges),
+                PortIndex.of(PORTS).parse(ranges).stream().collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testIndexSharedPerReadContext() {
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+
+        PortIndex index = PortIndex.of(PORTS, readContext);
+
+        Assert.assertSame(index, PortIndex.of(Lists.newArrayList(PORTS), readContext));
+        Assert.assertNotSame(index, PortIndex.of(Collections.singletonList("1/1"), readContext));
+    }
+
+    private static List<String> ports(PortRangeSet ports) {
+        return ports.stream().collect(Collectors.toList());
+    }
+}
@@ -26,6 +26,7 @@ import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import java.util.Collections;
 import java.util.Set;
@@ -87,6 +88,8 @@ public class VrpCliInitializerUnit implements TranslateUnit {
                                 @Nonnull final TranslateUnit.Context context) {
         readRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
         writeRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
+        // device (re)connected, facts read over a previous connection may be outdated
+        DeviceFactsCache.getInstance().invalidate(context.getTransport());
     }
 
     @Override
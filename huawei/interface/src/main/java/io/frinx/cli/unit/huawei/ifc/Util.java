@@ -16,8 +16,14 @@
 
 package io.frinx.cli.unit.huawei.ifc;
 
+import com.google.common.collect.ImmutableMap;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounters;
 import java.util.Collections;
 import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.EthernetCsmacd;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.Other;
@@ -29,6 +35,51 @@ public final class Util {
     private static final Set<Class<? extends InterfaceType>> PHYS_IFC_TYPES =
             Collections.singleton(EthernetCsmacd.class);
 
+    /**
+     * Interface configuration blocks read at once, see {@link InterfaceConfigBlocks}.
+     */
+    public static final InterfaceBlockRules INTERFACE_BLOCKS = new InterfaceBlockRules(
+            "display current-configuration interface",
+            Pattern.compile("^interface (?<name>\\S+)\\s*$"),
+            Pattern.compile("^display current-configuration interface (?<name>\\S+)"
+                    + "(?:\\s*\\|\\s*include (?<include>.+))?$"));
+
+    /**
+     * Interface state blocks of "display interface", see {@link InterfaceConfigBlocks}. State output of an interface
+     * is not indented, block ends with the next interface.
+     */
+    public static final InterfaceBlockRules INTERFACE_STATE_BLOCKS = new InterfaceBlockRules(
+            "display interface",
+            Pattern.compile("^(?<name>\\S+) current state : .*"),
+            Pattern.compile("^display inter (?<name>\\S+)(?:\\s*\\|\\s*include (?<include>.+))?$")) {
+
+        @Override
+        public boolean isBlockLine(@Nonnull String line) {
+            return true;
+        }
+    };
+
+    /**
+     * Counters in "display interface" output. Packets and bytes are printed in either order, error and drop lines
+     * shared by both directions are not parsed. Input and output "Unicast:" lines differ only in their order, so
+     * only the first one, of input, is parsed.
+     */
+    public static final InterfaceCounters INTERFACE_COUNTERS = InterfaceCounters.of(
+            ImmutableMap.<InterfaceCounters.Counter, Pattern>builder()
+                    .put(InterfaceCounters.Counter.IN_PKTS,
+                            Pattern.compile("Input: ?(?=.*?\\b(?<value>\\d+) packets).*"))
+                    .put(InterfaceCounters.Counter.IN_OCTETS,
+                            Pattern.compile("Input: ?(?=.*?\\b(?<value>\\d+) bytes).*"))
+                    .put(InterfaceCounters.Counter.IN_UNICAST_PKTS,
+                            Pattern.compile("Unicast: (?<value>\\d+),.*"))
+                    .put(InterfaceCounters.Counter.OUT_PKTS,
+                            Pattern.compile("Output: ?(?=.*?\\b(?<value>\\d+) packets).*"))
+                    .put(InterfaceCounters.Counter.OUT_OCTETS,
+                            Pattern.compile("Output: ?(?=.*?\\b(?<value>\\d+) bytes).*"))
+                    .put(InterfaceCounters.Counter.OUT_ERRORS,
+                            Pattern.compile("Total output error: (?<value>\\d+).*"))
+                    .build());
+
     private Util() {
 
     }
@@ -19,7 +19,8 @@ package io.frinx.cli.unit.huawei.ifc.handler;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.LineScanner;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
@@ -62,14 +63,14 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
     }
 
     @Override
-    public void parseEnabled(final String output, final ConfigBuilder builder) {
-        // Set disabled unless proven otherwise
-        builder.setEnabled(false);
+    protected void parseEnabled(final String output, final LineScanner.Result<Field> lines,
+                                final ConfigBuilder builder) {
+        // Disabled unless proven otherwise
+        builder.setEnabled(lines.get(Field.SHUTDOWN).isPresent());
+    }
 
-        // Actually check if enabled
-        ParsingUtils.parseField(output, 0,
-            SHUTDOWN_LINE::matcher,
-            matcher -> true,
-            builder::setEnabled);
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
     }
 }
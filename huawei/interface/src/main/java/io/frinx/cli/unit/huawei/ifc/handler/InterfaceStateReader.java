@@ -20,6 +20,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.huawei.ifc.Util;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceStateReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounters;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.StateBuilder;
 
@@ -69,4 +71,14 @@ public final class InterfaceStateReader extends AbstractInterfaceStateReader {
     protected Pattern getDescriptionLine() {
         return DESCR_LINE;
     }
+
+    @Override
+    protected InterfaceCounters getInterfaceCounters() {
+        return Util.INTERFACE_COUNTERS;
+    }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_STATE_BLOCKS;
+    }
 }
@@ -17,14 +17,17 @@
 package io.frinx.cli.unit.huawei.ifc.handler;
 
 import io.frinx.cli.io.Cli;
+import java.math.BigInteger;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.InterfaceCommonState;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222._interface.counters.state.CountersBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.State;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.StateBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.EthernetCsmacd;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.SoftwareLoopback;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
 
 public class InterfaceStateReaderTest {
 
@@ -114,4 +117,25 @@ public class InterfaceStateReaderTest {
         Assert.assertEquals(EXPECTED_STATE2, actualState2Builder.build());
     }
 
+    @Test
+    public void testParseInterfaceCounters() {
+        InterfaceStateReader reader = new InterfaceStateReader(Mockito.mock(Cli.class));
+        StateBuilder parsed = new StateBuilder();
+        reader.parseInterfaceCounters(DISPLAY_INTERFACE.replace("Input: 0 packets,0 bytes",
+                "Input: 12 packets,3456 bytes"), parsed);
+        Assert.assertEquals(new CountersBuilder()
+                .setInOctets(new Counter64(BigInteger.valueOf(3456)))
+                .setOutOctets(new Counter64(BigInteger.ZERO))
+                .build(), parsed.getCounters());
+
+        parsed = new StateBuilder();
+        reader.parseInterfaceCounters(DISPLAY_INTERFACE2.replace("Output: 0 bytes, 0 packets",
+                "Output: 789 bytes, 5 packets"), parsed);
+        Assert.assertEquals(new CountersBuilder()
+                .setInUnicastPkts(new Counter64(BigInteger.ZERO))
+                .setInOctets(new Counter64(BigInteger.ZERO))
+                .setOutOctets(new Counter64(BigInteger.valueOf(789)))
+                .setOutErrors(new Counter64(BigInteger.ZERO))
+                .build(), parsed.getCounters());
+    }
 }
@@ -19,6 +19,7 @@ import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.HashMap;
@@ -60,10 +61,11 @@ public class ComponentStateReader implements CliOperReader<State, StateBuilder>
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         String name = instanceIdentifier.firstKeyOf(Component.class).getName();
         if (name.equals(OsComponent.OS_KEY.getName())) {
-            parseOSVersions(stateBuilder, blockingRead(f(SH_VERSION), cli, instanceIdentifier, readContext));
+            parseOSVersions(stateBuilder, DeviceFactsCache.getInstance().blockingRead(this, f(SH_VERSION), cli,
+                    instanceIdentifier, readContext));
         } else {
-            parseFields(stateBuilder, name, blockingRead(f(ComponentReader.SH_MODULE, name), cli, instanceIdentifier,
-                    readContext));
+            parseFields(stateBuilder, name, DeviceFactsCache.getInstance().blockingRead(this,
+                    f(ComponentReader.SH_MODULE, name), cli, instanceIdentifier, readContext));
         }
     }
 
@@ -20,9 +20,14 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.ifc.base.util.LineScanner;
 import io.frinx.cli.unit.ifc.base.util.NetUtils;
 import io.frinx.cli.unit.utils.CliConfigReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.AbstractMap;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -34,7 +39,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public abstract class AbstractInterfaceConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
+    /**
+     * Configuration lines found by a single scan of the output, see {@link #scan(String)}.
+     */
+    protected enum Field { SHUTDOWN, MTU, DESCRIPTION }
+
+    private static final Object SCAN_KEY = AbstractInterfaceConfigReader.class;
+
     private Cli cli;
+    private volatile LineScanner<Field> scanner;
 
     public AbstractInterfaceConfigReader(Cli cli) {
         this.cli = cli;
@@ -45,29 +58,70 @@ public abstract class AbstractInterfaceConfigReader implements CliConfigReader<C
                                       @Nonnull final ConfigBuilder builder,
                                       @Nonnull final ReadContext ctx) throws ReadFailedException {
         String ifcName = id.firstKeyOf(Interface.class).getName();
-        parseInterface(blockingRead(getReadCommand(ifcName), cli, id, ctx), builder, ifcName);
+        String command = getReadCommand(ifcName);
+        String output = InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(), command, cli, id, ctx);
+        parseInterface(output, scan(command, output, ctx), builder, ifcName);
     }
 
     protected abstract String getReadCommand(String ifcName);
 
     @VisibleForTesting
     public void parseInterface(final String output, final ConfigBuilder builder, String name) {
-        parseEnabled(output, builder);
+        parseInterface(output, scan(output), builder, name);
+    }
+
+    /**
+     * Parse interface configuration with shutdown, MTU and description lines already found in the output.
+     */
+    protected void parseInterface(final String output, final LineScanner.Result<Field> lines,
+                                  final ConfigBuilder builder, String name) {
+        parseEnabled(output, lines, builder);
         builder.setName(name);
         builder.setType(parseType(name));
 
-        ParsingUtils.parseField(output,
-            getMtuLine()::matcher,
-            matcher -> Integer.valueOf(matcher.group("mtu")),
-            builder::setMtu);
+        lines.get(Field.MTU)
+            .map(matcher -> Integer.valueOf(matcher.group("mtu")))
+            .ifPresent(builder::setMtu);
+
+        setDescription(lines, builder);
+    }
+
+    /**
+     * Lines of shutdown, MTU and description found in a single pass over the output.
+     */
+    private LineScanner.Result<Field> scan(String output) {
+        return getScanner().scan(output);
+    }
+
+    /**
+     * Scan of the output of command, kept in modification cache of the read transaction so that the same output
+     * is scanned only once per transaction.
+     */
+    @SuppressWarnings("unchecked")
+    private LineScanner.Result<Field> scan(String command, String output, ReadContext ctx) {
+        Object key = new AbstractMap.SimpleEntry<>(SCAN_KEY, command);
+        LineScanner.Result<Field> result = (LineScanner.Result<Field>) ctx.getModificationCache().get(key);
+        if (result == null) {
+            result = scan(output);
+            ctx.getModificationCache().put(key, result);
+        }
+        return result;
+    }
 
-        setDescription(output, builder);
+    private LineScanner<Field> getScanner() {
+        if (scanner == null) {
+            Map<Field, Pattern> patterns = new EnumMap<>(Field.class);
+            patterns.put(Field.SHUTDOWN, getShutdownLine());
+            patterns.put(Field.MTU, getMtuLine());
+            patterns.put(Field.DESCRIPTION, getDescriptionLine());
+            scanner = LineScanner.of(Field.class, patterns);
+        }
+        return scanner;
     }
 
-    private void setDescription(String output, ConfigBuilder builder) {
-        Optional<String> desc = ParsingUtils.parseField(output, 0,
-            getDescriptionLine()::matcher,
-            matcher -> matcher.group("desc"));
+    private void setDescription(LineScanner.Result<Field> lines, ConfigBuilder builder) {
+        Optional<String> desc = lines.get(Field.DESCRIPTION)
+            .map(matcher -> matcher.group("desc"));
 
         if (desc.isPresent()) {
             if (desc.get().substring(0, 1).equals("\"")) {
@@ -79,14 +133,20 @@ public abstract class AbstractInterfaceConfigReader implements CliConfigReader<C
     }
 
     protected void parseEnabled(final String output, final ConfigBuilder builder) {
+        parseEnabled(output, scan(output), builder);
+    }
+
+    /**
+     * Set enabled from the shutdown line already found in the output.
+     */
+    protected void parseEnabled(final String output, final LineScanner.Result<Field> lines,
+                                final ConfigBuilder builder) {
         // Set enabled unless proven otherwise
         builder.setEnabled(true);
 
         // Actually check if disabled
-        ParsingUtils.parseField(output, 0,
-            getShutdownLine()::matcher,
-            matcher -> false,
-            builder::setEnabled);
+        lines.get(Field.SHUTDOWN)
+            .ifPresent(matcher -> builder.setEnabled(false));
     }
 
     protected abstract Pattern getShutdownLine();
@@ -98,4 +158,11 @@ public abstract class AbstractInterfaceConfigReader implements CliConfigReader<C
     protected abstract Pattern getDescriptionLine();
 
     public abstract Class<? extends InterfaceType> parseType(final String name);
+
+    /**
+     * Override to serve per-interface commands from bulk read interface configuration.
+     */
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return InterfaceBlockRules.NONE;
+    }
 }
@@ -16,11 +16,17 @@
 
 package io.frinx.cli.unit.ifc.base.handler;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounters;
+import io.frinx.cli.unit.ifc.base.util.LineScanner;
 import io.frinx.cli.unit.utils.CliOperReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.InterfaceCommonState;
@@ -31,7 +37,10 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public abstract class AbstractInterfaceStateReader implements CliOperReader<State, StateBuilder>  {
 
+    private enum Field { ADMIN_STATUS, OPER_STATUS, MTU, DESCRIPTION }
+
     private Cli cli;
+    private volatile LineScanner<Field> scanner;
 
     protected AbstractInterfaceStateReader(Cli cli) {
         this.cli = cli;
@@ -42,18 +51,27 @@ public abstract class AbstractInterfaceStateReader implements CliOperReader<Stat
                                       @Nonnull final StateBuilder builder,
                                       @Nonnull final ReadContext ctx) throws ReadFailedException {
         String ifcName = id.firstKeyOf(Interface.class).getName();
-        parseInterfaceState(blockingRead(getReadCommand(ifcName), cli, id, ctx), builder, ifcName);
+        String output = InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(), getReadCommand(ifcName), cli,
+                id, ctx);
+        parseInterfaceState(output, builder, ifcName);
+        parseInterfaceCounters(output, builder);
     }
 
     protected abstract String getReadCommand(String ifcName);
 
+    @VisibleForTesting
+    public void parseInterfaceCounters(String output, StateBuilder builder) {
+        getInterfaceCounters().parse(output)
+            .ifPresent(builder::setCounters);
+    }
+
     protected void parseInterfaceState(String output, StateBuilder builder, String name) {
         builder.setName(name);
+        LineScanner.Result<Field> lines = getScanner().scan(output);
 
-        ParsingUtils.parseField(output,
-            getAdminStatusLine()::matcher,
-            matcher -> InterfaceCommonState.AdminStatus.valueOf(matcher.group("admin").toUpperCase()),
-            adminStatus -> {
+        lines.get(Field.ADMIN_STATUS)
+            .map(matcher -> InterfaceCommonState.AdminStatus.valueOf(matcher.group("admin").toUpperCase()))
+            .ifPresent(adminStatus -> {
                 builder.setAdminStatus(adminStatus);
                 builder.setEnabled(adminStatus == InterfaceCommonState.AdminStatus.UP);
             });
@@ -64,25 +82,34 @@ public abstract class AbstractInterfaceStateReader implements CliOperReader<Stat
             builder.setEnabled(false);
         }
 
-        ParsingUtils.parseField(output,
-            getOperStatusLine()::matcher,
-            matcher -> InterfaceCommonState.OperStatus.valueOf(matcher.group("oper").toUpperCase()),
-            builder::setOperStatus);
+        lines.get(Field.OPER_STATUS)
+            .map(matcher -> InterfaceCommonState.OperStatus.valueOf(matcher.group("oper").toUpperCase()))
+            .ifPresent(builder::setOperStatus);
 
         if (builder.getOperStatus() == null) {
             // We cannot parse OperSatus from output, fallback to OperStatus.Unknown
             builder.setOperStatus(InterfaceCommonState.OperStatus.UNKNOWN);
         }
 
-        ParsingUtils.parseField(output,
-            getMtuLine()::matcher,
-            matcher -> Integer.valueOf(matcher.group("mtu")),
-            builder::setMtu);
+        lines.get(Field.MTU)
+            .map(matcher -> Integer.valueOf(matcher.group("mtu")))
+            .ifPresent(builder::setMtu);
 
-        ParsingUtils.parseField(output,
-            getDescriptionLine()::matcher,
-            matcher -> matcher.group("desc"),
-            builder::setDescription);
+        lines.get(Field.DESCRIPTION)
+            .map(matcher -> matcher.group("desc"))
+            .ifPresent(builder::setDescription);
+    }
+
+    private LineScanner<Field> getScanner() {
+        if (scanner == null) {
+            Map<Field, Pattern> patterns = new EnumMap<>(Field.class);
+            patterns.put(Field.ADMIN_STATUS, getAdminStatusLine());
+            patterns.put(Field.OPER_STATUS, getOperStatusLine());
+            patterns.put(Field.MTU, getMtuLine());
+            patterns.put(Field.DESCRIPTION, getDescriptionLine());
+            scanner = LineScanner.of(Field.class, patterns);
+        }
+        return scanner;
     }
 
     protected abstract Pattern getMtuLine();
@@ -93,4 +120,17 @@ public abstract class AbstractInterfaceStateReader implements CliOperReader<Stat
 
     protected abstract Pattern getDescriptionLine();
 
+    /**
+     * Override to parse interface counters from the state output.
+     */
+    protected InterfaceCounters getInterfaceCounters() {
+        return InterfaceCounters.NONE;
+    }
+
+    /**
+     * Override to serve per-interface state commands from a single bulk read of all interfaces.
+     */
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return InterfaceBlockRules.NONE;
+    }
 }
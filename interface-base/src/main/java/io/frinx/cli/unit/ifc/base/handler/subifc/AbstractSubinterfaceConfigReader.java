@@ -20,6 +20,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
 import io.frinx.cli.unit.ifc.base.util.NetUtils;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -51,8 +53,8 @@ public abstract class AbstractSubinterfaceConfigReader implements CliConfigReade
             return;
         }
         String subIfcName = getSubinterfaceName(id);
-        parseSubinterface(blockingRead(getReadCommand(subIfcName), cli, id, ctx),
-            builder, subKey.getIndex(), subIfcName);
+        parseSubinterface(InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(), getReadCommand(subIfcName),
+                cli, id, ctx), builder, subKey.getIndex(), subIfcName);
     }
 
     protected abstract String getReadCommand(String subIfcName);
@@ -85,4 +87,11 @@ public abstract class AbstractSubinterfaceConfigReader implements CliConfigReade
     protected Pattern getDescriptionLine() {
         return NetUtils.NO_MATCH;
     }
+
+    /**
+     * Override to serve per-interface commands from bulk read interface configuration.
+     */
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return InterfaceBlockRules.NONE;
+    }
 }
@@ -20,6 +20,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -44,8 +46,8 @@ public abstract class AbstractSubinterfaceVlanConfigReader implements CliConfigR
                                       @Nonnull ReadContext ctx) throws ReadFailedException {
         String subIfcName = getSubinterfaceName(id);
 
-        String output = blockingRead(String.format(getReadCommand(), subIfcName),
-                cli, id, ctx);
+        String output = InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(),
+                String.format(getReadCommand(), subIfcName), cli, id, ctx);
         parseVlanTag(output, builder, getVlanTagLine());
     }
 
@@ -62,4 +64,11 @@ public abstract class AbstractSubinterfaceVlanConfigReader implements CliConfigR
             matcher -> matcher.group("tag"),
             tag -> builder.setVlanId(new VlanLogicalConfig.VlanId(new VlanId(Integer.valueOf(tag)))));
     }
-}
\ No newline at end of file
+
+    /**
+     * Override to serve per-interface commands from bulk read interface configuration.
+     */
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return InterfaceBlockRules.NONE;
+    }
+}
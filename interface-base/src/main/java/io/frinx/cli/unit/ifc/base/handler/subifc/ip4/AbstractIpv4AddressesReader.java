@@ -21,6 +21,8 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -54,8 +56,8 @@ public abstract class AbstractIpv4AddressesReader implements CliConfigListReader
         Long subId = instanceIdentifier.firstKeyOf(Subinterface.class).getIndex();
 
         if (isSupportedInterface(instanceIdentifier)) {
-            return parseAddressIds(blockingRead(getReadCommand(getInterfaceName(ifcName, subId)),
-                cli, instanceIdentifier, ctx));
+            return parseAddressIds(InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(),
+                    getReadCommand(getInterfaceName(ifcName, subId)), cli, instanceIdentifier, ctx));
         } else {
             return Collections.emptyList();
         }
@@ -99,4 +101,11 @@ public abstract class AbstractIpv4AddressesReader implements CliConfigListReader
         // Only subinterface with ID ZERO_SUBINTERFACE_ID can have IP
         return AbstractSubinterfaceReader.isSubInterfaceZero(instanceIdentifier);
     }
+
+    /**
+     * Override to serve per-interface commands from bulk read interface configuration.
+     */
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return InterfaceBlockRules.NONE;
+    }
 }
@@ -21,6 +21,8 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
 import io.frinx.cli.unit.ifc.base.util.NetUtils;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -52,8 +54,8 @@ public abstract class AbstractIpv4ConfigReader implements CliConfigReader<Config
 
         if (isSupportedInterface(instanceIdentifier)) {
             Ipv4AddressNoZone address = instanceIdentifier.firstKeyOf(Address.class).getIp();
-            parseAddressConfig(configBuilder,
-                    blockingRead(getReadCommand(ifcName, subId), cli, instanceIdentifier, readContext), address);
+            parseAddressConfig(configBuilder, InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(),
+                    getReadCommand(ifcName, subId), cli, instanceIdentifier, readContext), address);
         }
     }
 
@@ -84,11 +86,18 @@ public abstract class AbstractIpv4ConfigReader implements CliConfigReader<Config
 
     public boolean hasIpAddress(InstanceIdentifier instanceIdentifier, String ifcName, ReadContext ctx)
             throws ReadFailedException {
-        String output = blockingRead(getReadCommand(ifcName, AbstractSubinterfaceReader.ZERO_SUBINTERFACE_ID),
-                cli, instanceIdentifier, ctx);
+        String output = InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(),
+                getReadCommand(ifcName, AbstractSubinterfaceReader.ZERO_SUBINTERFACE_ID), cli, instanceIdentifier, ctx);
         return ParsingUtils.NEWLINE.splitAsStream(output)
                 .map(String::trim)
                 .map(getIpLine()::matcher)
                 .anyMatch(Matcher::matches);
     }
+
+    /**
+     * Override to serve per-interface commands from bulk read interface configuration.
+     */
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return InterfaceBlockRules.NONE;
+    }
 }
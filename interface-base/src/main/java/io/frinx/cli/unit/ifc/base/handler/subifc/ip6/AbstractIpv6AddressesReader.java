@@ -21,6 +21,8 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
 import io.frinx.cli.unit.ifc.base.util.NetUtils;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -54,7 +56,8 @@ public abstract class AbstractIpv6AddressesReader implements CliConfigListReader
 
         // Only subinterface with ID ZERO_SUBINTERFACE_ID can have IP
         if (subId == AbstractSubinterfaceReader.ZERO_SUBINTERFACE_ID) {
-            return parseAddressIds(blockingRead(getReadCommand(ifcName), cli, instanceIdentifier, ctx));
+            return parseAddressIds(InterfaceConfigBlocks.blockingRead(this, getInterfaceBlockRules(),
+                    getReadCommand(ifcName), cli, instanceIdentifier, ctx));
         } else {
             return Collections.emptyList();
         }
@@ -93,4 +96,11 @@ public abstract class AbstractIpv6AddressesReader implements CliConfigListReader
             addressBuilder.setIp(instanceIdentifier.firstKeyOf(Address.class).getIp());
         }
     }
+
+    /**
+     * Override to serve per-interface commands from bulk read interface configuration.
+     */
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return InterfaceBlockRules.NONE;
+    }
 }
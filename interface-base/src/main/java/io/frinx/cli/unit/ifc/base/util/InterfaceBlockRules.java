@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2019 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Vendor specific rules used by {@link InterfaceConfigBlocks} to split output of a single bulk command into
+ * per-interface configuration blocks, and to recognize per-interface commands answerable from those blocks.
+ *
+ * <p>A block starts with a line matching header pattern (group "name" holds the interface name, as used in
+ * per-interface commands) and contains all following lines accepted by {@link #isBlockLine(String)}, by
+ * default the indented ones.
+ *
+ * <p>Per-interface command pattern has groups "name" and "include". The "include" group is optional in the
+ * command and holds a regular expression the block lines are filtered by.
+ */
+public class InterfaceBlockRules {
+
+    /**
+     * Rules of vendors not opted in, all commands are sent to the device.
+     */
+    public static final InterfaceBlockRules NONE = new InterfaceBlockRules("", NetUtils.NO_MATCH, NetUtils.NO_MATCH);
+
+    private final String bulkCommand;
+    private final Pattern headerLine;
+    private final Pattern interfaceCommand;
+
+    public InterfaceBlockRules(@Nonnull String bulkCommand, @Nonnull Pattern headerLine,
+                               @Nonnull Pattern interfaceCommand) {
+        this.bulkCommand = bulkCommand;
+        this.headerLine = headerLine;
+        this.interfaceCommand = interfaceCommand;
+    }
+
+    public String getBulkCommand() {
+        return bulkCommand;
+    }
+
+    /**
+     * Output of the bulk command, read from the device by default.
+     */
+    public String readBulk(@Nonnull CliReader<?, ?> reader, @Nonnull Cli cli, @Nonnull InstanceIdentifier<?> id,
+                           @Nonnull ReadContext readContext) throws ReadFailedException {
+        return reader.blockingRead(bulkCommand, cli, id, readContext);
+    }
+
+    /**
+     * Interface name if the line starts an interface block.
+     */
+    public Optional<String> parseHeader(@Nonnull String line) {
+        Matcher matcher = headerLine.matcher(line);
+        return matcher.matches() ? Optional.of(matcher.group("name")) : Optional.empty();
+    }
+
+    /**
+     * Whether the line belongs to the block started by preceding header.
+     */
+    public boolean isBlockLine(@Nonnull String line) {
+        return !line.isEmpty() && Character.isWhitespace(line.charAt(0));
+    }
+
+    Matcher matchCommand(@Nonnull String command) {
+        return interfaceCommand.matcher(command);
+    }
+}
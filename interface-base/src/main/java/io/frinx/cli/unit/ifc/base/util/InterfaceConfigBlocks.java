@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2019 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Bulk read of interface configuration. Configuration of all interfaces is read with a single command once
+ * per {@link ReadContext}, split into name to block map (kept in modification cache) and per-interface
+ * commands are then answered from the map.
+ *
+ * <p>Commands not recognized by {@link InterfaceBlockRules} and commands for interfaces missing in the bulk
+ * output are sent to the device as usual.
+ *
+ * <p>The same applies to interface state: with rules of a bulk state command (e.g. "show interfaces") the state
+ * output of all interfaces is split into blocks line by line, and per-interface state commands are answered from
+ * those blocks.
+ */
+public final class InterfaceConfigBlocks {
+
+    private InterfaceConfigBlocks() {
+
+    }
+
+    /**
+     * Drop-in replacement for {@link CliReader#blockingRead(String, Cli, InstanceIdentifier, ReadContext)}.
+     * Null rules are treated as {@link InterfaceBlockRules#NONE}.
+     */
+    public static String blockingRead(@Nonnull CliReader<?, ?> reader, @Nullable InterfaceBlockRules rules,
+                                      @Nonnull String command, @Nonnull Cli cli, @Nonnull InstanceIdentifier<?> id,
+                                      @Nonnull ReadContext readContext) throws ReadFailedException {
+        if (rules == null) {
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+        Matcher matcher = rules.matchCommand(command);
+        if (!matcher.matches()) {
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+
+        List<String> block = getBlocks(reader, rules, cli, id, readContext).get(matcher.group("name"));
+        if (block == null) {
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+
+        String include = matcher.group("include");
+        if (include == null) {
+            return String.join("\n", block);
+        }
+        try {
+            Pattern filter = Pattern.compile(include);
+            return block.stream()
+                    .filter(line -> filter.matcher(line).find())
+                    .collect(Collectors.joining("\n"));
+        } catch (PatternSyntaxException e) {
+            // device specific regex, let the device evaluate it
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<String>> getBlocks(CliReader<?, ?> reader, InterfaceBlockRules rules, Cli cli,
+                                                       InstanceIdentifier<?> id, ReadContext readContext)
+            throws ReadFailedException {
+        Object key = new AbstractMap.SimpleEntry<>(InterfaceConfigBlocks.class, rules.getBulkCommand());
+        Map<String, List<String>> blocks = (Map<String, List<String>>) readContext.getModificationCache().get(key);
+        if (blocks == null) {
+            blocks = parseBlocks(rules.readBulk(reader, cli, id, readContext), rules);
+            readContext.getModificationCache().put(key, blocks);
+        }
+        return blocks;
+    }
+
+    @VisibleForTesting
+    static Map<String, List<String>> parseBlocks(String output, InterfaceBlockRules rules) {
+        Map<String, List<String>> blocks = new HashMap<>();
+        Iterator<String> lines = ParsingUtils.NEWLINE.splitAsStream(output)
+                .map(line -> line.replace("\r", ""))
+                .iterator();
+        List<String> current = null;
+        while (lines.hasNext()) {
+            String line = lines.next();
+            Optional<String> name = rules.parseHeader(line);
+            if (name.isPresent()) {
+                current = new ArrayList<>();
+                current.add(line);
+                blocks.put(name.get(), current);
+            } else if (current != null && rules.isBlockLine(line)) {
+                current.add(line);
+            } else {
+                current = null;
+            }
+        }
+        return blocks;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222._interface.counters.state.Counters;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222._interface.counters.state.CountersBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+
+/**
+ * Vendor specific patterns of interface counter lines in interface state output (e.g. "show interface"), parsed
+ * into openconfig counters in a single pass with {@link LineScanner}.
+ *
+ * <p>Pattern of each counter matches a whole trimmed line and holds the counter value in group "value". Several
+ * counters may be taken from the same line, e.g. packets and bytes.
+ */
+public final class InterfaceCounters {
+
+    /**
+     * Counters of vendors not opted in, nothing is parsed.
+     */
+    public static final InterfaceCounters NONE = new InterfaceCounters(Collections.emptyMap());
+
+    /**
+     * Counters found in interface state output.
+     *
+     * <p>Openconfig has no total packet counter. Unicast packets are either reported by the device or computed
+     * from total packets and non-unicast (broadcast and multicast) packets, otherwise they are not set.
+     */
+    public enum Counter {
+        IN_OCTETS, IN_PKTS, IN_UNICAST_PKTS, IN_NON_UNICAST_PKTS, IN_ERRORS, IN_DISCARDS,
+        OUT_OCTETS, OUT_PKTS, OUT_UNICAST_PKTS, OUT_NON_UNICAST_PKTS, OUT_ERRORS, OUT_DISCARDS
+    }
+
+    private final LineScanner<Counter> scanner;
+
+    private InterfaceCounters(Map<Counter, Pattern> patterns) {
+        this.scanner = LineScanner.of(Counter.class, patterns);
+    }
+
+    /**
+     * Counters with given line patterns. Counters without pattern are not parsed.
+     */
+    @Nonnull
+    public static InterfaceCounters of(@Nonnull Map<Counter, Pattern> patterns) {
+        Map<Counter, Pattern> ordered = new EnumMap<>(Counter.class);
+        ordered.putAll(patterns);
+        return new InterfaceCounters(ordered);
+    }
+
+    /**
+     * Counters found in the output. Empty if no counter could be set.
+     */
+    @Nonnull
+    public Optional<Counters> parse(@Nonnull String output) {
+        LineScanner.Result<Counter> lines = scanner.scan(output);
+        Map<Counter, BigInteger> values = new EnumMap<>(Counter.class);
+        for (Counter counter : Counter.values()) {
+            lines.get(counter)
+                .map(matcher -> new BigInteger(matcher.group("value")))
+                .ifPresent(value -> values.put(counter, value));
+        }
+        Counters counters = new CountersBuilder()
+                .setInOctets(counter64(values.get(Counter.IN_OCTETS)))
+                .setInUnicastPkts(unicast(values, Counter.IN_UNICAST_PKTS, Counter.IN_PKTS,
+                        Counter.IN_NON_UNICAST_PKTS))
+                .setInErrors(counter64(values.get(Counter.IN_ERRORS)))
+                .setInDiscards(counter64(values.get(Counter.IN_DISCARDS)))
+                .setOutOctets(counter64(values.get(Counter.OUT_OCTETS)))
+                .setOutUnicastPkts(unicast(values, Counter.OUT_UNICAST_PKTS, Counter.OUT_PKTS,
+                        Counter.OUT_NON_UNICAST_PKTS))
+                .setOutErrors(counter64(values.get(Counter.OUT_ERRORS)))
+                .setOutDiscards(counter64(values.get(Counter.OUT_DISCARDS)))
+                .build();
+        if (counters.equals(new CountersBuilder().build())) {
+            return Optional.empty();
+        }
+        return Optional.of(counters);
+    }
+
+    private static Counter64 unicast(Map<Counter, BigInteger> values, Counter unicast, Counter total,
+                                     Counter nonUnicast) {
+        if (values.containsKey(unicast)) {
+            return counter64(values.get(unicast));
+        }
+        if (values.containsKey(total) && values.containsKey(nonUnicast)) {
+            BigInteger difference = values.get(total).subtract(values.get(nonUnicast));
+            // device counters wrap independently of each other
+            return counter64(difference.max(BigInteger.ZERO));
+        }
+        return null;
+    }
+
+    private static Counter64 counter64(BigInteger value) {
+        return value == null ? null : new Counter64(value);
+    }
+}
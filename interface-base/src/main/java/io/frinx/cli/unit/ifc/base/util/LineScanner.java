@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+
+/**
+ * Finds first matching line of several patterns in a single pass over the output.
+ *
+ * <p>Result of each field is the same as of {@link ParsingUtils#parseField} with the field's pattern: lines are
+ * trimmed and the first line matching the whole pattern wins. A field is no longer tested once it has its line
+ * and the scan ends as soon as all fields have one, so a line is only tested against fields still missing.
+ * Fields with {@link NetUtils#NO_MATCH} pattern are never tested.
+ *
+ * @param <F> field identifiers
+ */
+public final class LineScanner<F extends Enum<F>> {
+
+    private final Class<F> fieldType;
+    private final List<F> fields;
+    private final List<Pattern> patterns;
+
+    private LineScanner(Class<F> fieldType, Map<F, Pattern> patterns) {
+        this.fieldType = fieldType;
+        this.fields = new ArrayList<>(patterns.size());
+        this.patterns = new ArrayList<>(patterns.size());
+        patterns.forEach((field, pattern) -> {
+            if (pattern != NetUtils.NO_MATCH) {
+                this.fields.add(field);
+                this.patterns.add(pattern);
+            }
+        });
+    }
+
+    /**
+     * Scanner of given fields.
+     *
+     * @param patterns line pattern of each field, in the order the fields are tested
+     */
+    @Nonnull
+    public static <F extends Enum<F>> LineScanner<F> of(@Nonnull Class<F> fieldType,
+                                                        @Nonnull Map<F, Pattern> patterns) {
+        return new LineScanner<>(fieldType, patterns);
+    }
+
+    /**
+     * Walk the output once and collect the first matching line of each field.
+     */
+    @Nonnull
+    public Result<F> scan(@Nonnull String output) {
+        Map<F, Matcher> found = new EnumMap<>(fieldType);
+        Matcher[] matchers = new Matcher[patterns.size()];
+        for (int i = 0; i < matchers.length; i++) {
+            matchers[i] = patterns.get(i).matcher("");
+        }
+        int missing = matchers.length;
+        for (String line : (Iterable<String>) ParsingUtils.NEWLINE.splitAsStream(output)::iterator) {
+            if (missing == 0) {
+                break;
+            }
+            String trimmed = line.trim();
+            for (int i = 0; i < matchers.length; i++) {
+                if (matchers[i] != null && matchers[i].reset(trimmed).matches()) {
+                    // reset matcher is left matched, it is not reused for further lines
+                    found.put(fields.get(i), matchers[i]);
+                    matchers[i] = null;
+                    missing--;
+                }
+            }
+        }
+        return new Result<>(found);
+    }
+
+    /**
+     * First matching line of each field found in an output.
+     */
+    public static final class Result<F extends Enum<F>> {
+
+        private final Map<F, Matcher> found;
+
+        private Result(Map<F, Matcher> found) {
+            this.found = Collections.unmodifiableMap(found);
+        }
+
+        /**
+         * Matcher of the first line matching the field pattern, in matched state.
+         */
+        @Nonnull
+        public Optional<Matcher> get(@Nonnull F field) {
+            return Optional.ofNullable(found.get(field));
+        }
+    }
+}
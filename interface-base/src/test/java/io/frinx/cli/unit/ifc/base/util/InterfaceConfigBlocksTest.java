@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2019 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceConfigBlocksTest {
+
+    private static final InterfaceBlockRules RULES = new InterfaceBlockRules(
+            "show running-config interface",
+            Pattern.compile("^interface (?<name>\\S+)\\s*$"),
+            Pattern.compile("^show running-config interface (?<name>\\S+)"
+                    + "(?:\\s*\\|\\s*include (?<include>.+))?$"));
+
+    private static final String OUTPUT = "Mon Feb 12 13:20:35.394 UTC\n"
+            + "interface Loopback0\n"
+            + " ipv4 address 10.0.0.1 255.255.255.255\n"
+            + "!\n"
+            + "interface GigabitEthernet0/0/0/0\r\n"
+            + " description uplink\r\n"
+            + " mtu 1514\r\n"
+            + " ipv4 address 192.168.1.1 255.255.255.0\r\n"
+            + " ipv6 address 2001:db8::1/64\r\n"
+            + " shutdown\r\n"
+            + "!\n"
+            + "interface GigabitEthernet0/0/0/1\n"
+            + "!\n"
+            + "end";
+
+    private CliReader reader;
+    private Cli cli;
+    private InstanceIdentifier id;
+    private ReadContext readContext;
+
+    @Before
+    public void setUp() throws Exception {
+        reader = Mockito.mock(CliReader.class);
+        cli = Mockito.mock(Cli.class);
+        id = Mockito.mock(InstanceIdentifier.class);
+        readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        Mockito.when(reader.blockingRead("show running-config interface", cli, id, readContext)).thenReturn(OUTPUT);
+    }
+
+    @Test
+    public void testParseBlocks() {
+        Map<String, List<String>> blocks = InterfaceConfigBlocks.parseBlocks(OUTPUT, RULES);
+        Assert.assertEquals(3, blocks.size());
+        Assert.assertEquals(2, blocks.get("Loopback0").size());
+        Assert.assertEquals(6, blocks.get("GigabitEthernet0/0/0/0").size());
+        Assert.assertEquals(" shutdown", blocks.get("GigabitEthernet0/0/0/0").get(5));
+        Assert.assertEquals(1, blocks.get("GigabitEthernet0/0/0/1").size());
+    }
+
+    @Test
+    public void testParseStateBlocks() {
+        InterfaceBlockRules stateRules = new InterfaceBlockRules(
+                "show interfaces",
+                Pattern.compile("^(?<name>\\S+) is .*, line protocol is .*"),
+                Pattern.compile("^show interface (?<name>\\S+)$")) {
+
+            @Override
+            public boolean isBlockLine(String line) {
+                return line.isEmpty() || super.isBlockLine(line);
+            }
+        };
+        Map<String, List<String>> blocks = InterfaceConfigBlocks.parseBlocks("Loopback0 is up, line protocol is up\n"
+                + "\n"
+                + "  MTU 1514 bytes, BW 8000000 Kbit/sec\n"
+                + "GigabitEthernet1 is administratively down, line protocol is down\n"
+                + "  Description: uplink\n", stateRules);
+        Assert.assertEquals(2, blocks.size());
+        Assert.assertEquals("  MTU 1514 bytes, BW 8000000 Kbit/sec", blocks.get("Loopback0").get(2));
+        Assert.assertEquals(2, blocks.get("GigabitEthernet1").size());
+    }
+
+    @Test
+    public void testBlockingRead() throws Exception {
+        Assert.assertEquals("interface GigabitEthernet0/0/0/0\n"
+                + " description uplink\n"
+                + " mtu 1514\n"
+                + " ipv4 address 192.168.1.1 255.255.255.0\n"
+                + " ipv6 address 2001:db8::1/64\n"
+                + " shutdown",
+                read("show running-config interface GigabitEthernet0/0/0/0"));
+        Assert.assertEquals(" ipv4 address 10.0.0.1 255.255.255.255",
+                read("show running-config interface Loopback0 | include ^ ipv4 address"));
+        Assert.assertEquals("", read("show running-config interface GigabitEthernet0/0/0/1 | include ^ ipv4 address"));
+
+        // bulk output read only once per read context
+        Mockito.verify(reader, Mockito.times(1)).blockingRead("show running-config interface", cli, id, readContext);
+        Mockito.verify(reader, Mockito.times(1)).blockingRead(Mockito.anyString(), Mockito.eq(cli), Mockito.eq(id),
+                Mockito.eq(readContext));
+    }
+
+    @Test
+    public void testFallbackToDevice() throws Exception {
+        Mockito.when(reader.blockingRead("show running-config interface Bundle-Ether1", cli, id, readContext))
+                .thenReturn("% No such configuration item(s)");
+        Mockito.when(reader.blockingRead("show running-config interface Loopback0 ethernet cfm", cli, id,
+                readContext)).thenReturn("cfm");
+
+        // interface missing in bulk output
+        Assert.assertEquals("% No such configuration item(s)", read("show running-config interface Bundle-Ether1"));
+        // command not recognized by rules
+        Assert.assertEquals("cfm", read("show running-config interface Loopback0 ethernet cfm"));
+        // vendor not opted in
+        InterfaceConfigBlocks.blockingRead(reader, InterfaceBlockRules.NONE,
+                "show running-config interface Loopback0", cli, id, readContext);
+        Mockito.verify(reader).blockingRead("show running-config interface Loopback0", cli, id, readContext);
+    }
+
+    @Test
+    public void testBulkReadOverride() throws Exception {
+        InterfaceBlockRules snapshotRules = new InterfaceBlockRules(
+                "show running-config | section ^interface",
+                Pattern.compile("^interface (?<name>\\S+)\\s*$"),
+                Pattern.compile("^show running-config interface (?<name>\\S+)$")) {
+
+            @Override
+            public String readBulk(CliReader<?, ?> reader, Cli cli, InstanceIdentifier<?> id,
+                                   ReadContext readContext) {
+                return OUTPUT;
+            }
+        };
+        Assert.assertEquals("interface Loopback0\n ipv4 address 10.0.0.1 255.255.255.255",
+                InterfaceConfigBlocks.blockingRead(reader, snapshotRules, "show running-config interface Loopback0",
+                        cli, id, readContext));
+        Mockito.verify(reader, Mockito.never()).blockingRead(Mockito.anyString(), Mockito.eq(cli), Mockito.eq(id),
+                Mockito.eq(readContext));
+    }
+
+    private String read(String command) throws Exception {
+        return InterfaceConfigBlocks.blockingRead(reader, RULES, command, cli, id, readContext);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import com.google.common.collect.ImmutableMap;
+import java.math.BigInteger;
+import java.util.regex.Pattern;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222._interface.counters.state.Counters;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222._interface.counters.state.CountersBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+
+public class InterfaceCountersTest {
+
+    private static final InterfaceCounters COUNTERS = InterfaceCounters.of(
+            ImmutableMap.<InterfaceCounters.Counter, Pattern>builder()
+                    .put(InterfaceCounters.Counter.IN_PKTS, Pattern.compile("(?<value>\\d+) packets input, .*"))
+                    .put(InterfaceCounters.Counter.IN_OCTETS,
+                            Pattern.compile("\\d+ packets input, (?<value>\\d+) bytes.*"))
+                    .put(InterfaceCounters.Counter.IN_NON_UNICAST_PKTS,
+                            Pattern.compile("Received (?<value>\\d+) broadcasts.*"))
+                    .put(InterfaceCounters.Counter.IN_ERRORS, Pattern.compile("(?<value>\\d+) input errors.*"))
+                    .put(InterfaceCounters.Counter.OUT_DISCARDS,
+                            Pattern.compile(".*Total output drops: (?<value>\\d+).*"))
+                    .build());
+
+    private static final String OUTPUT = "GigabitEthernet1 is up, line protocol is up\n"
+            + "  Input queue: 0/375/0/0 (size/max/drops/flushes); Total output drops: 12\n"
+            + "     18446744073709551615 packets input, 1234 bytes, 0 no buffer\n"
+            + "     Received 5 broadcasts (0 IP multicasts)\n"
+            + "     3 input errors, 0 CRC, 0 frame, 0 overrun, 0 ignored\n"
+            + "     394 packets output, 43646 bytes, 0 underruns\n";
+
+    @Test
+    public void testParse() {
+        Counters expected = new CountersBuilder()
+                .setInUnicastPkts(new Counter64(new BigInteger("18446744073709551610")))
+                .setInOctets(new Counter64(BigInteger.valueOf(1234)))
+                .setInErrors(new Counter64(BigInteger.valueOf(3)))
+                .setOutDiscards(new Counter64(BigInteger.valueOf(12)))
+                .build();
+        Assert.assertEquals(expected, COUNTERS.parse(OUTPUT).get());
+    }
+
+    @Test
+    public void testTotalPacketsNotReportedAsUnicast() {
+        Counters expected = new CountersBuilder()
+                .setInOctets(new Counter64(BigInteger.valueOf(1234)))
+                .setInErrors(new Counter64(BigInteger.valueOf(3)))
+                .setOutDiscards(new Counter64(BigInteger.valueOf(12)))
+                .build();
+        Assert.assertEquals(expected, COUNTERS.parse(OUTPUT.replace("Received 5 broadcasts", "")).get());
+    }
+
+    @Test
+    public void testNoCounters() {
+        Assert.assertFalse(COUNTERS.parse("GigabitEthernet1 is up, line protocol is up\n").isPresent());
+        Assert.assertFalse(InterfaceCounters.NONE.parse(OUTPUT).isPresent());
+    }
+}
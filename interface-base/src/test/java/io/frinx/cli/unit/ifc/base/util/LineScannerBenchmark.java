@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import com.google.common.base.Preconditions;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of interface state fields parsed by separate {@link ParsingUtils#parseField} calls and by
+ * a single {@link LineScanner} pass, over "show interface" outputs of 2000 interfaces. Results of both are checked
+ * to be identical before measuring, see also {@link LineScannerTest}. Run with the benchmark profile:
+ * mvn -Pbenchmark verify -pl interface-base
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LineScannerBenchmark {
+
+    private enum Field { ADMIN_STATUS, OPER_STATUS, MTU, DESCRIPTION }
+
+    private static final Pattern ADMIN_LINE = Pattern.compile(".*is (?<admin>up|down|administratively down), "
+            + "line protocol.*");
+    private static final Pattern OPER_LINE = Pattern.compile(".*line protocol is (?<oper>up|down).*");
+    private static final Pattern MTU_LINE = Pattern.compile("\\s*MTU (?<mtu>\\d+).*");
+    private static final Pattern DESCR_LINE = Pattern.compile("\\s*Description: (?<desc>.*)\\s*");
+
+    @Param("2000")
+    public int interfaces;
+
+    private List<String> outputs;
+    private Map<Field, Pattern> patterns;
+    private LineScanner<Field> scanner;
+
+    @Setup
+    public void setUp() {
+        outputs = generate(interfaces);
+        patterns = new EnumMap<>(Field.class);
+        patterns.put(Field.ADMIN_STATUS, ADMIN_LINE);
+        patterns.put(Field.OPER_STATUS, OPER_LINE);
+        patterns.put(Field.MTU, MTU_LINE);
+        patterns.put(Field.DESCRIPTION, DESCR_LINE);
+        scanner = LineScanner.of(Field.class, patterns);
+
+        for (String output : outputs.subList(0, Math.min(100, interfaces))) {
+            List<String> expected = parseFields(output, patterns);
+            List<String> actual = scan(scanner, output);
+            Preconditions.checkState(expected.equals(actual), "Results differ:%n%s%n%s", expected, actual);
+        }
+    }
+
+    @Benchmark
+    public long parseField() {
+        long fields = 0;
+        for (String output : outputs) {
+            fields += parseFields(output, patterns).size();
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public long lineScanner() {
+        long fields = 0;
+        for (String output : outputs) {
+            fields += scan(scanner, output).size();
+        }
+        return fields;
+    }
+
+    private static List<String> parseFields(String output, Map<Field, Pattern> patterns) {
+        List<String> fields = new ArrayList<>();
+        for (Pattern pattern : patterns.values()) {
+            Optional<String> field = ParsingUtils.parseField(output, 0, pattern::matcher, Matcher::group);
+            field.ifPresent(fields::add);
+        }
+        return fields;
+    }
+
+    private static List<String> scan(LineScanner<Field> scanner, String output) {
+        LineScanner.Result<Field> result = scanner.scan(output);
+        List<String> fields = new ArrayList<>();
+        for (Field field : Field.values()) {
+            result.get(field).map(Matcher::group).ifPresent(fields::add);
+        }
+        return fields;
+    }
+
+    /**
+     * IOS "show interface" outputs, every tenth interface without description.
+     */
+    private static List<String> generate(int interfaces) {
+        List<String> outputs = new ArrayList<>(interfaces);
+        for (int i = 0; i < interfaces; i++) {
+            boolean up = i % 7 != 0;
+            StringBuilder output = new StringBuilder()
+                    .append("GigabitEthernet").append(i / 48).append('/').append(i % 48).append(" is ")
+                    .append(up ? "up" : "administratively down").append(", line protocol is ")
+                    .append(up ? "up" : "down").append('\n')
+                    .append("  Hardware is iGbE, address is fa16.3e00.").append(String.format("%04x", i))
+                    .append(" (bia fa16.3e00.").append(String.format("%04x", i)).append(")\n");
+            if (i % 10 != 0) {
+                output.append("  Description: benchmark interface ").append(i).append('\n');
+            }
+            output.append("  Internet address is 10.").append(i >> 8 & 0xff).append('.').append(i & 0xff)
+                    .append(".1/24\n")
+                    .append("  MTU ").append(1500 + i % 3 * 3500).append(" bytes, BW 1000000 Kbit/sec, DLY 10 usec,\n")
+                    .append("     reliability 255/255, txload 1/255, rxload 1/255\n")
+                    .append("  Encapsulation ARPA, loopback not set\n")
+                    .append("  Keepalive set (10 sec)\n")
+                    .append("  Full Duplex, 1000Mbps, link type is auto, media type is RJ45\n")
+                    .append("  output flow-control is unsupported, input flow-control is unsupported\n")
+                    .append("  ARP type: ARPA, ARP Timeout 04:00:00\n")
+                    .append("  Last input 00:00:00, output 00:00:00, output hang never\n")
+                    .append("  Last clearing of \"show interface\" counters never\n")
+                    .append("  Input queue: 0/375/0/0 (size/max/drops/flushes); Total output drops: 0\n")
+                    .append("  Queueing strategy: fifo\n")
+                    .append("  Output queue: 0/40 (size/max)\n")
+                    .append("  5 minute input rate 1000 bits/sec, 1 packets/sec\n")
+                    .append("  5 minute output rate 1000 bits/sec, 1 packets/sec\n")
+                    .append("     123456 packets input, 12345678 bytes, 0 no buffer\n")
+                    .append("     Received 0 broadcasts (0 IP multicasts)\n")
+                    .append("     0 runts, 0 giants, 0 throttles\n")
+                    .append("     0 input errors, 0 CRC, 0 frame, 0 overrun, 0 ignored\n")
+                    .append("     123456 packets output, 12345678 bytes, 0 underruns\n")
+                    .append("     0 output errors, 0 collisions, 1 interface resets\n");
+            outputs.add(output.toString());
+        }
+        return outputs;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ifc.base.util;
+
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LineScannerTest {
+
+    private enum Field { SHUTDOWN, MTU, DESCRIPTION, SPEED }
+
+    private static final Pattern SHUTDOWN_LINE = Pattern.compile("shutdown");
+    private static final Pattern MTU_LINE = Pattern.compile("mtu (?<mtu>.+)");
+    private static final Pattern DESCR_LINE = Pattern.compile("description (?<desc>.+)");
+
+    private static final String OUTPUT = "interface GigabitEthernet1\n"
+            + " description first mtu 1000\n"
+            + " mtu 1500\r\n"
+            + " description second\n"
+            + " mtu 9000\n"
+            + "end\n";
+
+    private static LineScanner<Field> scanner() {
+        Map<Field, Pattern> patterns = new EnumMap<>(Field.class);
+        patterns.put(Field.SHUTDOWN, SHUTDOWN_LINE);
+        patterns.put(Field.MTU, MTU_LINE);
+        patterns.put(Field.DESCRIPTION, DESCR_LINE);
+        patterns.put(Field.SPEED, NetUtils.NO_MATCH);
+        return LineScanner.of(Field.class, patterns);
+    }
+
+    @Test
+    public void testFirstMatchingLine() {
+        LineScanner.Result<Field> result = scanner().scan(OUTPUT);
+
+        Assert.assertEquals("1500", result.get(Field.MTU).get().group("mtu"));
+        Assert.assertEquals("first mtu 1000", result.get(Field.DESCRIPTION).get().group("desc"));
+        Assert.assertFalse(result.get(Field.SHUTDOWN).isPresent());
+        Assert.assertFalse(result.get(Field.SPEED).isPresent());
+    }
+
+    @Test
+    public void testSameAsParseField() {
+        String output = OUTPUT + " shutdown\n";
+        LineScanner.Result<Field> result = scanner().scan(output);
+
+        assertSameAsParseField(output, result, Field.SHUTDOWN, SHUTDOWN_LINE);
+        assertSameAsParseField(output, result, Field.MTU, MTU_LINE);
+        assertSameAsParseField(output, result, Field.DESCRIPTION, DESCR_LINE);
+    }
+
+    private static void assertSameAsParseField(String output, LineScanner.Result<Field> result, Field field,
+                                               Pattern pattern) {
+        Optional<String> expected = ParsingUtils.parseField(output, 0, pattern::matcher, Matcher::group);
+        Assert.assertEquals(expected, result.get(field).map(Matcher::group));
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Device facts, e.g. inventory and software versions, kept across read transactions.
+ *
+ * <p>Output of fact commands such as "show version" or "show inventory" essentially never changes while a device
+ * is connected. It is read from the device once and then answered from this cache until it expires. All facts of
+ * a device are dropped when the device (re)connects, see {@link #invalidate(Cli)}, and when its configuration
+ * fingerprint changes, see {@link #updateFingerprint(Cli, String)}.
+ *
+ * <p>Facts are kept in memory per {@link Cli} and are dropped together with the mount point. Hits and misses are
+ * counted over all devices, to show how many device reads the cache saves.
+ */
+public final class DeviceFactsCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceFactsCache.class);
+
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    private static volatile DeviceFactsCache instance = create(DEFAULT_TTL);
+
+    private final long ttlNanos;
+    private final Ticker ticker;
+    private final Map<Cli, DeviceFacts> devices = Collections.synchronizedMap(new WeakHashMap<>());
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private DeviceFactsCache(Duration ttl, Ticker ticker) {
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Cache shared by all platform readers.
+     */
+    @Nonnull
+    public static DeviceFactsCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replace cache shared by all platform readers, e.g. by one with different time to live.
+     */
+    public static void setInstance(@Nonnull DeviceFactsCache cache) {
+        instance = cache;
+    }
+
+    /**
+     * Cache keeping facts for given time after they were read from the device.
+     */
+    @Nonnull
+    public static DeviceFactsCache create(@Nonnull Duration ttl) {
+        return create(ttl, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    static DeviceFactsCache create(Duration ttl, Ticker ticker) {
+        return new DeviceFactsCache(ttl, ticker);
+    }
+
+    /**
+     * Drop-in replacement for {@link CliReader#blockingRead(String, Cli, InstanceIdentifier, ReadContext)} for
+     * commands printing device facts.
+     */
+    public String blockingRead(@Nonnull CliReader<?, ?> reader, @Nonnull String command, @Nonnull Cli cli,
+                               @Nonnull InstanceIdentifier<?> id, @Nonnull ReadContext readContext)
+            throws ReadFailedException {
+        DeviceFacts facts = devices.computeIfAbsent(cli, c -> new DeviceFacts(null));
+        long now = ticker.read();
+        Fact fact = facts.commands.get(command);
+        if (fact != null && now - fact.readAt < ttlNanos) {
+            hits.incrementAndGet();
+            return fact.output;
+        }
+        misses.incrementAndGet();
+        LOG.debug("{}: Reading device facts of command {}", cli.getDeviceId(), command);
+        String output = reader.blockingRead(command, cli, id, readContext);
+        facts.commands.put(command, new Fact(output, now));
+        return output;
+    }
+
+    /**
+     * Drop all facts of the device when its configuration fingerprint differs from the one seen previously.
+     *
+     * @param fingerprint last configuration fingerprint, as reported by the configuration-metadata unit
+     */
+    public void updateFingerprint(@Nonnull Cli cli, @Nonnull String fingerprint) {
+        devices.compute(cli, (c, facts) -> {
+            if (facts == null) {
+                return new DeviceFacts(fingerprint);
+            }
+            if (facts.fingerprint == null) {
+                // facts read before the first fingerprint are kept
+                return new DeviceFacts(fingerprint, facts.commands);
+            }
+            if (!facts.fingerprint.equals(fingerprint)) {
+                LOG.debug("{}: Configuration fingerprint changed, dropping device facts", c.getDeviceId());
+                return new DeviceFacts(fingerprint);
+            }
+            return facts;
+        });
+    }
+
+    /**
+     * Drop all facts of the device, e.g. when it (re)connects.
+     */
+    public void invalidate(@Nonnull Cli cli) {
+        devices.remove(cli);
+    }
+
+    /**
+     * Number of commands answered from the cache.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Number of commands read from devices, because they were not cached or expired.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DeviceFactsCache{hits=" + hits.get() + ", misses=" + misses.get() + ", devices=" + devices.size()
+                + "}";
+    }
+
+    private static final class DeviceFacts {
+
+        private final String fingerprint;
+        private final Map<String, Fact> commands;
+
+        private DeviceFacts(@Nullable String fingerprint) {
+            this(fingerprint, new ConcurrentHashMap<>());
+        }
+
+        private DeviceFacts(@Nullable String fingerprint, Map<String, Fact> commands) {
+            this.fingerprint = fingerprint;
+            this.commands = commands;
+        }
+    }
+
+    private static final class Fact {
+
+        private final String output;
+        private final long readAt;
+
+        private Fact(String output, long readAt) {
+            this.output = output;
+            this.readAt = readAt;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.init;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+
+/**
+ * Error patterns of a unit compiled for checking of large command outputs.
+ *
+ * <p>Checking output against each error pattern separately means a full regex scan of the output per pattern.
+ * Here each pattern is registered together with literals its matches contain, e.g. "% invalid input". Output is
+ * scanned once for all literals (Aho-Corasick, ignoring case) and a pattern is only evaluated when one of its
+ * literals was found, starting at the line of the first found literal. Outputs without errors, the common case,
+ * are therefore checked by a single pass without running any regex.
+ *
+ * <p>Result is the same as of {@link Matcher#find()} of each pattern on the whole output, provided that every match
+ * of a pattern contains one of its literals and starts either on the line of that literal or in whitespace and line
+ * breaks directly preceding that line. Patterns registered without literals are always evaluated on whole output.
+ */
+public final class ErrorPatternMatcher {
+
+    private static final int ALPHABET = 128;
+    private static final int ROOT = 0;
+
+    private final List<Pattern> patterns;
+    private final boolean[] filtered;
+    private final int filteredCount;
+    private final int[][] transitions;
+    private final int[][] hitPatterns;
+    private final int[][] hitLengths;
+
+    private ErrorPatternMatcher(Builder builder) {
+        this.patterns = Collections.unmodifiableList(new ArrayList<>(builder.patterns));
+        this.filtered = new boolean[patterns.size()];
+        int count = 0;
+        for (int i = 0; i < patterns.size(); i++) {
+            filtered[i] = !builder.literals.get(i).isEmpty();
+            count += filtered[i] ? 1 : 0;
+        }
+        this.filteredCount = count;
+
+        // trie of all literals, hits of a state are the literals ending in it
+        List<int[]> nodes = new ArrayList<>();
+        List<List<int[]>> hits = new ArrayList<>();
+        addNode(nodes, hits);
+        for (int i = 0; i < patterns.size(); i++) {
+            for (String literal : builder.literals.get(i)) {
+                int state = ROOT;
+                for (char c : literal.toCharArray()) {
+                    int fold = Character.toLowerCase(c);
+                    if (nodes.get(state)[fold] == -1) {
+                        nodes.get(state)[fold] = addNode(nodes, hits);
+                    }
+                    state = nodes.get(state)[fold];
+                }
+                hits.get(state).add(new int[]{i, literal.length()});
+            }
+        }
+
+        // complete the trie into an automaton, missing transitions follow failure links
+        int[] failure = new int[nodes.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = nodes.get(ROOT)[c];
+            if (next == -1) {
+                nodes.get(ROOT)[c] = ROOT;
+            } else {
+                failure[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            hits.get(state).addAll(hits.get(failure[state]));
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = nodes.get(state)[c];
+                if (next == -1) {
+                    nodes.get(state)[c] = nodes.get(failure[state])[c];
+                } else {
+                    failure[next] = nodes.get(failure[state])[c];
+                    queue.add(next);
+                }
+            }
+        }
+        this.transitions = nodes.toArray(new int[0][]);
+        this.hitPatterns = new int[nodes.size()][];
+        this.hitLengths = new int[nodes.size()][];
+        for (int state = 0; state < nodes.size(); state++) {
+            hitPatterns[state] = hits.get(state).stream().mapToInt(hit -> hit[0]).toArray();
+            hitLengths[state] = hits.get(state).stream().mapToInt(hit -> hit[1]).toArray();
+        }
+    }
+
+    private static int addNode(List<int[]> nodes, List<List<int[]>> hits) {
+        int[] node = new int[ALPHABET];
+        Arrays.fill(node, -1);
+        nodes.add(node);
+        hits.add(new ArrayList<>());
+        return nodes.size() - 1;
+    }
+
+    @Nonnull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Matcher of patterns without literals, each pattern is evaluated on whole output.
+     */
+    @Nonnull
+    public static ErrorPatternMatcher of(@Nonnull Set<Pattern> patterns) {
+        Builder builder = builder();
+        patterns.forEach(builder::add);
+        return builder.build();
+    }
+
+    /**
+     * All patterns in order of registration.
+     */
+    @Nonnull
+    public List<Pattern> getPatterns() {
+        return patterns;
+    }
+
+    /**
+     * First pattern, in order of registration, found in the output.
+     */
+    @Nonnull
+    public Optional<Pattern> find(@Nonnull String output) {
+        int[] firstHits = new int[patterns.size()];
+        Arrays.fill(firstHits, -1);
+        int pending = filteredCount;
+        int state = ROOT;
+        for (int i = 0; i < output.length() && pending > 0; i++) {
+            char c = output.charAt(i);
+            state = c < ALPHABET ? transitions[state][Character.toLowerCase(c)] : ROOT;
+            int[] statePatterns = hitPatterns[state];
+            for (int j = 0; j < statePatterns.length; j++) {
+                if (firstHits[statePatterns[j]] == -1) {
+                    firstHits[statePatterns[j]] = i - hitLengths[state][j] + 1;
+                    pending--;
+                }
+            }
+        }
+
+        for (int i = 0; i < patterns.size(); i++) {
+            if (filtered[i] && firstHits[i] == -1) {
+                continue;
+            }
+            int from = filtered[i] ? getCandidateStart(output, firstHits[i]) : 0;
+            Matcher matcher = patterns.get(i).matcher(output)
+                    .useTransparentBounds(true)
+                    .useAnchoringBounds(false)
+                    .region(from, output.length());
+            if (matcher.find()) {
+                return Optional.of(patterns.get(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * True if any of the patterns is found in the output.
+     */
+    public boolean matches(@Nonnull String output) {
+        return find(output).isPresent();
+    }
+
+    /**
+     * Start of the line with the literal, including whitespace and line breaks preceding it.
+     */
+    private static int getCandidateStart(String output, int literalStart) {
+        int from = output.lastIndexOf('\n', literalStart - 1) + 1;
+        while (from > 0 && Character.isWhitespace(output.charAt(from - 1))) {
+            from--;
+        }
+        return from;
+    }
+
+    @Override
+    public String toString() {
+        return "ErrorPatternMatcher{patterns=" + patterns + "}";
+    }
+
+    public static final class Builder {
+
+        private final List<Pattern> patterns = new ArrayList<>();
+        private final List<Set<String>> literals = new ArrayList<>();
+
+        private Builder() {
+
+        }
+
+        /**
+         * Register an error pattern.
+         *
+         * @param pattern error pattern, as returned by getErrorPatterns of the unit
+         * @param patternLiterals literals every match of the pattern contains, ignoring case. Literals have to be
+         *                        ASCII, without line breaks and not only whitespace.
+         */
+        @Nonnull
+        public Builder add(@Nonnull Pattern pattern, @Nonnull String... patternLiterals) {
+            for (String literal : patternLiterals) {
+                Preconditions.checkArgument(!literal.trim().isEmpty(), "Blank literal of pattern %s", pattern);
+                Preconditions.checkArgument(literal.chars().allMatch(c -> c < ALPHABET && c != '\n' && c != '\r'),
+                        "Literal '%s' of pattern %s has to be ASCII without line breaks", literal, pattern);
+            }
+            patterns.add(pattern);
+            literals.add(new LinkedHashSet<>(Arrays.asList(patternLiterals)));
+            return this;
+        }
+
+        @Nonnull
+        public ErrorPatternMatcher build() {
+            return new ErrorPatternMatcher(this);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.init;
+
+import com.google.common.base.Preconditions;
+import io.frinx.cli.io.Session;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * Expect-style reading of session output used by session initializers.
+ *
+ * <p>Instead of waiting a fixed time after each command ({@link Session#readUntilTimeout(int)}), output is read
+ * as it arrives and reading stops as soon as one of expected patterns matches the end of the output read so far.
+ * Timeout is only a ceiling for devices which never print what was expected.
+ *
+ * <p>Pager prompts ({@link #MORE_PROMPT}) are answered automatically unless they are expected by the caller.
+ */
+public final class SessionExpect {
+
+    /**
+     * Password prompt printed e.g. after "enable".
+     */
+    public static final Pattern PASSWORD_PROMPT = Pattern.compile("[Pp]assword:[ \\t]*\\z");
+
+    /**
+     * Pager prompt printed when output does not fit into terminal.
+     */
+    public static final Pattern MORE_PROMPT = Pattern.compile("-+ ?\\(?[Mm]ore.*?\\)? ?-+[ \\t]*\\z");
+
+    /**
+     * Any prompt ending with one of usual prompt suffixes.
+     */
+    public static final Pattern PROMPT = Pattern.compile("\\S[^\\r\\n]*[>#$%][ \\t]*\\z");
+
+    /**
+     * Poll period of the session output. Each poll only takes output which is already buffered by the session.
+     */
+    private static final long POLL_MILLIS = 5;
+    private static final int NO_WAIT = 0;
+    private static final String PAGER_CONTINUE = " ";
+
+    private final Session session;
+    private final long timeoutMillis;
+
+    /**
+     * Create expect reader of a session.
+     *
+     * @param session session to be read
+     * @param timeout ceiling of a single expect
+     * @param unit unit of timeout
+     */
+    public SessionExpect(@Nonnull Session session, long timeout, @Nonnull TimeUnit unit) {
+        this.session = session;
+        this.timeoutMillis = unit.toMillis(timeout);
+    }
+
+    /**
+     * Read until the end of output matches one of the patterns.
+     *
+     * @param patterns expected patterns, use {@code \z} to anchor them to the end of output
+     * @return pattern which matched and output read
+     * @throws TimeoutException if none of the patterns matched in time
+     */
+    @Nonnull
+    public Match expect(@Nonnull Pattern... patterns)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        Preconditions.checkArgument(patterns.length > 0, "No pattern expected");
+        List<Pattern> expected = Arrays.asList(patterns);
+        boolean answerPager = !expected.contains(MORE_PROMPT);
+
+        StringBuilder output = new StringBuilder();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int pagerStart = 0;
+        while (true) {
+            output.append(session.readUntilTimeout(NO_WAIT));
+            for (Pattern pattern : expected) {
+                if (pattern.matcher(output).find()) {
+                    return new Match(pattern, output.toString());
+                }
+            }
+            if (answerPager) {
+                Matcher pager = MORE_PROMPT.matcher(output).region(pagerStart, output.length());
+                if (pager.find()) {
+                    pagerStart = output.length();
+                    write(PAGER_CONTINUE);
+                    continue;
+                }
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new TimeoutException(session + ": None of " + expected + " found in " + timeoutMillis
+                        + " ms, output: " + output);
+            }
+            TimeUnit.MILLISECONDS.sleep(POLL_MILLIS);
+        }
+    }
+
+    /**
+     * Read until the end of output is the prompt.
+     *
+     * @param prompt prompt as printed by the device
+     * @return output read
+     */
+    @Nonnull
+    public String expectPrompt(@Nonnull String prompt)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return expect(Pattern.compile(Pattern.quote(prompt) + "[ \\t]*\\z")).getOutput();
+    }
+
+    /**
+     * Write a command and read until the end of output is the prompt.
+     *
+     * @param newline newline used by the session
+     * @param command command to be executed
+     * @param prompt prompt as printed by the device
+     * @return output read
+     */
+    @Nonnull
+    public String execute(@Nonnull String newline, @Nonnull String command, @Nonnull String prompt)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        write(command + newline);
+        return expectPrompt(prompt);
+    }
+
+    /**
+     * Write probe (usually two newlines) and read until the last two lines which are not ignored are the same.
+     * Those lines are the prompt.
+     *
+     * @param probe input making the device print its prompt twice
+     * @param newline newline used by the session
+     * @param ignoredLine lines printed between prompts which are not a prompt, e.g. empty lines
+     * @return prompt of the device
+     * @throws TimeoutException if prompt was not printed twice in time
+     */
+    @Nonnull
+    public String resolvePrompt(@Nonnull String probe, @Nonnull String newline, @Nonnull Predicate<String> ignoredLine)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        write(probe);
+
+        StringBuilder output = new StringBuilder();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (true) {
+            output.append(session.readUntilTimeout(NO_WAIT));
+            List<String> lines = Arrays.stream(output.toString().split(newline))
+                    .map(String::trim)
+                    .filter(ignoredLine.negate())
+                    .collect(Collectors.toList());
+            int size = lines.size();
+            if (size >= 2 && lines.get(size - 1).equals(lines.get(size - 2))) {
+                return lines.get(size - 1);
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                throw new TimeoutException(session + ": Unable to resolve prompt in " + timeoutMillis
+                        + " ms, output: " + output);
+            }
+            TimeUnit.MILLISECONDS.sleep(POLL_MILLIS);
+        }
+    }
+
+    /**
+     * Write two newlines and read until the device prints the same prompt twice.
+     *
+     * @param newline newline used by the session
+     * @return prompt of the device
+     */
+    @Nonnull
+    public String resolvePrompt(@Nonnull String newline)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return resolvePrompt(newline + newline, newline, String::isEmpty);
+    }
+
+    private void write(String input) throws InterruptedException, ExecutionException, TimeoutException {
+        session.write(input).toCompletableFuture().get(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Result of {@link #expect(Pattern...)}.
+     */
+    public static final class Match {
+
+        private final Pattern pattern;
+        private final String output;
+
+        Match(Pattern pattern, String output) {
+            this.pattern = pattern;
+            this.output = output;
+        }
+
+        @Nonnull
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        @Nonnull
+        public String getOutput() {
+            return output;
+        }
+
+        public boolean is(@Nonnull Pattern expected) {
+            return pattern == expected;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.template;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.x5.template.Chunk;
+import com.x5.template.Snippet;
+import io.frinx.translate.unit.commons.handler.spi.ChunkFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+/**
+ * Chunk templates compiled once, when the registry is created.
+ *
+ * <p>{@link ChunkFormatter#fT(String, Object...)} parses the template on every call. Writers rendering large
+ * templates (loops, nested conditions) for many list entries keep their constant templates in a registry
+ * created in a static initializer and render them through {@link #fT(String, Object...)}, which reuses the
+ * parsed form of the template. Templates which were not registered are rendered by {@link ChunkFormatter}.
+ */
+public final class TemplateRegistry {
+
+    private static final ChunkFormatter FORMAT = new ChunkFormatter(){};
+
+    private final Map<String, Snippet> compiled;
+
+    private TemplateRegistry(Map<String, Snippet> compiled) {
+        this.compiled = compiled;
+    }
+
+    /**
+     * Compile templates.
+     *
+     * @param templates constant templates
+     * @return registry holding compiled templates
+     */
+    @Nonnull
+    public static TemplateRegistry of(@Nonnull String... templates) {
+        Map<String, Snippet> compiled = new HashMap<>();
+        for (String template : templates) {
+            compiled.putIfAbsent(template, Snippet.getSnippet(template));
+        }
+        return new TemplateRegistry(ImmutableMap.copyOf(compiled));
+    }
+
+    /**
+     * Same as {@link ChunkFormatter#fT(String, Object...)}, using compiled template if it is registered.
+     */
+    @Nonnull
+    public String fT(@Nonnull String template, @Nonnull Object... params) {
+        Snippet snippet = compiled.get(template);
+        if (snippet == null) {
+            return FORMAT.fT(template, params);
+        }
+        Preconditions.checkArgument(params.length % 2 == 0, "Template parameters must be key-value pairs");
+        Chunk chunk = new Chunk();
+        chunk.append(snippet);
+        for (int i = 0; i < params.length; i += 2) {
+            chunk.set(String.valueOf(params[i]), params[i + 1]);
+        }
+        return chunk.toString();
+    }
+
+    public boolean isCompiled(@Nonnull String template) {
+        return compiled.containsKey(template);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.cache;
+
+import com.google.common.base.Ticker;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.time.Duration;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.NetworkInstances;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class DeviceFactsCacheTest {
+
+    private static final String SH_VERSION = "show version";
+
+    private final FakeTicker ticker = new FakeTicker();
+    private DeviceFactsCache cache;
+    private CliReader<?, ?> reader;
+    private Cli cli;
+    private InstanceIdentifier<?> id;
+    private ReadContext readContext;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = DeviceFactsCache.create(Duration.ofMinutes(10), ticker);
+        reader = Mockito.mock(CliReader.class);
+        cli = Mockito.mock(Cli.class);
+        id = InstanceIdentifier.create(NetworkInstances.class);
+        readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(reader.blockingRead(SH_VERSION, cli, id, readContext)).thenReturn("v1", "v2", "v3");
+    }
+
+    @Test
+    public void testFactsKeptUntilExpired() throws Exception {
+        Assert.assertEquals("v1", read());
+        ticker.advance(Duration.ofMinutes(9));
+        Assert.assertEquals("v1", read());
+        ticker.advance(Duration.ofMinutes(1));
+        Assert.assertEquals("v2", read());
+
+        Assert.assertEquals(1, cache.getHitCount());
+        Assert.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void testFingerprintChangeDropsFacts() throws Exception {
+        Assert.assertEquals("v1", read());
+        // facts read before the first fingerprint are kept
+        cache.updateFingerprint(cli, "fp1");
+        Assert.assertEquals("v1", read());
+        cache.updateFingerprint(cli, "fp1");
+        Assert.assertEquals("v1", read());
+        cache.updateFingerprint(cli, "fp2");
+        Assert.assertEquals("v2", read());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        Assert.assertEquals("v1", read());
+        cache.invalidate(cli);
+        Assert.assertEquals("v2", read());
+        Assert.assertEquals("v2", read());
+
+        Cli otherCli = Mockito.mock(Cli.class);
+        Mockito.when(reader.blockingRead(SH_VERSION, otherCli, id, readContext)).thenReturn("other");
+        Assert.assertEquals("other", cache.blockingRead(reader, SH_VERSION, otherCli, id, readContext));
+        Assert.assertEquals("v2", read());
+    }
+
+    private String read() throws Exception {
+        return cache.blockingRead(reader, SH_VERSION, cli, id, readContext);
+    }
+
+    private static final class FakeTicker extends Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        void advance(Duration duration) {
+            nanos += duration.toNanos();
+        }
+    }
+}
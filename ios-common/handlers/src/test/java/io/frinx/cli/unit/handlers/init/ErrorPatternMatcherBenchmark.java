@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.handlers.init;
+
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of error checks by separate {@link Pattern#matcher} scans of each pattern and by
+ * {@link ErrorPatternMatcher}, over echoed output of a large configuration push with IOS error patterns. Output
+ * is checked once without an error and once with an error at its end. Results of both are checked to be
+ * identical before measuring, see also {@link ErrorPatternMatcherTest}. Run with the benchmark profile:
+ * mvn -Pbenchmark verify -pl ios-common/handlers
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ErrorPatternMatcherBenchmark {
+
+    private static final ErrorPatternMatcher MATCHER = ErrorPatternMatcher.builder()
+            .add(Pattern.compile("(^|\\n)^\\s+\\^.*", Pattern.DOTALL), "^")
+            .add(Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL), "% invalid input")
+            .add(Pattern.compile("(^|\\n)% (?i)Incomplete command(?-i).*", Pattern.DOTALL), "% incomplete command")
+            .add(Pattern.compile("% .* overlaps with \\w"), " overlaps with ")
+            .build();
+
+    private static final String ERROR = "     ^\n% Invalid input detected at '^' marker.\n";
+
+    @Param("200000")
+    public int lines;
+
+    private String output;
+    private String failed;
+
+    @Setup
+    public void setUp() {
+        output = generate(lines);
+        failed = output + ERROR;
+        for (String checked : new String[]{output, failed}) {
+            Optional<Pattern> expected = findEach(MATCHER.getPatterns(), checked);
+            Optional<Pattern> actual = MATCHER.find(checked);
+            Preconditions.checkState(expected.equals(actual), "Results differ:%n%s%n%s", expected, actual);
+        }
+    }
+
+    @Benchmark
+    public boolean patternFind() {
+        return findEach(MATCHER.getPatterns(), output).isPresent()
+                | findEach(MATCHER.getPatterns(), failed).isPresent();
+    }
+
+    @Benchmark
+    public boolean errorPatternMatcher() {
+        return MATCHER.matches(output) | MATCHER.matches(failed);
+    }
+
+    private static Optional<Pattern> findEach(List<Pattern> patterns, String output) {
+        return patterns.stream()
+                .filter(pattern -> pattern.matcher(output).find())
+                .findFirst();
+    }
+
+    /**
+     * Echo of a prefix-list push, as printed by the device in configuration mode.
+     */
+    private static String generate(int lines) {
+        StringBuilder output = new StringBuilder("configure terminal\n")
+                .append("Enter configuration commands, one per line.  End with CNTL/Z.\n");
+        for (int i = 0; i < lines; i++) {
+            output.append("PE1(config)#ip prefix-list BENCHMARK seq ").append((i + 1) * 5).append(" permit 10.")
+                    .append(i >> 16 & 0xff).append('.').append(i >> 8 & 0xff).append('.').append(i & 0xff)
+                    .append("/32\n");
+        }
+        return output.append("PE1(config)#end\n").toString();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.handlers.init;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ErrorPatternMatcherTest {
+
+    private static final Pattern CARET = Pattern.compile("(^|\\n)\\s+\\^.*", Pattern.DOTALL);
+    private static final Pattern INVALID_INPUT = Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL);
+    private static final Pattern OVERLAPS = Pattern.compile("% .* overlaps with \\w");
+    private static final Pattern AMBIGUOUS = Pattern.compile("(^|\\n)(?i)'.+' is ambiguous\\.(?-i).*", Pattern.DOTALL);
+    private static final Pattern NO_LITERAL = Pattern.compile("Error.*");
+
+    private static final ErrorPatternMatcher MATCHER = ErrorPatternMatcher.builder()
+            .add(CARET, "^")
+            .add(INVALID_INPUT, "% invalid input")
+            .add(OVERLAPS, " overlaps with ")
+            .add(AMBIGUOUS, "'")
+            .add(NO_LITERAL)
+            .build();
+
+    private static final List<String> OUTPUTS = Arrays.asList(
+            "",
+            "configure terminal\nEnter configuration commands, one per line.  End with CNTL/Z.\nPE1(config)#end\n",
+            "PE1(config)#interface Loopback0\n% Invalid input detected at '^' marker.\n",
+            "PE1(config)#ip address 10.1.1.1\n                   ^\n% Invalid input detected at '^' marker.\n",
+            "PE1(config)#ip address 10.1.1.1\n\n\r\n       ^\n",
+            "% INVALID INPUT detected\n",
+            "foo% invalid input detected\n",
+            "% 10.0.0.0 overlaps with Loopback0\n",
+            "% 10.0.0.0\n overlaps with Loopback0\n",
+            "'show ver' is\n ambiguous.\n",
+            "\n'show\nver' is ambiguous.\n",
+            "Error: something failed\n",
+            "Zbynek Žluťoučký kůň ^ úpěl\n",
+            "x^y %invalid input 'quoted' overlaps with\n");
+
+    @Test
+    public void testSameAsEachPattern() {
+        for (String output : OUTPUTS) {
+            Optional<Pattern> expected = MATCHER.getPatterns().stream()
+                    .filter(pattern -> pattern.matcher(output).find())
+                    .findFirst();
+            Assert.assertEquals(output, expected, MATCHER.find(output));
+            Assert.assertEquals(output, expected.isPresent(), MATCHER.matches(output));
+        }
+    }
+
+    @Test
+    public void testFind() {
+        Assert.assertFalse(MATCHER.find(OUTPUTS.get(1)).isPresent());
+        Assert.assertEquals(Optional.of(INVALID_INPUT), MATCHER.find(OUTPUTS.get(2)));
+        Assert.assertEquals(Optional.of(CARET), MATCHER.find(OUTPUTS.get(3)));
+        Assert.assertEquals(Optional.of(CARET), MATCHER.find(OUTPUTS.get(4)));
+        Assert.assertEquals(Optional.of(INVALID_INPUT), MATCHER.find(OUTPUTS.get(5)));
+        Assert.assertFalse(MATCHER.find(OUTPUTS.get(6)).isPresent());
+        Assert.assertEquals(Optional.of(OVERLAPS), MATCHER.find(OUTPUTS.get(7)));
+        Assert.assertEquals(Optional.of(AMBIGUOUS), MATCHER.find(OUTPUTS.get(10)));
+        Assert.assertEquals(Optional.of(NO_LITERAL), MATCHER.find(OUTPUTS.get(11)));
+    }
+
+    @Test
+    public void testOf() {
+        ErrorPatternMatcher matcher = ErrorPatternMatcher.of(Collections.singleton(INVALID_INPUT));
+        Assert.assertEquals(Collections.singletonList(INVALID_INPUT), matcher.getPatterns());
+        Assert.assertTrue(matcher.matches(OUTPUTS.get(2)));
+        Assert.assertFalse(matcher.matches(OUTPUTS.get(1)));
+        Assert.assertFalse(ErrorPatternMatcher.of(Collections.emptySet()).matches(OUTPUTS.get(2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBlankLiteral() {
+        ErrorPatternMatcher.builder().add(CARET, " ");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLiteralWithLineBreak() {
+        ErrorPatternMatcher.builder().add(CARET, "\n^");
+    }
+}
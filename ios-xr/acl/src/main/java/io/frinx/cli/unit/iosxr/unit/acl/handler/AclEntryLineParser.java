@@ -20,8 +20,11 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.net.InetAddresses;
+import io.frinx.cli.unit.utils.ParsingUtils;
 import java.net.InetAddress;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Queue;
@@ -58,7 +61,6 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.DROP;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.FORWARDINGACTION;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntryBuilder;
-import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntryKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.Actions;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.ActionsBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.actions.ConfigBuilder;
@@ -92,24 +94,30 @@ public final class AclEntryLineParser {
     private static final IpProtocolType IP_PROTOCOL_ICMP6_NUMBER = new IpProtocolType((short) 58);
     private static final IpProtocolType IP_PROTOCOL_TCP = new IpProtocolType(IPTCP.class);
     private static final IpProtocolType IP_PROTOCOL_UDP = new IpProtocolType(IPUDP.class);
+    private static final Pattern ENTRY_LINE =
+            Pattern.compile("^\\s*(?<line>(?<sequenceId>\\d+) (?!remark).*?)\\r?$");
     public static final Pattern ZERO_TO_255_PATTERN = Pattern.compile("^2[0-5][0-5]|2[0-4][0-9]|1?[0-9]?[0-9]$");
 
     private AclEntryLineParser() {
     }
 
-    static Optional<String> findAclEntryWithSequenceId(AclEntryKey aclEntryKey, String lines) {
-        // search for line containing current sequence number
-        long sequenceId = aclEntryKey.getSequenceId();
-        return findLineWithSequenceId(sequenceId, lines);
+    /**
+     * Index entry lines of "show running-config ipv4|ipv6 access-list" output by sequence id, in a single pass.
+     * Remarks are not indexed. Iteration order of the index follows the output.
+     */
+    static Map<Long, String> indexLinesBySequenceId(String lines) {
+        Map<Long, String> index = new LinkedHashMap<>();
+        Matcher matcher = ENTRY_LINE.matcher("");
+        for (String line : ParsingUtils.NEWLINE.split(lines)) {
+            if (matcher.reset(line).matches()) {
+                index.putIfAbsent(Long.valueOf(matcher.group("sequenceId")), matcher.group("line"));
+            }
+        }
+        return index;
     }
 
     static Optional<String> findLineWithSequenceId(long sequenceId, String lines) {
-        Pattern pattern = Pattern.compile("^\\s*(" + sequenceId + " .*)$", Pattern.MULTILINE);
-        Matcher matcher = pattern.matcher(lines);
-        if (matcher.find()) {
-            return Optional.of(matcher.group(1));
-        }
-        return Optional.empty();
+        return Optional.ofNullable(indexLinesBySequenceId(lines).get(sequenceId));
     }
 
     static void parseLine(final AclEntryBuilder builder, String line, Class<? extends ACLTYPE> aclType) {
@@ -15,8 +15,10 @@
  */
 package io.frinx.cli.unit.iosxr.unit.acl.handler;
 
+import com.google.common.collect.Lists;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import org.junit.Assert;
@@ -404,6 +406,19 @@ public class AclEntryLineParserTest {
         Assert.assertEquals(Optional.empty(), AclEntryLineParser.findLineWithSequenceId(3L, lines));
     }
 
+    @Test
+    public void testIndexLinesBySequenceId() {
+        String lines = "Fri Feb 23 15:25:27.410 UTC\r\n"
+                + "ipv4 access-list foo\r\n"
+                + " 20 permit ipv4 any any\r\n"
+                + " 10 deny tcp any any\r\n"
+                + " 30 remark comment\r\n"
+                + "!";
+        Map<Long, String> index = AclEntryLineParser.indexLinesBySequenceId(lines);
+        Assert.assertEquals(Lists.newArrayList(20L, 10L), Lists.newArrayList(index.keySet()));
+        Assert.assertEquals("10 deny tcp any any", index.get(10L));
+    }
+
     @Test
     public void testIpv6() {
         String lines = "ipv6 access-list foo\n"
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliListReader;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
@@ -63,7 +64,7 @@ public class BgpProtocolReader implements CliListReader<Protocol, ProtocolKey, P
             throws ReadFailedException {
         String nwInsName = iid.firstKeyOf(NetworkInstance.class).getName();
 
-        String output = blockingRead(SHOW_RUN_ROUTER_BGP, cli, iid, context);
+        String output = XrRunningConfigSnapshot.blockingRead(this, SHOW_RUN_ROUTER_BGP, cli, iid, context);
 
         List<AsAndInsName> aais = parseGbpProtocolKeys(output);
         List<ProtocolKey> rtn = new ArrayList<>();
@@ -76,7 +77,8 @@ public class BgpProtocolReader implements CliListReader<Protocol, ProtocolKey, P
             if (NetworInstance.DEFAULT_NETWORK_NAME.equals(nwInsName)) {
                 rtn.add(aai.key); //adding all bgp instance to "default"
             } else {
-                output = blockingRead(String.format(SH_RUN_BGP_PER_VRF, aai.asNumber, keyName, "vrf " + nwInsName),
+                output = XrRunningConfigSnapshot.blockingRead(this,
+                        String.format(SH_RUN_BGP_PER_VRF, aai.asNumber, keyName, "vrf " + nwInsName),
                         cli,
                         iid, context);
                 if (StringUtils.isNotEmpty(output)) {
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -81,7 +82,7 @@ public class GlobalAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSafi
         //indent is 1 when reading default config, otherwise it is 2.
         final String indent = nwInsName.isEmpty() ? " " : "  ";
 
-        return getAfiKeys(blockingRead(String.format(SH_AFI, globalConfig.getAs()
+        return getAfiKeys(XrRunningConfigSnapshot.blockingRead(this, String.format(SH_AFI, globalConfig.getAs()
                 .getValue(), insName, nwInsName, indent), cli, instanceIdentifier, readContext));
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
@@ -53,7 +54,7 @@ public class GlobalConfigReader implements CliConfigReader<Config, ConfigBuilder
                                              @Nonnull ReadContext readContext) throws ReadFailedException {
         final String name = instanceIdentifier.firstKeyOf(Protocol.class).getName();
 
-        String output = blockingRead(SH_RUN_BGP, cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this, SH_RUN_BGP, cli, instanceIdentifier, readContext);
 
         String nwInsName = GlobalConfigWriter.resolveVrfWithName(instanceIdentifier);
 
@@ -68,7 +69,8 @@ public class GlobalConfigReader implements CliConfigReader<Config, ConfigBuilder
         }
 
         if (optional.isPresent()) {
-            output = blockingRead(String.format(SH_RUN_BGP_PER_NWINS, optional.get().getValue(),
+            output = XrRunningConfigSnapshot.blockingRead(this,
+                    String.format(SH_RUN_BGP_PER_NWINS, optional.get().getValue(),
                     bgpInstance, nwInsName),
                     cli, instanceIdentifier, readContext);
             configBuilder.setAs(optional.get());
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -73,7 +74,7 @@ public class BgpLocalAggregateReader implements CliConfigListReader<Aggregate, A
 
         final String nwInsName = GlobalConfigWriter.resolveVrfWithName(instanceIdentifier);
         final String instName = GlobalConfigWriter.getProtoInstanceName(instanceIdentifier);
-        String output = blockingRead(String.format(SH_BGP, globalConfig.getAs()
+        String output = XrRunningConfigSnapshot.blockingRead(this, String.format(SH_BGP, globalConfig.getAs()
                 .getValue()
                 .intValue(), instName, nwInsName), cli, instanceIdentifier, readContext);
 
@@ -98,7 +99,7 @@ public class BgpLocalAggregateReader implements CliConfigListReader<Aggregate, A
         final String instName = GlobalConfigWriter.getProtoInstanceName(instanceIdentifier);
         final String nwInsName = GlobalConfigWriter.resolveVrfWithName(instanceIdentifier);
         AggregateKey key = instanceIdentifier.firstKeyOf(Aggregate.class);
-        String output = blockingRead(String.format(SH_BGP, globalConfig.getAs()
+        String output = XrRunningConfigSnapshot.blockingRead(this, String.format(SH_BGP, globalConfig.getAs()
                 .getValue()
                 .intValue(), instName, nwInsName), cli, instanceIdentifier, readContext);
 
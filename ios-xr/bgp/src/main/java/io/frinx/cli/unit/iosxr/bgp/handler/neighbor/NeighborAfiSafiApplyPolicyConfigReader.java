@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -75,7 +76,7 @@ public class NeighborAfiSafiApplyPolicyConfigReader implements CliConfigReader<C
         String afiName = GlobalAfiSafiReader.transformAfiToString(instanceIdentifier.firstKeyOf(AfiSafi.class)
                 .getAfiSafiName());
 
-        String output = blockingRead(String.format(SH_NEI, globalConfig.getAs()
+        String output = XrRunningConfigSnapshot.blockingRead(this, String.format(SH_NEI, globalConfig.getAs()
                 .getValue()
                 .intValue(), instName, nwInsName, address, afiName), cli, instanceIdentifier, readContext);
 
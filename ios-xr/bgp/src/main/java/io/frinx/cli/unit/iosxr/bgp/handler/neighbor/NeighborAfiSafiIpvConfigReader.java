@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -86,7 +87,7 @@ public abstract class NeighborAfiSafiIpvConfigReader implements CliConfigReader<
         String afiName = GlobalAfiSafiReader.transformAfiToString(afiClass);
 
 
-        String output = blockingRead(String.format(SH_NEI, globalConfig.getAs()
+        String output = XrRunningConfigSnapshot.blockingRead(this, String.format(SH_NEI, globalConfig.getAs()
                 .getValue()
                 .intValue(), insName, nwInsName, address, afiName), cli, instanceIdentifier, readContext);
 
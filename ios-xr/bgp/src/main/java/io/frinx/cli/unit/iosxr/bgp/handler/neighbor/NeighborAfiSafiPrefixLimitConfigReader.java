@@ -23,6 +23,7 @@ import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -92,7 +93,8 @@ public class NeighborAfiSafiPrefixLimitConfigReader implements CliConfigReader<C
         String afiName = GlobalAfiSafiReader.transformAfiToString(instanceIdentifier.firstKeyOf(AfiSafi.class)
                 .getAfiSafiName());
 
-        String output = blockingRead(String.format(SH_NEI, globalConfig.getAs().getValue().intValue(),
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SH_NEI, globalConfig.getAs().getValue().intValue(),
                 insName, address, afiName), cli, instanceIdentifier, readContext);
         parsePrefixLimit(output, configBuilder);
 
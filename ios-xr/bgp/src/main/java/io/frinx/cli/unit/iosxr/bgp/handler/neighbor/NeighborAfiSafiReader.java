@@ -24,6 +24,7 @@ import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -89,7 +90,7 @@ public class NeighborAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSa
                 .getNeighborAddress()
                 .getValue());
 
-        return getAfiKeys(blockingRead(String.format(SH_AFI, globalConfig.getAs()
+        return getAfiKeys(XrRunningConfigSnapshot.blockingRead(this, String.format(SH_AFI, globalConfig.getAs()
                 .getValue(), insName, nwInsName, neighborIp), cli, instanceIdentifier, readContext));
     }
 
@@ -115,7 +116,7 @@ public class NeighborAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSa
         Class<? extends AFISAFITYPE> name = instanceIdentifier.firstKeyOf(AfiSafi.class)
                 .getAfiSafiName();
 
-        String output = blockingRead(String.format(SH_AFI_SECTION, globalConfig.getAs()
+        String output = XrRunningConfigSnapshot.blockingRead(this, String.format(SH_AFI_SECTION, globalConfig.getAs()
                         .getValue(), insName, nwInsName, neighborIp,
                 GlobalAfiSafiReader.transformAfiToString(name)), cli, instanceIdentifier, readContext);
         Optional<Matcher> reconfigMatch = ParsingUtils.NEWLINE.splitAsStream(output.trim())
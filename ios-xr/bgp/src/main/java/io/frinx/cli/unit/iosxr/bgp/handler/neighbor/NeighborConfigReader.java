@@ -23,6 +23,7 @@ import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -91,7 +92,7 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
 
         String nwInsName = GlobalConfigWriter.resolveVrfWithName(instanceIdentifier);
 
-        String output = blockingRead(String.format(SH_NEI, globalConfig.getAs()
+        String output = XrRunningConfigSnapshot.blockingRead(this, String.format(SH_NEI, globalConfig.getAs()
                 .getValue()
                 .intValue(), insName, nwInsName, address), cli, instanceIdentifier, readContext);
 
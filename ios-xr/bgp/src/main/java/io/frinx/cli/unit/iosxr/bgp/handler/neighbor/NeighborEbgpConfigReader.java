@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -73,7 +74,7 @@ public class NeighborEbgpConfigReader implements CliConfigReader<Config, ConfigB
 
         String nwInsName = GlobalConfigWriter.resolveVrfWithName(instanceIdentifier);
 
-        String output = blockingRead(String.format(SH_NEI, globalConfig.getAs()
+        String output = XrRunningConfigSnapshot.blockingRead(this, String.format(SH_NEI, globalConfig.getAs()
                 .getValue()
                 .intValue(), insName, nwInsName, address), cli, instanceIdentifier, readContext);
 
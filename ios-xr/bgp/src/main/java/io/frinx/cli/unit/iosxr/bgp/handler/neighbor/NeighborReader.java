@@ -23,6 +23,7 @@ import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -79,7 +80,8 @@ public class NeighborReader implements CliConfigListReader<Neighbor, NeighborKey
         //indent is 1 when reading default config, otherwise it is 2.
         final String indent = nwInsName.isEmpty() ? " " : "  ";
 
-        return getNeighborKeys(blockingRead(String.format(SH_NEI, as.intValue(), instance, nwInsName, indent), cli,
+        return getNeighborKeys(XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SH_NEI, as.intValue(), instance, nwInsName, indent), cli,
                 instanceIdentifier, readContext));
     }
 
@@ -24,6 +24,7 @@ import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -61,7 +62,7 @@ public class PeerGroupAfiSafiApplyPolicyConfigReader implements CliConfigReader<
         final String instance = BgpProtocolReader.DEFAULT_BGP_INSTANCE.equals(protName)
             ? "" : String.format("instance %s", protName);
         String nwInsName = GlobalConfigWriter.resolveVrfWithName(iid);
-        String output = blockingRead(
+        String output = XrRunningConfigSnapshot.blockingRead(this,
             f(SH_NEI, asNumber,instance, nwInsName, groupName, afiName),
             cli,
             iid,
@@ -23,6 +23,7 @@ import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -65,7 +66,7 @@ public class PeerGroupAfiSafiListReader implements CliConfigListReader<AfiSafi,
                 ? "" : String.format("instance %s", protName);
         String nwInsName = GlobalConfigWriter.resolveVrfWithName(iid);
         String cmd = f(SH_AFI, as,  instance, nwInsName, peerGroupName);
-        String output = blockingRead(cmd, cli, iid, context);
+        String output = XrRunningConfigSnapshot.blockingRead(this, cmd, cli, iid, context);
         return parseAllIds(output);
     }
 
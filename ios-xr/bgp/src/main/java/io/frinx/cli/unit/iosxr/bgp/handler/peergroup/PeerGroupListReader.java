@@ -25,6 +25,7 @@ import io.fd.honeycomb.translate.write.WriteContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.iosxr.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.iosxr.bgp.handler.GlobalConfigWriter;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -63,7 +64,8 @@ public class PeerGroupListReader implements CliConfigListReader<PeerGroup, PeerG
         final String instance = BgpProtocolReader.DEFAULT_BGP_INSTANCE.equals(protName)
                 ? "" : String.format("instance %s", protName);
         String nwInsName = GlobalConfigWriter.resolveVrfWithName(iid);
-        return parseAllIds(blockingRead(f(READ_NBR_GROUPS_CMD, as, instance, nwInsName), cli, iid, readContext));
+        return parseAllIds(XrRunningConfigSnapshot.blockingRead(this,
+                f(READ_NBR_GROUPS_CMD, as, instance, nwInsName), cli, iid, readContext));
     }
 
     @VisibleForTesting
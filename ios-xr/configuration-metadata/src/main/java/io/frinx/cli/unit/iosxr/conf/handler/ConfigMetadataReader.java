@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
@@ -54,6 +55,7 @@ public class ConfigMetadataReader implements CliOperReader<ConfigurationMetadata
 
         Optional<String> data = getLastConfigurationFingerprint(output);
         data.ifPresent(configurationMetadataBuilder::setLastConfigurationFingerprint);
+        data.ifPresent(fingerprint -> DeviceFactsCache.getInstance().updateFingerprint(cli, fingerprint));
     }
 }
 
@@ -17,11 +17,11 @@
 package io.frinx.cli.unit.iosxr.init;
 
 import com.google.common.base.Preconditions;
-import io.frinx.cli.io.PromptResolutionStrategy;
 import io.frinx.cli.io.Session;
 import io.frinx.cli.io.SessionException;
 import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -39,11 +39,9 @@ import org.slf4j.LoggerFactory;
 public final class IosXrCliInitializer implements SessionInitializationStrategy {
 
     private static final Logger LOG = LoggerFactory.getLogger(IosXrCliInitializer.class);
-    private static final String PASSWORD_PROMPT = "Password:";
     private static final String ENABLE_COMMAND = "enable";
     private static final String SET_TERMINAL_LENGTH_COMMAND = "terminal length 0";
     private static final String SET_TERMINAL_WIDTH_COMMAND = "terminal width 0";
-    private static final int READ_TIMEOUT_SECONDS = 1;
 
     static final String PRIVILEGED_PROMPT_SUFFIX = "#";
     static final int WRITE_TIMEOUT_SECONDS = 10;
@@ -59,20 +57,17 @@ public final class IosXrCliInitializer implements SessionInitializationStrategy
     @Override
     public void accept(@Nonnull Session session, @Nonnull String newline) {
         try {
-            final String initialPrompt =
-                    PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
+            SessionExpect expect = new SessionExpect(session, WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            final String initialPrompt = expect.resolvePrompt(newline);
 
             // Set terminal length to 0 to prevent "--More--" situation
             LOG.debug("{}: Setting terminal length to 0 to prevent \"--More--\" situation", id);
-            write(session, newline, SET_TERMINAL_LENGTH_COMMAND);
+            String initOutput = expect.execute(newline, SET_TERMINAL_LENGTH_COMMAND, initialPrompt);
 
             // Set terminal width to 0 to prevent command shortening
             LOG.debug("{}: Setting terminal width to 0", id);
-            write(session, newline, SET_TERMINAL_WIDTH_COMMAND);
-
-            String initOutput = session.readUntilOutput(initialPrompt)
-                    .toCompletableFuture()
-                    .get();
+            // prompt of each command has to be read, a stale prompt would be taken as answer to "enable"
+            initOutput += expect.execute(newline, SET_TERMINAL_WIDTH_COMMAND, initialPrompt);
             LOG.debug("{}: IOS-XR cli session initialized output: {}", id, initOutput);
 
             // If already in privileged mode, don't do anything else
@@ -82,11 +77,10 @@ public final class IosXrCliInitializer implements SessionInitializationStrategy
             }
 
             // Enable privileged mode
-            tryToEnterPrivilegedMode(session, newline);
+            tryToEnterPrivilegedMode(session, expect, newline);
 
             // Check if we are actually in privileged mode
-            String prompt = PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline)
-                    .trim();
+            String prompt = expect.resolvePrompt(newline);
 
             // If not, fail
             Preconditions.checkState(prompt.endsWith(PRIVILEGED_PROMPT_SUFFIX),
@@ -104,44 +98,38 @@ public final class IosXrCliInitializer implements SessionInitializationStrategy
         }
     }
 
-    private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull String newline)
+    private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull SessionExpect expect,
+                                          @Nonnull String newline)
             throws InterruptedException, ExecutionException, TimeoutException {
 
         write(session, newline, ENABLE_COMMAND);
-        String enableCommandOutput = session.readUntilTimeout(READ_TIMEOUT_SECONDS)
-                .trim();
+        SessionExpect.Match enableCommandOutput = expect.expect(SessionExpect.PASSWORD_PROMPT,
+                SessionExpect.PROMPT);
 
         // password is requested
-        // TODO When reading from session, we can see all previously
-        // unread output, that is also previous commands, prompt, etc.
-        // That's why we have to use String#endWith method to check
-        // if command's output matches something.
-        // Can we hide this in session's API?
-        if (enableCommandOutput.endsWith(PASSWORD_PROMPT)) {
+        if (enableCommandOutput.is(SessionExpect.PASSWORD_PROMPT)) {
             String password = getEnablePasswordFromCliNode();
             write(session, newline, password);
 
-            String output = session.readUntilTimeout(READ_TIMEOUT_SECONDS)
-                    .trim();
-            if (output.endsWith(PASSWORD_PROMPT)) {
+            SessionExpect.Match output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
+            if (output.is(SessionExpect.PASSWORD_PROMPT)) {
                 LOG.warn("{}: Specified enable password is not correct", id);
 
                 // We have entered incorrect password and we can be asked for
                 // correct one multiple times. Just skip those requests.
-                while (output.endsWith(PASSWORD_PROMPT)) {
+                while (output.is(SessionExpect.PASSWORD_PROMPT)) {
                     session.write(newline)
                             .toCompletableFuture()
                             .get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                    output = session.readUntilTimeout(READ_TIMEOUT_SECONDS)
-                            .trim();
+                    output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
                 }
 
             } else {
-                LOG.debug("{}: Entering enable password resulted in output: {}", id, output);
+                LOG.debug("{}: Entering enable password resulted in output: {}", id, output.getOutput());
             }
         } else {
             LOG.debug("{}: enable command did not resulted in password prompt, enable command output: {}",
-                    id, enableCommandOutput);
+                    id, enableCommandOutput.getOutput());
         }
     }
 
@@ -31,9 +31,10 @@ import io.frinx.cli.io.Command;
 import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -71,6 +72,13 @@ public class IosXrCliInitializerUnit extends AbstractUnit {
         s -> s.endsWith(IosXrCliInitializer.PRIVILEGED_PROMPT_SUFFIX) && !s
         .endsWith(CONFIG_PROMPT_SUFFIX);
 
+    private static final ErrorPatternMatcher ERROR_PATTERNS = ErrorPatternMatcher.builder()
+            .add(Pattern.compile("(^|\\n)\\s+\\^.*", Pattern.DOTALL), "^")
+            .add(Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL), "% invalid input")
+            .add(Pattern.compile("(^|\\n)% (?i)Incomplete command(?-i).*", Pattern.DOTALL), "% incomplete command")
+            .add(Pattern.compile("(^|\\n)% (?i)Ambiguous command(?-i).*", Pattern.DOTALL), "% ambiguous command")
+            .build();
+
     @VisibleForTesting
     static final Command SH_CONF_FAILED = Command.showCommandNoCaching("show configuration failed inheritance");
 
@@ -105,6 +113,8 @@ public class IosXrCliInitializerUnit extends AbstractUnit {
                                 @Nonnull final Context context) {
         readRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
         writeRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
+        // device (re)connected, facts read over a previous connection may be outdated
+        DeviceFactsCache.getInstance().invalidate(context.getTransport());
     }
 
     @Override
@@ -205,12 +215,14 @@ public class IosXrCliInitializerUnit extends AbstractUnit {
 
     @Override
     public Set<Pattern> getErrorPatterns() {
-        return Sets.newLinkedHashSet(Arrays.asList(
-                Pattern.compile("(^|\\n)\\s+\\^.*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)% (?i)Incomplete command(?-i).*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)% (?i)Ambiguous command(?-i).*", Pattern.DOTALL)
-        ));
+        return Sets.newLinkedHashSet(ERROR_PATTERNS.getPatterns());
+    }
+
+    /**
+     * Same patterns as {@link #getErrorPatterns()}, compiled into a single matcher.
+     */
+    public ErrorPatternMatcher getErrorPatternMatcher() {
+        return ERROR_PATTERNS;
     }
 
     @Override
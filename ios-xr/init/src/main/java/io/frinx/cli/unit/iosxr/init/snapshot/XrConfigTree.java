@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init.snapshot;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * IOS-XR running configuration as a tree of configuration lines.
+ *
+ * <p>XR prints each configuration block as a header line followed by its lines with deeper indentation and closes
+ * the block with a "!" line at the indentation of the header. The tree is built from that indentation, so that
+ * path-scoped "show running-config PATH" commands can be answered by walking the tree instead of asking the device.
+ */
+public final class XrConfigTree {
+
+    private static final String CLOSER = "!";
+    private static final String COMMENT = "!!";
+    private static final String END = "end";
+    private static final String BUILDING_CONFIGURATION = "Building configuration...";
+
+    private final List<String> lines;
+    private final Node root;
+
+    private XrConfigTree(List<String> lines, Node root) {
+        this.lines = lines;
+        this.root = root;
+    }
+
+    /**
+     * Build tree from output of "show running-config".
+     */
+    @Nonnull
+    public static XrConfigTree parse(@Nonnull String output) {
+        List<String> lines = new ArrayList<>();
+        Node root = new Node(null, -1);
+        Deque<Node> open = new ArrayDeque<>();
+        open.push(root);
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            line = line.replace("\r", "");
+            lines.add(line);
+            String trimmed = line.trim();
+            int indent = indentation(line);
+            if (trimmed.isEmpty() || trimmed.startsWith(COMMENT)
+                    || (indent == 0 && (trimmed.equals(END) || trimmed.equals(BUILDING_CONFIGURATION)))) {
+                continue;
+            }
+            while (open.peek().indent > indent || (open.peek().indent == indent && !trimmed.equals(CLOSER))) {
+                open.pop();
+            }
+            if (trimmed.equals(CLOSER)) {
+                // "!" closes the block with header at the same indentation, top level separators are skipped
+                if (open.peek().indent == indent) {
+                    Node closed = open.pop();
+                    if (indent > 0 || !closed.children.isEmpty()) {
+                        closed.closer = line;
+                    }
+                }
+                continue;
+            }
+            Node node = new Node(line, indent);
+            open.peek().children.add(node);
+            open.push(node);
+        }
+        return new XrConfigTree(Collections.unmodifiableList(lines), root);
+    }
+
+    /**
+     * All lines of the running configuration, as printed by the device.
+     */
+    @Nonnull
+    public List<String> getLines() {
+        return lines;
+    }
+
+    /**
+     * Lines XR prints for "show running-config PATH": headers of the enclosing blocks, the blocks matching the path
+     * and the "!" lines closing the enclosing blocks. Empty if nothing is configured under the path.
+     *
+     * <p>At each level of the tree, the child whose line starts with the most of the remaining path words is entered
+     * and its words are consumed. Words the line has on top of the path (e.g. "id null" in
+     * "domain D level 3 id null" for path "domain D level 3") are attributes of the block and do not stop the walk.
+     * A path ending in the middle of lines (e.g. "interface") selects all such sibling blocks.
+     *
+     * @param path words of the path, e.g. ["router", "bgp", "65000", "neighbor", "1.1.1.1"]
+     */
+    @Nonnull
+    public List<String> find(@Nonnull List<String> path) {
+        if (path.isEmpty()) {
+            return lines;
+        }
+        List<Node> ancestors = new ArrayList<>();
+        Node current = root;
+        int consumed = 0;
+        while (true) {
+            List<String> remaining = path.subList(consumed, path.size());
+            List<Node> targets = new ArrayList<>();
+            Node next = null;
+            int nextMatch = 0;
+            for (Node child : current.children) {
+                int match = commonPrefix(child.words, remaining);
+                if (match == remaining.size()) {
+                    targets.add(child);
+                } else if (match > nextMatch && (match == child.words.size() || match >= 2)) {
+                    next = child;
+                    nextMatch = match;
+                }
+            }
+            if (!targets.isEmpty()) {
+                return render(ancestors, targets);
+            }
+            if (next == null) {
+                return Collections.emptyList();
+            }
+            ancestors.add(next);
+            current = next;
+            consumed += nextMatch;
+        }
+    }
+
+    private static List<String> render(List<Node> ancestors, List<Node> targets) {
+        List<String> output = new ArrayList<>();
+        for (Node ancestor : ancestors) {
+            output.add(ancestor.line);
+        }
+        for (Node target : targets) {
+            target.render(output);
+        }
+        for (int i = ancestors.size() - 1; i >= 0; i--) {
+            if (ancestors.get(i).closer != null) {
+                output.add(ancestors.get(i).closer);
+            }
+        }
+        return output;
+    }
+
+    private static int commonPrefix(List<String> words, List<String> path) {
+        int common = 0;
+        while (common < words.size() && common < path.size() && words.get(common).equals(path.get(common))) {
+            common++;
+        }
+        return common;
+    }
+
+    @VisibleForTesting
+    static int indentation(String line) {
+        int indent = 0;
+        while (indent < line.length() && line.charAt(indent) == ' ') {
+            indent++;
+        }
+        return indent;
+    }
+
+    private static final class Node {
+
+        private final String line;
+        private final int indent;
+        private final List<String> words;
+        private final List<Node> children = new ArrayList<>();
+        private String closer;
+
+        Node(@Nullable String line, int indent) {
+            this.line = line;
+            this.indent = indent;
+            this.words = line == null
+                    ? Collections.emptyList()
+                    : ImmutableList.copyOf(line.trim().split("\\s+"));
+        }
+
+        void render(List<String> output) {
+            output.add(line);
+            for (Node child : children) {
+                child.render(output);
+            }
+            if (closer != null) {
+                output.add(closer);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init.snapshot;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Local evaluation of a path-scoped IOS-XR "show running-config" command.
+ *
+ * <p>Supported commands are:
+ * <ul>
+ *   <li>show running-config</li>
+ *   <li>show running-config PATH, e.g. "router bgp 65000 neighbor 1.1.1.1 address-family ipv4 unicast"</li>
+ *   <li>either of the above followed by one "| include|exclude|begin REGEX" or "| utility egrep REGEX" pipe</li>
+ * </ul>
+ * Everything after include, exclude and begin (including trailing spaces) is the regular expression, the egrep
+ * expression may be quoted. The expression is matched against each line separately (find semantics, ^ anchors to
+ * the start of the line).
+ */
+public final class XrRunningConfigQuery {
+
+    private static final Pattern COMMAND = Pattern.compile("^show running-config(?<path>(?: +[^|\\s]+)*) *"
+            + "(?:\\| *(?<op>include|exclude|begin|utility egrep) (?<regex>.+))?$");
+    private static final Pattern QUOTED = Pattern.compile("^([\"'])(?<regex>.*)\\1\\s*$");
+
+    enum Operation {
+        INCLUDE,
+        EXCLUDE,
+        BEGIN
+    }
+
+    private final List<String> path;
+    private final Operation operation;
+    private final Pattern regex;
+
+    private XrRunningConfigQuery(@Nonnull List<String> path, @Nullable Operation operation,
+                                 @Nullable Pattern regex) {
+        this.path = path;
+        this.operation = operation;
+        this.regex = regex;
+    }
+
+    /**
+     * Parse command into a query. Empty result means the command cannot be answered from the configuration tree
+     * and has to be sent to the device.
+     */
+    @Nonnull
+    public static Optional<XrRunningConfigQuery> parse(@Nonnull String command) {
+        Matcher matcher = COMMAND.matcher(command);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String pathGroup = matcher.group("path").trim();
+        List<String> path = pathGroup.isEmpty()
+                ? ImmutableList.of()
+                : ImmutableList.copyOf(pathGroup.split("\\s+"));
+        String op = matcher.group("op");
+        if (op == null) {
+            return Optional.of(new XrRunningConfigQuery(path, null, null));
+        }
+
+        String regex = matcher.group("regex");
+        Operation operation;
+        if (op.equals("utility egrep")) {
+            Matcher quoted = QUOTED.matcher(regex);
+            regex = quoted.matches() ? quoted.group("regex") : regex.trim();
+            if (regex.startsWith("-")) {
+                // egrep options are not evaluated locally
+                return Optional.empty();
+            }
+            operation = Operation.INCLUDE;
+        } else {
+            operation = Operation.valueOf(op.toUpperCase());
+        }
+        try {
+            return Optional.of(new XrRunningConfigQuery(path, operation, Pattern.compile(regex)));
+        } catch (PatternSyntaxException e) {
+            // XR regex which is not valid java regex, let the device evaluate it
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Evaluate query against running configuration tree.
+     */
+    @Nonnull
+    public String evaluate(@Nonnull XrConfigTree tree) {
+        List<String> scope = tree.find(path);
+        if (operation == null) {
+            return String.join("\n", scope);
+        }
+
+        List<String> output = new ArrayList<>();
+        switch (operation) {
+            case INCLUDE:
+                for (String line : scope) {
+                    if (regex.matcher(line).find()) {
+                        output.add(line);
+                    }
+                }
+                break;
+            case EXCLUDE:
+                for (String line : scope) {
+                    if (!regex.matcher(line).find()) {
+                        output.add(line);
+                    }
+                }
+                break;
+            case BEGIN:
+                for (int i = 0; i < scope.size(); i++) {
+                    if (regex.matcher(scope.get(i)).find()) {
+                        output.addAll(scope.subList(i, scope.size()));
+                        break;
+                    }
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unsupported operation " + operation);
+        }
+        return String.join("\n", output);
+    }
+}
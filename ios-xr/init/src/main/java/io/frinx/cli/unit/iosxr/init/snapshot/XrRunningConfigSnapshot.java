@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init.snapshot;
+
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.AbstractMap;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * IOS-XR running configuration tree shared by all readers within one read transaction.
+ *
+ * <p>Readers of units which opt in read their path-scoped "show running-config PATH | include ..." style commands
+ * through {@link #blockingRead(CliReader, String, Cli, InstanceIdentifier, ReadContext)}. Full running
+ * configuration is then fetched from the device only once per {@link ReadContext}, parsed into
+ * {@link XrConfigTree} and every command is evaluated locally by {@link XrRunningConfigQuery}. Commands which
+ * cannot be evaluated locally are sent to the device as usual.
+ */
+public final class XrRunningConfigSnapshot {
+
+    public static final String SH_RUN = "show running-config";
+
+    private static final Object SNAPSHOT_KEY = XrRunningConfigSnapshot.class;
+
+    private XrRunningConfigSnapshot() {
+
+    }
+
+    /**
+     * Drop-in replacement for {@link CliReader#blockingRead(String, Cli, InstanceIdentifier, ReadContext)}.
+     *
+     * @param reader reader used to execute commands
+     * @param command command to be answered from the configuration tree
+     * @param cli cli
+     * @param id id of the data being read
+     * @param readContext context of current read transaction holding the tree
+     * @return output of the command, as the device would have printed it
+     * @throws ReadFailedException if the running configuration could not be read
+     */
+    public static String blockingRead(@Nonnull CliReader<?, ?> reader, @Nonnull String command, @Nonnull Cli cli,
+                                      @Nonnull InstanceIdentifier<?> id, @Nonnull ReadContext readContext)
+            throws ReadFailedException {
+        Optional<XrRunningConfigQuery> query = XrRunningConfigQuery.parse(command);
+        if (!query.isPresent()) {
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+
+        Object outputKey = new AbstractMap.SimpleEntry<>(SNAPSHOT_KEY, command);
+        String output = (String) readContext.getModificationCache().get(outputKey);
+        if (output == null) {
+            output = query.get().evaluate(getTree(reader, cli, id, readContext));
+            readContext.getModificationCache().put(outputKey, output);
+        }
+        return output;
+    }
+
+    private static XrConfigTree getTree(CliReader<?, ?> reader, Cli cli, InstanceIdentifier<?> id,
+                                        ReadContext readContext) throws ReadFailedException {
+        XrConfigTree tree = (XrConfigTree) readContext.getModificationCache().get(SNAPSHOT_KEY);
+        if (tree == null) {
+            tree = XrConfigTree.parse(reader.blockingRead(SH_RUN, cli, id, readContext));
+            readContext.getModificationCache().put(SNAPSHOT_KEY, tree);
+        }
+        return tree;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.iosxr.init;
+
+import io.frinx.cli.io.Session;
+import io.frinx.cli.topology.RemoteDeviceId;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.credentials.credentials.LoginPasswordBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyKey;
+
+public class IosXrCliInitializerTest {
+
+    private static final String NEWLINE = "\n";
+    private static final String SECRET = "cisco";
+    private static final long LATENCY_MILLIS = 30;
+
+    private static final CliNode CLI_NODE = new CliNodeBuilder()
+            .setCredentials(new LoginPasswordBuilder()
+                    .setUsername("cisco")
+                    .setPassword(SECRET)
+                    .build())
+            .build();
+
+    private Session session;
+    private DelayedDevice device;
+    private RemoteDeviceId id;
+
+    @Before
+    public void setUp() throws Exception {
+        device = new DelayedDevice();
+        session = Mockito.mock(Session.class);
+        Mockito.doAnswer(invocation -> {
+            device.input((String) invocation.getArguments()[0]);
+            return CompletableFuture.completedFuture(null);
+        }).when(session).write(Mockito.anyString());
+        Mockito.doAnswer(invocation -> device.output()).when(session).readUntilTimeout(Mockito.anyInt());
+        id = new RemoteDeviceId(new TopologyKey(new TopologyId("cli")), "deviceId",
+                new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 1234));
+    }
+
+    @Test
+    public void testInitializationWithLatency() throws Exception {
+        new IosXrCliInitializer(CLI_NODE, id).accept(session, NEWLINE);
+
+        Assert.assertEquals("RP/0/0/CPU0:XR#", device.prompt);
+        Assert.assertEquals(Arrays.asList("", "", "terminal length 0", "terminal width 0", "enable", "", ""),
+                device.commands);
+    }
+
+    @Test
+    public void testAlreadyPrivilegedWithLatency() throws Exception {
+        device.prompt = "RP/0/0/CPU0:XR#";
+        new IosXrCliInitializer(CLI_NODE, id).accept(session, NEWLINE);
+
+        Assert.assertEquals(Arrays.asList("", "", "terminal length 0", "terminal width 0"), device.commands);
+    }
+
+    /**
+     * Device answering input lines one after another, each of them after a latency. Asks for password after
+     * "enable".
+     */
+    private static final class DelayedDevice {
+
+        private final Deque<Map.Entry<Long, String>> answers = new ArrayDeque<>();
+        private final List<String> commands = new ArrayList<>();
+        private String prompt = "RP/0/0/CPU0:XR>";
+        private boolean passwordRequested;
+        private long lastAnswer;
+
+        synchronized void input(String input) {
+            String[] lines = input.split(NEWLINE, -1);
+            for (int i = 0; i < lines.length - 1; i++) {
+                String line = lines[i];
+                if (passwordRequested) {
+                    passwordRequested = false;
+                    if (SECRET.equals(line)) {
+                        prompt = "RP/0/0/CPU0:XR#";
+                    }
+                    answer("\r\n" + prompt);
+                } else {
+                    commands.add(line);
+                    if ("enable".equals(line)) {
+                        passwordRequested = true;
+                        answer(line + "\r\nPassword: ");
+                    } else {
+                        answer(line + "\r\n" + prompt);
+                    }
+                }
+            }
+        }
+
+        private void answer(String answer) {
+            lastAnswer = Math.max(System.nanoTime(), lastAnswer) + TimeUnit.MILLISECONDS.toNanos(LATENCY_MILLIS);
+            answers.add(new AbstractMap.SimpleEntry<>(lastAnswer, answer));
+        }
+
+        synchronized String output() {
+            StringBuilder output = new StringBuilder();
+            long now = System.nanoTime();
+            while (!answers.isEmpty() && answers.peek().getKey() - now <= 0) {
+                output.append(answers.poll().getValue());
+            }
+            return output.toString();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.iosxr.init.snapshot;
+
+import com.google.common.io.ByteStreams;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.nio.charset.StandardCharsets;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Commands of IOS-XR bgp, ospf, ospfv3, isis, hsrp, oam and qos readers evaluated against recorded running-config,
+ * compared to output the readers are tested with.
+ */
+public class XrRunningConfigSnapshotTest {
+
+    private XrConfigTree tree;
+
+    @Before
+    public void setUp() throws Exception {
+        tree = XrConfigTree.parse(new String(ByteStreams.toByteArray(getClass().getClassLoader()
+                .getResourceAsStream("running-config.txt")), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBgpCommands() {
+        // BgpProtocolReader.SHOW_RUN_ROUTER_BGP
+        assertOutput("show running-config router bgp | include ^router bgp", "router bgp 65000");
+
+        // NeighborReader.SH_NEI
+        assertOutput("show running-config router bgp 65000   | include ^ neighbor",
+                " neighbor-group nbrgroup1\n"
+                + " neighbor 1.1.1.1");
+        assertOutput("show running-config router bgp 65000  vrf vrf1 | include ^  neighbor",
+                "  neighbor 2.2.2.2");
+
+        // NeighborTransportConfigReader.SH_NEI
+        assertOutput("show running-config router bgp 65000   neighbor 1.1.1.1",
+                "router bgp 65000\n"
+                + " neighbor 1.1.1.1\n"
+                + "  remote-as 65000\n"
+                + "  update-source Loopback0\n"
+                + "  address-family ipv4 unicast\n"
+                + "   maximum-prefix 25 75\n"
+                + "  !\n"
+                + " !\n"
+                + "!");
+
+        // NeighborAfiSafiApplyPolicyConfigReader.SH_NEI
+        assertOutput("show running-config router bgp 65000  vrf vrf1 neighbor 2.2.2.2 address-family ipv4 unicast",
+                "router bgp 65000\n"
+                + " vrf vrf1\n"
+                + "  neighbor 2.2.2.2\n"
+                + "   address-family ipv4 unicast\n"
+                + "    route-policy policy1 in\n"
+                + "   !\n"
+                + "  !\n"
+                + " !\n"
+                + "!");
+
+        // PeerGroupAfiSafiListReader.SH_AFI, compare PeerGroupAfiSafiListReaderTest
+        assertOutput("show running-config router bgp 65000   neighbor-group nbrgroup1 | include address-family",
+                "  address-family ipv4 unicast");
+
+        // GlobalAfiSafiReader.SH_AFI
+        assertOutput("show running-config router bgp 65000   | include ^ address-family",
+                " address-family ipv4 unicast\n"
+                + " address-family vpnv4 unicast");
+
+        // BgpLocalAggregateReader.SH_BGP, address family without configuration is still printed
+        assertOutput("show running-config router bgp 65000 address-family vpnv4 unicast",
+                "router bgp 65000\n"
+                + " address-family vpnv4 unicast\n"
+                + " !\n"
+                + "!");
+    }
+
+    @Test
+    public void testOspfCommands() {
+        // OspfProtocolReader.SH_RUN_OSPF
+        assertOutput("show running-config router ospf | include ^router ospf", "router ospf 100");
+
+        // GlobalConfigReader.SH_OSPF
+        assertOutput("show running-config router ospf 100  | include ^ router-id", " router-id 5.5.5.5");
+        assertOutput("show running-config router ospf 100 vrf vrf1 | include ^  router-id", "  router-id 6.6.6.6");
+
+        // OspfAreaReader.SH_RUN_OSPF_AREA
+        assertOutput("show running-config router ospf 100  | include ^ area", " area 0");
+
+        // MaxMetricTimerReader.SH_RUN_OSPF_MAX_METRIC
+        assertOutput("show running-config router ospf 100  | include ^ max-metric",
+                " max-metric router-lsa on-startup 60");
+
+        // AreaInterfaceReader.SHOW_OSPF_INT
+        assertOutput("show running-config router ospf 100  area 0 | include interface",
+                "  interface Loopback0\n"
+                + "  interface GigabitEthernet0/0/0/0");
+
+        // AreaInterfaceConfigReader.SHOW_OSPF_INT
+        assertOutput("show running-config router ospf 100  area 0 interface GigabitEthernet0/0/0/0",
+                "router ospf 100\n"
+                + " area 0\n"
+                + "  interface GigabitEthernet0/0/0/0\n"
+                + "   cost 100\n"
+                + "   bfd fast-detect\n"
+                + "   mpls ldp sync\n"
+                + "  !\n"
+                + " !\n"
+                + "!");
+    }
+
+    @Test
+    public void testOspfv3AndIsisCommands() {
+        // OspfV3ProtocolReaderTest
+        assertOutput("show running-config router ospfv3 | include ^router ospfv3", "router ospfv3 1000");
+
+        // StubRouterConfigReaderTest
+        assertOutput("show running-config router ospfv3 1000  stub-router router-lsa max-metric",
+                "router ospfv3 1000\n stub-router router-lsa max-metric\n  always\n !\n!");
+
+        // IsisProtocolReaderTest
+        assertOutput("show running-config router isis | include ^router isis", "router isis 1000");
+
+        // IsisGlobalAfiSafiReaderTest
+        assertOutput("show running-config router isis 1000 | include ^ address-family",
+                " address-family ipv4 unicast\n"
+                + " address-family ipv6 multicast");
+
+        // IsisRedistributionConfigReaderTest
+        assertOutput("show running-config router isis 1000 address-family ipv4 unicast redistribute isis ISIS-002",
+                "router isis 1000\n"
+                + " address-family ipv4 unicast\n"
+                + "  redistribute isis ISIS-002 level-1 metric 10 route-policy POLICY-001 metric-type internal\n"
+                + " !\n"
+                + "!");
+    }
+
+    @Test
+    public void testHsrpCommands() {
+        // HsrpGroupConfigReaderTest
+        assertOutput("show running-config router hsrp interface GigabitEthernet0/0/0/0.0 address-family ipv4"
+                        + " | include ^ *hsrp 1",
+                "   hsrp 1");
+        assertOutput("show running-config router hsrp interface GigabitEthernet0/0/0/0.0 address-family ipv4 hsrp 1"
+                        + " | include priority",
+                "    priority 111");
+
+        // HsrpInterfaceConfigReaderTest
+        assertOutput("show running-config router hsrp interface GigabitEthernet0/0/0/0.0 | include delay",
+                "  hsrp delay minimum 30 reload 600");
+        assertOutput("show running-config router hsrp | include ^ interface",
+                " interface GigabitEthernet0/0/0/0.0");
+    }
+
+    @Test
+    public void testOamCommands() {
+        // CfmDomainReaderTest
+        assertOutput("show running-config ethernet cfm | include ^ domain",
+                " domain DML1 level 3 id null\n"
+                + " domain DML2 level 4");
+
+        // CfmMaConfigReaderTest, domain line carries the id configured on the device
+        assertOutput("show running-config ethernet cfm domain DML1 level 3 service MA-002 down-meps mep crosscheck",
+                "ethernet cfm\n"
+                + " domain DML1 level 3 id null\n"
+                + "  service MA-002 down-meps\n"
+                + "   mep crosscheck\n"
+                + "    mep-id 2\n"
+                + "    mep-id 4\n"
+                + "   !\n"
+                + "  !\n"
+                + " !\n"
+                + "!");
+        assertOutput("show running-config ethernet cfm domain DML1 level 3 | include ^ {2}service",
+                "  service MA-002 down-meps");
+    }
+
+    @Test
+    public void testQosCommands() {
+        // SchedulerPolicyReader.SH_POLICY_MAPS
+        assertOutput("show running-config policy-map | include policy-map",
+                "policy-map plmap\n"
+                + " end-policy-map");
+
+        // InputReader.SH_POLICY_MAP_CLASSES
+        assertOutput("show running-config policy-map plmap | include class",
+                " class map1\n"
+                + " class map2\n"
+                + " class class-default");
+
+        // OneRateTwoColorConfigReader.SH_POLICY_MAP
+        assertOutput("show running-config policy-map plmap | begin class map2",
+                " class map2\n"
+                + "  queue-limit 8 ms\n"
+                + "  bandwidth remaining percent 12\n"
+                + "  bandwidth percent 17\n"
+                + " !\n"
+                + " class class-default\n"
+                + " !\n"
+                + " end-policy-map\n"
+                + "!");
+
+        // ActionConfigReader.SH_POLICY_MAPS
+        assertOutput("show running-config policy-map | utility egrep \"^policy-map| class map1$\"",
+                "policy-map plmap\n"
+                + " class map1");
+
+        // ClassifierReader.SH_CLASS_MAPS, TermReader.SH_TERMS_ALL
+        assertOutput("show running-config class-map | include ^class-map",
+                "class-map match-any map1\n"
+                + "class-map match-all map2");
+        assertOutput("show running-config class-map match-all map1", "");
+    }
+
+    @Test
+    public void testUnsupportedCommands() {
+        Assert.assertFalse(XrRunningConfigQuery.parse("show running-config interface | i ^interface").isPresent());
+        Assert.assertFalse(XrRunningConfigQuery.parse("show running-config | utility egrep -v \"^!\"").isPresent());
+        Assert.assertFalse(XrRunningConfigQuery.parse("show configuration commit list").isPresent());
+        Assert.assertTrue(XrRunningConfigQuery.parse("show running-config").isPresent());
+    }
+
+    @Test
+    public void testTreeReadOncePerReadContext() throws Exception {
+        CliReader<?, ?> reader = Mockito.mock(CliReader.class);
+        Cli cli = Mockito.mock(Cli.class);
+        InstanceIdentifier<?> id = Mockito.mock(InstanceIdentifier.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        Mockito.when(reader.blockingRead(XrRunningConfigSnapshot.SH_RUN, cli, id, readContext))
+                .thenReturn(String.join("\n", tree.getLines()));
+        Mockito.when(reader.blockingRead("show configuration commit list", cli, id, readContext))
+                .thenReturn("1 1000000001 cisco");
+
+        Assert.assertEquals("router ospf 100", XrRunningConfigSnapshot.blockingRead(reader,
+                "show running-config router ospf | include ^router ospf", cli, id, readContext));
+        Assert.assertEquals("router isis 1000", XrRunningConfigSnapshot.blockingRead(reader,
+                "show running-config router isis | include ^router isis", cli, id, readContext));
+        Assert.assertEquals("1 1000000001 cisco", XrRunningConfigSnapshot.blockingRead(reader,
+                "show configuration commit list", cli, id, readContext));
+
+        Mockito.verify(reader, Mockito.times(1)).blockingRead(XrRunningConfigSnapshot.SH_RUN, cli, id, readContext);
+    }
+
+    private void assertOutput(String command, String expected) {
+        Assert.assertEquals(command, expected, XrRunningConfigQuery.parse(command).get().evaluate(tree));
+    }
+}
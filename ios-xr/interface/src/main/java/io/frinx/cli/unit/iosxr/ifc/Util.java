@@ -16,9 +16,12 @@
 
 package io.frinx.cli.unit.iosxr.ifc;
 
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
 import io.frinx.cli.unit.iosxr.ifc.handler.subifc.SubinterfaceReader;
 import java.util.Collections;
 import java.util.Set;
+import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
@@ -36,6 +39,15 @@ public final class Util {
     private static final Set<Class<? extends InterfaceType>> PHYS_IFC_TYPES =
             Collections.singleton(EthernetCsmacd.class);
 
+    /**
+     * Interface configuration blocks read at once, see {@link InterfaceConfigBlocks}.
+     */
+    public static final InterfaceBlockRules INTERFACE_BLOCKS = new InterfaceBlockRules(
+            "show running-config interface",
+            Pattern.compile("^interface (?<name>\\S+)\\s*$"),
+            Pattern.compile("^show running-config interface (?<name>\\S+)"
+                    + "(?:\\s*\\|\\s*include (?<include>.+))?$"));
+
     private Util() {
 
     }
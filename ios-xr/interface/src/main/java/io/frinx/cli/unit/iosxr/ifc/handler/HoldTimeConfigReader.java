@@ -20,6 +20,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.iosxr.ifc.Util;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -41,8 +43,8 @@ public class HoldTimeConfigReader implements CliConfigReader<Config, ConfigBuild
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<Config> id, @Nonnull ConfigBuilder builder,
                                       @Nonnull ReadContext ctx) throws ReadFailedException {
         String ifcName = id.firstKeyOf(Interface.class).getName();
-        parseHoldTime(blockingRead(String.format(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx),
-                builder);
+        parseHoldTime(InterfaceConfigBlocks.blockingRead(this, Util.INTERFACE_BLOCKS,
+                String.format(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx), builder);
     }
 
     private static final Pattern CARRIER_DELAY_LINE =
@@ -18,6 +18,7 @@ package io.frinx.cli.unit.iosxr.ifc.handler;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import io.frinx.cli.unit.iosxr.ifc.Util;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
@@ -58,4 +59,9 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
     public Class<? extends InterfaceType> parseType(String name) {
         return Util.parseType(name);
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
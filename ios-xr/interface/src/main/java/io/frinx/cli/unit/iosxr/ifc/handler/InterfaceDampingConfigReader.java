@@ -21,6 +21,8 @@ import com.google.common.base.Preconditions;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.iosxr.ifc.Util;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -50,8 +52,8 @@ public class InterfaceDampingConfigReader implements CliConfigReader<Config, Con
         String ifcName = id.firstKeyOf(Interface.class)
                 .getName();
 
-        parseDamping(blockingRead(String.format(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName),
-                cli, id, ctx), builder);
+        parseDamping(InterfaceConfigBlocks.blockingRead(this, Util.INTERFACE_BLOCKS,
+                String.format(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx), builder);
     }
 
     private static Pattern DAMPING_ENABLED = Pattern.compile("\\s*dampening.*");
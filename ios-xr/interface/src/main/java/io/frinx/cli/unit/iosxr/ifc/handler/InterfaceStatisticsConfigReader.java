@@ -20,6 +20,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.iosxr.ifc.Util;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -42,7 +44,8 @@ public class InterfaceStatisticsConfigReader implements CliConfigReader<Config,
         String ifcName = id.firstKeyOf(Interface.class).getName();
         String showRunIfcConfig = String.format(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName);
 
-        parseLoadInterval(blockingRead(showRunIfcConfig, cli, id, ctx), builder);
+        parseLoadInterval(InterfaceConfigBlocks.blockingRead(this, Util.INTERFACE_BLOCKS, showRunIfcConfig, cli, id,
+                ctx), builder);
     }
 
     private static final Pattern LOAD_INTERVAL = Pattern.compile("\\s*load-interval (?<loadInterval>\\d+)\\s*");
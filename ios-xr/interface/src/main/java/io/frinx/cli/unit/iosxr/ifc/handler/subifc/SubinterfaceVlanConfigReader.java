@@ -19,6 +19,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceVlanConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import io.frinx.cli.unit.iosxr.ifc.Util;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -62,4 +63,9 @@ public class SubinterfaceVlanConfigReader extends AbstractSubinterfaceVlanConfig
         }
         super.readCurrentAttributes(id, builder, ctx);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
+}
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.iosxr.ifc.handler.subifc.ip4;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceReader;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import io.frinx.cli.unit.iosxr.ifc.Util;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.Address;
@@ -62,4 +63,9 @@ public class Ipv4AddressReader extends AbstractIpv4AddressesReader {
     public boolean isSupportedInterface(InstanceIdentifier<Address> instanceIdentifier) {
         return SUPPORTED_INTERFACE;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
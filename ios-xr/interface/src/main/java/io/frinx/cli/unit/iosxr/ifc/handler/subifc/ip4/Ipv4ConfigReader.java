@@ -18,6 +18,8 @@ package io.frinx.cli.unit.iosxr.ifc.handler.subifc.ip4;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4ConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.iosxr.ifc.Util;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.address.Config;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -43,4 +45,9 @@ public class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
     public boolean isSupportedInterface(InstanceIdentifier<Config> instanceIdentifier) {
         return Ipv4AddressReader.SUPPORTED_INTERFACE;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
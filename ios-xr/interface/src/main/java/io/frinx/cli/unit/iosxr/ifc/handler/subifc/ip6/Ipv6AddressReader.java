@@ -18,6 +18,8 @@ package io.frinx.cli.unit.iosxr.ifc.handler.subifc.ip6;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.iosxr.ifc.Util;
 import java.util.regex.Pattern;
 
 public class Ipv6AddressReader extends AbstractIpv6AddressesReader {
@@ -45,4 +47,9 @@ public class Ipv6AddressReader extends AbstractIpv6AddressesReader {
     protected Pattern getUnicastIpLine() {
         return IPV6_UNICAST_ADDRESS;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
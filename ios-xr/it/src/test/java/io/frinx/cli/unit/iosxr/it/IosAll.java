@@ -17,6 +17,8 @@ package io.frinx.cli.unit.iosxr.it;
 
 import io.frinx.cli.registry.impl.TranslateRegistryImpl;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.ios.it.sim.SimulatedDevice;
+import io.frinx.cli.unit.ios.it.sim.Transcript;
 import io.frinx.cli.unit.iosxr.bfd.IosXRBfdUnit;
 import io.frinx.cli.unit.iosxr.bgp.BgpUnit;
 import io.frinx.cli.unit.iosxr.conf.ConfigurationUnit;
@@ -36,19 +38,12 @@ import io.frinx.cli.unit.iosxr.qos.XRQoSUnit;
 import io.frinx.cli.unit.iosxr.routing.policy.RoutingPolicyUnit;
 import io.frinx.cli.unit.iosxr.snmp.SnmpUnit;
 import io.frinx.cli.unit.iosxr.unit.acl.AclUnit;
-import java.net.InetSocketAddress;
+import java.io.IOException;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNode;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeConnectionParameters;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.credentials.credentials.LoginPasswordBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.keepalive.keepalive.strategy.KeepaliveBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.Device;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.DeviceIdBuilder;
 
@@ -59,33 +54,11 @@ public class IosAll extends io.frinx.cli.unit.ios.it.IosAll {
             .setDeviceVersion("5.3.4")
             .build();
 
-    private static final int PORT = 22;
-    private static final String HOST = "192.168.1.211";
-    private static final InetSocketAddress IOS_ADDR = new InetSocketAddress(HOST, PORT);
-
     public IosAll() {
         // Set false to not fail immediately when a read exception occurs
         this.failFast = false;
     }
 
-    private static final CliNode CLI_CFG = new CliNodeBuilder()
-            .setPort(new PortNumber(PORT))
-            .setHost(new Host(new IpAddress(new Ipv4Address(HOST))))
-            .setDeviceType(IOS_ALL.getDeviceType())
-            .setDeviceVersion(IOS_ALL.getDeviceVersion())
-            .setTransportType(CliNodeConnectionParameters.TransportType.Ssh)
-            .setCredentials(new LoginPasswordBuilder()
-                    .setUsername("cisco")
-                    .setPassword("cisco")
-                    .build())
-            .setKeepaliveStrategy(new KeepaliveBuilder()
-                    .setKeepaliveDelay(30)
-                    .setKeepaliveTimeout(30)
-                    .setKeepaliveInitialDelay(30)
-                    .build())
-            .build();
-
-
     @Override
     protected Device getDeviceId() {
         return IOS_ALL;
@@ -93,11 +66,18 @@ public class IosAll extends io.frinx.cli.unit.ios.it.IosAll {
 
     @Override
     protected CliNode getCliNode() {
-        return CLI_CFG;
+        return cliNode(CliNodeConnectionParameters.TransportType.Ssh, "cisco", "cisco");
     }
 
-    protected InetSocketAddress getAddress() {
-        return IOS_ADDR;
+    @Override
+    protected SimulatedDevice createDevice() throws IOException {
+        return SimulatedDevice.builder("ios-xr")
+                .prompt("RP/0/RSP0/CPU0:XR#")
+                .configMode("configure terminal", "RP/0/RSP0/CPU0:XR(config)#", "end")
+                .login("cisco", "cisco")
+                .latency(DEVICE_LATENCY)
+                .transcript(Transcript.fromResource("/sim/ios-xr.transcript"))
+                .start();
     }
 
     @Override
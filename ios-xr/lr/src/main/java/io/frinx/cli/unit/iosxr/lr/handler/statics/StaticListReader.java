@@ -43,7 +43,7 @@ public class StaticListReader implements CliConfigListReader<Static, StaticKey,
     private static final Pattern STATIC_ROUTE_IPV4_UNICAST_PATTERN =
             Pattern.compile("^(?<prefix>[\\d\\./]+) (?<ifc>[a-zA-Z][\\S]*)?"
             + " ?(?<peerip>[\\d\\.]*)? ?(tag (?<tagid>.+))?$");
-    private static final String SH_READ_STATIC_ROUTE_IPV6_UNICAST =
+    public static final String SH_READ_STATIC_ROUTE_IPV6_UNICAST =
             "show running-config router static address-family ipv6 unicast";
     public static final Pattern STATIC_ROUTE_IPV6_UNICAST_PATTERN =
             Pattern.compile("^(?<prefix>[\\p{XDigit}\\:/]+) (?<ifc>[a-zA-Z][\\S]*)?"
@@ -16,15 +16,22 @@
 
 package io.frinx.cli.unit.iosxr.lr.handler.statics.nexthop;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.lr.handler.statics.StaticListReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -54,13 +61,9 @@ public class NextHopListReader implements CliConfigListReader<NextHop, NextHopKe
     private final Cli cli;
     private static final Pattern NEXT_HOPS_PATTERN =
             Pattern.compile("^(?<prefix>[\\d\\./]+) (?<nexthop>.+)$");
-    private static final String SH_READ_NEXT_HOP_IPV4_UNICAST =
-            "show running-config router static address-family ipv4 unicast | include %s";
     private static final Pattern NEXT_HOP_IPV4_UNICAST_PATTERN =
             Pattern.compile("^(?<ifcName>[a-zA-Z][\\S]*)? ?(?<peerip>[\\d\\.]+)?( tag (?<tagid>.+))?$");
 
-    private static final String SH_READ_NEXT_HOP_IPV6_UNICAST =
-            "show running-config router static address-family ipv6 unicast | include %s";
     private static final Pattern NEXT_HOP_IPV6_UNICAST_PATTERN =
             Pattern.compile("^(?<ifcName>[a-zA-Z][\\S]*)? ?(?<peerip>[\\p{XDigit}\\:]*)?( tag (?<tagid>.+))?$");
 
@@ -82,25 +85,10 @@ public class NextHopListReader implements CliConfigListReader<NextHop, NextHopKe
         IpPrefix pf = key.getPrefix();
 
         AtomicInteger count = new AtomicInteger();
-        if (pf.getIpv4Prefix() != null) {
-            String output = blockingRead(f(SH_READ_NEXT_HOP_IPV4_UNICAST, pf.getIpv4Prefix().getValue()),
-                cli, id, context);
-            rtn = ParsingUtils.parseFields(output, 0,
-                    NEXT_HOPS_PATTERN::matcher, m -> m.group("nexthop"),
-                value -> value).stream().map(value -> {
-                    count.incrementAndGet();
-                    return new NextHopKey(String.valueOf(count.intValue()));
-                }).collect(Collectors.toList());
-        } else {
-            String output = blockingRead(f(SH_READ_NEXT_HOP_IPV6_UNICAST, pf.getIpv6Prefix().getValue()),
-                cli, id, context);
-            rtn = ParsingUtils.parseFields(output, 0,
-                    NEXT_HOPS_PATTERN::matcher, m -> m.group("nexthop"),
-                value -> value).stream().map(value -> {
-                    count.incrementAndGet();
-                    return new NextHopKey(String.valueOf(count.intValue()));
-                }).collect(Collectors.toList());
-        }
+        rtn = getNextHops(id, context, pf).stream().map(value -> {
+            count.incrementAndGet();
+            return new NextHopKey(String.valueOf(count.intValue()));
+        }).collect(Collectors.toList());
         return rtn;
     }
 
@@ -113,6 +101,38 @@ public class NextHopListReader implements CliConfigListReader<NextHop, NextHopKe
         fillNextHopBuilder(id, key.getIndex(), context, pf, builder);
     }
 
+    /**
+     * Next hops of a static route prefix. Static routes of an address family are read and grouped by prefix once per
+     * read transaction, instead of filtering the configuration on the device for every prefix and next hop.
+     */
+    private List<String> getNextHops(@Nonnull InstanceIdentifier<NextHop> id, @Nonnull ReadContext context,
+                                     @Nonnull IpPrefix pf) throws ReadFailedException {
+        boolean isIpv4 = pf.getIpv4Prefix() != null;
+        String cmd = isIpv4 ? StaticListReader.SH_READ_STATIC_ROUTE_IPV4_UNICAST
+                : StaticListReader.SH_READ_STATIC_ROUTE_IPV6_UNICAST;
+        Object cacheKey = new AbstractMap.SimpleEntry<>(NextHopListReader.class, cmd);
+        Map<String, List<String>> nextHops = (Map<String, List<String>>) context.getModificationCache().get(cacheKey);
+        if (nextHops == null) {
+            nextHops = parseNextHops(blockingRead(cmd, cli, id, context));
+            context.getModificationCache().put(cacheKey, nextHops);
+        }
+        String prefix = isIpv4 ? pf.getIpv4Prefix().getValue() : pf.getIpv6Prefix().getValue();
+        return nextHops.getOrDefault(prefix, Collections.emptyList());
+    }
+
+    @VisibleForTesting
+    static Map<String, List<String>> parseNextHops(String output) {
+        Map<String, Set<String>> nextHops = new HashMap<>();
+        ParsingUtils.NEWLINE.splitAsStream(output)
+                .map(String::trim)
+                .map(NEXT_HOPS_PATTERN::matcher)
+                .filter(Matcher::matches)
+                .forEach(m -> nextHops.computeIfAbsent(m.group("prefix"), p -> new LinkedHashSet<>())
+                        .add(m.group("nexthop")));
+        return nextHops.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new ArrayList<>(e.getValue())));
+    }
+
     private void fillNextHopBuilder(
         @Nonnull InstanceIdentifier<NextHop> id,
         @Nonnull String index,
@@ -122,14 +142,7 @@ public class NextHopListReader implements CliConfigListReader<NextHop, NextHopKe
     )throws ReadFailedException {
         boolean isIpv4 = pf.getIpv4Prefix() != null;
         Pattern pat = isIpv4 ? NEXT_HOP_IPV4_UNICAST_PATTERN : NEXT_HOP_IPV6_UNICAST_PATTERN;
-        String cmdF = isIpv4 ? SH_READ_NEXT_HOP_IPV4_UNICAST : SH_READ_NEXT_HOP_IPV6_UNICAST;
-        String ip = isIpv4 ?  pf.getIpv4Prefix().getValue() : pf.getIpv6Prefix().getValue();
-        String output = blockingRead(f(cmdF, ip), cli, id, context);
-        List<String> nexthops = ParsingUtils.parseFields(
-            output, 0,
-            NEXT_HOPS_PATTERN::matcher,
-            m -> m.group("nexthop"),
-            value -> value);
+        List<String> nexthops = getNextHops(id, context, pf);
         String nexthop = nexthops.get(Integer.valueOf(index) - 1);
         ParsingUtils.parseFields(nexthop, 0, pat::matcher, m -> {
             Pattern ifcPtn = Pattern.compile("^(?<name>.*?)(\\.(?<subIdx>\\d+))?$");
@@ -16,12 +16,16 @@
 
 package io.frinx.cli.unit.iosxr.lr.handler.statics.nexthop;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
@@ -43,10 +47,14 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NextHopListReaderTest {
     private static final String SH_READ_NEXT_HOP_IPV4_UNICAST =
-            "show running-config router static address-family ipv4 unicast | include 118.103.1.0/24";
-    private static final String SH_READ_NEXT_HOP_IPV4_UNICAST_LINES =
-            "  118.103.1.0/24 Bundle-Ether100.100 61.125.140.88 tag 201\n"
-          + "  118.103.1.0/24 Bundle-Ether100.200 tag 202";
+            "show running-config router static address-family ipv4 unicast";
+    private static final String SH_READ_NEXT_HOP_IPV4_UNICAST_LINES = "router static\n"
+          + " address-family ipv4 unicast\n"
+          + "  118.103.1.0/24 Bundle-Ether100.100 61.125.140.88 tag 201\n"
+          + "  118.103.1.0/24 Bundle-Ether100.200 tag 202\n"
+          + "  118.103.10.0/24 Bundle-Ether100.300 tag 203\n"
+          + " !\n"
+          + "!";
 
     @Mock
     private Cli cli;
@@ -66,6 +74,7 @@ public class NextHopListReaderTest {
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         target = Mockito.spy(new NextHopListReader(cli));
+        Mockito.when(ctx.getModificationCache()).thenReturn(new ModificationCache());
     }
 
     @Test
@@ -81,4 +90,15 @@ public class NextHopListReaderTest {
                 .collect(Collectors.toSet()),
                 CoreMatchers.equalTo(Sets.newSet("1", "2")));
     }
+
+    @Test
+    public void testParseNextHops() {
+        Map<String, List<String>> nextHops = NextHopListReader.parseNextHops(SH_READ_NEXT_HOP_IPV4_UNICAST_LINES);
+
+        Assert.assertEquals(2, nextHops.size());
+        Assert.assertEquals(Arrays.asList("Bundle-Ether100.100 61.125.140.88 tag 201", "Bundle-Ether100.200 tag 202"),
+                nextHops.get("118.103.1.0/24"));
+        Assert.assertEquals(Collections.singletonList("Bundle-Ether100.300 tag 203"),
+                nextHops.get("118.103.10.0/24"));
+    }
 }
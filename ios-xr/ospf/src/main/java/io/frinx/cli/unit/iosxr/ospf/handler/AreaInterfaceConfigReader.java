@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Matcher;
@@ -56,7 +57,8 @@ public class AreaInterfaceConfigReader implements CliConfigReader<Config, Config
         configBuilder.setId(key.getId());
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
 
-        String output = blockingRead(String.format(SHOW_OSPF_INT, ospfId, nwInsName, areaId, key.getId()), cli,
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SHOW_OSPF_INT, ospfId, nwInsName, areaId, key.getId()), cli,
                 instanceIdentifier, readContext);
         parseCost(output, configBuilder);
         parsePassive(output, configBuilder);
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.iosxr.ospf.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Matcher;
@@ -52,7 +53,8 @@ public class AreaInterfaceEnableBfdConfigReader implements CliConfigReader<Confi
                 .getIdentifier());
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
 
-        String output = blockingRead(String.format(SHOW_OSPF_INT, ospfId, nwInsName, areaId, interfaceId), cli,
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SHOW_OSPF_INT, ospfId, nwInsName, areaId, interfaceId), cli,
                 instanceIdentifier, readContext);
         parseBfd(output, configBuilder);
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Matcher;
@@ -53,7 +54,8 @@ public class AreaInterfaceMplsSyncConfigReader implements CliConfigReader<Config
                 .getIdentifier());
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
 
-        String output = blockingRead(String.format(SHOW_OSPF_INT, ospfId, nwInsName, areaId, interfaceId), cli,
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SHOW_OSPF_INT, ospfId, nwInsName, areaId, interfaceId), cli,
                 instanceIdentifier, readContext);
         parseMplsSync(output, configBuilder);
     }
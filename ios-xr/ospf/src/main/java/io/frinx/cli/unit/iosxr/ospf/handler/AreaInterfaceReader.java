@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -55,7 +56,8 @@ public class AreaInterfaceReader implements CliConfigListReader<Interface, Inter
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
 
 
-        String output = blockingRead(String.format(SHOW_OSPF_INT, protocolKey.getName(), nwInsName,
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SHOW_OSPF_INT, protocolKey.getName(), nwInsName,
                 areaIdToString(areaKey.getIdentifier())), cli, instanceIdentifier, readContext);
         return parseInterfaceIds(output);
     }
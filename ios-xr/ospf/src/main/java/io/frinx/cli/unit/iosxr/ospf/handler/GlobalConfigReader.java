@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -50,7 +51,7 @@ public class GlobalConfigReader implements CliConfigReader<Config, ConfigBuilder
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
         //indent is 1 when reading default config, otherwise it is 2.
         final String indent = nwInsName.isEmpty() ? " " : "  ";
-        parseRouterId(blockingRead(String.format(SH_OSPF, ospfId, nwInsName, indent),
+        parseRouterId(XrRunningConfigSnapshot.blockingRead(this, String.format(SH_OSPF, ospfId, nwInsName, indent),
                 cli, instanceIdentifier, readContext), configBuilder);
     }
 
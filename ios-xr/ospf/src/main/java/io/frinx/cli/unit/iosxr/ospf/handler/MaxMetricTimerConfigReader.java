@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.math.BigInteger;
@@ -62,7 +63,8 @@ public class MaxMetricTimerConfigReader implements CliConfigReader<Config, Confi
         //indent is 1 when reading default config, otherwise it is 2.
         final String indent = nwInsName.isEmpty() ? " " : "  ";
 
-        parseTimers(blockingRead(String.format(MaxMetricTimerReader.SH_RUN_OSPF_MAX_METRIC, ospfId, nwInsName, indent),
+        parseTimers(XrRunningConfigSnapshot.blockingRead(this,
+                String.format(MaxMetricTimerReader.SH_RUN_OSPF_MAX_METRIC, ospfId, nwInsName, indent),
                 cli, instanceIdentifier, readContext), configBuilder);
     }
 
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.iosxr.ospf.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -63,7 +64,8 @@ public class MaxMetricTimerReader implements CliConfigListReader<MaxMetricTimer,
         //indent is 1 when reading default config, otherwise it is 2.
         final String indent = nwInsName.isEmpty() ? " " : "  ";
 
-        return parseTimerKeys(blockingRead(String.format(SH_RUN_OSPF_MAX_METRIC, ospfId, nwInsName, indent),
+        return parseTimerKeys(XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SH_RUN_OSPF_MAX_METRIC, ospfId, nwInsName, indent),
                 cli, instanceIdentifier, readContext));
     }
 
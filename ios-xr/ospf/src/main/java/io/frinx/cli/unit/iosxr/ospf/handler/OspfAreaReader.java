@@ -19,6 +19,7 @@ package io.frinx.cli.unit.iosxr.ospf.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -54,7 +55,8 @@ public class OspfAreaReader implements CliConfigListReader<Area, AreaKey, AreaBu
         //indent is 1 when reading default config, otherwise it is 2.
         final String indent = nwInsName.isEmpty() ? " " : "  ";
 
-        return parseAreasIds(blockingRead(String.format(SH_RUN_OSPF_AREA, id, nwInsName, indent),
+        return parseAreasIds(XrRunningConfigSnapshot.blockingRead(this,
+                String.format(SH_RUN_OSPF_AREA, id, nwInsName, indent),
                 cli, instanceIdentifier, readContext));
     }
 
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -59,7 +60,7 @@ public class OspfProtocolReader implements CliListReader<Protocol, ProtocolKey,
         String vrfId = instanceIdentifier.firstKeyOf(NetworkInstance.class)
                 .getName();
 
-        String output = blockingRead(SH_RUN_OSPF, cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this, SH_RUN_OSPF, cli, instanceIdentifier, readContext);
 
         List<ProtocolKey> keys = parseOspfIds(output);
         List<ProtocolKey> rtn = new ArrayList<>();
@@ -69,7 +70,7 @@ public class OspfProtocolReader implements CliListReader<Protocol, ProtocolKey,
                 rtn.add(key);
             } else {
                 String detailShow = String.format(SH_RUN_OSPF_PER_VRF, key.getName(), "vrf " + vrfId);
-                output = blockingRead(detailShow, cli, instanceIdentifier, readContext);
+                output = XrRunningConfigSnapshot.blockingRead(this, detailShow, cli, instanceIdentifier, readContext);
                 if (StringUtils.isNotEmpty(output)) {
                     rtn.add(key);
                 }
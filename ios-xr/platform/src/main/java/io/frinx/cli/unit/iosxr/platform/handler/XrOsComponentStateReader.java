@@ -20,6 +20,7 @@ import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.HashMap;
@@ -57,11 +58,11 @@ public class XrOsComponentStateReader implements CliOperReader<State, StateBuild
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         String name = instanceIdentifier.firstKeyOf(Component.class).getName();
         if (name.equals(OsComponent.OS_KEY.getName())) {
-            parseOSVersions(stateBuilder, blockingRead(f(SH_MODULE_VERSION), cli, instanceIdentifier, readContext));
+            parseOSVersions(stateBuilder, DeviceFactsCache.getInstance().blockingRead(this, f(SH_MODULE_VERSION), cli,
+                    instanceIdentifier, readContext));
         } else {
-            parseFields(stateBuilder, name, blockingRead(f(XrOsComponentReader.SH_MODULE, name),
-                cli, instanceIdentifier,
-                    readContext));
+            parseFields(stateBuilder, name, DeviceFactsCache.getInstance().blockingRead(this,
+                    f(XrOsComponentReader.SH_MODULE, name), cli, instanceIdentifier, readContext));
         }
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -51,7 +52,8 @@ public class ActionConfigReader implements CliConfigReader<Config, ConfigBuilder
             configBuilder.setTargetGroup(className.replace(ClassifierReader.DEFAULT_CLASS_SUFFIX, ""));
             return;
         }
-        String output = blockingRead(f(SH_POLICY_MAPS, className), cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                f(SH_POLICY_MAPS, className), cli, instanceIdentifier, readContext);
         parsePolicyName(output, configBuilder, className);
 
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.iosxr.qos.handler.scheduler.SchedulerPolicyReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -50,10 +51,11 @@ public class ClassifierReader implements CliConfigListReader<Classifier, Classif
             ReadContext readContext) throws ReadFailedException {
         List<ClassifierKey> allKeys = new ArrayList<>();
         // read match class-maps
-        String output = blockingRead(SH_CLASS_MAPS, cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this, SH_CLASS_MAPS, cli, instanceIdentifier, readContext);
         allKeys.addAll(getClassifierMapKeys(output));
         // read class-default
-        output = blockingRead(SchedulerPolicyReader.SH_POLICY_MAPS, cli, instanceIdentifier, readContext);
+        output = XrRunningConfigSnapshot.blockingRead(this,
+                SchedulerPolicyReader.SH_POLICY_MAPS, cli, instanceIdentifier, readContext);
         allKeys.addAll(getClassifierDefaultKeys(output));
         return allKeys;
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -72,10 +73,12 @@ public class ConditionsReader implements CliConfigReader<Conditions, ConditionsB
         }
         String line = instanceIdentifier.firstKeyOf(Term.class)
                 .getId();
-        String output = blockingRead(f(TermReader.SH_TERMS_ALL, name), cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                f(TermReader.SH_TERMS_ALL, name), cli, instanceIdentifier, readContext);
 
         if (output.equals("")) {
-            output = blockingRead(f(TermReader.SH_TERMS_ANY, name), cli, instanceIdentifier, readContext);
+            output = XrRunningConfigSnapshot.blockingRead(this,
+                    f(TermReader.SH_TERMS_ANY, name), cli, instanceIdentifier, readContext);
         }
         filterParsing(output, line, conditionsBuilder);
     }
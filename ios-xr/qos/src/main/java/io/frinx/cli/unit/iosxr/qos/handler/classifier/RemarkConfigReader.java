@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.iosxr.qos.handler.scheduler.OneRateTwoColorConfigReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -65,7 +66,8 @@ public class RemarkConfigReader implements CliConfigReader<Config, ConfigBuilder
             return;
         }
         String policyName = targetGroup.getTargetGroup();
-        String output = blockingRead(f(OneRateTwoColorConfigReader.SH_POLICY_MAP, policyName, className), cli,
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                f(OneRateTwoColorConfigReader.SH_POLICY_MAP, policyName, className), cli,
                 instanceIdentifier, readContext);
         String finalOutput = OneRateTwoColorConfigReader.limitOutput(output, className);
         parseRemarks(finalOutput, configBuilder);
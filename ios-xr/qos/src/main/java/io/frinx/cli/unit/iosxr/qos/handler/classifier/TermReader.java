@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -64,7 +65,8 @@ public class TermReader implements CliConfigListReader<Term, TermKey, TermBuilde
             readContext) throws ReadFailedException {
         String name = instanceIdentifier.firstKeyOf(Classifier.class)
                 .getName();
-        String output = blockingRead(f(SH_TERMS_ALL, name), cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                f(SH_TERMS_ALL, name), cli, instanceIdentifier, readContext);
 
         // class-default will always have only one term, let it be "all"
         // do not read anything, not needed
@@ -73,7 +75,8 @@ public class TermReader implements CliConfigListReader<Term, TermKey, TermBuilde
         }
 
         if (output.equals("")) {
-            output = blockingRead(f(SH_TERMS_ANY, name), cli, instanceIdentifier, readContext);
+            output = XrRunningConfigSnapshot.blockingRead(this,
+                    f(SH_TERMS_ANY, name), cli, instanceIdentifier, readContext);
         }
         return getTermKeys(output);
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.math.BigInteger;
@@ -47,7 +48,8 @@ public class InputConfigReader implements CliConfigReader<Config, ConfigBuilder>
                 .getName();
         String className = instanceIdentifier.firstKeyOf(Input.class)
                 .getId();
-        String output = blockingRead(f(OneRateTwoColorConfigReader.SH_POLICY_MAP, policyName, className), cli,
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                f(OneRateTwoColorConfigReader.SH_POLICY_MAP, policyName, className), cli,
                 instanceIdentifier, readContext);
         setPriority(output, className, configBuilder);
         configBuilder.setId(className);
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Arrays;
@@ -71,7 +72,8 @@ public class OneRateTwoColorConfigReader implements CliConfigReader<Config, Conf
         String classname = inp.getInput()
                 .get(0)
                 .getId();
-        String output = blockingRead(f(SH_POLICY_MAP, policyName, classname), cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                f(SH_POLICY_MAP, policyName, classname), cli, instanceIdentifier, readContext);
         String finalOutput = limitOutput(output, classname);
         fillInConfig(finalOutput, configBuilder);
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -46,7 +47,8 @@ public class SchedulerPolicyReader implements CliConfigListReader<SchedulerPolic
     @Override
     public List<SchedulerPolicyKey> getAllIds(@Nonnull InstanceIdentifier<SchedulerPolicy> instanceIdentifier,
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(SH_POLICY_MAPS, cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                SH_POLICY_MAPS, cli, instanceIdentifier, readContext);
         return getSchedulerKeys(output);
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.iosxr.init.snapshot.XrRunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -50,7 +51,8 @@ public class SchedulerReader implements CliConfigListReader<Scheduler, Scheduler
             ReadContext readContext) throws ReadFailedException {
         String policyName = instanceIdentifier.firstKeyOf(SchedulerPolicy.class)
                 .getName();
-        String output = blockingRead(f(SH_POLICY_MAP, policyName), cli, instanceIdentifier, readContext);
+        String output = XrRunningConfigSnapshot.blockingRead(this,
+                f(SH_POLICY_MAP, policyName), cli, instanceIdentifier, readContext);
         return getSequenceIds(output);
     }
 
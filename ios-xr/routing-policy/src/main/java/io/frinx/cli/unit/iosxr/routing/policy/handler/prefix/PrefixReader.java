@@ -23,6 +23,7 @@ import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
+import java.util.StringTokenizer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -41,9 +42,7 @@ public class PrefixReader implements CliConfigListReader<Prefix, PrefixKey, Pref
     private static final Pattern PREFIX_PATTERN = Pattern.compile("\\s+(?<network>[0-9a-f.:]+)/?(?<mask>[0-9]*)?\\s*"
             + "(?<modifiers>.*)\\s*");
 
-    private static final Pattern GE_PATTERN = Pattern.compile(".*ge (?<value>[0-9]+)\\s*.*");
-    private static final Pattern LE_PATTERN = Pattern.compile(".*le (?<value>[0-9]+)\\s*.*");
-    private static final Pattern EQ_PATTERN = Pattern.compile(".*eq (?<value>[0-9]+)\\s*.*");
+    private static final String MODIFIER_DELIMITERS = " \t,";
 
     private static final String MASK_LENGTH_RANGE_PATTERN = "%s..%s";
     public static final String EXACT_MASK_LENGTH = "exact";
@@ -65,8 +64,10 @@ public class PrefixReader implements CliConfigListReader<Prefix, PrefixKey, Pref
 
     @VisibleForTesting
     static List<PrefixKey> parseIds(String output) {
+        // single matcher reset for every line, prefix-sets may have hundreds of thousands of lines
+        Matcher matcher = PREFIX_PATTERN.matcher("");
         return ParsingUtils.NEWLINE.splitAsStream(output)
-                .map(PREFIX_PATTERN::matcher)
+                .map(matcher::reset)
                 .filter(Matcher::matches)
                 .map(PrefixReader::toKey)
                 .distinct()
@@ -92,35 +93,57 @@ public class PrefixReader implements CliConfigListReader<Prefix, PrefixKey, Pref
     }
 
     private static String parseMaskLength(String modifiers, IpPrefix ipPrefix) {
-        Matcher geMatcher = GE_PATTERN.matcher(modifiers);
-        Matcher leMatcher = LE_PATTERN.matcher(modifiers);
-        Matcher eqMatcher = EQ_PATTERN.matcher(modifiers);
+        // modifiers are scanned once, the last value of each modifier wins
+        String ge = null;
+        String le = null;
+        String eq = null;
+        StringTokenizer tokens = new StringTokenizer(modifiers, MODIFIER_DELIMITERS);
+        String previous = null;
+        while (tokens.hasMoreTokens()) {
+            String token = tokens.nextToken();
+            if (previous != null && isNumber(token)) {
+                switch (previous) {
+                    case "ge":
+                        ge = token;
+                        break;
+                    case "le":
+                        le = token;
+                        break;
+                    case "eq":
+                        eq = token;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            previous = token;
+        }
 
         int maxLength = ipPrefix.getIpv4Prefix() != null ? 32 : 128;
         String maskLengthRange;
 
         // Possible combinations of mask lengths
 
-        if (eqMatcher.matches()) {
+        if (eq != null) {
             //   1.2.3.4/4 eq 5
             maskLengthRange = String.format(MASK_LENGTH_RANGE_PATTERN,
-                    eqMatcher.group("value"),
-                    eqMatcher.group("value"));
-        } else if (geMatcher.matches() && leMatcher.matches()) {
+                    eq,
+                    eq);
+        } else if (ge != null && le != null) {
             //   1.2.3.4/4 ge 5 le 16
             maskLengthRange = String.format(MASK_LENGTH_RANGE_PATTERN,
-                    geMatcher.group("value"),
-                    leMatcher.group("value"));
-        } else if (geMatcher.matches() && !leMatcher.matches()) {
+                    ge,
+                    le);
+        } else if (ge != null) {
             //   1.2.3.4/4 ge 5
             maskLengthRange = String.format(MASK_LENGTH_RANGE_PATTERN,
-                    geMatcher.group("value"),
+                    ge,
                     maxLength);
-        } else if (!geMatcher.matches() && leMatcher.matches()) {
+        } else if (le != null) {
             //   1.2.3.4/4 le 16
             maskLengthRange = String.format(MASK_LENGTH_RANGE_PATTERN,
                     0,
-                    leMatcher.group("value"));
+                    le);
         } else {
             //   1.2.3.4/4 or 1.2.3.4
             maskLengthRange = EXACT_MASK_LENGTH;
@@ -128,6 +151,15 @@ public class PrefixReader implements CliConfigListReader<Prefix, PrefixKey, Pref
         return maskLengthRange;
     }
 
+    private static boolean isNumber(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) < '0' || token.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<Prefix> id,
                                       @Nonnull PrefixBuilder builder,
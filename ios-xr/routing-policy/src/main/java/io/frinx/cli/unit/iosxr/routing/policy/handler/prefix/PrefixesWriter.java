@@ -23,8 +23,12 @@ import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliWriter;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -35,23 +39,22 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.polic
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.policy.rev170714.prefix.top.prefixes.Prefix;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.policy.rev170714.prefix.top.prefixes.prefix.Config;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Writes content of a prefix-set. XR replaces the whole content of a prefix-set whenever it is entered, so every
+ * write sends the complete set. Large sets are sent in chunks of {@link #CHUNK_LINES} prefixes, each chunk as one
+ * command, so that neither the command nor the device output of a single command grows with the size of the set.
+ */
 public class PrefixesWriter implements CliWriter<Prefixes> {
 
-    private static final Pattern MASK_RANGE_PATTERN = Pattern.compile("(?<ge>[0-9]+)\\.\\.(?<le>[0-9]+)|exact");
+    private static final Logger LOG = LoggerFactory.getLogger(PrefixesWriter.class);
 
     @VisibleForTesting
-    static final String TEMPLATE = "prefix-set {$name}\n"
-            + "{% loop in $prefixes as $p %}\n"
-            + "{$p.prefix}"
-            + "{% if ($p.ge) %} ge {$p.ge}{% endif %}"
-            + "{% if ($p.le) %} le {$p.le}{% endif %}"
-            + "{% divider %}"
-            + ",\n"
-            + "{% onEmpty %}"
-            + "{% endloop %}"
-            + "\n\n"
-            + "end-set";
+    static final int CHUNK_LINES = 1000;
+
+    private static final Pattern MASK_RANGE_PATTERN = Pattern.compile("(?<ge>[0-9]+)\\.\\.(?<le>[0-9]+)|exact");
 
     private final Cli cli;
 
@@ -63,15 +66,48 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
     public void writeCurrentAttributes(@Nonnull InstanceIdentifier<Prefixes> instanceIdentifier,
                                        @Nonnull Prefixes prefixes,
                                        @Nonnull WriteContext writeContext) throws WriteFailedException {
+        writePrefixes(instanceIdentifier, prefixes, transformPrefixes(getPrefixes(prefixes)));
+    }
+
+    private void writePrefixes(InstanceIdentifier<Prefixes> instanceIdentifier, Prefixes prefixes,
+                               List<ConfigDto> transformedPrefixes) throws WriteFailedException {
         PrefixSetKey prefixSetKey = instanceIdentifier.firstKeyOf(PrefixSet.class);
-        List<Prefix> prefixList = prefixes.getPrefix() == null ? Collections.emptyList() : prefixes.getPrefix();
+        for (String chunk : renderChunks(prefixSetKey.getName(), transformedPrefixes, CHUNK_LINES)) {
+            blockingWriteAndRead(cli, instanceIdentifier, prefixes, chunk);
+        }
+    }
 
-        List<ConfigDto> transformedPrefixes = transformPrefixes(prefixList);
+    private static List<Prefix> getPrefixes(Prefixes prefixes) {
+        return prefixes.getPrefix() == null ? Collections.emptyList() : prefixes.getPrefix();
+    }
 
-        blockingWriteAndRead(cli, instanceIdentifier, prefixes,
-                fT(TEMPLATE,
-                        "name", prefixSetKey.getName(),
-                        "prefixes", transformedPrefixes));
+    /**
+     * Render prefix-set as commands of at most chunkLines prefixes each. Commands joined by new lines form the
+     * whole prefix-set: its name, prefixes separated by commas and "end-set", or an empty line in place of the
+     * prefixes of an empty set. The prefix-set stays open between the commands, it is closed by "end-set" at the
+     * end of the last one.
+     */
+    @VisibleForTesting
+    static List<String> renderChunks(String name, List<ConfigDto> prefixes, int chunkLines) {
+        List<String> chunks = new ArrayList<>(prefixes.size() / chunkLines + 1);
+        StringBuilder chunk = new StringBuilder("prefix-set ").append(name);
+        for (int i = 0; i < prefixes.size(); i++) {
+            if (i > 0 && i % chunkLines == 0) {
+                chunks.add(chunk.toString());
+                chunk.setLength(0);
+            } else {
+                chunk.append('\n');
+            }
+            prefixes.get(i).render(chunk);
+            if (i < prefixes.size() - 1) {
+                chunk.append(',');
+            }
+        }
+        if (prefixes.isEmpty()) {
+            chunk.append('\n');
+        }
+        chunks.add(chunk.append("\nend-set").toString());
+        return chunks;
     }
 
     @VisibleForTesting
@@ -88,8 +124,26 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
                                         @Nonnull Prefixes dataBefore,
                                         @Nonnull Prefixes dataAfter,
                                         @Nonnull WriteContext writeContext) throws WriteFailedException {
-        // on xr, when updating prefix-set it deletes previous content, so just put the new set directly
-        writeCurrentAttributes(id, dataAfter, writeContext);
+        List<ConfigDto> before = transformPrefixes(getPrefixes(dataBefore));
+        List<ConfigDto> after = transformPrefixes(getPrefixes(dataAfter));
+        if (before.equals(after)) {
+            // only data not present in device configuration changed, nothing to send
+            return;
+        }
+        LOG.debug("{}: Rewriting prefix-set {} of {} prefixes, {} prefixes added, {} removed", cli.getDeviceId(),
+                id.firstKeyOf(PrefixSet.class).getName(), after.size(), countMissing(after, before),
+                countMissing(before, after));
+        // on xr, entering prefix-set replaces its whole content, there is no configuration command adding or
+        // removing a single prefix (inline editing of RPL sets is not available on all supported releases),
+        // so just put the new set directly
+        writePrefixes(id, dataAfter, after);
+    }
+
+    private static long countMissing(List<ConfigDto> prefixes, List<ConfigDto> from) {
+        Set<ConfigDto> present = new HashSet<>(from);
+        return prefixes.stream()
+                .filter(prefix -> !present.contains(prefix))
+                .count();
     }
 
     private static ConfigDto configToDto(Config config) {
@@ -104,9 +158,7 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
 
         // For delete, it's sufficient to just open the prefix set and close, it will delete all of its content
         blockingWriteAndRead(cli, instanceIdentifier, prefixes,
-                fT(TEMPLATE,
-                        "name", prefixSetKey.getName(),
-                        "prefixes", Collections.emptyList()));
+                renderChunks(prefixSetKey.getName(), Collections.emptyList(), CHUNK_LINES).get(0));
     }
 
     public static final class ConfigDto {
@@ -133,6 +185,33 @@ public class PrefixesWriter implements CliWriter<Prefixes> {
             return le;
         }
 
+        private void render(StringBuilder line) {
+            line.append(prefix);
+            if (ge != null) {
+                line.append(" ge ").append(ge);
+            }
+            if (le != null) {
+                line.append(" le ").append(le);
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ConfigDto)) {
+                return false;
+            }
+            ConfigDto that = (ConfigDto) other;
+            return prefix.equals(that.prefix) && Objects.equals(ge, that.ge) && Objects.equals(le, that.le);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(prefix, ge, le);
+        }
+
         private static ConfigDto fromConfig(Config config) {
             Matcher matcher = MASK_RANGE_PATTERN.matcher(config.getMasklengthRange());
             Preconditions.checkArgument(matcher.matches(), "Mask length range in unsupported format: %s, should be: %s",
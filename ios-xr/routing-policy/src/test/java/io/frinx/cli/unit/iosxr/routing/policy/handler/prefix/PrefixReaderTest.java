@@ -73,11 +73,20 @@ public class PrefixReaderTest {
             + "end-set\n"
             + "!\n";
 
+    private static final List<PrefixKey> OUTPUT1_KEYS5 = Lists.newArrayList(new PrefixKey(new IpPrefix("1.2.5.0/24"
+            .toCharArray()), "0..28"), new PrefixKey(new IpPrefix("dead:beef::/24".toCharArray()), "30..128"));
+
+    public static final String OUTPUT5 = "prefix-set le\n"
+            + "  1.2.5.0/24 le 28,\n"
+            + "  dead:beef::/24 ge 30\r\n"
+            + "end-set\n";
+
     @Test
     public void testAllIds() throws Exception {
         Assert.assertEquals(OUTPUT1_KEYS1, PrefixReader.parseIds(OUTPUT1));
         Assert.assertEquals(OUTPUT1_KEYS2, PrefixReader.parseIds(OUTPUT2));
         Assert.assertEquals(OUTPUT1_KEYS3, PrefixReader.parseIds(OUTPUT3));
         Assert.assertEquals(OUTPUT1_KEYS4, PrefixReader.parseIds(OUTPUT4));
+        Assert.assertEquals(OUTPUT1_KEYS5, PrefixReader.parseIds(OUTPUT5));
     }
 }
\ No newline at end of file
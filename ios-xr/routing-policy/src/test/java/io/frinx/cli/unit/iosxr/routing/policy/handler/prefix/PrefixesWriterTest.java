@@ -17,7 +17,6 @@
 package io.frinx.cli.unit.iosxr.routing.policy.handler.prefix;
 
 import com.google.common.collect.Lists;
-import io.frinx.cli.unit.utils.CliFormatter;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Assert;
@@ -27,7 +26,7 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.polic
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.policy.rev170714.prefix.top.prefixes.prefix.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.IpPrefix;
 
-public class PrefixesWriterTest implements CliFormatter {
+public class PrefixesWriterTest {
 
     private static final List<Prefix> PREFIXES = Lists.newArrayList(
             getPrefix("1.1.1.1/32", "32..32"),
@@ -51,28 +50,41 @@ public class PrefixesWriterTest implements CliFormatter {
                 .build();
     }
 
+    private static final String EXPECTED = "prefix-set testing\n"
+            + "1.1.1.1/32 ge 32 le 32,\n"
+            + "1.1.1.1/4 ge 32 le 32,\n"
+            + "1.1.1.1/4 ge 11 le 24,\n"
+            + "dead:beef::/4 ge 128 le 128,\n"
+            + "dead:beef::1/128 ge 128 le 128,\n"
+            + "dead:beef::1/128 ge 1 le 128,\n"
+            + "dead:beef::1/45 ge 45 le 45,\n"
+            + "dead:beef::1/46\n"
+            + "end-set";
+
     @Test
-    public void testTemplate() throws Exception {
+    public void testRenderChunks() {
         List<PrefixesWriter.ConfigDto> configDtos = PrefixesWriter.transformPrefixes(PREFIXES);
-        String output = fT(PrefixesWriter.TEMPLATE,
-                "name", "testing",
-                "prefixes", configDtos);
 
-        Assert.assertEquals("prefix-set testing\n"
-                + "1.1.1.1/32 ge 32 le 32,\n"
-                + "1.1.1.1/4 ge 32 le 32,\n"
-                + "1.1.1.1/4 ge 11 le 24,\n"
-                + "dead:beef::/4 ge 128 le 128,\n"
-                + "dead:beef::1/128 ge 128 le 128,\n"
-                + "dead:beef::1/128 ge 1 le 128,\n"
-                + "dead:beef::1/45 ge 45 le 45,\n"
-                + "dead:beef::1/46\n"
-                + "end-set", output);
+        Assert.assertEquals(Collections.singletonList(EXPECTED),
+                PrefixesWriter.renderChunks("testing", configDtos, PrefixesWriter.CHUNK_LINES));
+        for (int chunkLines = 1; chunkLines <= configDtos.size(); chunkLines++) {
+            List<String> chunks = PrefixesWriter.renderChunks("testing", configDtos, chunkLines);
+            Assert.assertEquals((configDtos.size() + chunkLines - 1) / chunkLines, chunks.size());
+            Assert.assertEquals(EXPECTED, String.join("\n", chunks));
+        }
 
-        output = fT(PrefixesWriter.TEMPLATE, "name", "testing", "prefixes", Collections.emptyList());
+        Assert.assertEquals(Lists.newArrayList("prefix-set testing\n1.1.1.1/32 ge 32 le 32,\n1.1.1.1/4 ge 32 le 32,",
+                "1.1.1.1/4 ge 11 le 24\nend-set"),
+                PrefixesWriter.renderChunks("testing", configDtos.subList(0, 3), 2));
+        Assert.assertEquals(Collections.singletonList("prefix-set testing\n\nend-set"),
+                PrefixesWriter.renderChunks("testing", Collections.emptyList(), 2));
+    }
 
-        Assert.assertEquals("prefix-set testing\n"
-                + "\n"
-                + "end-set", output);
+    @Test
+    public void testConfigDtoEquality() {
+        Assert.assertEquals(PrefixesWriter.transformPrefixes(PREFIXES), PrefixesWriter.transformPrefixes(
+                Lists.newArrayList(PREFIXES)));
+        Assert.assertNotEquals(new PrefixesWriter.ConfigDto("1.1.1.1/4", 11, 24),
+                new PrefixesWriter.ConfigDto("1.1.1.1/4", 11, null));
     }
-}
\ No newline at end of file
+}
@@ -22,7 +22,8 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.unit.ios.init.IosDevices;
-import io.frinx.cli.unit.ios.unit.acl.handler.AclEntryWriter;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import io.frinx.cli.unit.ios.unit.acl.handler.AclEntriesWriter;
 import io.frinx.cli.unit.ios.unit.acl.handler.AclInterfaceConfigReader;
 import io.frinx.cli.unit.ios.unit.acl.handler.AclInterfaceReader;
 import io.frinx.cli.unit.ios.unit.acl.handler.AclSetConfigWriter;
@@ -43,8 +44,19 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public class AclUnit extends AbstractUnit {
 
+    private final boolean runningConfigSnapshot;
+
     public AclUnit(@Nonnull final TranslationUnitCollector registry) {
+        this(registry, false);
+    }
+
+    /**
+     * Unit whose readers answer "show running-config" commands from {@link RunningConfigSnapshot} if
+     * runningConfigSnapshot is set, or send each of them to the device otherwise.
+     */
+    public AclUnit(@Nonnull final TranslationUnitCollector registry, final boolean runningConfigSnapshot) {
         super(registry);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
 
@@ -74,9 +86,9 @@ public class AclUnit extends AbstractUnit {
         writeRegistry.add(IIDs.AC_AC_ACLSET, new AclSetConfigWriter(cli));
 
         writeRegistry.addNoop(IIDs.AC_AC_AC_CONFIG);
-        writeRegistry.addNoop(IIDs.AC_AC_AC_ACLENTRIES);
-        writeRegistry.subtreeAdd(IIDs.AC_AC_AC_AC_ACLENTRY, new AclEntryWriter(cli),
-            Sets.newHashSet(IIDs.AC_AC_AC_AC_AC_CONFIG,
+        writeRegistry.subtreeAdd(IIDs.AC_AC_AC_ACLENTRIES, new AclEntriesWriter(cli),
+            Sets.newHashSet(IIDs.AC_AC_AC_AC_ACLENTRY,
+                IIDs.AC_AC_AC_AC_AC_CONFIG,
                 IIDs.AC_AC_AC_AC_AC_CO_AUG_CONFIG2,
 
                 IIDs.AC_AC_AC_AC_AC_IPV4,
@@ -114,19 +126,19 @@ public class AclUnit extends AbstractUnit {
     }
 
     private void provideReaders(@Nonnull CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
-        readRegistry.add(IIDs.AC_IN_INTERFACE, new AclInterfaceReader(cli));
+        readRegistry.add(IIDs.AC_IN_INTERFACE, new AclInterfaceReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.AC_IN_IN_CONFIG, new AclInterfaceConfigReader());
 
         // ingress
-        readRegistry.add(IIDs.AC_IN_IN_IN_INGRESSACLSET, new IngressAclSetReader(cli));
-        readRegistry.add(IIDs.AC_IN_IN_IN_IN_CONFIG, new IngressAclSetConfigReader(cli));
+        readRegistry.add(IIDs.AC_IN_IN_IN_INGRESSACLSET, new IngressAclSetReader(cli, runningConfigSnapshot));
+        readRegistry.add(IIDs.AC_IN_IN_IN_IN_CONFIG, new IngressAclSetConfigReader(cli, runningConfigSnapshot));
 
         // egress
-        readRegistry.add(IIDs.AC_IN_IN_EG_EGRESSACLSET, new EgressAclSetReader(cli));
-        readRegistry.add(IIDs.AC_IN_IN_EG_EG_CONFIG, new EgressAclSetConfigReader(cli));
+        readRegistry.add(IIDs.AC_IN_IN_EG_EGRESSACLSET, new EgressAclSetReader(cli, runningConfigSnapshot));
+        readRegistry.add(IIDs.AC_IN_IN_EG_EG_CONFIG, new EgressAclSetConfigReader(cli, runningConfigSnapshot));
 
         // ACL Entry subtree
-        readRegistry.subtreeAdd(IIDs.AC_AC_ACLSET, new AclSetReader(cli),
+        readRegistry.subtreeAdd(IIDs.AC_AC_ACLSET, new AclSetReader(cli, runningConfigSnapshot),
             Sets.newHashSet(IIDs.AC_AC_AC_CONFIG,
                 IIDs.AC_AC_AC_AC_ACLENTRY,
                 IIDs.AC_AC_AC_AC_AC_CONFIG,
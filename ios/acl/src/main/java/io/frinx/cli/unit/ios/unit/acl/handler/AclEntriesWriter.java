@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.ios.unit.acl.handler;
+
+import io.fd.honeycomb.translate.spi.write.CommitFailedException;
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.IosCliInitializerUnit;
+import io.frinx.cli.unit.ios.init.batch.ConfigSessionBatch;
+import io.frinx.cli.unit.utils.CliWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.AclEntries;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntry;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntryKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes all entries of an ACL set changed in one transaction as a single configuration block, instead of one
+ * "configure terminal" ... "end" per entry. Removed entries are deleted first, changed entries are deleted and
+ * written again, new entries are written. Commands of the entries are rendered by {@link AclEntryWriter}.
+ *
+ * <p>An error in the block fails this writer and names the entry which caused it. The device applies the rest
+ * of the block regardless, so entries of the set are restored to their previous state first.
+ */
+public class AclEntriesWriter implements CliWriter<AclEntries> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AclEntriesWriter.class);
+
+    private final Cli cli;
+    private final AclEntryWriter entryWriter;
+
+    public AclEntriesWriter(Cli cli) {
+        this.cli = cli;
+        this.entryWriter = new AclEntryWriter(cli);
+    }
+
+    @Override
+    public void writeCurrentAttributes(@Nonnull InstanceIdentifier<AclEntries> id,
+                                       @Nonnull AclEntries dataAfter,
+                                       @Nonnull WriteContext writeContext) throws WriteFailedException {
+        try {
+            apply(id, null, dataAfter);
+        } catch (CommitFailedException e) {
+            throw new WriteFailedException.CreateFailedException(id, dataAfter, e);
+        }
+    }
+
+    @Override
+    public void updateCurrentAttributes(@Nonnull InstanceIdentifier<AclEntries> id,
+                                        @Nonnull AclEntries dataBefore,
+                                        @Nonnull AclEntries dataAfter,
+                                        @Nonnull WriteContext writeContext) throws WriteFailedException {
+        try {
+            apply(id, dataBefore, dataAfter);
+        } catch (CommitFailedException e) {
+            throw new WriteFailedException.UpdateFailedException(id, dataBefore, dataAfter, e);
+        }
+    }
+
+    @Override
+    public void deleteCurrentAttributes(@Nonnull InstanceIdentifier<AclEntries> id,
+                                        @Nonnull AclEntries dataBefore,
+                                        @Nonnull WriteContext writeContext) throws WriteFailedException {
+        try {
+            apply(id, dataBefore, null);
+        } catch (CommitFailedException e) {
+            throw new WriteFailedException.DeleteFailedException(id, e);
+        }
+    }
+
+    private void apply(InstanceIdentifier<AclEntries> id, @Nullable AclEntries dataBefore,
+                       @Nullable AclEntries dataAfter) throws CommitFailedException {
+        try {
+            getChanges(id, dataBefore, dataAfter).send();
+        } catch (CommitFailedException e) {
+            restore(id, dataBefore, dataAfter);
+            throw e;
+        }
+    }
+
+    private void restore(InstanceIdentifier<AclEntries> id, @Nullable AclEntries dataBefore,
+                         @Nullable AclEntries dataAfter) {
+        try {
+            getChanges(id, dataAfter, dataBefore).send();
+        } catch (CommitFailedException e) {
+            LOG.warn("{}: Unable to restore entries of {}", cli.getDeviceId(), id, e);
+        }
+    }
+
+    ConfigSessionBatch getChanges(InstanceIdentifier<AclEntries> id, @Nullable AclEntries dataBefore,
+                                  @Nullable AclEntries dataAfter) {
+        Map<AclEntryKey, AclEntry> before = getEntries(dataBefore);
+        Map<AclEntryKey, AclEntry> after = getEntries(dataAfter);
+        ConfigSessionBatch batch = new ConfigSessionBatch(cli, IosCliInitializerUnit.ERROR_PATTERNS);
+        for (AclEntry entry : before.values()) {
+            if (!entry.equals(after.get(entry.getKey()))) {
+                batch.add(AclEntryWriter.class, entryWriter.getDeleteCommand(getEntryId(id, entry), entry),
+                        getEntryId(id, entry));
+            }
+        }
+        for (AclEntry entry : after.values()) {
+            if (!entry.equals(before.get(entry.getKey()))) {
+                Optional<String> command = entryWriter.getWriteCommand(getEntryId(id, entry), entry);
+                if (command.isPresent()) {
+                    batch.add(AclEntryWriter.class, command.get(), getEntryId(id, entry));
+                }
+            }
+        }
+        return batch;
+    }
+
+    private static Map<AclEntryKey, AclEntry> getEntries(@Nullable AclEntries entries) {
+        List<AclEntry> list = entries == null || entries.getAclEntry() == null
+                ? Collections.emptyList() : entries.getAclEntry();
+        return list.stream()
+                .collect(Collectors.toMap(AclEntry::getKey, Function.identity(), (first, second) -> first,
+                        LinkedHashMap::new));
+    }
+
+    private static InstanceIdentifier<AclEntry> getEntryId(InstanceIdentifier<AclEntries> id, AclEntry entry) {
+        return id.child(AclEntry.class, entry.getKey());
+    }
+}
@@ -20,8 +20,11 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.net.InetAddresses;
+import io.frinx.cli.unit.utils.ParsingUtils;
 import java.net.InetAddress;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
@@ -58,7 +61,6 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.DROP;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.FORWARDINGACTION;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntryBuilder;
-import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntryKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.Actions;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.ActionsBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.actions.ConfigBuilder;
@@ -92,35 +94,37 @@ final class AclEntryLineParser {
     private static final IpProtocolType IP_PROTOCOL_ICMP6_NUMBER = new IpProtocolType((short) 58);
     private static final IpProtocolType IP_PROTOCOL_TCP = new IpProtocolType(IPTCP.class);
     private static final IpProtocolType IP_PROTOCOL_UDP = new IpProtocolType(IPUDP.class);
+    private static final Pattern IPV4_ENTRY_LINE =
+            Pattern.compile("^\\s*(?<line>(?<sequenceId>\\d+) (?!remark).*?)\\r?$");
+    private static final Pattern IPV6_ENTRY_LINE = Pattern.compile("^(?<line>.* sequence (?<sequenceId>\\d+))\\r?$");
     private static final Pattern ZERO_TO_255_PATTERN = Pattern.compile("^2[0-5][0-5]|2[0-4][0-9]|1?[0-9]?[0-9]$");
 
     private AclEntryLineParser() {
     }
 
-    static Optional<String> findAclEntryWithSequenceId(AclEntryKey aclEntryKey, String lines,
-                                                       Class<? extends ACLTYPE> aclType) {
-        // search for line containing current sequence number
-        long sequenceId = aclEntryKey.getSequenceId();
-        return ACLIPV4.class.equals(aclType) ? findIpv4LineWithSequenceId(sequenceId, lines)
-                : findIpv6LineWithSequenceId(sequenceId, lines);
+    /**
+     * Index entry lines of "show ip access-lists" or "show ipv6 access-list" output by sequence id, in a single
+     * pass. IPv4 entry lines start with the sequence id, IPv6 entry lines end with "sequence ID". Remarks are
+     * not indexed. Iteration order of the index follows the output.
+     */
+    static Map<Long, String> indexLinesBySequenceId(String lines, Class<? extends ACLTYPE> aclType) {
+        Pattern entryLine = ACLIPV4.class.equals(aclType) ? IPV4_ENTRY_LINE : IPV6_ENTRY_LINE;
+        Map<Long, String> index = new LinkedHashMap<>();
+        Matcher matcher = entryLine.matcher("");
+        for (String line : ParsingUtils.NEWLINE.split(lines)) {
+            if (matcher.reset(line).matches()) {
+                index.putIfAbsent(Long.valueOf(matcher.group("sequenceId")), matcher.group("line"));
+            }
+        }
+        return index;
     }
 
     static Optional<String> findIpv4LineWithSequenceId(long sequenceId, String lines) {
-        Pattern pattern = Pattern.compile("^\\s*(" + sequenceId + " .*)$", Pattern.MULTILINE);
-        Matcher matcher = pattern.matcher(lines);
-        if (matcher.find()) {
-            return Optional.of(matcher.group(1));
-        }
-        return Optional.empty();
+        return Optional.ofNullable(indexLinesBySequenceId(lines, ACLIPV4.class).get(sequenceId));
     }
 
     static Optional<String> findIpv6LineWithSequenceId(long sequenceId, String lines) {
-        Pattern pattern = Pattern.compile("^.* sequence " + sequenceId + "$", Pattern.MULTILINE);
-        Matcher matcher = pattern.matcher(lines);
-        if (matcher.find()) {
-            return Optional.of(matcher.group(0));
-        }
-        return Optional.empty();
+        return Optional.ofNullable(indexLinesBySequenceId(lines, ACLIPV6.class).get(sequenceId));
     }
 
     static void parseLine(final AclEntryBuilder builder, String line, Class<? extends ACLTYPE> aclType) {
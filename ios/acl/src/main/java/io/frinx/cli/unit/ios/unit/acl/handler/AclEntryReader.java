@@ -21,12 +21,11 @@ import com.google.common.collect.ImmutableMap;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
-import java.util.ArrayList;
+import java.util.AbstractMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACLIPV4;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACLIPV6;
@@ -45,13 +44,6 @@ public class AclEntryReader {
             ACLIPV6.class, SH_ACCESS_LISTS_IPV6
     );
 
-    // find lines starting with number and not continuing with word remark
-    private static final Pattern IP_SEQUENCE_PATTERN = Pattern.compile("^\\s*(?<sequenceId>\\d+) (?!remark).*", Pattern
-            .MULTILINE);
-
-    private static final Pattern IPV6_SEQUENCE_PATTERN = Pattern.compile("^.*sequence (?<sequenceId>\\d+)$", Pattern
-            .MULTILINE);
-
     private final Cli cli;
     private final AclSetReader aclSetReader;
 
@@ -62,10 +54,7 @@ public class AclEntryReader {
 
     public List<AclEntryKey> getAllIds(@Nonnull final InstanceIdentifier<AclSet> instanceIdentifier,
                                        @Nonnull final ReadContext readContext) throws ReadFailedException {
-        AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
-        String command = getAclCommand(instanceIdentifier);
-        return parseAclEntryKey(aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext),
-                aclSetKey.getType());
+        return toAclEntryKeys(getEntryLines(instanceIdentifier, readContext));
     }
 
     static String getAclCommand(InstanceIdentifier<?> id) {
@@ -74,34 +63,54 @@ public class AclEntryReader {
         return String.format(typedCommand, aclSetKey.getName());
     }
 
+    /**
+     * Entry lines of the ACL set indexed by sequence id. The index is built once per read transaction, so reading
+     * all entries of the set does not scan the whole output again for each entry.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, String> getEntryLines(@Nonnull final InstanceIdentifier<AclSet> instanceIdentifier,
+                                            @Nonnull final ReadContext readContext) throws ReadFailedException {
+        String command = getAclCommand(instanceIdentifier);
+        Object indexKey = new AbstractMap.SimpleEntry<>(AclEntryReader.class, command);
+        Map<Long, String> entryLines = (Map<Long, String>) readContext.getModificationCache().get(indexKey);
+        if (entryLines == null) {
+            entryLines = AclEntryLineParser.indexLinesBySequenceId(
+                    aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext),
+                    instanceIdentifier.firstKeyOf(AclSet.class).getType());
+            readContext.getModificationCache().put(indexKey, entryLines);
+        }
+        return entryLines;
+    }
+
     @VisibleForTesting
     static List<AclEntryKey> parseAclEntryKey(String output, Class<? extends ACLTYPE> type) {
-        Matcher matcher = (ACLIPV4.class.equals(type) ? IP_SEQUENCE_PATTERN : IPV6_SEQUENCE_PATTERN).matcher(output);
-        List<AclEntryKey> result = new ArrayList<>();
-        while (matcher.find()) {
-            long parseLong = Long.parseLong(matcher.group(1));
-            result.add(new AclEntryKey(parseLong));
-        }
-        return result;
+        return toAclEntryKeys(AclEntryLineParser.indexLinesBySequenceId(output, type));
+    }
+
+    private static List<AclEntryKey> toAclEntryKeys(Map<Long, String> entryLines) {
+        return entryLines.keySet().stream()
+                .map(AclEntryKey::new)
+                .collect(Collectors.toList());
     }
 
     public void readCurrentAttributes(@Nonnull final InstanceIdentifier<AclSet> instanceIdentifier,
             @Nonnull final AclEntryBuilder aclEntryBuilder, @Nonnull final ReadContext readContext)
             throws ReadFailedException {
 
-        String command = getAclCommand(instanceIdentifier);
-        String output = aclSetReader.blockingRead(command, cli, instanceIdentifier, readContext);
-
-        parseACL(instanceIdentifier, aclEntryBuilder, output);
+        parseACL(instanceIdentifier, aclEntryBuilder, getEntryLines(instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
     static void parseACL(final InstanceIdentifier<AclSet> instanceIdentifier, final AclEntryBuilder aclEntryBuilder,
                          final String output) {
+        Class<? extends ACLTYPE> type = instanceIdentifier.firstKeyOf(AclSet.class).getType();
+        parseACL(instanceIdentifier, aclEntryBuilder, AclEntryLineParser.indexLinesBySequenceId(output, type));
+    }
 
+    private static void parseACL(final InstanceIdentifier<AclSet> instanceIdentifier,
+                                 final AclEntryBuilder aclEntryBuilder, final Map<Long, String> entryLines) {
         AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
-        Optional<String> maybeLine = AclEntryLineParser.findAclEntryWithSequenceId(aclEntryBuilder.getKey(),
-                output, aclSetKey.getType());
-        maybeLine.ifPresent(s -> AclEntryLineParser.parseLine(aclEntryBuilder, s, aclSetKey.getType()));
+        Optional.ofNullable(entryLines.get(aclEntryBuilder.getKey().getSequenceId()))
+                .ifPresent(s -> AclEntryLineParser.parseLine(aclEntryBuilder, s, aclSetKey.getType()));
     }
 }
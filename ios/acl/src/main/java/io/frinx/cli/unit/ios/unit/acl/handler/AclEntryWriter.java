@@ -151,16 +151,32 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
     public void deleteCurrentAttributes(@Nonnull InstanceIdentifier<AclEntry> id,
                                         @Nonnull AclEntry dataBefore,
                                         @Nonnull WriteContext writeContext) throws WriteFailedException {
+        blockingWriteAndRead(getDeleteCommand(id, dataBefore), cli, id, dataBefore);
+    }
+
+    private void processChange(@Nonnull InstanceIdentifier<AclEntry> id,
+                               @Nonnull AclEntry entry) throws WriteFailedException.CreateFailedException {
+        Optional<String> command = getWriteCommand(id, entry);
+        if (command.isPresent()) {
+            blockingWriteAndRead(command.get(), cli, id, entry);
+        }
+    }
+
+    /**
+     * Command removing the entry from its ACL set.
+     */
+    String getDeleteCommand(@Nonnull InstanceIdentifier<AclEntry> id, @Nonnull AclEntry dataBefore) {
         AclSetKey aclSetKey = id.firstKeyOf(AclSet.class);
         final String command = aclSetKey.getType().equals(ACLIPV4.class) ? ACL_DELETE : ACL_IP6_DELETE;
         final String aclName = aclSetKey.getName();
         final String aclSequenceId = dataBefore.getSequenceId().toString();
-
-        blockingWriteAndRead(fT(command, "aclName", aclName, "aclSeqId", aclSequenceId), cli, id, dataBefore);
+        return fT(command, "aclName", aclName, "aclSeqId", aclSequenceId);
     }
 
-    private void processChange(@Nonnull InstanceIdentifier<AclEntry> id,
-                               @Nonnull AclEntry entry) throws WriteFailedException.CreateFailedException {
+    /**
+     * Command adding the entry to its ACL set, empty if the protocol of the entry is not supported.
+     */
+    Optional<String> getWriteCommand(@Nonnull InstanceIdentifier<AclEntry> id, @Nonnull AclEntry entry) {
         MaxMetricCommandDTO commandVars = new MaxMetricCommandDTO();
         AclSetKey aclSetKey = id.firstKeyOf(AclSet.class);
         commandVars.aclName = aclSetKey.getName();
@@ -182,30 +198,26 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
 
         switch (commandVars.aclProtocol) {
             case "ip":
-                blockingWriteAndRead(fT(ACL_IP_ENTRY,
+                return Optional.of(fT(ACL_IP_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
                         "aclProtocol", commandVars.aclProtocol,
                         "aclSrcAddr", commandVars.aclSrcAddr,
                         "aclDstAddr", commandVars.aclDstAddr,
-                        "aclTtl", commandVars.aclTtl),
-                        cli, id, entry);
-                break;
+                        "aclTtl", commandVars.aclTtl));
             case "ipv6":
-                blockingWriteAndRead(fT(ACL_IP6_ENTRY,
+                return Optional.of(fT(ACL_IP6_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
                         "aclProtocol", commandVars.aclProtocol,
                         "aclSrcAddr", commandVars.aclSrcAddr,
                         "aclDstAddr", commandVars.aclDstAddr,
-                        "aclTtl", commandVars.aclTtl),
-                        cli, id, entry);
-                break;
+                        "aclTtl", commandVars.aclTtl));
             case "udp":
             case "tcp":
-                blockingWriteAndRead(fT((entry.getIpv4() != null) ? ACL_TCP_ENTRY : ACL_TCP_IP6_ENTRY,
+                return Optional.of(fT((entry.getIpv4() != null) ? ACL_TCP_ENTRY : ACL_TCP_IP6_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
@@ -214,11 +226,9 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
                         "aclSrcPort", commandVars.aclSrcPort,
                         "aclDstAddr", commandVars.aclDstAddr,
                         "aclDstPort", commandVars.aclDstPort,
-                        "aclTtl", commandVars.aclTtl),
-                        cli, id, entry);
-                break;
+                        "aclTtl", commandVars.aclTtl));
             case "icmp":
-                blockingWriteAndRead(fT((entry.getIpv4() != null) ? ACL_ICMP_ENTRY : ACL_ICMP_IP6_ENTRY,
+                return Optional.of(fT((entry.getIpv4() != null) ? ACL_ICMP_ENTRY : ACL_ICMP_IP6_ENTRY,
                         "aclName", commandVars.aclName,
                         "aclSeqId", commandVars.aclSeqId,
                         "aclFwdAction", commandVars.aclFwdAction,
@@ -226,10 +236,9 @@ public class AclEntryWriter implements CliListWriter<AclEntry, AclEntryKey> {
                         "aclSrcAddr", commandVars.aclSrcAddr,
                         "aclDstAddr", commandVars.aclDstAddr,
                         "aclIcmpMsgType", commandVars.aclIcmpMsgType,
-                        "aclTtl", commandVars.aclTtl),
-                        cli, id, entry);
-                break;
-            default: break;
+                        "aclTtl", commandVars.aclTtl));
+            default:
+                return Optional.empty();
         }
     }
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -38,18 +39,27 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class AclInterfaceReader implements CliConfigListReader<Interface, InterfaceKey, InterfaceBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
     private static final String SH_RUN = "show running-config";
     private static final Pattern IFACE_LINE = Pattern.compile("interface (?<name>.+)");
 
     public AclInterfaceReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public AclInterfaceReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
     @Override
     public List<InterfaceKey> getAllIds(@Nonnull InstanceIdentifier<Interface> instanceIdentifier, @Nonnull
             ReadContext readContext) throws ReadFailedException {
-        return getInterfaceKeys(blockingRead(SH_RUN, cli, instanceIdentifier, readContext));
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_RUN, cli, instanceIdentifier, readContext)
+                : blockingRead(SH_RUN, cli, instanceIdentifier, readContext);
+        return getInterfaceKeys(output);
     }
 
     @VisibleForTesting
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.NameTypeEntry;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -49,18 +50,27 @@ public class AclSetReader implements CliConfigListReader<AclSet, AclSetKey, AclS
     private static final Pattern ACL_LINE = Pattern.compile("(?<type>.+) access-list (extended )?(?<name>.+)");
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
     private final AclEntryReader aclEntryReader;
 
     public AclSetReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public AclSetReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
         this.aclEntryReader = new AclEntryReader(cli, this);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
     @Override
     public List<AclSetKey> getAllIds(@Nonnull InstanceIdentifier<AclSet> id, @Nonnull ReadContext context) throws
             ReadFailedException {
-        return parseAccessLists(blockingRead(SH_ACCESS_LISTS, cli, id, context));
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_ACCESS_LISTS, cli, id, context)
+                : blockingRead(SH_ACCESS_LISTS, cli, id, context);
+        return parseAccessLists(output);
     }
 
     @VisibleForTesting
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.ios.unit.acl.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.NameTypeEntry;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import javax.annotation.Nonnull;
@@ -31,9 +32,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class IngressAclSetConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public IngressAclSetConfigReader(final Cli cli) {
+        this(cli, false);
+    }
+
+    public IngressAclSetConfigReader(final Cli cli, final boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -43,12 +50,9 @@ public class IngressAclSetConfigReader implements CliConfigReader<Config, Config
         final String setName = instanceIdentifier.firstKeyOf(IngressAclSet.class).getSetName();
 
         final String readCommand = f(IngressAclSetReader.SH_ACL_INTF, interfaceName);
-        final String readConfig = blockingRead(
-                readCommand,
-                cli,
-                instanceIdentifier,
-                readContext
-        );
+        final String readConfig = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, readCommand, cli, instanceIdentifier, readContext)
+                : blockingRead(readCommand, cli, instanceIdentifier, readContext);
 
         NameTypeEntry entry = IngressAclSetReader.parseAcl(readConfig, setName);
         configBuilder.setSetName(entry.getName());
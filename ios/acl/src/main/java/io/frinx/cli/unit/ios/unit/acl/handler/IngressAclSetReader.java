@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.NameTypeEntry;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -46,9 +47,15 @@ public class IngressAclSetReader implements CliConfigListReader<IngressAclSet, I
             Pattern.compile("\\s*ipv6 traffic-filter (?<name>.+) in.*", Pattern.DOTALL);
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public IngressAclSetReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public IngressAclSetReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     private static Pattern aclV4PatternByName(final String name) {
@@ -101,8 +108,12 @@ public class IngressAclSetReader implements CliConfigListReader<IngressAclSet, I
     public List<IngressAclSetKey> getAllIds(@Nonnull InstanceIdentifier<IngressAclSet> instanceIdentifier,
                                             @Nonnull ReadContext readContext) throws ReadFailedException {
         InterfaceId interfaceId = instanceIdentifier.firstKeyOf(Interface.class).getId();
-        return parseAclKeys(
-                blockingRead(String.format(SH_ACL_INTF, interfaceId.getValue()), cli, instanceIdentifier, readContext));
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, String.format(SH_ACL_INTF, interfaceId.getValue()), cli,
+                        instanceIdentifier, readContext)
+                : blockingRead(String.format(SH_ACL_INTF, interfaceId.getValue()), cli, instanceIdentifier,
+                        readContext);
+        return parseAclKeys(output);
     }
 
     @Override
@@ -113,12 +124,9 @@ public class IngressAclSetReader implements CliConfigListReader<IngressAclSet, I
         final String setName = instanceIdentifier.firstKeyOf(IngressAclSet.class).getSetName();
 
         final String readCommand = f(SH_ACL_INTF, interfaceName);
-        final String readConfig = blockingRead(
-                readCommand,
-                cli,
-                instanceIdentifier,
-                readContext
-        );
+        final String readConfig = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, readCommand, cli, instanceIdentifier, readContext)
+                : blockingRead(readCommand, cli, instanceIdentifier, readContext);
 
         NameTypeEntry entry = parseAcl(readConfig, setName);
         ingressAclSetBuilder.setSetName(entry.getName());
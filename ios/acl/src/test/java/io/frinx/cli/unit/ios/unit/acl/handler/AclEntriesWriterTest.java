@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.ios.unit.acl.handler;
+
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.openconfig.openconfig.acl.IIDs;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACCEPT;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACLIPV4;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.AclEntries;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.AclEntriesBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntry;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntryBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.acl.sets.AclSetKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.ActionsBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields.rev171215.ipv4.protocol.fields.top.Ipv4Builder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields.rev171215.ipv4.protocol.fields.top.ipv4.ConfigBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.utils.IidUtils;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class AclEntriesWriterTest {
+
+    private static final InstanceIdentifier<AclEntries> IID = IidUtils.createIid(IIDs.AC_AC_ACLSET,
+            new AclSetKey("FOO", ACLIPV4.class)).child(AclEntries.class);
+
+    private Cli cli;
+    private AclEntriesWriter writer;
+
+    @Before
+    public void setUp() {
+        cli = Mockito.mock(Cli.class);
+        Mockito.when(cli.executeAndRead(Mockito.any(Command.class)))
+                .thenReturn(CompletableFuture.completedFuture(""));
+        writer = new AclEntriesWriter(cli);
+    }
+
+    @Test
+    public void testWriteSentAsSingleBlock() throws Exception {
+        writer.writeCurrentAttributes(IID, entries(10, 20, 30), Mockito.mock(WriteContext.class));
+
+        Assert.assertEquals(Arrays.asList("configure terminal\n"
+                + "ip access-list extended FOO\n"
+                + "10 permit ip 10.0.0.0 0.255.255.255 10.0.10.0 0.0.0.255\n"
+                + "20 permit ip 10.0.0.0 0.255.255.255 10.0.20.0 0.0.0.255\n"
+                + "30 permit ip 10.0.0.0 0.255.255.255 10.0.30.0 0.0.0.255\n"
+                + "end\n"), sentCommands());
+    }
+
+    @Test
+    public void testUpdateSendsChangedEntriesOnly() throws Exception {
+        writer.updateCurrentAttributes(IID, entries(10, 20), entries(20, 30), Mockito.mock(WriteContext.class));
+
+        Assert.assertEquals(Arrays.asList("configure terminal\n"
+                + "ip access-list extended FOO\n"
+                + "no 10\n"
+                + "30 permit ip 10.0.0.0 0.255.255.255 10.0.30.0 0.0.0.255\n"
+                + "end\n"), sentCommands());
+    }
+
+    @Test
+    public void testErrorRestoresEntries() throws Exception {
+        Mockito.when(cli.executeAndRead(Mockito.any(Command.class)))
+                .thenReturn(CompletableFuture.completedFuture(
+                        "R1(config-ext-nacl)#20 permit ip 10.0.0.0 0.255.255.255 10.0.20.0 0.0.0.255\n"
+                        + "% Invalid input detected at '^' marker.\n"))
+                .thenReturn(CompletableFuture.completedFuture(""));
+        try {
+            writer.updateCurrentAttributes(IID, entries(10), entries(10, 20), Mockito.mock(WriteContext.class));
+            Assert.fail("Update failure expected");
+        } catch (WriteFailedException.UpdateFailedException e) {
+            Assert.assertTrue(e.getCause().getMessage(), e.getCause().getMessage().contains("AclEntryWriter for "));
+        }
+
+        Assert.assertEquals(Arrays.asList("configure terminal\n"
+                + "ip access-list extended FOO\n"
+                + "20 permit ip 10.0.0.0 0.255.255.255 10.0.20.0 0.0.0.255\n"
+                + "end\n", "configure terminal\n"
+                + "ip access-list extended FOO\n"
+                + "no 20\n"
+                + "end\n"), sentCommands());
+    }
+
+    private List<String> sentCommands() {
+        ArgumentCaptor<Command> command = ArgumentCaptor.forClass(Command.class);
+        Mockito.verify(cli, Mockito.atLeastOnce()).executeAndRead(command.capture());
+        List<String> contents = new ArrayList<>();
+        command.getAllValues().forEach(value -> contents.add(value.getContent()));
+        return contents;
+    }
+
+    private static AclEntries entries(long... sequenceIds) {
+        List<AclEntry> entries = new ArrayList<>();
+        for (long sequenceId : sequenceIds) {
+            entries.add(new AclEntryBuilder()
+                    .setSequenceId(sequenceId)
+                    .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access
+                            .list.entries.top.acl.entries.acl.entry.ConfigBuilder()
+                            .setSequenceId(sequenceId)
+                            .build())
+                    .setIpv4(new Ipv4Builder()
+                            .setConfig(new ConfigBuilder()
+                                    .setSourceAddress(new Ipv4Prefix("10.0.0.0/8"))
+                                    .setDestinationAddress(new Ipv4Prefix("10.0." + sequenceId + ".0/24"))
+                                    .build())
+                            .build())
+                    .setActions(new ActionsBuilder()
+                            .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526
+                                    .action.top.actions.ConfigBuilder()
+                                    .setForwardingAction(ACCEPT.class)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return new AclEntriesBuilder().setAclEntry(entries).build();
+    }
+}
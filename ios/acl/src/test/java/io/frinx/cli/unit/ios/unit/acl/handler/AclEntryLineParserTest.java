@@ -15,8 +15,10 @@
  */
 package io.frinx.cli.unit.ios.unit.acl.handler;
 
+import com.google.common.collect.Lists;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import org.junit.Assert;
@@ -412,6 +414,24 @@ public class AclEntryLineParserTest {
         Assert.assertEquals(Optional.empty(), AclEntryLineParser.findIpv4LineWithSequenceId(3L, lines));
     }
 
+    @Test
+    public void testIndexLinesBySequenceId() {
+        String ipv4Lines = "Extended IP access list foo\r\n"
+                + "    20 permit ip any any\r\n"
+                + "    10 deny tcp any any\r\n"
+                + "    30 remark comment\r\n";
+        Map<Long, String> ipv4Index = AclEntryLineParser.indexLinesBySequenceId(ipv4Lines, ACLIPV4.class);
+        Assert.assertEquals(Lists.newArrayList(20L, 10L), Lists.newArrayList(ipv4Index.keySet()));
+        Assert.assertEquals("10 deny tcp any any", ipv4Index.get(10L));
+
+        String ipv6Lines = "IPv6 access list foo\n"
+                + "    permit ipv6 any any sequence 10\n"
+                + "    deny tcp any any eq www sequence 20";
+        Map<Long, String> ipv6Index = AclEntryLineParser.indexLinesBySequenceId(ipv6Lines, ACLIPV6.class);
+        Assert.assertEquals(Lists.newArrayList(10L, 20L), Lists.newArrayList(ipv6Index.keySet()));
+        Assert.assertEquals("    deny tcp any any eq www sequence 20", ipv6Index.get(20L));
+    }
+
     @Test
     public void testIpv6() {
         String lines = "IPv6 access-list foo\n"
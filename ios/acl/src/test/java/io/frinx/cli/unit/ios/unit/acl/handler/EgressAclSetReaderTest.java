@@ -21,6 +21,8 @@ import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.AclUtil;
 import io.frinx.cli.unit.ios.unit.acl.handler.util.NameTypeEntry;
 import io.frinx.openconfig.openconfig.acl.IIDs;
@@ -32,6 +34,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACLIPV6;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACLTYPE;
@@ -111,6 +114,23 @@ public class EgressAclSetReaderTest {
         );
     }
 
+    @Test
+    public void readAllAclIdsFromRunningConfigSnapshot() throws ReadFailedException {
+        EgressAclSetReader reader = new EgressAclSetReader(cliMock, true);
+        final List<EgressAclSetKey> aclIds = reader.getAllIds(TestData.ACL_SET_IID, context);
+
+        Assert.assertThat(aclIds, CoreMatchers.allOf(
+                CoreMatchers.hasItem(new EgressAclSetKey(TestData.ACL_SET_NAME, TestData.ACL_TYPE)),
+                CoreMatchers.hasItem(new EgressAclSetKey(TestData.ACL_SET_NAME_OTHER, TestData.ACL_TYPE))
+                )
+        );
+        ArgumentCaptor<Command> commands = ArgumentCaptor.forClass(Command.class);
+        Mockito.verify(cliMock, Mockito.atLeastOnce()).executeAndRead(commands.capture());
+        Assert.assertTrue(commands.getAllValues().stream()
+                .map(Command::getContent)
+                .anyMatch(RunningConfigSnapshot.SH_RUN::equals));
+    }
+
     private static class TestData {
 
         private static final String INTERFACE_NAME = "GigabitEthernet0/0/0/0";
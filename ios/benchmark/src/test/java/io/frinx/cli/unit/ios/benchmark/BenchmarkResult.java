@@ -0,0 +1,123 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+
+/**
+ * Measurement of one benchmark scenario. Serialized to JSON so that runs can be compared.
+ */
+final class BenchmarkResult {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final String unit;
+    private final String scenario;
+    private final int interfaces;
+    private final int aclEntries;
+    private final int bgpNeighbors;
+    private final long commands;
+    private final long bytes;
+    private final long unscriptedCommands;
+    private final long cpuMillis;
+    private final long wallMillis;
+
+    BenchmarkResult(String unit, String scenario, ScriptedDevice.Scale scale, ScriptedDevice device,
+                    long cpuNanos, long wallNanos) {
+        this.unit = unit;
+        this.scenario = scenario;
+        this.interfaces = scale.getInterfaces();
+        this.aclEntries = scale.getAclEntries();
+        this.bgpNeighbors = scale.getBgpNeighbors();
+        this.commands = device.getCommands();
+        this.bytes = device.getBytes();
+        this.unscriptedCommands = device.getUnscripted();
+        this.cpuMillis = cpuNanos / 1_000_000;
+        this.wallMillis = wallNanos / 1_000_000;
+    }
+
+    String getScenario() {
+        return scenario;
+    }
+
+    long getCommands() {
+        return commands;
+    }
+
+    long getBytes() {
+        return bytes;
+    }
+
+    private String key() {
+        return String.format("%s %s %d/%d/%d", unit, scenario, interfaces, aclEntries, bgpNeighbors);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %d commands, %d bytes, %d unscripted, cpu %d ms, wall %d ms", unit, scenario,
+                commands, bytes, unscriptedCommands, cpuMillis, wallMillis);
+    }
+
+    static void write(@Nonnull List<BenchmarkResult> results, @Nonnull Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            GSON.toJson(results, writer);
+        }
+    }
+
+    static List<BenchmarkResult> read(@Nonnull Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, new TypeToken<List<BenchmarkResult>>() { }.getType());
+        }
+    }
+
+    /**
+     * Compare number of commands with a baseline. Only scenarios of the same scale are compared, CPU and wall time
+     * are not compared as they depend on the machine.
+     *
+     * @return descriptions of scenarios which issue more commands than in baseline
+     */
+    static List<String> regressions(@Nonnull List<BenchmarkResult> baseline, @Nonnull List<BenchmarkResult> results) {
+        Map<String, BenchmarkResult> expected = baseline.stream()
+                .collect(Collectors.toMap(BenchmarkResult::key, Function.identity()));
+        List<String> regressions = new ArrayList<>();
+        for (BenchmarkResult result : results) {
+            BenchmarkResult base = expected.get(result.key());
+            if (base != null && result.commands > base.commands) {
+                regressions.add(String.format("%s %s: %d commands, %d in baseline", result.unit, result.scenario,
+                        result.commands, base.commands));
+            }
+        }
+        return regressions;
+    }
+}
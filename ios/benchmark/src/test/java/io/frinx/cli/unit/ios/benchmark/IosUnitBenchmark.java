@@ -0,0 +1,322 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.benchmark;
+
+import com.google.common.util.concurrent.Futures;
+import io.fd.honeycomb.data.ReadableDataManager;
+import io.fd.honeycomb.data.impl.ModifiableDirectDataTreeDelegator;
+import io.fd.honeycomb.data.impl.ReadableDataTreeDelegator;
+import io.fd.honeycomb.translate.impl.read.registry.CustomizerReadRegistryBuilder;
+import io.fd.honeycomb.translate.impl.read.registry.CustomizerWriterRegistryBuilder;
+import io.fd.honeycomb.translate.read.registry.ReaderRegistry;
+import io.fd.honeycomb.translate.util.YangDAG;
+import io.fd.honeycomb.translate.write.registry.WriterRegistry;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.registry.api.TranslateContext;
+import io.frinx.cli.registry.impl.TranslateRegistryImpl;
+import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.ios.bgp.BgpUnit;
+import io.frinx.cli.unit.ios.ifc.IosInterfaceUnit;
+import io.frinx.cli.unit.ios.init.IosCliInitializerUnit;
+import io.frinx.cli.unit.ios.network.instance.IosNetworkInstanceUnit;
+import io.frinx.cli.unit.ios.unit.acl.AclUnit;
+import io.frinx.openconfig.openconfig.interfaces.IIDs;
+import io.frinx.translate.unit.commons.utils.NoopDataBroker;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.mockito.Mockito;
+import org.opendaylight.controller.md.sal.binding.api.BindingTransactionChain;
+import org.opendaylight.controller.md.sal.binding.api.DataBroker;
+import org.opendaylight.controller.md.sal.binding.api.ReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.binding.api.ReadWriteTransaction;
+import org.opendaylight.controller.md.sal.binding.api.WriteTransaction;
+import org.opendaylight.controller.md.sal.binding.impl.BindingDOMAdapterLoader;
+import org.opendaylight.controller.md.sal.binding.impl.BindingToNormalizedNodeCodec;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
+import org.opendaylight.controller.md.sal.dom.api.DOMService;
+import org.opendaylight.mdsal.binding.dom.codec.api.BindingNormalizedNodeSerializer;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACCEPT;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.ACLIPV4;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.AclEntriesBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntry;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.access.list.entries.top.acl.entries.AclEntryBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.acl.sets.AclSet;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.acl.sets.AclSetBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl.set.top.acl.sets.AclSetKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.action.top.ActionsBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header.fields.rev171215.ipv4.protocol.fields.top.Ipv4Builder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.ConfigBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.SoftwareLoopback;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.Device;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.DeviceIdBuilder;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.DataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.TipProducingDataTree;
+import org.opendaylight.yangtools.yang.data.api.schema.tree.TreeType;
+import org.opendaylight.yangtools.yang.data.impl.schema.tree.InMemoryDataTreeFactory;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * Benchmark of IOS translation units against a {@link ScriptedDevice}. Reader and writer registries are built the
+ * same way as for a mounted device (see IosAll in ios-it), only the cli is replaced by the scripted device.
+ *
+ * <p>Scenarios:
+ * <ul>
+ *   <li>config-read: read of whole configuration datastore</li>
+ *   <li>oper-read: read of whole operational datastore</li>
+ *   <li>interface-write: one transaction creating loopback interfaces, one per generated interface</li>
+ *   <li>acl-write: one transaction creating an ACL set with as many entries as there are generated ACL entries</li>
+ * </ul>
+ * For each scenario, number of commands, bytes transferred (commands and outputs) and CPU time of the benchmark
+ * thread are reported. Results are written as JSON and optionally compared with a baseline, in which case the
+ * benchmark fails if any scenario issues more commands than in the baseline.
+ *
+ * <p>Not executed as part of the build, run with:
+ * java -cp ... -Dbenchmark.interfaces=1000 -Dbenchmark.acl.entries=10000 -Dbenchmark.bgp.neighbors=500
+ * -Dbenchmark.output=target/ios-benchmark.json [-Dbenchmark.baseline=baseline.json]
+ * io.frinx.cli.unit.ios.benchmark.IosUnitBenchmark
+ */
+public final class IosUnitBenchmark {
+
+    private static final String UNIT = "ios";
+    private static final Device IOS = new DeviceIdBuilder()
+            .setDeviceType("ios")
+            .setDeviceVersion("15.1")
+            .build();
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private IosUnitBenchmark() {
+
+    }
+
+    public static void main(String[] args) throws Exception {
+        ScriptedDevice.Scale scale = ScriptedDevice.Scale.fromSystemProperties();
+        int warmups = Integer.getInteger("benchmark.warmups", 1);
+
+        List<BenchmarkResult> results = run(scale, warmups);
+        results.forEach(System.out::println);
+
+        Path output = Paths.get(System.getProperty("benchmark.output", "target/ios-benchmark.json"));
+        BenchmarkResult.write(results, output);
+        System.out.println("Results written to " + output.toAbsolutePath());
+
+        String baseline = System.getProperty("benchmark.baseline");
+        if (baseline != null) {
+            List<String> regressions = BenchmarkResult.regressions(BenchmarkResult.read(Paths.get(baseline)), results);
+            regressions.forEach(regression -> System.err.println("Regression: " + regression));
+            if (!regressions.isEmpty()) {
+                System.exit(1);
+            }
+        }
+    }
+
+    static List<BenchmarkResult> run(ScriptedDevice.Scale scale, int warmups) throws Exception {
+        List<BenchmarkResult> results = new ArrayList<>();
+        results.add(measure("config-read", scale, warmups,
+            mount -> mount.readAll(LogicalDatastoreType.CONFIGURATION)));
+        results.add(measure("oper-read", scale, warmups,
+            mount -> mount.readAll(LogicalDatastoreType.OPERATIONAL)));
+        results.add(measure("interface-write", scale, warmups,
+            mount -> mount.writeLoopbacks(scale.getInterfaces())));
+        results.add(measure("acl-write", scale, warmups,
+            mount -> mount.writeAcl(scale.getAclEntries())));
+        return results;
+    }
+
+    /**
+     * Run scenario against a fresh device and mount, so that no cached output is reused between runs.
+     */
+    private static BenchmarkResult measure(String scenario, ScriptedDevice.Scale scale, int warmups,
+                                           Scenario code) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            code.run(new Mount(new ScriptedDevice(scale)));
+        }
+
+        ScriptedDevice device = new ScriptedDevice(scale);
+        Mount mount = new Mount(device);
+        long cpuStart = THREADS.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        code.run(mount);
+        return new BenchmarkResult(UNIT, scenario, scale, device, THREADS.getCurrentThreadCpuTime() - cpuStart,
+                System.nanoTime() - wallStart);
+    }
+
+    @FunctionalInterface
+    private interface Scenario {
+
+        void run(Mount mount) throws Exception;
+    }
+
+    /**
+     * Translation units of IOS with data brokers, connected to a scripted device.
+     */
+    private static final class Mount {
+
+        private final Cli cli;
+        private final DOMDataBroker domBroker;
+        private final DataBroker bindingBroker;
+
+        Mount(ScriptedDevice device) throws Exception {
+            cli = device.asCli();
+
+            TranslateRegistryImpl reg = new TranslateRegistryImpl(mockBroker());
+            new GenericTranslateUnit(reg).init();
+            new IosCliInitializerUnit(reg).init();
+            new IosInterfaceUnit(reg, true).init();
+            new AclUnit(reg, true).init();
+            new BgpUnit(reg, true).init();
+            new IosNetworkInstanceUnit(reg, true).init();
+
+            TranslateContext translateContext = reg.getTranslateContext(IOS);
+            SchemaContext schemaCtx = translateContext.getSchemaContext();
+            BindingToNormalizedNodeCodec codec = translateContext.getCodec();
+
+            CustomizerReadRegistryBuilder readerRegistryBuilder = new CustomizerReadRegistryBuilder(new YangDAG());
+            CustomizerWriterRegistryBuilder writerRegistryBuilder = new CustomizerWriterRegistryBuilder(new YangDAG());
+            translateContext.provideHandlers(readerRegistryBuilder, writerRegistryBuilder, () -> cli);
+            readerRegistryBuilder.setFailFast(false);
+            ReaderRegistry readerRegistry = readerRegistryBuilder.build();
+            WriterRegistry writerRegistry = writerRegistryBuilder.build();
+
+            TipProducingDataTree dataTree = InMemoryDataTreeFactory.getInstance().create(TreeType.CONFIGURATION);
+            dataTree.setSchemaContext(schemaCtx);
+            domBroker = getDomBroker(schemaCtx, codec, readerRegistry, writerRegistry, dataTree);
+            bindingBroker = (DataBroker) new BindingDOMAdapterLoader(codec) {
+                protected DOMService getDelegate(Class<? extends DOMService> reqDeleg) {
+                    return domBroker;
+                }
+            }.load(DataBroker.class).get();
+        }
+
+        void readAll(LogicalDatastoreType datastore) throws Exception {
+            DOMDataReadOnlyTransaction tx = domBroker.newReadOnlyTransaction();
+            tx.read(datastore, YangInstanceIdentifier.EMPTY).checkedGet();
+            tx.close();
+        }
+
+        void writeLoopbacks(int count) throws Exception {
+            WriteTransaction tx = bindingBroker.newWriteOnlyTransaction();
+            for (int i = 0; i < count; i++) {
+                String name = "Loopback" + i;
+                tx.put(LogicalDatastoreType.CONFIGURATION, IIDs.INTERFACES.child(Interface.class,
+                        new InterfaceKey(name)), new InterfaceBuilder()
+                        .setName(name)
+                        .setConfig(new ConfigBuilder()
+                                .setName(name)
+                                .setType(SoftwareLoopback.class)
+                                .setEnabled(true)
+                                .setDescription("benchmark loopback " + i)
+                                .build())
+                        .build());
+            }
+            tx.submit().checkedGet();
+        }
+
+        void writeAcl(int entries) throws Exception {
+            List<AclEntry> aclEntries = new ArrayList<>();
+            for (long i = 1; i <= entries; i++) {
+                aclEntries.add(new AclEntryBuilder()
+                        .setSequenceId(i * 10)
+                        .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526
+                                .access.list.entries.top.acl.entries.acl.entry.ConfigBuilder()
+                                .setSequenceId(i * 10)
+                                .build())
+                        .setIpv4(new Ipv4Builder()
+                                .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.header
+                                        .fields.rev171215.ipv4.protocol.fields.top.ipv4.ConfigBuilder()
+                                        .setSourceAddress(new Ipv4Prefix("0.0.0.0/0"))
+                                        .setDestinationAddress(new Ipv4Prefix("10." + (i >> 8 & 0xff) + "."
+                                                + (i & 0xff) + ".0/24"))
+                                        .build())
+                                .build())
+                        .setActions(new ActionsBuilder()
+                                .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl
+                                        .rev170526.action.top.actions.ConfigBuilder()
+                                        .setForwardingAction(ACCEPT.class)
+                                        .build())
+                                .build())
+                        .build());
+            }
+
+            AclSetKey key = new AclSetKey("BENCHMARK", ACLIPV4.class);
+            WriteTransaction tx = bindingBroker.newWriteOnlyTransaction();
+            tx.put(LogicalDatastoreType.CONFIGURATION, io.frinx.openconfig.openconfig.acl.IIDs.AC_ACLSETS
+                    .child(AclSet.class, key), new AclSetBuilder()
+                    .setKey(key)
+                    .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.acl.rev170526.acl
+                            .set.top.acl.sets.acl.set.ConfigBuilder()
+                            .setName(key.getName())
+                            .setType(key.getType())
+                            .build())
+                    .setAclEntries(new AclEntriesBuilder()
+                            .setAclEntry(aclEntries)
+                            .build())
+                    .build());
+            tx.submit().checkedGet();
+        }
+
+        private static DataBroker mockBroker() {
+            DataBroker broker = Mockito.mock(DataBroker.class);
+            ReadWriteTransaction tx = Mockito.mock(ReadWriteTransaction.class);
+            BindingTransactionChain txChain = Mockito.mock(BindingTransactionChain.class);
+            Mockito.doReturn(Futures.immediateCheckedFuture(null)).when(tx).submit();
+            Mockito.doReturn(Mockito.mock(ReadOnlyTransaction.class)).when(broker).newReadOnlyTransaction();
+            Mockito.doReturn(tx).when(broker).newReadWriteTransaction();
+            Mockito.doReturn(tx).when(broker).newWriteOnlyTransaction();
+            Mockito.doReturn(txChain).when(broker).createTransactionChain(Mockito.any(TransactionChainListener.class));
+            Mockito.doReturn(Mockito.mock(ReadOnlyTransaction.class)).when(txChain).newReadOnlyTransaction();
+            Mockito.doReturn(tx).when(txChain).newReadWriteTransaction();
+            Mockito.doReturn(tx).when(txChain).newWriteOnlyTransaction();
+            return broker;
+        }
+
+        private static DOMDataBroker getDomBroker(SchemaContext schemaContext,
+                                                  BindingNormalizedNodeSerializer serializer,
+                                                  ReaderRegistry readerRegistry,
+                                                  WriterRegistry writerRegistry,
+                                                  DataTree dataTree) {
+            ReadableDataManager.Typed readTree = new ReadableDataTreeDelegator(
+                    serializer, schemaContext, readerRegistry, NoopDataBroker.NOOP_DATA_BROKER);
+
+            ModifiableDirectDataTreeDelegator modTree = new ModifiableDirectDataTreeDelegator(
+                    serializer, dataTree, schemaContext, writerRegistry, NoopDataBroker.NOOP_DATA_BROKER, readTree,
+                () -> {
+                },
+                () -> {
+                },
+                () -> {
+                },
+                e -> {
+                });
+
+            return new io.fd.honeycomb.data.impl.DataBroker(
+                    new io.fd.honeycomb.data.impl.DataBroker.MainPipelineTxFactory(modTree, readTree));
+        }
+    }
+}
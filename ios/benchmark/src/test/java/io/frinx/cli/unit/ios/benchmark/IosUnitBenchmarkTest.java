@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IosUnitBenchmarkTest {
+
+    private static final ScriptedDevice.Scale SMALL = new ScriptedDevice.Scale(20, 250, 10);
+
+    @Test
+    public void testSmallScale() throws Exception {
+        List<BenchmarkResult> results = IosUnitBenchmark.run(SMALL, 0);
+        Map<String, BenchmarkResult> byScenario = results.stream()
+                .collect(Collectors.toMap(BenchmarkResult::getScenario, Function.identity()));
+
+        Assert.assertEquals(4, results.size());
+        Assert.assertTrue(byScenario.get("config-read").getCommands() > 0);
+        Assert.assertTrue(byScenario.get("config-read").getBytes() > 0);
+        Assert.assertTrue(byScenario.get("interface-write").getCommands() > 0);
+        // entries of the set are sent as one block, not one command per entry
+        Assert.assertTrue(byScenario.get("acl-write").getCommands() > 0);
+        Assert.assertTrue(byScenario.get("acl-write").getCommands() < SMALL.getAclEntries());
+    }
+
+    @Test
+    public void testBaseline() throws Exception {
+        List<BenchmarkResult> results = IosUnitBenchmark.run(SMALL, 0);
+        Path file = Files.createTempFile("ios-benchmark", ".json");
+        try {
+            BenchmarkResult.write(results, file);
+            List<BenchmarkResult> baseline = BenchmarkResult.read(file);
+
+            Assert.assertEquals(results.size(), baseline.size());
+            Assert.assertTrue(BenchmarkResult.regressions(baseline, results).isEmpty());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.benchmark;
+
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigQuery;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import org.mockito.Mockito;
+
+/**
+ * In-process IOS device answering commands of translation units from a generated configuration.
+ *
+ * <p>Filtered "show running-config" commands are evaluated by {@link RunningConfigQuery} over the generated running
+ * configuration. Other show commands are answered from generated outputs, the same pipes are supported for them.
+ * Configuration commands are accepted without output.
+ *
+ * <p>Every command is counted together with the bytes of the command and of its output.
+ */
+final class ScriptedDevice {
+
+    private static final String SHOW = "show ";
+    private static final String PIPE = " | ";
+    private static final int ACL_SET_SIZE = 100;
+    private static final int PORTS_PER_SLOT = 48;
+    private static final int LOCAL_AS = 65000;
+
+    private final List<String> runningConfig = new ArrayList<>();
+    private final Map<String, String> outputs = new HashMap<>();
+
+    private final AtomicLong commands = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicLong unscripted = new AtomicLong();
+
+    ScriptedDevice(@Nonnull Scale scale) {
+        generate(scale);
+    }
+
+    /**
+     * Cli sending all commands to this device. Outputs are returned synchronously.
+     */
+    @Nonnull
+    Cli asCli() {
+        Cli cli = Mockito.mock(Cli.class);
+        Mockito.when(cli.executeAndRead(Mockito.any(Command.class))).then(invocation -> {
+            Command command = (Command) invocation.getArguments()[0];
+            return CompletableFuture.completedFuture(execute(command.getContent()));
+        });
+        return cli;
+    }
+
+    @Nonnull
+    String execute(@Nonnull String command) {
+        commands.incrementAndGet();
+        String output = answer(command.trim());
+        bytes.addAndGet(command.length() + output.length());
+        return output;
+    }
+
+    private String answer(String command) {
+        Optional<RunningConfigQuery> query = RunningConfigQuery.parse(command);
+        if (query.isPresent()) {
+            return query.get().evaluate(runningConfig);
+        }
+        int pipe = command.indexOf(PIPE);
+        String output = outputs.get(pipe < 0 ? command : command.substring(0, pipe));
+        if (output == null) {
+            if (command.startsWith(SHOW)) {
+                unscripted.incrementAndGet();
+            }
+            return "";
+        }
+        if (pipe < 0) {
+            return output;
+        }
+        // pipes of other show commands filter lines the same way as those of running-config
+        return RunningConfigQuery.parse(RunningConfigSnapshot.SH_RUN + command.substring(pipe))
+                .map(filter -> filter.evaluate(Arrays.asList(output.split("\n"))))
+                .orElse(output);
+    }
+
+    long getCommands() {
+        return commands.get();
+    }
+
+    long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Show commands for which there is no generated output, those are answered with empty output.
+     */
+    long getUnscripted() {
+        return unscripted.get();
+    }
+
+    private void generate(Scale scale) {
+        runningConfig.addAll(Arrays.asList("Building configuration...", "", "Current configuration : 0 bytes",
+                "!", "version 15.1", "hostname R1", "!"));
+
+        int aclSets = (scale.aclEntries + ACL_SET_SIZE - 1) / ACL_SET_SIZE;
+        StringBuilder allInterfaces = new StringBuilder();
+        for (int i = 0; i < scale.interfaces; i++) {
+            String name = "GigabitEthernet" + i / PORTS_PER_SLOT + "/" + i % PORTS_PER_SLOT;
+            runningConfig.add("interface " + name);
+            runningConfig.add(" description benchmark interface " + i);
+            runningConfig.add(" ip address 10." + (i >> 8 & 0xff) + "." + (i & 0xff) + ".1 255.255.255.0");
+            if (aclSets > 0) {
+                runningConfig.add(" ip access-group ACL" + i % aclSets + " in");
+            }
+            if (i % 10 == 9) {
+                runningConfig.add(" shutdown");
+            }
+            runningConfig.add("!");
+
+            String state = interfaceState(name, i);
+            outputs.put("show interface " + name, state);
+            allInterfaces.append(state);
+        }
+        outputs.put("show interfaces", allInterfaces.toString());
+
+        StringBuilder allAcls = new StringBuilder();
+        for (int set = 0; set < aclSets; set++) {
+            String name = "ACL" + set;
+            runningConfig.add("ip access-list extended " + name);
+            StringBuilder acl = new StringBuilder("Extended IP access list ").append(name).append('\n');
+            for (int entry = set * ACL_SET_SIZE; entry < Math.min(scale.aclEntries, (set + 1) * ACL_SET_SIZE);
+                    entry++) {
+                String rule = "permit tcp any host 10." + (entry >> 8 & 0xff) + "." + (entry & 0xff) + ".1 eq "
+                        + (1024 + entry % 1000);
+                runningConfig.add(" " + rule);
+                acl.append("    ").append((entry % ACL_SET_SIZE + 1) * 10).append(' ').append(rule).append('\n');
+            }
+            runningConfig.add("!");
+            outputs.put("show ip access-lists " + name, acl.toString());
+            allAcls.append(acl);
+        }
+        outputs.put("show ip access-lists", allAcls.toString());
+        outputs.put("show ipv6 access-list", "");
+
+        if (scale.bgpNeighbors > 0) {
+            StringBuilder summary = new StringBuilder("For address family: IPv4 Unicast\n")
+                    .append("BGP router identifier 10.255.255.1, local AS number ").append(LOCAL_AS).append('\n')
+                    .append("BGP table version is 1, main routing table version 1\n\n")
+                    .append("Neighbor        V           AS MsgRcvd MsgSent   TblVer  InQ OutQ Up/Down  "
+                            + "State/PfxRcd\n");
+            List<String> activations = new ArrayList<>();
+            runningConfig.add("router bgp " + LOCAL_AS);
+            runningConfig.add(" bgp router-id 10.255.255.1");
+            runningConfig.add(" bgp log-neighbor-changes");
+            for (int i = 0; i < scale.bgpNeighbors; i++) {
+                String neighbor = "172.16." + i / 250 + "." + (i % 250 + 1);
+                int remoteAs = 64512 + i % 1000;
+                runningConfig.add(" neighbor " + neighbor + " remote-as " + remoteAs);
+                runningConfig.add(" neighbor " + neighbor + " description benchmark peer " + i);
+                activations.add("  neighbor " + neighbor + " activate");
+                summary.append(String.format("%-15s 4 %12d %7d %7d %8d %4d %4d %8s %12d%n", neighbor, remoteAs,
+                        100, 100, 1, 0, 0, "01:00:00", i % 100));
+            }
+            runningConfig.add(" !");
+            runningConfig.add(" address-family ipv4");
+            runningConfig.addAll(activations);
+            runningConfig.add(" exit-address-family");
+            runningConfig.add("!");
+            for (String command : Arrays.asList("show bgp summary", "show bgp all summary",
+                    "show bgp ipv4 unicast summary", "show bgp vpnv4 unicast all summary")) {
+                outputs.put(command, summary.toString());
+            }
+        }
+        runningConfig.add("end");
+        outputs.put("show version", "Cisco IOS Software, 7200 Software (C7200-ADVENTERPRISEK9-M), Version 15.1(4)M\n");
+    }
+
+    private static String interfaceState(String name, int index) {
+        boolean up = index % 10 != 9;
+        return name + " is " + (up ? "up" : "administratively down") + ", line protocol is " + (up ? "up" : "down")
+                + "\n"
+                + "  Hardware is iGbE, address is ca01.079c.0000 (bia ca01.079c.0000)\n"
+                + "  Description: benchmark interface " + index + "\n"
+                + "  Internet address is 10." + (index >> 8 & 0xff) + "." + (index & 0xff) + ".1/24\n"
+                + "  MTU 1500 bytes, BW 1000000 Kbit/sec, DLY 10 usec,\n"
+                + "     reliability 255/255, txload 1/255, rxload 1/255\n"
+                + "  Encapsulation ARPA, loopback not set\n"
+                + "  Full-duplex, 1000Mb/s, media type is RJ45\n"
+                + "     351 packets input, 60400 bytes\n"
+                + "     394 packets output, 43646 bytes, 0 underruns\n\n";
+    }
+
+    /**
+     * Size of the generated configuration.
+     */
+    static final class Scale {
+
+        private final int interfaces;
+        private final int aclEntries;
+        private final int bgpNeighbors;
+
+        Scale(int interfaces, int aclEntries, int bgpNeighbors) {
+            this.interfaces = interfaces;
+            this.aclEntries = aclEntries;
+            this.bgpNeighbors = bgpNeighbors;
+        }
+
+        /**
+         * Scale given by benchmark.interfaces, benchmark.acl.entries and benchmark.bgp.neighbors system properties.
+         */
+        static Scale fromSystemProperties() {
+            return new Scale(Integer.getInteger("benchmark.interfaces", 1000),
+                    Integer.getInteger("benchmark.acl.entries", 10000),
+                    Integer.getInteger("benchmark.bgp.neighbors", 500));
+        }
+
+        int getInterfaces() {
+            return interfaces;
+        }
+
+        int getAclEntries() {
+            return aclEntries;
+        }
+
+        int getBgpNeighbors() {
+            return bgpNeighbors;
+        }
+    }
+}
@@ -49,6 +49,7 @@ import io.frinx.cli.unit.ios.bgp.handler.peergroup.PeerGroupRouteReflectorConfig
 import io.frinx.cli.unit.ios.bgp.handler.peergroup.PeerGroupTransportConfigReader;
 import io.frinx.cli.unit.ios.bgp.handler.peergroup.PeerGroupWriter;
 import io.frinx.cli.unit.ios.init.IosDevices;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.Arrays;
@@ -61,8 +62,19 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public class BgpUnit extends AbstractUnit {
 
+    private final boolean runningConfigSnapshot;
+
     public BgpUnit(@Nonnull final TranslationUnitCollector registry) {
+        this(registry, false);
+    }
+
+    /**
+     * Unit whose readers answer "show running-config" commands from {@link RunningConfigSnapshot} if
+     * runningConfigSnapshot is set, or send each of them to the device otherwise.
+     */
+    public BgpUnit(@Nonnull final TranslationUnitCollector registry, final boolean runningConfigSnapshot) {
         super(registry);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -151,9 +163,9 @@ public class BgpUnit extends AbstractUnit {
     }
 
     private void provideReaders(@Nonnull CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_GL_CONFIG, new GlobalConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_GL_CONFIG, new GlobalConfigReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_BG_GL_STATE, new GlobalStateReader(cli));
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_GL_AF_AFISAFI, new GlobalAfiSafiReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_GL_AF_AFISAFI, new GlobalAfiSafiReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_BG_GL_AF_AF_CONFIG, new GlobalAfiSafiConfigReader(cli));
 
         provideNeighborReaders(readRegistry, cli);
@@ -161,42 +173,52 @@ public class BgpUnit extends AbstractUnit {
     }
 
     private void provideNeighborReaders(@Nonnull CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NEIGHBOR, new NeighborReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NEIGHBOR, new NeighborReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_CONFIG, new NeighborConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_CONFIG, new NeighborConfigReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_STATE, new NeighborStateReader(cli));
-        readRegistry.subtreeAdd(IIDs.NE_NE_PR_PR_BG_NE_NE_AF_AFISAFI, new NeighborAfiSafiReader(cli),
+        readRegistry.subtreeAdd(IIDs.NE_NE_PR_PR_BG_NE_NE_AF_AFISAFI,
+                new NeighborAfiSafiReader(cli, runningConfigSnapshot),
                 Sets.newHashSet(IIDs.NE_NE_PR_PR_BG_NE_NE_AF_AF_CONFIG));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_AF_AF_AP_CONFIG, new NeighborAfiSafiPolicyConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_AF_AF_AP_CONFIG,
+                new NeighborAfiSafiPolicyConfigReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_TR_CONFIG, new NeighborTransportConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_TR_CONFIG,
+                new NeighborTransportConfigReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_AP_CONFIG, new NeighborPolicyConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_AP_CONFIG,
+                new NeighborPolicyConfigReader(cli, runningConfigSnapshot));
 
         readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_AF_AF_ST_PREFIXES, new PrefixesReader(cli));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_RO_CONFIG, new NeighborRouteReflectorConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_NE_NE_RO_CONFIG,
+                new NeighborRouteReflectorConfigReader(cli, runningConfigSnapshot));
 
         // Local aggregates
-        readRegistry.add(IIDs.NE_NE_PR_PR_LO_AGGREGATE, new BgpLocalAggregateReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_LO_AGGREGATE, new BgpLocalAggregateReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_LO_AG_CONFIG, new BgpLocalAggregateConfigReader());
 
     }
 
     private void providePeerGroupReaders(@Nonnull CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PEERGROUP, new PeerGroupReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PEERGROUP, new PeerGroupReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_CONFIG, new PeerGroupConfigReader(cli));
-        readRegistry.subtreeAdd(IIDs.NE_NE_PR_PR_BG_PE_PE_AF_AFISAFI, new PeerGroupAfiSafiReader(cli),
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_CONFIG, new PeerGroupConfigReader(cli, runningConfigSnapshot));
+        readRegistry.subtreeAdd(IIDs.NE_NE_PR_PR_BG_PE_PE_AF_AFISAFI,
+                new PeerGroupAfiSafiReader(cli, runningConfigSnapshot),
                 Sets.newHashSet(IIDs.NE_NE_PR_PR_BG_PE_PE_AF_AF_CONFIG));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_AF_AF_AP_CONFIG, new PeerGroupAfiSafiPolicyConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_AF_AF_AP_CONFIG,
+                new PeerGroupAfiSafiPolicyConfigReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_TR_CONFIG, new PeerGroupTransportConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_TR_CONFIG,
+                new PeerGroupTransportConfigReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_AP_CONFIG, new PeerGroupPolicyConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_AP_CONFIG,
+                new PeerGroupPolicyConfigReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_RO_CONFIG, new PeerGroupRouteReflectorConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_BG_PE_PE_RO_CONFIG,
+                new PeerGroupRouteReflectorConfigReader(cli, runningConfigSnapshot));
     }
 }
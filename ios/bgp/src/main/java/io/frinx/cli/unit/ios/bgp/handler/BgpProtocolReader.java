@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliListReader;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
@@ -40,16 +41,25 @@ public class BgpProtocolReader implements CliListReader<Protocol, ProtocolKey, P
 
     public static final String DEFAULT_BGP_INSTANCE = "default";
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public BgpProtocolReader(final Cli cli) {
+        this(cli, false);
+    }
+
+    public BgpProtocolReader(final Cli cli, final boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
     @Override
     public List<ProtocolKey> getAllIds(@Nonnull InstanceIdentifier<Protocol> iid,
                                        @Nonnull ReadContext context) throws ReadFailedException {
-        String output = blockingRead("show running-config | include router bgp", cli, iid, context);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, "show running-config | include router bgp", cli, iid,
+                        context)
+                : blockingRead("show running-config | include router bgp", cli, iid, context);
         if (output.isEmpty()) {
             return Collections.emptyList();
         }
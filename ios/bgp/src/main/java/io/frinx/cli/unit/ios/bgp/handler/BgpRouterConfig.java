@@ -0,0 +1,308 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.bgp.handler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import io.frinx.openconfig.network.instance.NetworInstance;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Parsed "router bgp" configuration shared by all BGP readers within one read transaction.
+ *
+ * <p>The router bgp block is split into sections: the global section (lines directly under "router bgp") followed
+ * by one section per "address-family" block. Lines of each section are kept in device order and "neighbor" lines
+ * are indexed by neighbor address or peer-group name, so readers of a neighbor or peer-group only see their own
+ * lines instead of filtering device output for each of them.
+ */
+public final class BgpRouterConfig {
+
+    public static final String SH_ROUTER_BGP = "show running-config | section ^router bgp";
+
+    private static final Pattern ROUTER_BGP_LINE = Pattern.compile("router bgp (?<as>\\S+).*");
+    private static final Pattern FAMILY_LINE =
+            Pattern.compile("address-family (?<afi>\\S+)(?<safi> (?!vrf )\\S+)?( vrf (?<vrf>\\S+))?.*");
+    private static final Pattern NEIGHBOR_LINE = Pattern.compile("neighbor (?<id>\\S+)( .*)?");
+    private static final String EXIT_FAMILY = "exit-address-family";
+
+    private static final BgpRouterConfig EMPTY = new BgpRouterConfig(null, Collections.emptyList());
+
+    private final String as;
+    private final List<Section> sections;
+
+    private BgpRouterConfig(@Nullable String as, @Nonnull List<Section> sections) {
+        this.as = as;
+        this.sections = ImmutableList.copyOf(sections);
+    }
+
+    /**
+     * Router bgp configuration of the device, parsed once per read transaction.
+     *
+     * @param runningConfigSnapshot whether the router bgp block is read from {@link RunningConfigSnapshot}
+     */
+    @Nonnull
+    public static BgpRouterConfig read(@Nonnull CliReader<?, ?> reader, boolean runningConfigSnapshot,
+                                       @Nonnull Cli cli, @Nonnull InstanceIdentifier<?> id,
+                                       @Nonnull ReadContext readContext) throws ReadFailedException {
+        BgpRouterConfig config = (BgpRouterConfig) readContext.getModificationCache().get(BgpRouterConfig.class);
+        if (config == null) {
+            config = parse(runningConfigSnapshot
+                    ? RunningConfigSnapshot.blockingRead(reader, SH_ROUTER_BGP, cli, id, readContext)
+                    : reader.blockingRead(SH_ROUTER_BGP, cli, id, readContext));
+            readContext.getModificationCache().put(BgpRouterConfig.class, config);
+        }
+        return config;
+    }
+
+    /**
+     * Parse router bgp block. Anything before "router bgp" line is skipped.
+     */
+    @Nonnull
+    public static BgpRouterConfig parse(@Nonnull String output) {
+        String as = null;
+        List<Section.Builder> builders = new ArrayList<>();
+        Section.Builder current = null;
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            line = line.replace("\r", "").trim();
+            Matcher routerMatcher = ROUTER_BGP_LINE.matcher(line);
+            Matcher familyMatcher = FAMILY_LINE.matcher(line);
+            if (routerMatcher.matches()) {
+                as = routerMatcher.group("as");
+                current = new Section.Builder(null, null, null);
+                builders.add(current);
+            } else if (current == null) {
+                // not in router bgp yet
+                continue;
+            } else if (familyMatcher.matches()) {
+                String safi = familyMatcher.group("safi");
+                current = new Section.Builder(familyMatcher.group("afi"), safi == null ? null : safi.trim(),
+                        familyMatcher.group("vrf"));
+                builders.add(current);
+            } else if (line.equals(EXIT_FAMILY) || line.isEmpty() || line.equals("!")) {
+                continue;
+            } else {
+                current.add(line);
+            }
+        }
+        if (builders.isEmpty()) {
+            return EMPTY;
+        }
+        return new BgpRouterConfig(as, builders.stream()
+                .map(Section.Builder::build)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Local AS number, if router bgp is configured.
+     */
+    public Optional<String> getAs() {
+        return Optional.ofNullable(as);
+    }
+
+    /**
+     * All sections in device order, global section first.
+     */
+    @Nonnull
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    /**
+     * Sections belonging to a network instance: global section and address families without VRF for the default
+     * network instance, address families of the VRF otherwise.
+     */
+    @Nonnull
+    public List<Section> getSections(@Nonnull String vrfName) {
+        boolean isDefault = NetworInstance.DEFAULT_NETWORK_NAME.equals(vrfName);
+        return sections.stream()
+                .filter(section -> isDefault ? section.getVrf() == null : vrfName.equals(section.getVrf()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Global section, directly under "router bgp".
+     */
+    @Nonnull
+    public Optional<Section> getGlobalSection() {
+        return sections.isEmpty() ? Optional.empty() : Optional.of(sections.get(0));
+    }
+
+    /**
+     * Neighbor lines of all neighbors and peer-groups in a network instance, in device order.
+     */
+    @Nonnull
+    public List<String> getNeighborLines(@Nonnull String vrfName) {
+        return getSections(vrfName).stream()
+                .flatMap(section -> section.getNeighborLines().stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lines of a single neighbor or peer-group in a network instance, in device order.
+     *
+     * @param neighbor neighbor address as configured on device, or peer-group name
+     */
+    @Nonnull
+    public List<String> getNeighborLines(@Nonnull String vrfName, @Nonnull String neighbor) {
+        return getNeighborLines(vrfName, neighbor, section -> true);
+    }
+
+    /**
+     * Lines of a single neighbor or peer-group in selected sections of a network instance, in device order.
+     *
+     * @param neighbor neighbor address as configured on device, or peer-group name
+     * @param sectionFilter sections to include, e.g. single address family
+     */
+    @Nonnull
+    public List<String> getNeighborLines(@Nonnull String vrfName, @Nonnull String neighbor,
+                                         @Nonnull Predicate<Section> sectionFilter) {
+        return getSections(vrfName).stream()
+                .filter(sectionFilter)
+                .flatMap(section -> section.getNeighborLines(neighbor).stream())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Global section or a single address-family block of router bgp.
+     */
+    public static final class Section {
+
+        private final String afi;
+        private final String safi;
+        private final String vrf;
+        private final List<String> lines;
+        private final List<String> neighborLines;
+        private final Map<String, List<String>> neighbors;
+
+        private Section(Builder builder) {
+            this.afi = builder.afi;
+            this.safi = builder.safi;
+            this.vrf = builder.vrf;
+            this.lines = ImmutableList.copyOf(builder.lines);
+            this.neighborLines = ImmutableList.copyOf(builder.neighborLines);
+            ImmutableMap.Builder<String, List<String>> neighborsBuilder = ImmutableMap.builder();
+            builder.neighbors.forEach((id, neighborLines) -> neighborsBuilder.put(id,
+                    ImmutableList.copyOf(neighborLines)));
+            this.neighbors = neighborsBuilder.build();
+        }
+
+        /**
+         * Address family as printed on device, e.g. "ipv4" or "vpnv4". Null for global section.
+         */
+        @Nullable
+        public String getAfi() {
+            return afi;
+        }
+
+        /**
+         * Sub address family as printed on device, e.g. "multicast". Null if not present.
+         */
+        @Nullable
+        public String getSafi() {
+            return safi;
+        }
+
+        /**
+         * VRF of the address family. Null for global section and address families without VRF.
+         */
+        @Nullable
+        public String getVrf() {
+            return vrf;
+        }
+
+        public boolean isGlobal() {
+            return afi == null;
+        }
+
+        /**
+         * All lines of the section, trimmed, without the section header.
+         */
+        @Nonnull
+        public List<String> getLines() {
+            return lines;
+        }
+
+        /**
+         * Neighbor lines of all neighbors and peer-groups in the section.
+         */
+        @Nonnull
+        public List<String> getNeighborLines() {
+            return neighborLines;
+        }
+
+        /**
+         * Neighbors and peer-groups with at least one line in the section, in device order.
+         */
+        @Nonnull
+        public Set<String> getNeighbors() {
+            return neighbors.keySet();
+        }
+
+        @Nonnull
+        public List<String> getNeighborLines(@Nonnull String neighbor) {
+            return neighbors.getOrDefault(neighbor, Collections.emptyList());
+        }
+
+        private static final class Builder {
+
+            private final String afi;
+            private final String safi;
+            private final String vrf;
+            private final List<String> lines = new ArrayList<>();
+            private final List<String> neighborLines = new ArrayList<>();
+            private final Map<String, List<String>> neighbors = new LinkedHashMap<>();
+
+            Builder(String afi, String safi, String vrf) {
+                this.afi = afi;
+                this.safi = safi;
+                this.vrf = vrf;
+            }
+
+            void add(String line) {
+                lines.add(line);
+                Matcher matcher = NEIGHBOR_LINE.matcher(line);
+                if (matcher.matches()) {
+                    neighborLines.add(line);
+                    neighbors.computeIfAbsent(matcher.group("id"), id -> new ArrayList<>()).add(line);
+                }
+            }
+
+            Section build() {
+                return new Section(this);
+            }
+        }
+    }
+}
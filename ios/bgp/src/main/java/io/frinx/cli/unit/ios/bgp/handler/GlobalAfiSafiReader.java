@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -43,14 +44,20 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class GlobalAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSafiKey, AfiSafiBuilder> {
 
-    private static final String SH_AFI = "show running-config | include ^router bgp|^ address-family";
+    static final String SH_AFI = "show running-config | include ^router bgp|^ address-family";
     private static final Pattern FAMILY_LINE = Pattern.compile("\\s*address-family (?<family>\\S+).*");
     private static final Pattern FAMILY_VRF_LINE = Pattern.compile("\\s*address-family (?<family>.+) vrf (?<vrf>\\S+)"
             + ".*");
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public GlobalAfiSafiReader(final Cli cli) {
+        this(cli, false);
+    }
+
+    public GlobalAfiSafiReader(final Cli cli, final boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
@@ -60,7 +67,9 @@ public class GlobalAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSafi
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
         String vrfName = vrfKey.getName();
 
-        String output = blockingRead(SH_AFI, cli, id, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_AFI, cli, id, readContext)
+                : blockingRead(SH_AFI, cli, id, readContext);
 
         if (vrfKey.equals(NetworInstance.DEFAULT_NETWORK)) {
             return getDefaultAfiKeys(output);
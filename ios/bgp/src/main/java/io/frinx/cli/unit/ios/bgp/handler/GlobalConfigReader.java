@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -45,16 +46,24 @@ public class GlobalConfigReader implements CliConfigReader<Config, ConfigBuilder
             + "(?<vrf>\\S*)\\s+bgp router-id (?<routerId>\\S*).*");
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public GlobalConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public GlobalConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<Config> id,
                                              @Nonnull ConfigBuilder configBuilder,
                                              @Nonnull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(SH_SUMM, cli, id, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_SUMM, cli, id, readContext)
+                : blockingRead(SH_SUMM, cli, id, readContext);
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
         parseConfigAttributes(output, configBuilder, vrfKey);
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ios.bgp.handler.BgpProtocolReader;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborReader;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -47,9 +48,15 @@ public class BgpLocalAggregateReader implements CliConfigListReader<Aggregate, A
     static final String SH_SUMM = "show running-config | include ^router bgp|^ address-family|^ *network";
     private static final Pattern NEIGHBOR_LINE = Pattern.compile("network (?<ip>\\S*) mask (?<mask>\\S*).*");
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public BgpLocalAggregateReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public BgpLocalAggregateReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @VisibleForTesting
@@ -107,11 +114,14 @@ public class BgpLocalAggregateReader implements CliConfigListReader<Aggregate, A
     public List<AggregateKey> getAllIds(@Nonnull InstanceIdentifier<Aggregate> instanceIdentifier,
                                                @Nonnull ReadContext readContext) throws ReadFailedException {
         String niName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_SUMM, cli, instanceIdentifier, readContext)
+                : blockingRead(SH_SUMM, cli, instanceIdentifier, readContext);
 
         if (BgpProtocolReader.DEFAULT_BGP_INSTANCE.equals(niName)) {
-            return getDefaultAggregateKeys(blockingRead(SH_SUMM, cli, instanceIdentifier, readContext));
+            return getDefaultAggregateKeys(output);
         } else {
-            return getVrfAggregateKeys(blockingRead(SH_SUMM, cli, instanceIdentifier, readContext), niName);
+            return getVrfAggregateKeys(output, niName);
         }
     }
 
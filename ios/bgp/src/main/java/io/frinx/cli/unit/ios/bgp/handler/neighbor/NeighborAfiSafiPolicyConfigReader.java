@@ -19,10 +19,9 @@ package io.frinx.cli.unit.ios.bgp.handler.neighbor;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.GlobalAfiSafiConfigWriter;
 import io.frinx.cli.unit.utils.CliConfigReader;
-import java.util.Arrays;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.afi.safi.list.AfiSafi;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
@@ -33,9 +32,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class NeighborAfiSafiPolicyConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NeighborAfiSafiPolicyConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public NeighborAfiSafiPolicyConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -47,12 +52,8 @@ public class NeighborAfiSafiPolicyConfigReader implements CliConfigReader<Config
         String afiSafi = GlobalAfiSafiConfigWriter.toDeviceAddressFamily(instanceIdentifier.firstKeyOf(AfiSafi.class)
                 .getAfiSafiName());
 
-        String output = blockingRead(String.format(NeighborConfigReader.SH_SUMM, ipAddress), cli, instanceIdentifier,
-                readContext);
-        String[] outputLines = NeighborReader.splitOutput(output);
-        Stream<String> outputStream = Arrays.stream(outputLines)
-                .filter(line -> line.contains("address-family " + afiSafi));
-
-        NeighborPolicyConfigReader.parseConfigAttributes(configBuilder, vrfName, outputStream);
+        NeighborPolicyConfigReader.parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli,
+                instanceIdentifier, readContext).getNeighborLines(vrfName, ipAddress,
+                    section -> afiSafi.equals(section.getAfi())), configBuilder);
     }
 }
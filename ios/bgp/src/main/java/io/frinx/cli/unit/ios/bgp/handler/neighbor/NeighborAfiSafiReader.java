@@ -20,15 +20,13 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.GlobalAfiSafiReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.afi.safi.list.AfiSafi;
@@ -42,14 +40,16 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NeighborAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSafiKey, AfiSafiBuilder> {
 
-
-    private static final Pattern FAMILY_LINE = Pattern.compile("\\s*address-family (?<family>\\S+).*");
-    private static final Pattern FAMILY_LINE_VRF = Pattern.compile("\\s*address-family (?<family>\\S+) vrf "
-            + "(?<vrf>\\S+).*");
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NeighborAfiSafiReader(final Cli cli) {
+        this(cli, false);
+    }
+
+    public NeighborAfiSafiReader(final Cli cli, final boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
@@ -59,49 +59,36 @@ public class NeighborAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSa
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
         String neighborIp = NeighborWriter.getNeighborIp(id);
-        return getAfiKeys(blockingRead(String.format(NeighborConfigReader.SH_SUMM, neighborIp), cli, id, readContext),
-                vrfKey,
+        return getAfiKeys(BgpRouterConfig.read(this, runningConfigSnapshot, cli, id, readContext), vrfKey,
+            section -> section.getNeighborLines(neighborIp),
             line -> line.contains("activate"));
     }
 
     @VisibleForTesting
     public static List<AfiSafiKey> getAfiKeys(String output, NetworkInstanceKey vrfKey, Predicate<String>
             filterActiveFamilies) {
-        output = output.replaceAll("[\\n\\r]", "");
-        output = output.replaceAll("address-family", "\naddress-family");
+        return getAfiKeys(BgpRouterConfig.parse(output), vrfKey, BgpRouterConfig.Section::getNeighborLines,
+                filterActiveFamilies);
+    }
 
-        String vrfName = vrfKey.getName();
-        if (NetworInstance.DEFAULT_NETWORK.equals(vrfKey)) {
-            return ParsingUtils.NEWLINE.splitAsStream(output)
-                    // Skip header line(s)
-                    .map(String::trim)
-                    .filter(line -> !line.contains("vrf"))
-                    .filter(filterActiveFamilies)
-                    .map(FAMILY_LINE::matcher)
-                    .filter(Matcher::matches)
-                    .map(m -> m.group("family"))
-                    .map(GlobalAfiSafiReader::transformAfi)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(AfiSafiKey::new)
-                    .distinct()
-                    .collect(Collectors.toList());
-        } else {
-            return ParsingUtils.NEWLINE.splitAsStream(output)
-                    // Skip header line(s)
-                    .map(String::trim)
-                    .filter(filterActiveFamilies)
-                    .map(FAMILY_LINE_VRF::matcher)
-                    .filter(Matcher::matches)
-                    .filter(m -> m.group("vrf").equals(vrfName))
-                    .map(m -> m.group("family"))
-                    .map(GlobalAfiSafiReader::transformAfi)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(AfiSafiKey::new)
-                    .distinct()
-                    .collect(Collectors.toList());
-        }
+    /**
+     * Address families of a network instance where any of the neighbor lines passes the filter.
+     *
+     * @param neighborLines lines of the neighbor or peer-group in a section
+     */
+    public static List<AfiSafiKey> getAfiKeys(BgpRouterConfig config, NetworkInstanceKey vrfKey,
+                                              Function<BgpRouterConfig.Section, List<String>> neighborLines,
+                                              Predicate<String> filterActiveFamilies) {
+        return config.getSections(vrfKey.getName()).stream()
+                .filter(section -> !section.isGlobal())
+                .filter(section -> neighborLines.apply(section).stream().anyMatch(filterActiveFamilies))
+                .map(BgpRouterConfig.Section::getAfi)
+                .map(GlobalAfiSafiReader::transformAfi)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .map(AfiSafiKey::new)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -20,12 +20,11 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Optional;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -42,7 +41,6 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
-    public static final String SH_SUMM = "show running-config | include ^router bgp|^ *address-family|^ *neighbor %s ";
     private static final String PASSWORD_FORM = "Encrypted[%s]";
 
     private static final Pattern NEIGHBOR_ACTIVATE_PATTERN =
@@ -60,9 +58,15 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
     private static final Pattern PASSWORD_REGEX_FORM = Pattern.compile("^([\\d] )\\S+$");
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NeighborConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public NeighborConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -74,31 +78,20 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
                 .getNeighborAddress());
 
         configBuilder.setNeighborAddress(instanceIdentifier.firstKeyOf(Neighbor.class).getNeighborAddress());
-        parseConfigAttributes(blockingRead(String.format(SH_SUMM, ipAddress), cli, instanceIdentifier, readContext),
-                configBuilder, vrfName);
+        parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext)
+                .getNeighborLines(vrfName, ipAddress), configBuilder);
     }
 
     @VisibleForTesting
     public static void parseConfigAttributes(String output, ConfigBuilder configBuilder, String vrfName) {
-
-        String[] vrfSplit = NeighborReader.splitOutput(output);
-
-        if (NetworInstance.DEFAULT_NETWORK_NAME.equals(vrfName)) {
-            parseDefault(configBuilder, vrfSplit);
-        } else {
-            parseVrf(configBuilder, vrfName, vrfSplit);
-        }
-    }
-
-    private static void parseDefault(ConfigBuilder configBuilder, String[] output) {
-        Optional<String> defaultNetworkNeighbors = Arrays.stream(output)
-                .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
-
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
+        parseConfigAttributes(BgpRouterConfig.parse(output).getNeighborLines(vrfName), configBuilder);
     }
 
-    private static void setAttributes(ConfigBuilder configBuilder, String output) {
+    /**
+     * Parse neighbor or peer-group configuration from its lines in {@link BgpRouterConfig}.
+     */
+    public static void parseConfigAttributes(List<String> neighborLines, ConfigBuilder configBuilder) {
+        String output = String.join("\n", neighborLines);
         setAs(configBuilder, output);
         setEnabled(configBuilder, output);
         setPasswd(configBuilder, output);
@@ -107,55 +100,39 @@ public class NeighborConfigReader implements CliConfigReader<Config, ConfigBuild
         setCommunity(configBuilder, output);
     }
 
-    private static void parseVrf(ConfigBuilder configBuilder, String vrfName, String[] output) {
-        Optional<String> optionalVrfOutput =
-                Arrays.stream(output).filter(value -> value.contains(vrfName)).findFirst();
-
-        if (optionalVrfOutput.isPresent()) {
-            String defaultInstance = optionalVrfOutput.get();
-            setAttributes(configBuilder, defaultInstance);
-        }
-    }
-
     private static void setDescription(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, DESCRIPTION_PATTERN::matcher,
+        ParsingUtils.parseFields(defaultInstance, 0, DESCRIPTION_PATTERN::matcher,
             m -> findGroup(m, "description"),
             groupsHashMap -> configBuilder.setDescription(groupsHashMap.get("description")));
     }
 
     private static void setPasswd(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, PASSWORD_PATTERN::matcher,
+        ParsingUtils.parseFields(defaultInstance, 0, PASSWORD_PATTERN::matcher,
             m -> findGroup(m, "password"),
             groupsHashMap -> configBuilder.setAuthPassword(getPassword(groupsHashMap.get("password"))));
     }
 
     private static void setPeerGroup(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, PEER_GROUP_PATTERN::matcher,
+        ParsingUtils.parseFields(defaultInstance, 0, PEER_GROUP_PATTERN::matcher,
             m -> findGroup(m, "peerGroup"),
             groupsHashMap -> configBuilder.setPeerGroup(groupsHashMap.get("peerGroup")));
     }
 
     private static void setAs(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, REMOTE_AS_PATTERN::matcher,
+        ParsingUtils.parseFields(defaultInstance, 0, REMOTE_AS_PATTERN::matcher,
             m -> findGroup(m, "remoteAs"),
             groupsHashMap -> configBuilder.setPeerAs(new AsNumber(Long.valueOf(groupsHashMap.get("remoteAs")))));
     }
 
     private static void setCommunity(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, SEND_COMMUNITY_PATTERN::matcher,
+        ParsingUtils.parseFields(defaultInstance, 0, SEND_COMMUNITY_PATTERN::matcher,
             m -> findGroup(m, "community"),
             groupsHashMap -> configBuilder.setSendCommunity(CommunityType.valueOf(groupsHashMap.get("community")
                         .toUpperCase())));
     }
 
-    private static String preprocessOutput(String defaultInstance) {
-        return defaultInstance
-                .replaceAll(" neighbor", "\n neighbor")
-                .replaceAll(" address-family", "\n address-family");
-    }
-
     private static void setEnabled(ConfigBuilder configBuilder, String defaultInstance) {
-        ParsingUtils.parseFields(preprocessOutput(defaultInstance), 0, NEIGHBOR_ACTIVATE_PATTERN::matcher,
+        ParsingUtils.parseFields(defaultInstance, 0, NEIGHBOR_ACTIVATE_PATTERN::matcher,
             m -> findGroup(m, "enabled"),
             groupsHashMap -> configBuilder.setEnabled("activate".equals(groupsHashMap.get("enabled"))));
     }
@@ -16,19 +16,15 @@
 
 package io.frinx.cli.unit.ios.bgp.handler.neighbor;
 
-import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.policy.rev170714.apply.policy.group.apply.policy.Config;
@@ -43,9 +39,15 @@ public class NeighborPolicyConfigReader implements CliConfigReader<Config, Confi
             Pattern.compile("neighbor (?<neighborIp>\\S*) route-map (?<updateSource>\\S*) out.*");
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NeighborPolicyConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public NeighborPolicyConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -55,40 +57,20 @@ public class NeighborPolicyConfigReader implements CliConfigReader<Config, Confi
         String vrfName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         String ipAddress = NeighborWriter.getNeighborIp(instanceIdentifier);
 
-        String output = blockingRead(String.format(NeighborConfigReader.SH_SUMM, ipAddress), cli, instanceIdentifier,
-                readContext);
-        String[] outputLines = NeighborReader.splitOutput(output);
-        Stream<String> outputStream = Arrays.stream(outputLines)
-                .filter(line -> !line.contains("address-family"));
-
-        parseConfigAttributes(configBuilder, vrfName, outputStream);
+        // route-maps of the neighbor outside of address families
+        parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext)
+                .getNeighborLines(vrfName, ipAddress, BgpRouterConfig.Section::isGlobal), configBuilder);
     }
 
-    @VisibleForTesting
-    public static void parseConfigAttributes(ConfigBuilder configBuilder, String vrfName, Stream<String> vrfSplit) {
-        if (NetworInstance.DEFAULT_NETWORK_NAME.equals(vrfName)) {
-            parseDefault(configBuilder, vrfSplit);
-        } else {
-            parseVrf(configBuilder, vrfName, vrfSplit);
-        }
-    }
-
-    private static void parseDefault(ConfigBuilder configBuilder, Stream<String> output) {
-        Optional<String> defaultNetworkNeighbors = output
-                .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
-
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
-    }
-
-    private static void setAttributes(ConfigBuilder configBuilder, String output) {
-        setPolicies(configBuilder, output);
+    /**
+     * Parse neighbor or peer-group policies from its lines in {@link BgpRouterConfig}.
+     */
+    public static void parseConfigAttributes(List<String> neighborLines, ConfigBuilder configBuilder) {
+        setPolicies(configBuilder, String.join("\n", neighborLines));
     }
 
     private static void setPolicies(ConfigBuilder configBuilder, String defaultInstance) {
-        String processed = defaultInstance.replaceAll(" neighbor", "\n neighbor");
-
-        List<String> inPolicies = ParsingUtils.parseFields(processed, 0, NEIGHBOR_POLICY_IN_PATTERN::matcher,
+        List<String> inPolicies = ParsingUtils.parseFields(defaultInstance, 0, NEIGHBOR_POLICY_IN_PATTERN::matcher,
             m -> m.group("updateSource"),
             Function.identity());
 
@@ -96,7 +78,7 @@ public class NeighborPolicyConfigReader implements CliConfigReader<Config, Confi
             configBuilder.setImportPolicy(inPolicies);
         }
 
-        List<String> outPolicies = ParsingUtils.parseFields(processed, 0, NEIGHBOR_POLICY_OUT_PATTERN::matcher,
+        List<String> outPolicies = ParsingUtils.parseFields(defaultInstance, 0, NEIGHBOR_POLICY_OUT_PATTERN::matcher,
             m -> m.group("updateSource"),
             Function.identity());
 
@@ -104,12 +86,4 @@ public class NeighborPolicyConfigReader implements CliConfigReader<Config, Confi
             configBuilder.setExportPolicy(outPolicies);
         }
     }
-
-    private static void parseVrf(ConfigBuilder configBuilder, String vrfName, Stream<String> output) {
-        Optional<String> optionalVrfOutput = output
-                .filter(value -> value.contains(vrfName))
-                .findFirst();
-
-        setAttributes(configBuilder, optionalVrfOutput.orElse(""));
-    }
 }
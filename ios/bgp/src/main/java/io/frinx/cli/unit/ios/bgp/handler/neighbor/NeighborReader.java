@@ -21,12 +21,10 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ios.bgp.handler.BgpProtocolReader;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -39,16 +37,21 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NeighborReader implements CliConfigListReader<Neighbor, NeighborKey, NeighborBuilder> {
 
-    public static final String SH_SUMM = "show running-config | include ^router bgp|^ address-family|^ *neighbor";
     private static final Pattern NEIGHBOR_LINE = Pattern.compile("neighbor (?<id>[0-9A-F.:]*) (remote-as|peer-group) "
             + "\\S+");
     private static final Function<String, NeighborKey> TO_NEIGH_KEY = (String value) -> new NeighborKey(new IpAddress(
             value.toCharArray()));
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NeighborReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public NeighborReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -56,20 +59,13 @@ public class NeighborReader implements CliConfigListReader<Neighbor, NeighborKey
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
 
         String networkInstanceName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
-        if (BgpProtocolReader.DEFAULT_BGP_INSTANCE.equals(networkInstanceName)) {
-            return getDefaultNeighborKeys(blockingRead(SH_SUMM, cli, instanceIdentifier, readContext));
-        } else {
-            return getVrfNeighborKeys(blockingRead(SH_SUMM, cli, instanceIdentifier, readContext),
-                    networkInstanceName);
-        }
+        return getNeighborKeys(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext),
+                networkInstanceName);
     }
 
     @VisibleForTesting
     public static List<NeighborKey> getVrfNeighborKeys(String output, String vrfName) {
-        return parseKeys(Arrays.stream(splitOutput(output))
-                        .filter(value -> value.contains(vrfName))
-                        .findFirst(),
-                TO_NEIGH_KEY, NEIGHBOR_LINE);
+        return getNeighborKeys(BgpRouterConfig.parse(output), vrfName);
     }
 
     @Override
@@ -81,21 +77,22 @@ public class NeighborReader implements CliConfigListReader<Neighbor, NeighborKey
 
     @VisibleForTesting
     public static List<NeighborKey> getDefaultNeighborKeys(String output) {
-        return parseKeys(Arrays.stream(splitOutput(output))
-                        .filter(value -> !value.contains("vrf"))
-                        .findFirst(),
-                TO_NEIGH_KEY, NEIGHBOR_LINE);
+        return getNeighborKeys(BgpRouterConfig.parse(output), BgpProtocolReader.DEFAULT_BGP_INSTANCE);
+    }
+
+    private static List<NeighborKey> getNeighborKeys(BgpRouterConfig config, String vrfName) {
+        return parseKeys(config.getNeighborLines(vrfName), TO_NEIGH_KEY, NEIGHBOR_LINE);
     }
 
-    public static <T> List<T> parseKeys(Optional<String> optionalVrfOutput, Function<String, T> transform, Pattern
+    /**
+     * Parse keys of neighbors or peer-groups from neighbor lines of {@link BgpRouterConfig}.
+     */
+    public static <T> List<T> parseKeys(List<String> neighborLines, Function<String, T> transform, Pattern
             neighborLine) {
-        if (optionalVrfOutput.isPresent()) {
-            return ParsingUtils.parseFields(optionalVrfOutput.get().replaceAll(" neighbor", "\n neighbor"), 0,
-                neighborLine::matcher,
-                matcher -> matcher.group("id"),
-                transform);
-        }
-        return new ArrayList<>();
+        return ParsingUtils.parseFields(String.join("\n", neighborLines), 0,
+            neighborLine::matcher,
+            matcher -> matcher.group("id"),
+            transform);
     }
 
     public static String[] splitOutput(String output) {
@@ -20,11 +20,10 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.common.structure.neighbor.group.route.reflector.route.reflector.Config;
@@ -38,9 +37,15 @@ public class NeighborRouteReflectorConfigReader implements CliConfigReader<Confi
             Pattern.compile("neighbor (?<neighborIp>\\S*) (?<client>route-reflector-client)");
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NeighborRouteReflectorConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public NeighborRouteReflectorConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -50,47 +55,26 @@ public class NeighborRouteReflectorConfigReader implements CliConfigReader<Confi
         String vrfName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         String ipAddress = NeighborWriter.getNeighborIp(instanceIdentifier);
 
-        parseConfigAttributes(blockingRead(String.format(NeighborConfigReader.SH_SUMM, ipAddress), cli,
-                instanceIdentifier, readContext),
-                configBuilder, vrfName);
+        parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext)
+                .getNeighborLines(vrfName, ipAddress), configBuilder);
     }
 
     @VisibleForTesting
     public static void parseConfigAttributes(String output, ConfigBuilder configBuilder, String vrfName) {
-
-        String[] vrfSplit = NeighborReader.splitOutput(output);
-
-        if (NetworInstance.DEFAULT_NETWORK_NAME.equals(vrfName)) {
-            parseDefault(configBuilder, vrfSplit);
-        } else {
-            parseVrf(configBuilder, vrfName, vrfSplit);
-        }
+        parseConfigAttributes(BgpRouterConfig.parse(output).getNeighborLines(vrfName), configBuilder);
     }
 
-    private static void parseDefault(ConfigBuilder configBuilder, String[] output) {
-        Optional<String> defaultNetworkNeighbors = Arrays.stream(output)
-                .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
-
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
-    }
-
-    private static void setAttributes(ConfigBuilder configBuilder, String output) {
+    /**
+     * Parse neighbor or peer-group configuration from its lines in {@link BgpRouterConfig}.
+     */
+    public static void parseConfigAttributes(List<String> neighborLines, ConfigBuilder configBuilder) {
+        String output = String.join("\n", neighborLines);
         setClient(configBuilder, output);
     }
 
     private static void setClient(ConfigBuilder configBuilder, String defaultInstance) {
-        String processed = defaultInstance.replaceAll(" neighbor", "\n neighbor");
-
-        ParsingUtils.parseField(processed, 0, NEIGHBOR_RR_CLIENT_PATTERN::matcher,
+        ParsingUtils.parseField(defaultInstance, 0, NEIGHBOR_RR_CLIENT_PATTERN::matcher,
             m -> m.group("client"),
             client -> configBuilder.setRouteReflectorClient(true));
     }
-
-    private static void parseVrf(ConfigBuilder configBuilder, String vrfName, String[] output) {
-        Optional<String> optionalVrfOutput =
-                Arrays.stream(output).filter(value -> value.contains(vrfName)).findFirst();
-
-        setAttributes(configBuilder, optionalVrfOutput.orElse(""));
-    }
 }
@@ -20,11 +20,10 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.BgpCommonNeighborGroupTransportConfig;
@@ -41,9 +40,15 @@ public class NeighborTransportConfigReader implements CliConfigReader<Config, Co
             Pattern.compile("neighbor (?<neighborIp>\\S*) transport connection-mode passive.*");
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NeighborTransportConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public NeighborTransportConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -53,40 +58,26 @@ public class NeighborTransportConfigReader implements CliConfigReader<Config, Co
         String vrfName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         String ipAddress = NeighborWriter.getNeighborIp(instanceIdentifier);
 
-        parseConfigAttributes(blockingRead(String.format(NeighborConfigReader.SH_SUMM, ipAddress), cli,
-                instanceIdentifier, readContext),
-                configBuilder, vrfName);
+        parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext)
+                .getNeighborLines(vrfName, ipAddress), configBuilder);
     }
 
     @VisibleForTesting
     public static void parseConfigAttributes(String output, ConfigBuilder configBuilder, String vrfName) {
-
-        String[] vrfSplit = NeighborReader.splitOutput(output);
-
-        if (NetworInstance.DEFAULT_NETWORK_NAME.equals(vrfName)) {
-            parseDefault(configBuilder, vrfSplit);
-        } else {
-            parseVrf(configBuilder, vrfName, vrfSplit);
-        }
+        parseConfigAttributes(BgpRouterConfig.parse(output).getNeighborLines(vrfName), configBuilder);
     }
 
-    private static void parseDefault(ConfigBuilder configBuilder, String[] output) {
-        Optional<String> defaultNetworkNeighbors = Arrays.stream(output)
-                .filter(value -> !value.contains("vrf"))
-                .reduce((s1, s2) -> s1 + s2);
-
-        setAttributes(configBuilder, defaultNetworkNeighbors.orElse(""));
-    }
-
-    private static void setAttributes(ConfigBuilder configBuilder, String output) {
+    /**
+     * Parse neighbor or peer-group configuration from its lines in {@link BgpRouterConfig}.
+     */
+    public static void parseConfigAttributes(List<String> neighborLines, ConfigBuilder configBuilder) {
+        String output = String.join("\n", neighborLines);
         setUpdateSource(configBuilder, output);
         setPassive(configBuilder, output);
     }
 
     private static void setUpdateSource(ConfigBuilder configBuilder, String defaultInstance) {
-        String processed = defaultInstance.replaceAll(" neighbor", "\n neighbor");
-
-        ParsingUtils.parseField(processed, 0, NEIGHBOR_UPDATE_SOURCE_PATTERN::matcher,
+        ParsingUtils.parseField(defaultInstance, 0, NEIGHBOR_UPDATE_SOURCE_PATTERN::matcher,
             m -> m.group("updateSource"),
             updateSource -> configBuilder.setLocalAddress(parseLocalAddress(updateSource)));
     }
@@ -95,8 +86,7 @@ public class NeighborTransportConfigReader implements CliConfigReader<Config, Co
         // Default
         configBuilder.setPassiveMode(false);
 
-        String processed = defaultInstance.replaceAll(" neighbor", "\n neighbor");
-        ParsingUtils.parseField(processed, 0, NEIGHBOR_PASSIVE::matcher,
+        ParsingUtils.parseField(defaultInstance, 0, NEIGHBOR_PASSIVE::matcher,
             m -> true,
             configBuilder::setPassiveMode);
     }
@@ -104,11 +94,4 @@ public class NeighborTransportConfigReader implements CliConfigReader<Config, Co
     private static BgpCommonNeighborGroupTransportConfig.LocalAddress parseLocalAddress(String updateSource) {
         return new BgpCommonNeighborGroupTransportConfig.LocalAddress(updateSource);
     }
-
-    private static void parseVrf(ConfigBuilder configBuilder, String vrfName, String[] output) {
-        Optional<String> optionalVrfOutput =
-                Arrays.stream(output).filter(value -> value.contains(vrfName)).findFirst();
-
-        setAttributes(configBuilder, optionalVrfOutput.orElse(""));
-    }
 }
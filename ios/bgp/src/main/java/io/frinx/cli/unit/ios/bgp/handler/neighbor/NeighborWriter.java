@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.util.RWUtils;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.template.TemplateRegistry;
 import io.frinx.cli.unit.ios.bgp.handler.BgpAfiSafiChecks;
 import io.frinx.cli.unit.ios.bgp.handler.GlobalAfiSafiConfigWriter;
 import io.frinx.cli.unit.utils.CliListWriter;
@@ -232,6 +233,9 @@ public class NeighborWriter implements CliListWriter<Neighbor, NeighborKey> {
 
             "end";
 
+    static final TemplateRegistry TEMPLATES = TemplateRegistry.of(NEIGHBOR_GLOBAL, NEIGHBOR_VRF,
+            NEIGHBOR_GLOBAL_DELETE, NEIGHBOR_GLOBAL_DELETE_AFI, NEIGHBOR_VRF_DELETE);
+
     private Cli cli;
 
     public NeighborWriter(Cli cli) {
@@ -266,7 +270,7 @@ public class NeighborWriter implements CliListWriter<Neighbor, NeighborKey> {
                                                               T data,
                                                               Object... params) throws WriteFailedException
             .CreateFailedException {
-        writer.blockingWriteAndRead(writer.fT(template, params), cli, id, data);
+        writer.blockingWriteAndRead(TEMPLATES.fT(template, params), cli, id, data);
     }
 
     public static <T extends BgpCommonStructureNeighborGroupRouteReflector> void renderNeighbor(
@@ -397,7 +401,7 @@ public class NeighborWriter implements CliListWriter<Neighbor, NeighborKey> {
                                                               InstanceIdentifier<T> id,
                                                               Object... params) throws WriteFailedException
             .DeleteFailedException {
-        writer.blockingDeleteAndRead(writer.fT(template, params), cli, id);
+        writer.blockingDeleteAndRead(TEMPLATES.fT(template, params), cli, id);
     }
 
     public static Long getAsValue(Global global) {
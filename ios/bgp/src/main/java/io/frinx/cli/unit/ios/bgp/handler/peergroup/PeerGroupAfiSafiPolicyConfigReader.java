@@ -19,13 +19,10 @@ package io.frinx.cli.unit.ios.bgp.handler.peergroup;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.GlobalAfiSafiConfigWriter;
-import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborConfigReader;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborPolicyConfigReader;
-import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
-import java.util.Arrays;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.peer.group.afi.safi.list.AfiSafi;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
@@ -36,9 +33,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class PeerGroupAfiSafiPolicyConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public PeerGroupAfiSafiPolicyConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public PeerGroupAfiSafiPolicyConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -50,12 +53,8 @@ public class PeerGroupAfiSafiPolicyConfigReader implements CliConfigReader<Confi
         String afiSafi = GlobalAfiSafiConfigWriter.toDeviceAddressFamily(instanceIdentifier.firstKeyOf(AfiSafi.class)
                 .getAfiSafiName());
 
-        String output = blockingRead(String.format(NeighborConfigReader.SH_SUMM, peerGroupId), cli,
-                instanceIdentifier, readContext);
-        String[] outputLines = NeighborReader.splitOutput(output);
-        Stream<String> outputStream = Arrays.stream(outputLines)
-                .filter(line -> line.contains("address-family " + afiSafi));
-
-        NeighborPolicyConfigReader.parseConfigAttributes(configBuilder, vrfName, outputStream);
+        NeighborPolicyConfigReader.parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli,
+                instanceIdentifier, readContext).getNeighborLines(vrfName, peerGroupId,
+                    section -> afiSafi.equals(section.getAfi())), configBuilder);
     }
 }
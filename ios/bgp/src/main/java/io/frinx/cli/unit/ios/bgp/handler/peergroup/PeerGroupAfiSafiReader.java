@@ -20,8 +20,8 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborAfiSafiReader;
-import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborConfigReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -38,9 +38,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class PeerGroupAfiSafiReader implements CliConfigListReader<AfiSafi, AfiSafiKey, AfiSafiBuilder> {
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public PeerGroupAfiSafiReader(final Cli cli) {
+        this(cli, false);
+    }
+
+    public PeerGroupAfiSafiReader(final Cli cli, final boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
@@ -49,15 +55,26 @@ public class PeerGroupAfiSafiReader implements CliConfigListReader<AfiSafi, AfiS
                                              @Nonnull ReadContext readContext) throws ReadFailedException {
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
         String peerGroupId = PeerGroupWriter.getPeerGroupId(id);
-        final String configuration = blockingRead(String.format(NeighborConfigReader.SH_SUMM, peerGroupId),
-                cli, id, readContext);
-        return getAfiSafiKeys(vrfKey, configuration);
+        return getAfiSafiKeys(BgpRouterConfig.read(this, runningConfigSnapshot, cli, id, readContext), vrfKey,
+                peerGroupId);
     }
 
     @VisibleForTesting
     static List<AfiSafiKey> getAfiSafiKeys(final NetworkInstanceKey vrfKey, final String configuration) {
-        return NeighborAfiSafiReader.getAfiKeys(configuration, vrfKey, line -> line.contains("neighbor"))
-                .stream()
+        return toPeerGroupKeys(NeighborAfiSafiReader.getAfiKeys(configuration, vrfKey,
+            line -> line.contains("neighbor")));
+    }
+
+    private static List<AfiSafiKey> getAfiSafiKeys(final BgpRouterConfig config, final NetworkInstanceKey vrfKey,
+                                                   final String peerGroupId) {
+        // any line of the peer-group in address family
+        return toPeerGroupKeys(NeighborAfiSafiReader.getAfiKeys(config, vrfKey,
+            section -> section.getNeighborLines(peerGroupId), line -> true));
+    }
+
+    private static List<AfiSafiKey> toPeerGroupKeys(List<org.opendaylight.yang.gen.v1.http.frinx.openconfig.net
+            .yang.bgp.rev170202.bgp.neighbor.afi.safi.list.AfiSafiKey> neighborKeys) {
+        return neighborKeys.stream()
                 .map(k -> new AfiSafiKey(k.getAfiSafiName()))
                 .collect(Collectors.toList());
     }
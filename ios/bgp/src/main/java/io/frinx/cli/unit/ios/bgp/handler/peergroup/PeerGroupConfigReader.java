@@ -19,8 +19,10 @@ package io.frinx.cli.unit.ios.bgp.handler.peergroup;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborConfigReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.peer.group.base.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.peer.group.base.ConfigBuilder;
@@ -31,9 +33,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class PeerGroupConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public PeerGroupConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public PeerGroupConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -44,18 +52,21 @@ public class PeerGroupConfigReader implements CliConfigReader<Config, ConfigBuil
         String peerGroupName = instanceIdentifier.firstKeyOf(PeerGroup.class).getPeerGroupName();
         configBuilder.setPeerGroupName(peerGroupName);
 
-        String output = blockingRead(String.format(NeighborConfigReader.SH_SUMM, peerGroupName), cli,
-                instanceIdentifier, readContext);
-        parseConfigAttributes(output, configBuilder, vrfName);
+        parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext)
+                .getNeighborLines(vrfName, peerGroupName), configBuilder);
     }
 
     static void parseConfigAttributes(String output, ConfigBuilder configBuilder, String vrfName) {
+        parseConfigAttributes(BgpRouterConfig.parse(output).getNeighborLines(vrfName), configBuilder);
+    }
+
+    private static void parseConfigAttributes(List<String> peerGroupLines, ConfigBuilder configBuilder) {
         org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.base.ConfigBuilder
                 neighborBuilder =
                 new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.base
                         .ConfigBuilder();
         // Reuse NeighboConfigReader to parse the fields
-        NeighborConfigReader.parseConfigAttributes(output, neighborBuilder, vrfName);
+        NeighborConfigReader.parseConfigAttributes(peerGroupLines, neighborBuilder);
         configBuilder.fieldsFrom(neighborBuilder.build());
     }
 }
@@ -19,12 +19,9 @@ package io.frinx.cli.unit.ios.bgp.handler.peergroup;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
-import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborConfigReader;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborPolicyConfigReader;
-import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
-import java.util.Arrays;
-import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
@@ -35,9 +32,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class PeerGroupPolicyConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public PeerGroupPolicyConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public PeerGroupPolicyConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -47,11 +50,8 @@ public class PeerGroupPolicyConfigReader implements CliConfigReader<Config, Conf
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
         String peerGroupId = PeerGroupWriter.getPeerGroupId(id);
 
-        String output = blockingRead(String.format(NeighborConfigReader.SH_SUMM, peerGroupId), cli, id, readContext);
-        String[] outputSplit = NeighborReader.splitOutput(output);
-        Stream<String> outputStream = Arrays.stream(outputSplit)
-                .filter(line -> !line.contains("address-family"));
-
-        NeighborPolicyConfigReader.parseConfigAttributes(configBuilder, vrfKey.getName(), outputStream);
+        NeighborPolicyConfigReader.parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli, id,
+                readContext).getNeighborLines(vrfKey.getName(), peerGroupId, BgpRouterConfig.Section::isGlobal),
+                configBuilder);
     }
 }
@@ -21,9 +21,9 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ios.bgp.handler.BgpProtocolReader;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
-import java.util.Arrays;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -37,9 +37,15 @@ public class PeerGroupReader implements CliConfigListReader<PeerGroup, PeerGroup
 
     private static final Pattern GROUP_LINE = Pattern.compile("neighbor (?<id>\\S+) peer-group");
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public PeerGroupReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public PeerGroupReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -47,20 +53,13 @@ public class PeerGroupReader implements CliConfigListReader<PeerGroup, PeerGroup
                                                @Nonnull ReadContext readContext) throws ReadFailedException {
 
         String networkInstanceName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
-        if (BgpProtocolReader.DEFAULT_BGP_INSTANCE.equals(networkInstanceName)) {
-            return getDefaultPeerGroupKeys(blockingRead(NeighborReader.SH_SUMM, cli, instanceIdentifier, readContext));
-        } else {
-            return getVrfPeerGroupKeys(blockingRead(NeighborReader.SH_SUMM, cli, instanceIdentifier, readContext),
-                    networkInstanceName);
-        }
+        return getPeerGroupKeys(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext),
+                networkInstanceName);
     }
 
     @VisibleForTesting
     static List<PeerGroupKey> getVrfPeerGroupKeys(String output, String vrfName) {
-        return NeighborReader.parseKeys(Arrays.stream(NeighborReader.splitOutput(output))
-                        .filter(value -> value.contains(vrfName))
-                        .findFirst(),
-                PeerGroupKey::new, GROUP_LINE);
+        return getPeerGroupKeys(BgpRouterConfig.parse(output), vrfName);
     }
 
     @Override
@@ -72,10 +71,10 @@ public class PeerGroupReader implements CliConfigListReader<PeerGroup, PeerGroup
 
     @VisibleForTesting
     static List<PeerGroupKey> getDefaultPeerGroupKeys(String output) {
-        return NeighborReader.parseKeys(Arrays.stream(NeighborReader.splitOutput(output))
-                        .filter(value -> !value.contains("vrf"))
-                        .findFirst(),
-                PeerGroupKey::new, GROUP_LINE);
+        return getPeerGroupKeys(BgpRouterConfig.parse(output), BgpProtocolReader.DEFAULT_BGP_INSTANCE);
     }
 
+    private static List<PeerGroupKey> getPeerGroupKeys(BgpRouterConfig config, String vrfName) {
+        return NeighborReader.parseKeys(config.getNeighborLines(vrfName), PeerGroupKey::new, GROUP_LINE);
+    }
 }
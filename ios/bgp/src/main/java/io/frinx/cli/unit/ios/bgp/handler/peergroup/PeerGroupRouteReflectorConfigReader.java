@@ -19,7 +19,7 @@ package io.frinx.cli.unit.ios.bgp.handler.peergroup;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
-import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborConfigReader;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborRouteReflectorConfigReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import javax.annotation.Nonnull;
@@ -32,9 +32,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class PeerGroupRouteReflectorConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public PeerGroupRouteReflectorConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public PeerGroupRouteReflectorConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -44,10 +50,7 @@ public class PeerGroupRouteReflectorConfigReader implements CliConfigReader<Conf
         String vrfName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         String peerGroupName = instanceIdentifier.firstKeyOf(PeerGroup.class).getPeerGroupName();
 
-        NeighborRouteReflectorConfigReader.parseConfigAttributes(
-                blockingRead(String.format(NeighborConfigReader.SH_SUMM, peerGroupName), cli,
-                instanceIdentifier,
-                readContext),
-                configBuilder, vrfName);
+        NeighborRouteReflectorConfigReader.parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli,
+                instanceIdentifier, readContext).getNeighborLines(vrfName, peerGroupName), configBuilder);
     }
 }
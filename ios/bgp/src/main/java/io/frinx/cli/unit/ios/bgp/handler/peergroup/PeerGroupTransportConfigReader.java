@@ -20,9 +20,10 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
-import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborConfigReader;
+import io.frinx.cli.unit.ios.bgp.handler.BgpRouterConfig;
 import io.frinx.cli.unit.ios.bgp.handler.neighbor.NeighborTransportConfigReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.peer.group.base.transport.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.peer.group.base.transport.ConfigBuilder;
@@ -33,9 +34,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class PeerGroupTransportConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public PeerGroupTransportConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public PeerGroupTransportConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -45,21 +52,22 @@ public class PeerGroupTransportConfigReader implements CliConfigReader<Config, C
         String vrfName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         String peerGroupName = instanceIdentifier.firstKeyOf(PeerGroup.class).getPeerGroupName();
 
-        String output = blockingRead(String.format(NeighborConfigReader.SH_SUMM, peerGroupName), cli,
-                instanceIdentifier,
-                readContext);
-        parseConfigAttributes(output, configBuilder, vrfName);
-
+        parseConfigAttributes(BgpRouterConfig.read(this, runningConfigSnapshot, cli, instanceIdentifier, readContext)
+                .getNeighborLines(vrfName, peerGroupName), configBuilder);
     }
 
     @VisibleForTesting
     static void parseConfigAttributes(String output, @Nonnull ConfigBuilder configBuilder, String vrfName) {
+        parseConfigAttributes(BgpRouterConfig.parse(output).getNeighborLines(vrfName), configBuilder);
+    }
+
+    private static void parseConfigAttributes(List<String> peerGroupLines, @Nonnull ConfigBuilder configBuilder) {
         // Reuse NeighboTransportConfigReader to parse the fields
         org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.base.transport
                 .ConfigBuilder neighborBuilder =
                 new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.base
                         .transport.ConfigBuilder();
-        NeighborTransportConfigReader.parseConfigAttributes(output, neighborBuilder, vrfName);
+        NeighborTransportConfigReader.parseConfigAttributes(peerGroupLines, neighborBuilder);
         configBuilder.fieldsFrom(neighborBuilder.build());
     }
 }
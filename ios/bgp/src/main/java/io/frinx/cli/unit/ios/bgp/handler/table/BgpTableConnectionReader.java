@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -66,16 +67,24 @@ public class BgpTableConnectionReader implements
             Pattern.compile(".*route-map (?<policy>\\S+).*");
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public BgpTableConnectionReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public BgpTableConnectionReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
     public List<TableConnectionKey> getAllIds(@Nonnull InstanceIdentifier<TableConnection> id,
                                                      @Nonnull ReadContext readContext) throws ReadFailedException {
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
-        String output = blockingRead(SH_BGP_REDIS, cli, id, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_BGP_REDIS, cli, id, readContext)
+                : blockingRead(SH_BGP_REDIS, cli, id, readContext);
         return parseRedistributes(vrfKey, output);
     }
 
@@ -185,7 +194,9 @@ public class BgpTableConnectionReader implements
                                              @Nonnull ReadContext readContext) throws ReadFailedException {
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
-        String output = blockingRead(SH_BGP_REDIS, cli, id, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_BGP_REDIS, cli, id, readContext)
+                : blockingRead(SH_BGP_REDIS, cli, id, readContext);
         output = realignOutput(output);
 
         Predicate<String> vrf = getVrfMatch(vrfKey);
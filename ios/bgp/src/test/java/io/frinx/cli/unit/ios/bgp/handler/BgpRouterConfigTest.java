@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.bgp.handler;
+
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BgpRouterConfigTest {
+
+    private static final String OUTPUT = "router bgp 65000\n"
+            + " bgp log-neighbor-changes\n"
+            + " neighbor 3.3.3.3 remote-as 65000\n"
+            + " neighbor 3.3.3.3 description neighbor 3.3.3.4\n"
+            + " neighbor abcd peer-group\n"
+            + " neighbor 3.3.3.4 peer-group abcd\n"
+            + " !\n"
+            + " address-family ipv4\n"
+            + "  network 10.0.0.0 mask 255.0.0.0\n"
+            + "  neighbor 3.3.3.3 activate\n"
+            + "  neighbor 3.3.3.3 route-map in1 in\n"
+            + " exit-address-family\n"
+            + " !\n"
+            + " address-family ipv4 multicast\n"
+            + "  neighbor 3.3.3.4 activate\n"
+            + " exit-address-family\n"
+            + " !\n"
+            + " address-family ipv4 vrf vrf1\n"
+            + "  neighbor 1.2.3.4 remote-as 65000\n"
+            + "  neighbor 1.2.3.4 activate\n"
+            + " exit-address-family\n"
+            + " !\n"
+            + " address-family ipv6 vrf vrf1\n"
+            + "  neighbor DEAD:BAAA::1 remote-as 65000\n"
+            + " exit-address-family";
+
+    @Test
+    public void testSections() {
+        BgpRouterConfig config = BgpRouterConfig.parse(OUTPUT);
+
+        Assert.assertEquals("65000", config.getAs().get());
+        Assert.assertEquals(5, config.getSections().size());
+
+        BgpRouterConfig.Section global = config.getGlobalSection().get();
+        Assert.assertTrue(global.isGlobal());
+        Assert.assertEquals(5, global.getLines().size());
+        Assert.assertEquals(Arrays.asList("3.3.3.3", "abcd", "3.3.3.4"), Arrays.asList(global.getNeighbors()
+                .toArray()));
+
+        List<BgpRouterConfig.Section> defaults = config.getSections("default");
+        Assert.assertEquals(Arrays.asList(null, "ipv4", "ipv4"), defaults.stream()
+                .map(BgpRouterConfig.Section::getAfi)
+                .collect(Collectors.toList()));
+        Assert.assertEquals("multicast", defaults.get(2).getSafi());
+        Assert.assertNull(defaults.get(1).getSafi());
+
+        List<BgpRouterConfig.Section> vrf1 = config.getSections("vrf1");
+        Assert.assertEquals(Arrays.asList("ipv4", "ipv6"), vrf1.stream()
+                .map(BgpRouterConfig.Section::getAfi)
+                .collect(Collectors.toList()));
+        Assert.assertEquals(Collections.singletonList("vrf1"), vrf1.stream()
+                .map(BgpRouterConfig.Section::getVrf)
+                .distinct()
+                .collect(Collectors.toList()));
+        Assert.assertTrue(config.getSections("vrf2").isEmpty());
+    }
+
+    @Test
+    public void testNeighborLines() {
+        BgpRouterConfig config = BgpRouterConfig.parse(OUTPUT);
+
+        Assert.assertEquals(Arrays.asList("neighbor 3.3.3.3 remote-as 65000",
+                "neighbor 3.3.3.3 description neighbor 3.3.3.4",
+                "neighbor 3.3.3.3 activate",
+                "neighbor 3.3.3.3 route-map in1 in"),
+                config.getNeighborLines("default", "3.3.3.3"));
+        Assert.assertEquals(Arrays.asList("neighbor 3.3.3.3 remote-as 65000",
+                "neighbor 3.3.3.3 description neighbor 3.3.3.4"),
+                config.getNeighborLines("default", "3.3.3.3", BgpRouterConfig.Section::isGlobal));
+        Assert.assertEquals(Collections.singletonList("neighbor 3.3.3.4 activate"),
+                config.getNeighborLines("default", "3.3.3.4", section -> "ipv4".equals(section.getAfi())));
+        Assert.assertEquals(Collections.singletonList("neighbor DEAD:BAAA::1 remote-as 65000"),
+                config.getNeighborLines("vrf1", "DEAD:BAAA::1"));
+        Assert.assertTrue(config.getNeighborLines("vrf1", "3.3.3.3").isEmpty());
+        Assert.assertEquals(3, config.getNeighborLines("vrf1").size());
+    }
+
+    @Test
+    public void testSectionFromRunningConfigSnapshot() {
+        Assert.assertEquals(OUTPUT, RunningConfigSnapshot.evaluate(BgpRouterConfig.SH_ROUTER_BGP, "hostname R1\n"
+                + OUTPUT + "\n"
+                + "!\n"
+                + "ip route 10.0.0.0 255.0.0.0 Null0").get());
+    }
+
+    @Test
+    public void testSkipOutputBeforeRouterBgp() {
+        BgpRouterConfig config = BgpRouterConfig.parse(" address-family ipv4\n"
+                + "  neighbor 1.1.1.1 activate\n"
+                + "router bgp 1\r\n"
+                + " neighbor 2.2.2.2 remote-as 1\r\n");
+
+        Assert.assertEquals(1, config.getSections().size());
+        Assert.assertEquals(Collections.singletonList("neighbor 2.2.2.2 remote-as 1"),
+                config.getNeighborLines("default"));
+        Assert.assertFalse(BgpRouterConfig.parse("").getAs().isPresent());
+        Assert.assertFalse(BgpRouterConfig.parse("").getGlobalSection().isPresent());
+    }
+}
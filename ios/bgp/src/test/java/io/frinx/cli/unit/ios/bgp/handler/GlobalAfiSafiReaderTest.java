@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.ios.bgp.handler;
 
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
@@ -43,5 +44,14 @@ public class GlobalAfiSafiReaderTest {
         Assert.assertThat(defaultFamilies, CoreMatchers.hasItems(ipv4Key));
 
     }
+
+    @Test
+    public void testParseFromRunningConfigSnapshot() throws Exception {
+        String output = RunningConfigSnapshot.evaluate(GlobalAfiSafiReader.SH_AFI, BGP_OUTPUT).get();
+        Assert.assertEquals(GlobalAfiSafiReader.getAfiKeys(BGP_OUTPUT, "a"),
+                GlobalAfiSafiReader.getAfiKeys(output, "a"));
+        Assert.assertEquals(GlobalAfiSafiReader.getDefaultAfiKeys(BGP_OUTPUT),
+                GlobalAfiSafiReader.getDefaultAfiKeys(output));
+    }
 }
 
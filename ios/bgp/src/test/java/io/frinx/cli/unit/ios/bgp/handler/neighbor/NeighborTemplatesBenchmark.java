@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.bgp.handler.neighbor;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import io.frinx.cli.unit.utils.CliFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.BgpCommonNeighborGroupTransportConfig;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.common.structure.neighbor.group.route.reflector.RouteReflectorBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.afi.safi.list.AfiSafiBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.base.AfiSafisBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.base.ConfigBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.base.TransportBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.list.Neighbor;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.neighbor.list.NeighborBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp.top.bgp.GlobalBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.types.rev170202.CommunityType;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.types.rev170202.IPV4UNICAST;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.types.rev170202.IPV6UNICAST;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.openconfig.types.rev170113.EncryptedPassword;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.openconfig.types.rev170113.PlainString;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.policy.rev170714.apply.policy.group.ApplyPolicyBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.AsNumber;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.IpAddress;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.Ipv4Address;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of the {@link NeighborWriter} write templates rendered by {@link CliFormatter#fT(String, Object...)},
+ * which parses the template on every call, and by {@link NeighborWriter#TEMPLATES}, which NeighborWriter uses.
+ * Every invocation renders the template once per neighbor, as a commit of many BGP neighbors does.
+ * Run with the benchmark profile: mvn -Pbenchmark verify -pl ios/bgp
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NeighborTemplatesBenchmark implements CliFormatter {
+
+    @Param({"global", "vrf"})
+    public String template;
+
+    @Param("200")
+    public int neighbors;
+
+    private String source;
+    private List<Object[]> params;
+
+    @Setup
+    public void setUp() {
+        source = "vrf".equals(template) ? NeighborWriter.NEIGHBOR_VRF : NeighborWriter.NEIGHBOR_GLOBAL;
+        params = new ArrayList<>(neighbors);
+        for (int i = 0; i < neighbors; i++) {
+            Neighbor neighbor = neighbor(i);
+            Map<String, Object> afiSafis = NeighborWriter.getAfiSafisForNeighbor(new GlobalBuilder().build(),
+                    NeighborWriter.getAfiSafisForNeighbor(neighbor.getAfiSafis()));
+            params.add(new Object[]{
+                "as", 65000L,
+                "vrf", "vrf1",
+                "neighbor_id", NeighborWriter.getNeighborIp(neighbor.getNeighborAddress()),
+                "neighbor", neighbor,
+                "before", null,
+                "afis", afiSafis,
+                "before_afis", Collections.emptyMap(),
+                "route_reflect_client", NeighborWriter.isRouteReflectClient(neighbor),
+                "before_route_reflect_client", null,
+                "enabled", neighbor.getConfig().isEnabled(),
+                "before_enabled", null});
+        }
+        Preconditions.checkState(NeighborWriter.TEMPLATES.isCompiled(source), "Template is not compiled");
+        for (Object[] neighborParams : params) {
+            String expected = fT(source, neighborParams);
+            String actual = NeighborWriter.TEMPLATES.fT(source, neighborParams);
+            Preconditions.checkState(expected.equals(actual), "Outputs differ:%n%s%n%s", expected, actual);
+        }
+    }
+
+    @Benchmark
+    public long chunkFormatter() {
+        long chars = 0;
+        for (Object[] neighborParams : params) {
+            chars += fT(source, neighborParams).length();
+        }
+        return chars;
+    }
+
+    @Benchmark
+    public long templateRegistry() {
+        long chars = 0;
+        for (Object[] neighborParams : params) {
+            chars += NeighborWriter.TEMPLATES.fT(source, neighborParams).length();
+        }
+        return chars;
+    }
+
+    /**
+     * Neighbor with description, password, transport, policies, route reflector and two address families.
+     */
+    private static Neighbor neighbor(int index) {
+        IpAddress address = new IpAddress(new Ipv4Address(String.format("10.%d.%d.1", index >> 8 & 0xff,
+                index & 0xff)));
+        return new NeighborBuilder()
+                .setNeighborAddress(address)
+                .setConfig(new ConfigBuilder()
+                        .setNeighborAddress(address)
+                        .setPeerAs(new AsNumber(64512L + index % 100))
+                        .setAuthPassword(new EncryptedPassword(new PlainString("passwd" + index)))
+                        .setDescription("neighbor " + index)
+                        .setSendCommunity(CommunityType.BOTH)
+                        .setEnabled(true)
+                        .build())
+                .setTransport(new TransportBuilder()
+                        .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp
+                                .neighbor.base.transport.ConfigBuilder()
+                                .setLocalAddress(new BgpCommonNeighborGroupTransportConfig.LocalAddress("Loopback0"))
+                                .build())
+                        .build())
+                .setApplyPolicy(new ApplyPolicyBuilder()
+                        .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.routing.policy
+                                .rev170714.apply.policy.group.apply.policy.ConfigBuilder()
+                                .setImportPolicy(Lists.newArrayList("import" + index))
+                                .setExportPolicy(Lists.newArrayList("export" + index))
+                                .build())
+                        .build())
+                .setRouteReflector(new RouteReflectorBuilder()
+                        .setConfig(new org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.bgp.rev170202.bgp
+                                .common.structure.neighbor.group.route.reflector.route.reflector.ConfigBuilder()
+                                .setRouteReflectorClient(true)
+                                .build())
+                        .build())
+                .setAfiSafis(new AfiSafisBuilder()
+                        .setAfiSafi(Lists.newArrayList(
+                                new AfiSafiBuilder().setAfiSafiName(IPV4UNICAST.class).build(),
+                                new AfiSafiBuilder().setAfiSafiName(IPV6UNICAST.class).build()))
+                        .build())
+                .build();
+    }
+}
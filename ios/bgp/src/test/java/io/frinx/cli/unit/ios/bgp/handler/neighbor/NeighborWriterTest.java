@@ -196,6 +196,31 @@ public class NeighborWriterTest implements CliFormatter {
         Assert.assertEquals(delete, deleteRender);
     }
 
+    @Test
+    public void testCompiledTemplates() {
+        Map<String, Object> afiSafis = NeighborWriter.getAfiSafisForNeighbor(bgpConfig,
+                NeighborWriter.getAfiSafisForNeighbor(source.getAfiSafis()));
+        String neighborId = NeighborWriter.getNeighborIp(source.getNeighborAddress());
+        Object[] params = {
+            "as", as,
+            "vrf", vrf,
+            "neighbor_id", neighborId,
+            "neighbor", source,
+            "before", after,
+            "afis", afiSafis,
+            "before_afis", Collections.emptyMap(),
+            "route_reflect_client", NeighborWriter.isRouteReflectClient(source),
+            "before_route_reflect_client", NeighborWriter.isRouteReflectClient(after),
+            "enabled", source.getConfig().isEnabled(),
+            "before_enabled", after == null ? null : after.getConfig().isEnabled()};
+
+        for (String template : Arrays.asList(NeighborWriter.NEIGHBOR_GLOBAL, NeighborWriter.NEIGHBOR_VRF,
+                NeighborWriter.NEIGHBOR_GLOBAL_DELETE, NeighborWriter.NEIGHBOR_GLOBAL_DELETE_AFI,
+                NeighborWriter.NEIGHBOR_VRF_DELETE)) {
+            Assert.assertEquals(fT(template, params), NeighborWriter.TEMPLATES.fT(template, params));
+        }
+    }
+
     private InstanceIdentifier<Neighbor> getId() {
         return IIDs.NETWORKINSTANCES
                 .child(NetworkInstance.class, new NetworkInstanceKey(vrf))
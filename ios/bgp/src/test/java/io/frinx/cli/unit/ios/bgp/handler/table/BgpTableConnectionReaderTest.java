@@ -17,6 +17,7 @@
 package io.frinx.cli.unit.ios.bgp.handler.table;
 
 import com.google.common.collect.Lists;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import org.junit.Assert;
 import org.junit.Test;
@@ -66,4 +67,18 @@ public class BgpTableConnectionReaderTest {
 
         Assert.assertEquals(Lists.newArrayList("alala"), redis.getImportPolicy());
     }
+
+    @Test
+    public void getAllIdsFromRunningConfigSnapshot() throws Exception {
+        String output = RunningConfigSnapshot.evaluate(BgpTableConnectionReader.SH_BGP_REDIS, OUTPUT).get();
+        Assert.assertEquals(
+                Lists.newArrayList(
+                        new TableConnectionKey(IPV4.class, BGP.class, OSPF.class),
+                        new TableConnectionKey(IPV6.class, BGP.class, OSPF.class)),
+                BgpTableConnectionReader.parseRedistributes(NetworInstance.DEFAULT_NETWORK, output));
+        Assert.assertEquals(
+                Lists.newArrayList(
+                        new TableConnectionKey(IPV4.class, BGP.class, OSPF.class)),
+                BgpTableConnectionReader.parseRedistributes(new NetworkInstanceKey("aaa"), output));
+    }
 }
\ No newline at end of file
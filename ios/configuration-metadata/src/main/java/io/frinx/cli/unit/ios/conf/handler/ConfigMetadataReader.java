@@ -20,11 +20,10 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
+import io.frinx.cli.unit.ios.init.snapshot.ConfigFingerprintCache;
 import io.frinx.cli.unit.utils.CliOperReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
-import java.util.List;
 import java.util.Optional;
-import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.configuration.metadata.rev180731.metadata.ConfigurationMetadata;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.configuration.metadata.rev180731.metadata.ConfigurationMetadataBuilder;
@@ -32,10 +31,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class ConfigMetadataReader implements CliOperReader<ConfigurationMetadata, ConfigurationMetadataBuilder> {
 
-    private static final String SHOW_LAST_COMMIT_TIME = "show history all | include Configured from";
-    private static final String DATE_REGEX = "\\*(?<time>.+): (?<config>.+) Configured from (?<device>.+) by (?<user>"
-            + ".+).*";
-    private static final Pattern PATTERN = Pattern.compile(DATE_REGEX);
+    private static final String SHOW_LAST_COMMIT_TIME = ConfigFingerprintCache.SH_CONFIGURED_FROM;
     private final Cli cli;
 
     public ConfigMetadataReader(final Cli cli) {
@@ -44,13 +40,7 @@ public class ConfigMetadataReader implements CliOperReader<ConfigurationMetadata
 
     @VisibleForTesting
     static Optional<String> getLastConfigurationFingerprint(String timeFormat) {
-
-        List<String> output = ParsingUtils.parseFields(timeFormat, 0, PATTERN::matcher, m -> m.group("time"),
-                String::trim);
-        if (output.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(output.get(output.size() - 1));
+        return ConfigFingerprintCache.parseFingerprint(timeFormat);
     }
 
     @Override
@@ -61,6 +51,7 @@ public class ConfigMetadataReader implements CliOperReader<ConfigurationMetadata
 
         Optional<String> data = getLastConfigurationFingerprint(output);
         data.ifPresent(configurationMetadataBuilder::setLastConfigurationFingerprint);
+        data.ifPresent(fingerprint -> DeviceFactsCache.getInstance().updateFingerprint(cli, fingerprint));
     }
 }
 
@@ -20,16 +20,26 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
-import io.frinx.cli.io.PromptResolutionStrategy;
+import io.fd.honeycomb.translate.spi.write.PostCommitHook;
+import io.fd.honeycomb.translate.spi.write.PostFailedHook;
 import io.frinx.cli.io.Session;
 import io.frinx.cli.io.SessionException;
 import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
+import io.frinx.cli.unit.ios.init.probe.CapabilityProbes;
+import io.frinx.cli.unit.ios.init.snapshot.ConfigFingerprintCache;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
-import java.util.Arrays;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -61,8 +71,44 @@ public class IosCliInitializerUnit extends AbstractUnit {
 
     private static final Logger LOG = LoggerFactory.getLogger(IosCliInitializerUnit.class);
 
+    public static final ErrorPatternMatcher ERROR_PATTERNS = ErrorPatternMatcher.builder()
+            .add(Pattern.compile("(^|\\n)^\\s+\\^.*", Pattern.DOTALL), "^")
+            .add(Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL), "% invalid input")
+            .add(Pattern.compile("(^|\\n)% (?i)Incomplete command(?-i).*", Pattern.DOTALL), "% incomplete command")
+            .add(Pattern.compile("% .* overlaps with \\w"), " overlaps with ")
+            .build();
+
+    private final String fingerprintCacheDirectory;
+
     public IosCliInitializerUnit(@Nonnull final TranslationUnitCollector registry) {
+        this(registry, "");
+    }
+
+    /**
+     * Unit storing running configurations of devices in given directory, so that they are reused after
+     * a reconnect or restart as long as the configuration fingerprint of the device stays the same.
+     *
+     * @param fingerprintCacheDirectory directory for stored configurations, empty to keep them in memory only
+     */
+    public IosCliInitializerUnit(@Nonnull final TranslationUnitCollector registry,
+                                 @Nonnull final String fingerprintCacheDirectory) {
         super(registry);
+        this.fingerprintCacheDirectory = fingerprintCacheDirectory.trim();
+    }
+
+    @Override
+    public void init() {
+        if (!fingerprintCacheDirectory.isEmpty()) {
+            Path directory = Paths.get(fingerprintCacheDirectory);
+            try {
+                Files.createDirectories(directory);
+                RunningConfigSnapshot.setFingerprintCache(ConfigFingerprintCache.persistent(directory));
+            } catch (IOException e) {
+                LOG.warn("Unable to create directory {}, running configurations are kept in memory only",
+                        directory, e);
+            }
+        }
+        super.init();
     }
 
     @Override
@@ -92,29 +138,42 @@ public class IosCliInitializerUnit extends AbstractUnit {
                                 @Nonnull final TranslateUnit.Context context) {
         readRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
         writeRegistry.addCheckRegistry(ChecksMap.OPENCONFIG_REGISTRY);
+        // device (re)connected, facts and capabilities read over a previous connection may be outdated
+        DeviceFactsCache.getInstance().invalidate(context.getTransport());
+        CapabilityProbes.reset(context.getTransport());
+    }
+
+    @Override
+    public PostCommitHook getCommitHook(TranslateUnit.Context context, Set<Pattern> errorCommitPatterns) {
+        return () -> RunningConfigSnapshot.invalidate(context.getTransport());
+    }
+
+    @Override
+    public PostFailedHook getPostFailedHook(TranslateUnit.Context context) {
+        return causingException -> RunningConfigSnapshot.invalidate(context.getTransport());
     }
 
     @Override
     public Set<Pattern> getErrorPatterns() {
-        return Sets.newLinkedHashSet(Arrays.asList(
-                Pattern.compile("(^|\\n)^\\s+\\^.*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)% (?i)Incomplete command(?-i).*", Pattern.DOTALL),
-                Pattern.compile("% .* overlaps with \\w")
-        ));
+        return Sets.newLinkedHashSet(ERROR_PATTERNS.getPatterns());
+    }
+
+    /**
+     * Error patterns of {@link #getErrorPatterns()} compiled into a single matcher, for checking of large outputs.
+     */
+    public ErrorPatternMatcher getErrorPatternMatcher() {
+        return ERROR_PATTERNS;
     }
 
     /**
      * Initialize IOS CLI session to be usable by various CRUD and RPC handlers.
      */
     public static class IosCliInitializer implements SessionInitializationStrategy {
-        private static final String PASSWORD_PROMPT = "Password:";
         private static final String PRIVILEGED_PROMPT_SUFFIX = "#";
         private static final String ENABLE_COMMAND = "enable";
         private static final String SET_TERMINAL_LENGTH_COMMAND = "terminal length 0";
         private static final String SET_TERMINAL_WIDTH_COMMAND = "terminal width 0";
-        private static final int WRITE_TIMEOUT_SECONDS = 10;
-        private static final int READ_TIMEOUT_SECONDS = 1;
+        private static final int EXPECT_TIMEOUT_SECONDS = 10;
 
         private final CliNode context;
         private final RemoteDeviceId id;
@@ -127,20 +186,17 @@ public class IosCliInitializerUnit extends AbstractUnit {
         @Override
         public void accept(@Nonnull Session session, @Nonnull String newline) {
             try {
-                final String initialPrompt =
-                        PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
+                SessionExpect expect = new SessionExpect(session, EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                final String initialPrompt = expect.resolvePrompt(newline);
 
                 // Set terminal length to 0 to prevent "--More--" situation
                 LOG.debug("{}: Setting terminal length to 0 to prevent \"--More--\" situation", id);
-                write(session, newline, SET_TERMINAL_LENGTH_COMMAND);
+                String initOutput = expect.execute(newline, SET_TERMINAL_LENGTH_COMMAND, initialPrompt);
 
                 // Set terminal width to 0 to prevent command shortening
                 LOG.debug("{}: Setting terminal width to 0", id);
-                write(session, newline, SET_TERMINAL_WIDTH_COMMAND);
-
-                String initOutput = session.readUntilOutput(initialPrompt)
-                        .toCompletableFuture()
-                        .get();
+                // prompt of each command has to be read, a stale prompt would be taken as answer to "enable"
+                initOutput += expect.execute(newline, SET_TERMINAL_WIDTH_COMMAND, initialPrompt);
 
                 LOG.debug("{}: {} cli session initialized output: {}", id, getOsNameForLogging(), initOutput);
                 // If already in privileged mode, don't do anything else
@@ -150,10 +206,10 @@ public class IosCliInitializerUnit extends AbstractUnit {
                 }
 
                 // Enable privileged mode
-                tryToEnterPrivilegedMode(session, newline);
+                tryToEnterPrivilegedMode(session, expect, newline);
 
                 // Check if we are actually in privileged mode
-                String prompt = PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
+                String prompt = expect.resolvePrompt(newline);
 
                 // If not, fail
                 Preconditions.checkState(prompt.endsWith(PRIVILEGED_PROMPT_SUFFIX),
@@ -174,39 +230,36 @@ public class IosCliInitializerUnit extends AbstractUnit {
             return "IOS";
         }
 
-        private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull String newline)
+        private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull SessionExpect expect,
+                                              @Nonnull String newline)
                 throws InterruptedException, ExecutionException, TimeoutException {
 
             write(session, newline, ENABLE_COMMAND);
-            String enableCommandOutput = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
+            SessionExpect.Match enableCommandOutput = expect.expect(SessionExpect.PASSWORD_PROMPT,
+                    SessionExpect.PROMPT);
 
             // password is requested
-            // TODO When reading from session, we can see all previously
-            // unread output, that is also previous commands, prompt, etc.
-            // That's why we have to use String#endWith method to check
-            // if command's output matches something.
-            // Can we hide this in session's API?
-            if (enableCommandOutput.endsWith(PASSWORD_PROMPT)) {
+            if (enableCommandOutput.is(SessionExpect.PASSWORD_PROMPT)) {
                 String password = getEnablePasswordFromCliNode();
                 write(session, newline, password);
 
-                String output = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
-                if (output.endsWith(PASSWORD_PROMPT)) {
+                SessionExpect.Match output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
+                if (output.is(SessionExpect.PASSWORD_PROMPT)) {
                     LOG.warn("{}: Specified enable password is not correct", id);
 
                     // We have entered incorrect password and we can be asked for
                     // correct one multiple times. Just skip those requests.
-                    while (output.endsWith(PASSWORD_PROMPT)) {
-                        session.write(newline).toCompletableFuture().get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                        output = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
+                    while (output.is(SessionExpect.PASSWORD_PROMPT)) {
+                        session.write(newline).toCompletableFuture().get(EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
                     }
 
                 } else {
-                    LOG.debug("{}: Entering enable password resulted in output: {}", id, output);
+                    LOG.debug("{}: Entering enable password resulted in output: {}", id, output.getOutput());
                 }
             } else {
                 LOG.debug("{}: enable command did not resulted in password prompt, enable command output: {}",
-                        id, enableCommandOutput);
+                        id, enableCommandOutput.getOutput());
             }
         }
 
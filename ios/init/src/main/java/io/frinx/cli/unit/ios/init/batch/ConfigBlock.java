@@ -0,0 +1,202 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.batch;
+
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Single "configure terminal" ... "end" block rendered from commands of several writers.
+ *
+ * <p>Each writer command is reduced to its body, that is the lines between "configure terminal" and "end".
+ * First line of the body is the context the writer enters (e.g. "ip access-list extended X", "router bgp N").
+ * When consecutive bodies enter the same context and the previous body did not leave it, the context line is
+ * not repeated. Bodies entering a different context rely on IOS falling back from a sub-mode to global
+ * configuration mode when a global configuration command is entered.
+ */
+final class ConfigBlock {
+
+    static final String CONFIGURE_TERMINAL = "configure terminal";
+    static final String END = "end";
+
+    // lines which may leave the context entered by the first line of the body
+    private static final Pattern MODE_CHANGE =
+            Pattern.compile("^(exit\\S*|address-family|vrf|class|police|service|template|session)( .*)?$");
+
+    private final List<String> lines = new ArrayList<>();
+    private final List<Entry> origins = new ArrayList<>();
+
+    ConfigBlock(@Nonnull List<Entry> entries) {
+        add(CONFIGURE_TERMINAL, null);
+        Entry previous = null;
+        for (Entry entry : entries) {
+            int from = previous != null && previous.staysInContext()
+                    && previous.getContext().equals(entry.getContext()) ? 1 : 0;
+            for (String line : entry.getBody().subList(from, entry.getBody().size())) {
+                add(line, entry);
+            }
+            previous = entry;
+        }
+        add(END, null);
+    }
+
+    private void add(String line, Entry origin) {
+        lines.add(line);
+        origins.add(origin);
+    }
+
+    /**
+     * Body of a writer command, or empty if the command is not a single "configure terminal" ... "end" block
+     * and so cannot be batched.
+     */
+    static Optional<List<String>> parseBody(@Nonnull String command) {
+        List<String> commandLines = ParsingUtils.NEWLINE.splitAsStream(command)
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.toList());
+        if (commandLines.size() < 3
+                || !CONFIGURE_TERMINAL.equals(commandLines.get(0))
+                || !END.equals(commandLines.get(commandLines.size() - 1))) {
+            return Optional.empty();
+        }
+        List<String> body = commandLines.subList(1, commandLines.size() - 1);
+        if (body.contains(CONFIGURE_TERMINAL) || body.contains(END)) {
+            return Optional.empty();
+        }
+        return Optional.of(Collections.unmodifiableList(new ArrayList<>(body)));
+    }
+
+    @Nonnull
+    String getCommand() {
+        return String.join("\n", lines) + "\n";
+    }
+
+    /**
+     * Find first error printed by the device in output of the block and the writer command which caused it.
+     * Output following echo of a line is attributed to the writer command the line came from.
+     */
+    @Nonnull
+    Optional<Failure> findFailure(@Nonnull String output, @Nonnull ErrorPatternMatcher errorPatterns) {
+        int segmentStart = 0;
+        Entry segmentOrigin = null;
+        for (int i = 0; i < lines.size(); i++) {
+            int echo = findEcho(output, lines.get(i), segmentStart);
+            if (echo == -1) {
+                continue;
+            }
+            Optional<Failure> failure = checkSegment(output.substring(segmentStart, echo), segmentOrigin,
+                    errorPatterns);
+            if (failure.isPresent()) {
+                return failure;
+            }
+            segmentStart = echo + lines.get(i).length();
+            segmentOrigin = origins.get(i);
+        }
+        return checkSegment(output.substring(segmentStart), segmentOrigin, errorPatterns);
+    }
+
+    private static Optional<Failure> checkSegment(String segment, Entry origin, ErrorPatternMatcher errorPatterns) {
+        if (errorPatterns.matches(segment)) {
+            return Optional.of(new Failure(origin, segment.trim()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Position of the line echoed by the device, i.e. the line followed by end of line.
+     */
+    private static int findEcho(String output, String line, int from) {
+        int pos = output.indexOf(line, from);
+        while (pos != -1) {
+            int end = pos + line.length();
+            if (end == output.length() || output.charAt(end) == '\n' || output.charAt(end) == '\r') {
+                return pos;
+            }
+            pos = output.indexOf(line, pos + 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Writer command waiting in the batch.
+     */
+    static final class Entry {
+
+        private final Class<?> writer;
+        private final InstanceIdentifier<?> id;
+        private final List<String> body;
+
+        Entry(@Nonnull Class<?> writer, @Nonnull InstanceIdentifier<?> id, @Nonnull List<String> body) {
+            this.writer = writer;
+            this.id = id;
+            this.body = body;
+        }
+
+        Class<?> getWriter() {
+            return writer;
+        }
+
+        InstanceIdentifier<?> getId() {
+            return id;
+        }
+
+        List<String> getBody() {
+            return body;
+        }
+
+        String getContext() {
+            return body.get(0);
+        }
+
+        boolean staysInContext() {
+            return body.stream()
+                    .skip(1)
+                    .noneMatch(line -> MODE_CHANGE.matcher(line).matches());
+        }
+    }
+
+    /**
+     * Error found in output of the block.
+     */
+    static final class Failure {
+
+        private final Entry origin;
+        private final String output;
+
+        Failure(@Nullable Entry origin, @Nonnull String output) {
+            this.origin = origin;
+            this.output = output;
+        }
+
+        Optional<Entry> getOrigin() {
+            return Optional.ofNullable(origin);
+        }
+
+        String getOutput() {
+            return output;
+        }
+    }
+}
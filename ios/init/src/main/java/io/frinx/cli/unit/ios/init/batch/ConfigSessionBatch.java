@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.batch;
+
+import io.fd.honeycomb.translate.spi.write.CommitFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * "configure terminal" ... "end" commands of one writer invocation, sent to the device as a single
+ * {@link ConfigBlock}.
+ *
+ * <p>A writer which changes many list entries at once (e.g. all entries of an ACL set) adds the command of each
+ * entry and sends the batch before it returns. Errors found in output of the block are reported together with
+ * the entry whose command caused them, and fail the writer which sent the batch. The device applies the rest of
+ * the block regardless, so the writer has to put the data back to its previous state before it fails.
+ */
+public final class ConfigSessionBatch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigSessionBatch.class);
+
+    private final Cli cli;
+    private final ErrorPatternMatcher errorPatterns;
+    private final List<ConfigBlock.Entry> entries = new ArrayList<>();
+
+    public ConfigSessionBatch(@Nonnull Cli cli, @Nonnull ErrorPatternMatcher errorPatterns) {
+        this.cli = cli;
+        this.errorPatterns = errorPatterns;
+    }
+
+    /**
+     * Collect a command.
+     *
+     * @param writer class of the writer rendering the command
+     * @param command single "configure terminal" ... "end" block
+     * @param id id of the data the command belongs to
+     * @throws IllegalArgumentException if the command is not a single configuration block
+     */
+    public void add(@Nonnull Class<?> writer, @Nonnull String command, @Nonnull InstanceIdentifier<?> id) {
+        Optional<List<String>> body = ConfigBlock.parseBody(command);
+        if (!body.isPresent()) {
+            throw new IllegalArgumentException("Not a single configuration block: " + command);
+        }
+        entries.add(new ConfigBlock.Entry(writer, id, body.get()));
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Send all collected commands.
+     *
+     * @throws CommitFailedException if sending failed or the device reported an error
+     */
+    public void send() throws CommitFailedException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        ConfigBlock block = new ConfigBlock(entries);
+
+        LOG.debug("{}: Sending {} batched commands", cli.getDeviceId(), entries.size());
+        String output;
+        try {
+            output = cli.executeAndRead(Command.writeCommandNoChecks(block.getCommand()))
+                    .toCompletableFuture()
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommitFailedException(cli.getDeviceId() + ": Sending of batched commands interrupted");
+        } catch (ExecutionException e) {
+            LOG.warn("{}: Sending of batched commands failed", cli.getDeviceId(), e);
+            throw new CommitFailedException(cli.getDeviceId() + ": Sending of batched commands failed - "
+                    + e.getMessage());
+        }
+
+        Optional<ConfigBlock.Failure> failure = block.findFailure(output, errorPatterns);
+        if (failure.isPresent()) {
+            String origin = failure.get().getOrigin()
+                    .map(entry -> entry.getWriter().getSimpleName() + " for " + entry.getId())
+                    .orElse("Batched commands");
+            LOG.warn("{}: {} failed: {}", cli.getDeviceId(), origin, failure.get().getOutput());
+            throw new CommitFailedException(cli.getDeviceId() + ": " + origin + " failed - "
+                    + failure.get().getOutput());
+        }
+    }
+}
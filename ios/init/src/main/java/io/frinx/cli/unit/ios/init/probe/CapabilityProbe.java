@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.ios.init.probe;
+
+import io.frinx.cli.io.Cli;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.Nonnull;
+
+/**
+ * Probe of a device capability, e.g. which syntax of a command the device accepts.
+ *
+ * <p>Probes are run through {@link CapabilityProbes}, at most once per session. Result of a probe is identified
+ * by the probe instance, so probes should be constants.
+ *
+ * @param <T> result of the probe
+ */
+@FunctionalInterface
+public interface CapabilityProbe<T> {
+
+    /**
+     * Find out the capability by executing commands on the device. Device has to be left in the mode it was in
+     * before the probe.
+     */
+    @Nonnull
+    T probe(@Nonnull Cli cli) throws ExecutionException, InterruptedException;
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.ios.init.probe;
+
+import io.frinx.cli.io.Cli;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Results of capability probes, kept for the lifetime of a session.
+ *
+ * <p>Some writers have to find out which syntax the device accepts before they write, typically by looking at
+ * the "?" help output in configuration mode. Such probes are slow and their result does not change while the device
+ * is connected, so every probe runs only once per session, when its result is needed for the first time. All
+ * results of a device are dropped when it (re)connects, see {@link #reset(Cli)}.
+ *
+ * <p>Results are kept in memory per {@link Cli} and are dropped together with the mount point.
+ */
+public final class CapabilityProbes {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CapabilityProbes.class);
+
+    private static final Map<Cli, Session> SESSIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private CapabilityProbes() {
+
+    }
+
+    /**
+     * Result of the probe for the device, probing the device if this session did not run the probe yet. Concurrent
+     * callers of the same probe wait for the first one, so the device is probed only once. Failed probes are not
+     * remembered, next call probes the device again.
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public static <T> T get(@Nonnull Cli cli, @Nonnull CapabilityProbe<T> probe)
+            throws ExecutionException, InterruptedException {
+        Session session = SESSIONS.computeIfAbsent(cli, c -> new Session());
+        T result = (T) session.results.get(probe);
+        if (result != null) {
+            return result;
+        }
+        synchronized (session.locks.computeIfAbsent(probe, p -> new Object())) {
+            result = (T) session.results.get(probe);
+            if (result == null) {
+                LOG.debug("{}: Probing device capability {}", cli.getDeviceId(), probe);
+                result = probe.probe(cli);
+                session.results.put(probe, result);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Drop all probe results of the device, e.g. when it (re)connects.
+     */
+    public static void reset(@Nonnull Cli cli) {
+        SESSIONS.remove(cli);
+    }
+
+    private static final class Session {
+
+        private final Map<CapabilityProbe<?>, Object> results = new ConcurrentHashMap<>();
+        private final Map<CapabilityProbe<?>, Object> locks = new ConcurrentHashMap<>();
+    }
+}
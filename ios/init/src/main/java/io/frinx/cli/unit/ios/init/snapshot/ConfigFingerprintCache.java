@@ -0,0 +1,199 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.snapshot;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Last full running configuration of each device, together with the configuration fingerprint it was read at.
+ *
+ * <p>Fingerprint is the time of the last "Configured from" entry in "show history all", the same value the
+ * configuration-metadata unit reports as last configuration fingerprint. As long as the fingerprint of a device
+ * does not change, its running configuration is answered from this cache and the device only has to print the
+ * short history output instead of the whole configuration. Devices without a fingerprint are never cached.
+ *
+ * <p>Entries are kept in memory per {@link Cli} and are dropped together with the mount point. Optionally, every
+ * entry is also stored in a directory, one file per device, so that the configuration survives a reconnect or
+ * a restart as long as the fingerprint stays the same. The directory is given by the fingerprint-cache-directory
+ * property of the IOS cli init unit.
+ */
+public final class ConfigFingerprintCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConfigFingerprintCache.class);
+
+    public static final String SH_CONFIGURED_FROM = "show history all | include Configured from";
+
+    private static final Pattern CONFIGURED_FROM_LINE = Pattern.compile("\\*(?<time>.+): (?<config>.+) "
+            + "Configured from (?<device>.+) by (?<user>.+).*");
+    private static final Pattern UNSAFE_FILE_CHARS = Pattern.compile("[^\\w.-]");
+    private static final int FILE_PREFIX_LENGTH = 32;
+    private static final String FILE_SUFFIX = ".cfg";
+
+    private final Map<Cli, Entry> entries = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Path directory;
+
+    private ConfigFingerprintCache(@Nullable Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Cache keeping configurations in memory only.
+     */
+    @Nonnull
+    public static ConfigFingerprintCache inMemory() {
+        return new ConfigFingerprintCache(null);
+    }
+
+    /**
+     * Cache keeping configurations in memory and storing them in a directory.
+     *
+     * @param directory existing directory, configurations of all devices are stored there
+     */
+    @Nonnull
+    public static ConfigFingerprintCache persistent(@Nonnull Path directory) {
+        return new ConfigFingerprintCache(directory);
+    }
+
+    /**
+     * Time of the last configuration change in output of {@link #SH_CONFIGURED_FROM}.
+     */
+    @Nonnull
+    public static Optional<String> parseFingerprint(@Nonnull String output) {
+        List<String> times = ParsingUtils.parseFields(output, 0, CONFIGURED_FROM_LINE::matcher,
+                m -> m.group("time"), String::trim);
+        if (times.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(times.get(times.size() - 1));
+    }
+
+    /**
+     * Running configuration lines of the device read at given fingerprint.
+     */
+    @Nonnull
+    Optional<List<String>> get(@Nonnull Cli cli, @Nonnull String fingerprint) {
+        Entry entry = entries.get(cli);
+        if (entry == null && directory != null) {
+            entry = load(cli);
+            if (entry != null) {
+                entries.put(cli, entry);
+            }
+        }
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.lines);
+    }
+
+    void put(@Nonnull Cli cli, @Nonnull String fingerprint, @Nonnull List<String> lines) {
+        Entry entry = new Entry(fingerprint, lines);
+        entries.put(cli, entry);
+        if (directory != null) {
+            store(cli, entry);
+        }
+    }
+
+    /**
+     * Drop cached configuration of the device, e.g. after it was changed by a write transaction.
+     */
+    void invalidate(@Nonnull Cli cli) {
+        entries.remove(cli);
+        if (directory != null) {
+            try {
+                Files.deleteIfExists(getFile(cli));
+            } catch (IOException e) {
+                LOG.warn("{}: Unable to delete cached configuration", cli.getDeviceId(), e);
+            }
+        }
+    }
+
+    /**
+     * File of the device. Readable prefix of the device id only helps to find the file, different ids may share
+     * it (e.g. "a/b" and "a_b"), so the file is told apart by hash of the whole id.
+     */
+    @VisibleForTesting
+    Path getFile(Cli cli) {
+        String deviceId = String.valueOf(cli.getDeviceId());
+        String prefix = UNSAFE_FILE_CHARS.matcher(deviceId).replaceAll("_");
+        if (prefix.length() > FILE_PREFIX_LENGTH) {
+            prefix = prefix.substring(0, FILE_PREFIX_LENGTH);
+        }
+        return directory.resolve(prefix + "-" + Hashing.sha256().hashString(deviceId, StandardCharsets.UTF_8)
+                + FILE_SUFFIX);
+    }
+
+    private Entry load(Cli cli) {
+        Path file = getFile(cli);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.isEmpty()) {
+                return null;
+            }
+            return new Entry(lines.get(0), lines.subList(1, lines.size()));
+        } catch (IOException e) {
+            LOG.warn("{}: Unable to load cached configuration from {}", cli.getDeviceId(), file, e);
+            return null;
+        }
+    }
+
+    private void store(Cli cli, Entry entry) {
+        Path file = getFile(cli);
+        List<String> content = new ArrayList<>(entry.lines.size() + 1);
+        content.add(entry.fingerprint);
+        content.addAll(entry.lines);
+        try {
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), null);
+            Files.write(tmp, content, StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("{}: Unable to store cached configuration to {}", cli.getDeviceId(), file, e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final List<String> lines;
+
+        private Entry(String fingerprint, List<String> lines) {
+            this.fingerprint = fingerprint;
+            this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.snapshot;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Local evaluation of a filtered IOS "show running-config" command.
+ *
+ * <p>Supported commands are:
+ * <ul>
+ *   <li>show running-config</li>
+ *   <li>show running-config interface NAME</li>
+ *   <li>either of the above followed by one "| include|exclude|section|begin REGEX" pipe</li>
+ * </ul>
+ * IOS takes everything after the pipe keyword (including trailing spaces) as the regular expression,
+ * so that is what is done here as well. The expression is matched against each line separately
+ * (find semantics, ^ anchors to the start of the line).
+ *
+ * <p>IOS also accepts abbreviated interface names (e.g. "Gi1" for "GigabitEthernet1") while running-config
+ * always prints the full ones. Only interface names with a full, well-known type are evaluated locally.
+ */
+public final class RunningConfigQuery {
+
+    private static final Pattern COMMAND = Pattern.compile("^show running-config"
+            + "(?: interface (?<ifc>\\S+))?"
+            + "\\s*(?:\\|\\s*(?<op>\\S+) (?<regex>.+))?$");
+
+    private static final Pattern INTERFACE_LINE = Pattern.compile("^interface (?<name>\\S+)\\s*$");
+
+    private static final Pattern INTERFACE_NAME = Pattern.compile("^(?<type>[A-Za-z-]+)\\d\\S*$");
+
+    private static final Set<String> INTERFACE_TYPES = ImmutableSet.of("Loopback", "Ethernet", "FastEthernet",
+            "GigabitEthernet", "TenGigabitEthernet", "TwentyFiveGigE", "FortyGigabitEthernet", "HundredGigE",
+            "Port-channel", "Vlan", "Tunnel", "Serial", "BDI", "BVI", "Dialer", "Virtual-Template", "Null");
+
+    enum Operation {
+        INCLUDE("include"),
+        EXCLUDE("exclude"),
+        SECTION("section"),
+        BEGIN("begin");
+
+        private final String keyword;
+
+        Operation(String keyword) {
+            this.keyword = keyword;
+        }
+
+        /**
+         * IOS accepts any unambiguous abbreviation of the pipe keyword (e.g. "inc", "sec").
+         */
+        static Optional<Operation> forKeyword(String abbreviation) {
+            for (Operation operation : values()) {
+                if (operation.keyword.startsWith(abbreviation)) {
+                    return Optional.of(operation);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final String interfaceName;
+    private final Operation operation;
+    private final Pattern regex;
+
+    private RunningConfigQuery(@Nullable String interfaceName, @Nullable Operation operation,
+                               @Nullable Pattern regex) {
+        this.interfaceName = interfaceName;
+        this.operation = operation;
+        this.regex = regex;
+    }
+
+    /**
+     * Parse command into a query. Empty result means the command cannot be answered from
+     * running-config snapshot and has to be sent to the device.
+     */
+    @Nonnull
+    public static Optional<RunningConfigQuery> parse(@Nonnull String command) {
+        Matcher matcher = COMMAND.matcher(command);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String ifcName = matcher.group("ifc");
+        if (ifcName != null && !isFullInterfaceName(ifcName)) {
+            // possibly abbreviated, only the device knows which interface it means
+            return Optional.empty();
+        }
+        if (matcher.group("op") == null) {
+            return Optional.of(new RunningConfigQuery(ifcName, null, null));
+        }
+
+        Optional<Operation> operation = Operation.forKeyword(matcher.group("op"));
+        if (!operation.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new RunningConfigQuery(ifcName, operation.get(),
+                    Pattern.compile(matcher.group("regex"))));
+        } catch (PatternSyntaxException e) {
+            // IOS regex which is not valid java regex, let the device evaluate it
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isFullInterfaceName(String ifcName) {
+        Matcher matcher = INTERFACE_NAME.matcher(ifcName);
+        return matcher.matches() && INTERFACE_TYPES.contains(matcher.group("type"));
+    }
+
+    /**
+     * Evaluate query against lines of full running configuration.
+     */
+    @Nonnull
+    public String evaluate(@Nonnull List<String> runningConfig) {
+        List<String> scope = interfaceName == null ? runningConfig : interfaceBlock(runningConfig, interfaceName);
+        if (operation == null) {
+            return String.join("\n", scope);
+        }
+
+        List<String> output = new ArrayList<>();
+        switch (operation) {
+            case INCLUDE:
+                for (String line : scope) {
+                    if (regex.matcher(line).find()) {
+                        output.add(line);
+                    }
+                }
+                break;
+            case EXCLUDE:
+                for (String line : scope) {
+                    if (!regex.matcher(line).find()) {
+                        output.add(line);
+                    }
+                }
+                break;
+            case BEGIN:
+                for (int i = 0; i < scope.size(); i++) {
+                    if (regex.matcher(scope.get(i)).find()) {
+                        output.addAll(scope.subList(i, scope.size()));
+                        break;
+                    }
+                }
+                break;
+            case SECTION:
+                section(scope, output);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported operation " + operation);
+        }
+        return String.join("\n", output);
+    }
+
+    /**
+     * Matching line starts a section, all following lines with deeper indentation belong to it.
+     */
+    private void section(List<String> scope, List<String> output) {
+        int index = 0;
+        while (index < scope.size()) {
+            String line = scope.get(index++);
+            if (!regex.matcher(line).find()) {
+                continue;
+            }
+            output.add(line);
+            int indent = indentation(line);
+            while (index < scope.size() && indentation(scope.get(index)) > indent) {
+                output.add(scope.get(index++));
+            }
+        }
+    }
+
+    /**
+     * Interface block as printed by "show running-config interface NAME", without the
+     * "Building configuration..." header.
+     */
+    @VisibleForTesting
+    static List<String> interfaceBlock(List<String> runningConfig, String ifcName) {
+        List<String> block = new ArrayList<>();
+        for (int i = 0; i < runningConfig.size(); i++) {
+            Matcher matcher = INTERFACE_LINE.matcher(runningConfig.get(i));
+            if (matcher.matches() && matcher.group("name").equals(ifcName)) {
+                block.add(runningConfig.get(i));
+                for (int j = i + 1; j < runningConfig.size() && indentation(runningConfig.get(j)) > 0; j++) {
+                    block.add(runningConfig.get(j));
+                }
+                block.add("end");
+                break;
+            }
+        }
+        return block;
+    }
+
+    private static int indentation(String line) {
+        int indent = 0;
+        while (indent < line.length() && Character.isWhitespace(line.charAt(indent))) {
+            indent++;
+        }
+        return indent == line.length() ? 0 : indent;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.snapshot;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Running configuration snapshot shared by all readers within one read transaction.
+ *
+ * <p>Readers of units constructed with the runningConfigSnapshot flag read their "show running-config | include ..."
+ * style commands through {@link #blockingRead(CliReader, String, Cli, InstanceIdentifier, ReadContext)}. Full
+ * running configuration is then fetched from the device only once per {@link ReadContext} and every filtered
+ * command is evaluated locally by {@link RunningConfigQuery}. Commands which cannot be evaluated locally are sent to
+ * the device as usual. Readers of units without the flag send their commands to the device directly.
+ *
+ * <p>Full running configuration is also kept across read transactions in a {@link ConfigFingerprintCache}. Each
+ * transaction reads the configuration fingerprint first and fetches the running configuration again only if the
+ * fingerprint changed since the previous read. Devices which report no fingerprint are not asked for it again until
+ * the snapshot is invalidated, their running configuration is fetched in each transaction.
+ */
+public final class RunningConfigSnapshot {
+
+    public static final String SH_RUN = "show running-config";
+
+    private static final Object SNAPSHOT_KEY = RunningConfigSnapshot.class;
+
+    private static volatile ConfigFingerprintCache fingerprintCache = ConfigFingerprintCache.inMemory();
+
+    private static final Set<Cli> NO_FINGERPRINT = Collections.newSetFromMap(
+            Collections.synchronizedMap(new WeakHashMap<>()));
+
+    private RunningConfigSnapshot() {
+
+    }
+
+    /**
+     * Drop-in replacement for {@link CliReader#blockingRead(String, Cli, InstanceIdentifier, ReadContext)}.
+     *
+     * @param reader reader used to execute commands
+     * @param command command to be answered from snapshot
+     * @param cli cli
+     * @param id id of the data being read
+     * @param readContext context of current read transaction holding the snapshot
+     * @return output of the command, as the device would have printed it
+     * @throws ReadFailedException if the running configuration could not be read
+     */
+    public static String blockingRead(@Nonnull CliReader<?, ?> reader, @Nonnull String command, @Nonnull Cli cli,
+                                      @Nonnull InstanceIdentifier<?> id, @Nonnull ReadContext readContext)
+            throws ReadFailedException {
+        Optional<RunningConfigQuery> query = RunningConfigQuery.parse(command);
+        if (!query.isPresent()) {
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+
+        Object outputKey = new AbstractMap.SimpleEntry<>(SNAPSHOT_KEY, command);
+        String output = (String) readContext.getModificationCache().get(outputKey);
+        if (output == null) {
+            output = query.get().evaluate(getRunningConfig(reader, cli, id, readContext));
+            readContext.getModificationCache().put(outputKey, output);
+        }
+        return output;
+    }
+
+    /**
+     * Evaluate command against running configuration, as the device would.
+     *
+     * @param command filtered "show running-config" command
+     * @param runningConfig output of "show running-config"
+     * @return output of the command, empty if the command cannot be evaluated locally
+     */
+    @Nonnull
+    public static Optional<String> evaluate(@Nonnull String command, @Nonnull String runningConfig) {
+        return RunningConfigQuery.parse(command).map(query -> query.evaluate(splitLines(runningConfig)));
+    }
+
+    /**
+     * Replace cache of running configurations kept across read transactions, e.g. by a persistent one.
+     */
+    public static void setFingerprintCache(@Nonnull ConfigFingerprintCache cache) {
+        fingerprintCache = cache;
+    }
+
+    /**
+     * Drop running configuration of the device kept across read transactions, next read asks the device for its
+     * fingerprint again.
+     *
+     * @param cli transport of the device
+     */
+    public static void invalidate(@Nonnull Cli cli) {
+        fingerprintCache.invalidate(cli);
+        NO_FINGERPRINT.remove(cli);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> getRunningConfig(CliReader<?, ?> reader, Cli cli, InstanceIdentifier<?> id,
+                                                 ReadContext readContext) throws ReadFailedException {
+        List<String> lines = (List<String>) readContext.getModificationCache().get(SNAPSHOT_KEY);
+        if (lines == null) {
+            ConfigFingerprintCache cache = fingerprintCache;
+            Optional<String> fingerprint = readFingerprint(reader, cli, id, readContext);
+            fingerprint.ifPresent(value -> DeviceFactsCache.getInstance().updateFingerprint(cli, value));
+            Optional<List<String>> cached = fingerprint.flatMap(value -> cache.get(cli, value));
+            if (cached.isPresent()) {
+                lines = cached.get();
+            } else {
+                lines = splitLines(reader.blockingRead(SH_RUN, cli, id, readContext));
+                if (fingerprint.isPresent()) {
+                    cache.put(cli, fingerprint.get(), lines);
+                }
+            }
+            readContext.getModificationCache().put(SNAPSHOT_KEY, lines);
+        }
+        return lines;
+    }
+
+    private static Optional<String> readFingerprint(CliReader<?, ?> reader, Cli cli, InstanceIdentifier<?> id,
+                                                    ReadContext readContext) throws ReadFailedException {
+        if (NO_FINGERPRINT.contains(cli)) {
+            return Optional.empty();
+        }
+        Optional<String> fingerprint = ConfigFingerprintCache.parseFingerprint(
+                reader.blockingRead(ConfigFingerprintCache.SH_CONFIGURED_FROM, cli, id, readContext));
+        if (!fingerprint.isPresent()) {
+            NO_FINGERPRINT.add(cli);
+        }
+        return fingerprint;
+    }
+
+    @VisibleForTesting
+    static List<String> splitLines(String output) {
+        return Collections.unmodifiableList(ParsingUtils.NEWLINE.splitAsStream(output)
+                .map(line -> line.replace("\r", ""))
+                .collect(Collectors.toList()));
+    }
+}
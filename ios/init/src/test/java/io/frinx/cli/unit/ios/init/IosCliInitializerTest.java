@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init;
+
+import io.frinx.cli.io.Session;
+import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.credentials.credentials.LoginPasswordBuilder;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.TopologyId;
+import org.opendaylight.yang.gen.v1.urn.tbd.params.xml.ns.yang.network.topology.rev131021.network.topology.TopologyKey;
+
+public class IosCliInitializerTest {
+
+    private static final String NEWLINE = "\n";
+    private static final String SECRET = "cisco";
+
+    private static final CliNode CLI_NODE = new CliNodeBuilder()
+            .setCredentials(new LoginPasswordBuilder()
+                    .setUsername("cisco")
+                    .setPassword(SECRET)
+                    .build())
+            .build();
+
+    private Session session;
+    private FakeDevice device;
+    private RemoteDeviceId id;
+
+    @Before
+    public void setUp() throws Exception {
+        device = new FakeDevice();
+        session = Mockito.mock(Session.class);
+        Mockito.doAnswer(invocation -> {
+            device.input((String) invocation.getArguments()[0]);
+            return CompletableFuture.completedFuture(null);
+        }).when(session).write(Mockito.anyString());
+        Mockito.doAnswer(invocation -> device.output()).when(session).readUntilTimeout(Mockito.anyInt());
+        id = new RemoteDeviceId(new TopologyKey(new TopologyId("cli")), "deviceId",
+                new InetSocketAddress(InetAddress.getByName("127.0.0.1"), 1234));
+    }
+
+    @Test
+    public void testInitializationWithEnablePassword() throws Exception {
+        long start = System.nanoTime();
+        new IosCliInitializerUnit.IosCliInitializer(CLI_NODE, id).accept(session, NEWLINE);
+        long elapsed = System.nanoTime() - start;
+
+        Assert.assertEquals("R1#", device.prompt);
+        Assert.assertTrue(device.commands.contains("terminal length 0"));
+        Assert.assertTrue(device.commands.contains("enable"));
+        // device answers immediately, so nothing should wait for a read timeout
+        Assert.assertTrue("Initialization took " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms",
+                elapsed < TimeUnit.MILLISECONDS.toNanos(500));
+        Mockito.verify(session, Mockito.never()).readUntilTimeout(Mockito.eq(1));
+    }
+
+    @Test
+    public void testInitializationWithLatency() throws Exception {
+        device.latencyMillis = 30;
+        new IosCliInitializerUnit.IosCliInitializer(CLI_NODE, id).accept(session, NEWLINE);
+
+        Assert.assertEquals("R1#", device.prompt);
+        Assert.assertEquals(Arrays.asList("", "", "terminal length 0", "terminal width 0", "enable", "", ""),
+                device.commands);
+    }
+
+    @Test
+    public void testAlreadyPrivileged() throws Exception {
+        device.prompt = "R1#";
+        new IosCliInitializerUnit.IosCliInitializer(CLI_NODE, id).accept(session, NEWLINE);
+
+        Assert.assertFalse(device.commands.contains("enable"));
+    }
+
+    @Test
+    public void testPagerAnswered() throws Exception {
+        device.pending.append("line 1\r\n --More-- ");
+        SessionExpect expect = new SessionExpect(session, 1, TimeUnit.SECONDS);
+
+        Assert.assertTrue(expect.expectPrompt("R1>").endsWith("R1>"));
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void testTimeoutIsCeiling() throws Exception {
+        new SessionExpect(session, 50, TimeUnit.MILLISECONDS).expect(SessionExpect.PASSWORD_PROMPT);
+    }
+
+    /**
+     * Device printing its prompt after each line of input, asking for password after "enable". With latency, input
+     * lines are answered one after another, each of them after the latency.
+     */
+    private static final class FakeDevice {
+
+        private final StringBuilder pending = new StringBuilder();
+        private final Deque<Map.Entry<Long, String>> delayed = new ArrayDeque<>();
+        private final List<String> commands = new ArrayList<>();
+        private String prompt = "R1>";
+        private boolean passwordRequested;
+        private long latencyMillis;
+        private long lastAnswer;
+
+        synchronized void input(String input) {
+            if (" ".equals(input)) {
+                // pager answered
+                pending.append("line 2\r\n").append(prompt);
+                return;
+            }
+            String[] lines = input.split(NEWLINE, -1);
+            for (int i = 0; i < lines.length - 1; i++) {
+                String line = lines[i];
+                StringBuilder answer = new StringBuilder();
+                if (passwordRequested) {
+                    passwordRequested = false;
+                    answer.append("\r\n");
+                    if (SECRET.equals(line)) {
+                        prompt = "R1#";
+                    } else {
+                        answer.append("% Bad secrets\r\n");
+                    }
+                    answer.append(prompt);
+                } else {
+                    commands.add(line);
+                    answer.append(line).append("\r\n");
+                    if ("enable".equals(line)) {
+                        passwordRequested = true;
+                        answer.append("Password: ");
+                    } else {
+                        answer.append(prompt);
+                    }
+                }
+                answer(answer.toString());
+            }
+        }
+
+        private void answer(String answer) {
+            if (latencyMillis == 0) {
+                pending.append(answer);
+                return;
+            }
+            lastAnswer = Math.max(System.nanoTime(), lastAnswer) + TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+            delayed.add(new AbstractMap.SimpleEntry<>(lastAnswer, answer));
+        }
+
+        synchronized String output() {
+            long now = System.nanoTime();
+            while (!delayed.isEmpty() && delayed.peek().getKey() - now <= 0) {
+                pending.append(delayed.poll().getValue());
+            }
+            String output = pending.toString();
+            pending.setLength(0);
+            return output;
+        }
+    }
+}
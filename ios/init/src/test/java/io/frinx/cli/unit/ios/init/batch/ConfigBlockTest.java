@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.batch;
+
+import com.google.common.collect.Lists;
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class ConfigBlockTest {
+
+    private static final ErrorPatternMatcher ERROR_PATTERNS = ErrorPatternMatcher.builder()
+            .add(Pattern.compile("(^|\\n)^\\s+\\^.*", Pattern.DOTALL), "^")
+            .add(Pattern.compile("(^|\\n)% (?i)invalid input(?-i).*", Pattern.DOTALL), "% invalid input")
+            .build();
+
+    private static final String ACL_ENTRY_10 = "configure terminal\n"
+            + "ip access-list extended FOO\n"
+            + "10 permit ip any any \n"
+            + "end\n";
+
+    private static final String ACL_ENTRY_20 = "configure terminal\n"
+            + "ip access-list extended FOO\n"
+            + "20 deny tcp any any eq 22\n"
+            + "end\n";
+
+    private static final String NEIGHBOR = "configure terminal\n"
+            + "router bgp 65000\n"
+            + "neighbor 1.1.1.1 remote-as 65000\n"
+            + "address-family ipv4\n"
+            + "neighbor 1.1.1.1 activate\n"
+            + "exit\n"
+            + "\n"
+            + "end";
+
+    @Test
+    public void testParseBody() {
+        Assert.assertEquals(Optional.of(Lists.newArrayList("ip access-list extended FOO", "10 permit ip any any")),
+                ConfigBlock.parseBody(ACL_ENTRY_10));
+        Assert.assertFalse(ConfigBlock.parseBody("write memory").isPresent());
+        Assert.assertFalse(ConfigBlock.parseBody("configure terminal\nend").isPresent());
+        Assert.assertFalse(ConfigBlock.parseBody("configure terminal\nhostname R1\nend\n"
+                + "configure terminal\nno ip domain lookup\nend").isPresent());
+    }
+
+    @Test
+    public void testContextNotRepeated() {
+        ConfigBlock block = new ConfigBlock(Arrays.asList(
+                entry(ACL_ENTRY_10), entry(ACL_ENTRY_20), entry(NEIGHBOR), entry(NEIGHBOR), entry(ACL_ENTRY_10)));
+
+        Assert.assertEquals("configure terminal\n"
+                + "ip access-list extended FOO\n"
+                + "10 permit ip any any\n"
+                + "20 deny tcp any any eq 22\n"
+                + "router bgp 65000\n"
+                + "neighbor 1.1.1.1 remote-as 65000\n"
+                + "address-family ipv4\n"
+                + "neighbor 1.1.1.1 activate\n"
+                + "exit\n"
+                + "router bgp 65000\n"
+                + "neighbor 1.1.1.1 remote-as 65000\n"
+                + "address-family ipv4\n"
+                + "neighbor 1.1.1.1 activate\n"
+                + "exit\n"
+                + "ip access-list extended FOO\n"
+                + "10 permit ip any any\n"
+                + "end\n", block.getCommand());
+    }
+
+    @Test
+    public void testFailureAttributedToWriterCommand() {
+        ConfigBlock.Entry first = entry(ACL_ENTRY_10);
+        ConfigBlock.Entry second = entry(ACL_ENTRY_20);
+        ConfigBlock block = new ConfigBlock(Arrays.asList(first, second));
+
+        String output = "R1#configure terminal\n"
+                + "Enter configuration commands, one per line.  End with CNTL/Z.\n"
+                + "R1(config)#ip access-list extended FOO\n"
+                + "R1(config-ext-nacl)#10 permit ip any any\n"
+                + "R1(config-ext-nacl)#20 deny tcp any any eq 22\n"
+                + "                                              ^\n"
+                + "% Invalid input detected at '^' marker.\n"
+                + "\n"
+                + "R1(config-ext-nacl)#end\n"
+                + "R1#";
+
+        Optional<ConfigBlock.Failure> failure = block.findFailure(output, ERROR_PATTERNS);
+        Assert.assertTrue(failure.isPresent());
+        Assert.assertSame(second, failure.get().getOrigin().get());
+        Assert.assertTrue(failure.get().getOutput().contains("% Invalid input detected"));
+
+        Assert.assertFalse(block.findFailure(output.replaceAll("(?s) +\\^.*marker\\.", ""), ERROR_PATTERNS)
+                .isPresent());
+    }
+
+    private static ConfigBlock.Entry entry(String command) {
+        return new ConfigBlock.Entry(ConfigBlockTest.class, Mockito.mock(InstanceIdentifier.class),
+                ConfigBlock.parseBody(command).get());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.batch;
+
+import io.fd.honeycomb.translate.spi.write.CommitFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.io.Command;
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class ConfigSessionBatchTest {
+
+    private static final String ACL_ENTRY = "configure terminal\n"
+            + "ip access-list extended FOO\n"
+            + "%s permit ip any any\n"
+            + "end\n";
+
+    private Cli cli;
+    private InstanceIdentifier<?> id;
+
+    @Before
+    public void setUp() throws Exception {
+        cli = Mockito.mock(Cli.class);
+        id = Mockito.mock(InstanceIdentifier.class);
+        Mockito.when(cli.executeAndRead(Mockito.any(Command.class)))
+                .thenReturn(CompletableFuture.completedFuture(""));
+    }
+
+    @Test
+    public void testCommandsSentAsSingleBlock() throws Exception {
+        ConfigSessionBatch batch = new ConfigSessionBatch(cli, ErrorPatternMatcher.of(Collections.emptySet()));
+        for (int i = 1; i <= 100; i++) {
+            batch.add(ConfigSessionBatchTest.class, String.format(ACL_ENTRY, i), id);
+        }
+        Mockito.verify(cli, Mockito.never()).executeAndRead(Mockito.any(Command.class));
+
+        batch.send();
+        ArgumentCaptor<Command> command = ArgumentCaptor.forClass(Command.class);
+        Mockito.verify(cli, Mockito.times(1)).executeAndRead(command.capture());
+        Assert.assertTrue(command.getValue().getContent().startsWith("configure terminal\n"
+                + "ip access-list extended FOO\n"
+                + "1 permit ip any any\n"
+                + "2 permit ip any any\n"));
+    }
+
+    @Test
+    public void testEmptyBatchNotSent() throws Exception {
+        ConfigSessionBatch batch = new ConfigSessionBatch(cli, ErrorPatternMatcher.of(Collections.emptySet()));
+        Assert.assertTrue(batch.isEmpty());
+        batch.send();
+        Mockito.verify(cli, Mockito.never()).executeAndRead(Mockito.any(Command.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotSingleBlockRejected() {
+        new ConfigSessionBatch(cli, ErrorPatternMatcher.of(Collections.emptySet()))
+                .add(ConfigSessionBatchTest.class, "write memory", id);
+    }
+
+    @Test
+    public void testErrorReportsOrigin() throws Exception {
+        Mockito.when(cli.executeAndRead(Mockito.any(Command.class)))
+                .thenReturn(CompletableFuture.completedFuture("R1(config-ext-nacl)#10 permit ip any any\n"
+                        + "R1(config-ext-nacl)#20 permit ip any any\n"
+                        + "% Invalid input detected at '^' marker.\n"));
+        ConfigSessionBatch batch = new ConfigSessionBatch(cli, ErrorPatternMatcher.of(Collections.singleton(
+                Pattern.compile("% (?i)invalid input(?-i).*"))));
+        batch.add(ConfigSessionBatchTest.class, String.format(ACL_ENTRY, 10), id);
+        batch.add(ConfigBlockTest.class, String.format(ACL_ENTRY, 20), id);
+        try {
+            batch.send();
+            Assert.fail("Error of the block expected");
+        } catch (CommitFailedException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("ConfigBlockTest for "));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.ios.init.probe;
+
+import io.frinx.cli.io.Cli;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class CapabilityProbesTest {
+
+    @Test
+    public void testProbedOncePerSession() throws Exception {
+        AtomicInteger probes = new AtomicInteger();
+        CapabilityProbe<Integer> probe = cli -> probes.incrementAndGet();
+        Cli cli = Mockito.mock(Cli.class);
+        Cli otherCli = Mockito.mock(Cli.class);
+
+        Assert.assertEquals(Integer.valueOf(1), CapabilityProbes.get(cli, probe));
+        Assert.assertEquals(Integer.valueOf(1), CapabilityProbes.get(cli, probe));
+        Assert.assertEquals(Integer.valueOf(2), CapabilityProbes.get(otherCli, probe));
+
+        CapabilityProbes.reset(cli);
+        Assert.assertEquals(Integer.valueOf(3), CapabilityProbes.get(cli, probe));
+        Assert.assertEquals(Integer.valueOf(2), CapabilityProbes.get(otherCli, probe));
+    }
+
+    @Test
+    public void testFailedProbeNotRemembered() throws Exception {
+        AtomicInteger probes = new AtomicInteger();
+        CapabilityProbe<Boolean> probe = cli -> {
+            if (probes.incrementAndGet() == 1) {
+                throw new ExecutionException(new IllegalStateException("% Invalid input"));
+            }
+            return true;
+        };
+        Cli cli = Mockito.mock(Cli.class);
+
+        try {
+            CapabilityProbes.get(cli, probe);
+            Assert.fail("Probe failure expected");
+        } catch (ExecutionException e) {
+            Assert.assertEquals(1, probes.get());
+        }
+        Assert.assertTrue(CapabilityProbes.get(cli, probe));
+        Assert.assertTrue(CapabilityProbes.get(cli, probe));
+        Assert.assertEquals(2, probes.get());
+    }
+
+    @Test
+    public void testConcurrentCallersProbeOnce() throws Exception {
+        AtomicInteger probes = new AtomicInteger();
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CapabilityProbe<Integer> probe = cli -> {
+            probing.countDown();
+            release.await();
+            return probes.incrementAndGet();
+        };
+        Cli cli = Mockito.mock(Cli.class);
+        AtomicReference<Integer> first = new AtomicReference<>();
+        AtomicReference<Integer> second = new AtomicReference<>();
+
+        Thread firstCaller = new Thread(() -> first.set(getQuietly(cli, probe)));
+        firstCaller.start();
+        probing.await();
+        Thread secondCaller = new Thread(() -> second.set(getQuietly(cli, probe)));
+        secondCaller.start();
+        while (secondCaller.getState() != Thread.State.BLOCKED) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        firstCaller.join();
+        secondCaller.join();
+
+        Assert.assertEquals(1, probes.get());
+        Assert.assertEquals(Integer.valueOf(1), first.get());
+        Assert.assertEquals(Integer.valueOf(1), second.get());
+    }
+
+    private static <T> T getQuietly(Cli cli, CapabilityProbe<T> probe) {
+        try {
+            return CapabilityProbes.get(cli, probe);
+        } catch (ExecutionException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
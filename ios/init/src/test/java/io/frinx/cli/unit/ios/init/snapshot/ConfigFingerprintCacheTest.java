@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.snapshot;
+
+import io.frinx.cli.io.Cli;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ConfigFingerprintCacheTest {
+
+    private static final String OUTPUT = "*Apr 23 11:20:44.089: %SYS-5-CONFIG_I: Configured from console by cisco on"
+            + " vty0 (192.168.1.41)\n"
+            + "*Apr 23 11:33:52.247: %SYS-5-CONFIG_I: Configured from console by cisco on vty1 (192.168.1.41)\n"
+            + "CMD: 'show history all | include Configured from' 12:44:48 UTC Tue Apr 24 2018\n";
+
+    private static final List<String> CONFIG = Arrays.asList("hostname PE1", "!", "end");
+
+    @Test
+    public void testParseFingerprint() {
+        Assert.assertEquals(Optional.of("Apr 23 11:33:52.247"), ConfigFingerprintCache.parseFingerprint(OUTPUT));
+        Assert.assertFalse(ConfigFingerprintCache.parseFingerprint("").isPresent());
+    }
+
+    @Test
+    public void testInMemory() {
+        ConfigFingerprintCache cache = ConfigFingerprintCache.inMemory();
+        Cli cli = Mockito.mock(Cli.class);
+
+        Assert.assertFalse(cache.get(cli, "1").isPresent());
+        cache.put(cli, "1", CONFIG);
+        Assert.assertEquals(Optional.of(CONFIG), cache.get(cli, "1"));
+        Assert.assertFalse(cache.get(cli, "2").isPresent());
+        Assert.assertFalse(cache.get(Mockito.mock(Cli.class), "1").isPresent());
+
+        cache.invalidate(cli);
+        Assert.assertFalse(cache.get(cli, "1").isPresent());
+    }
+
+    @Test
+    public void testPersistent() throws Exception {
+        Path directory = Files.createTempDirectory("config-fingerprint");
+        Cli cli = Mockito.mock(Cli.class);
+
+        ConfigFingerprintCache.persistent(directory).put(cli, "1", CONFIG);
+        ConfigFingerprintCache cache = ConfigFingerprintCache.persistent(directory);
+        Assert.assertEquals(Optional.of(CONFIG), cache.get(cli, "1"));
+        Assert.assertFalse(cache.get(cli, "2").isPresent());
+
+        cache.invalidate(cli);
+        Assert.assertFalse(Files.exists(cache.getFile(cli)));
+        Assert.assertFalse(ConfigFingerprintCache.persistent(directory).get(cli, "1").isPresent());
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testPersistentDistinctDeviceIds() throws Exception {
+        Path directory = Files.createTempDirectory("config-fingerprint");
+        Cli slash = Mockito.mock(Cli.class);
+        Mockito.when(slash.getDeviceId()).thenReturn("a/b");
+        Cli underscore = Mockito.mock(Cli.class);
+        Mockito.when(underscore.getDeviceId()).thenReturn("a_b");
+
+        ConfigFingerprintCache.persistent(directory).put(slash, "1", CONFIG);
+        ConfigFingerprintCache.persistent(directory).put(underscore, "1", Arrays.asList("hostname PE2", "!", "end"));
+        ConfigFingerprintCache cache = ConfigFingerprintCache.persistent(directory);
+        Assert.assertNotEquals(cache.getFile(slash), cache.getFile(underscore));
+        Assert.assertEquals(Optional.of(CONFIG), cache.get(slash, "1"));
+
+        cache.invalidate(slash);
+        cache.invalidate(underscore);
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.init.snapshot;
+
+import com.google.common.io.ByteStreams;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Commands of IOS bgp, ospf, local-routing, interface and acl readers evaluated against recorded
+ * running-config, compared to output of the same command piped on the device.
+ */
+public class RunningConfigSnapshotTest {
+
+    private static final String CONFIGURED_FROM = "*Apr 23 ";
+    private static final String CONFIGURED_FROM_BY = ": %SYS-5-CONFIG_I: Configured from console by cisco on vty0"
+            + " (192.168.1.41)";
+
+    private String runningConfig;
+    private List<String> lines;
+
+    @Before
+    public void setUp() throws Exception {
+        runningConfig = new String(ByteStreams.toByteArray(getClass().getClassLoader()
+                .getResourceAsStream("running-config.txt")), StandardCharsets.UTF_8);
+        lines = RunningConfigSnapshot.splitLines(runningConfig);
+    }
+
+    @Test
+    public void testBgpCommands() {
+        // NeighborReader.SH_SUMM
+        assertOutput("show running-config | include ^router bgp|^ address-family|^ *neighbor",
+                " address-family ipv4\n"
+                + " address-family ipv6\n"
+                + "router bgp 65000\n"
+                + " neighbor 3.3.3.3 remote-as 65000\n"
+                + " neighbor 3.3.3.4 peer-group abcd\n"
+                + " neighbor abcd peer-group\n"
+                + " address-family ipv4\n"
+                + "  neighbor 3.3.3.3 activate\n"
+                + " address-family ipv4 vrf vrf1\n"
+                + "  neighbor 1.2.3.4 remote-as 65000\n"
+                + "  neighbor 1.2.3.4 activate");
+
+        // NeighborConfigReader.SH_SUMM, trailing space is part of the regex
+        assertOutput("show running-config | include ^router bgp|^ *address-family|^ *neighbor 1.2.3.4 ",
+                " address-family ipv4\n"
+                + " address-family ipv6\n"
+                + "router bgp 65000\n"
+                + " address-family ipv4\n"
+                + " address-family ipv4 vrf vrf1\n"
+                + "  neighbor 1.2.3.4 remote-as 65000\n"
+                + "  neighbor 1.2.3.4 activate");
+
+        // BgpTableConnectionReader.SH_BGP_REDIS
+        assertOutput("show running-config | include ^router bgp|^ address-family|^ *redistribute",
+                " address-family ipv4\n"
+                + " address-family ipv6\n"
+                + " redistribute bgp 65000 subnets\n"
+                + "router bgp 65000\n"
+                + " address-family ipv4\n"
+                + "  redistribute ospf 99\n"
+                + " address-family ipv4 vrf vrf1");
+    }
+
+    @Test
+    public void testOspfCommands() {
+        // GlobalConfigReader.SH_OSPF
+        assertOutput("show running-config | include ^router ospf|^ router-id",
+                "router ospf 99\n"
+                + " router-id 5.5.5.5");
+
+        // OspfAreaReader.SH_OSPF_AREAS
+        assertOutput("show running-config | include ip ospf 99 area",
+                " ip ospf 99 area 0\n"
+                + " ip ospf 99 area 0");
+
+        // AreaInterfaceReader.SHOW_OSPF_IFC
+        assertOutput("show running-config | include ^interface |^ ip ospf",
+                "interface Loopback0\n"
+                + " ip ospf 99 area 0\n"
+                + "interface GigabitEthernet1\n"
+                + " ip ospf cost 10\n"
+                + " ip ospf 99 area 0\n"
+                + "interface GigabitEthernet1.100\n"
+                + "interface GigabitEthernet2");
+
+        // AreaInterfaceConfigReader.SHOW_OSPF_IFC_COST
+        assertOutput("show running-config interface GigabitEthernet1 | include ^ ip ospf cost",
+                " ip ospf cost 10");
+    }
+
+    @Test
+    public void testLocalRoutingCommands() {
+        // StaticReader.SH_IP_STATIC_ROUTE
+        assertOutput("show running-config | include ip route|ipv6 route",
+                "ip route 10.255.1.0 255.255.255.0 Null0\n"
+                + "ip route 10.255.1.0 255.255.255.0 192.168.1.5 40\n"
+                + "ip route vrf vrf1 192.0.3.0 255.255.255.0 10.10.10.10\n"
+                + "ipv6 route 4007::/64 4006::1");
+
+        // NextHopReader.SH_IP_STATIC_ROUTE_VRF
+        assertOutput("show running-config | include route vrf vrf1 192.0.3.0 255.255.255.0",
+                "ip route vrf vrf1 192.0.3.0 255.255.255.0 10.10.10.10");
+
+        // NextHopConfigReader.SHOW_IP_STATIC_ROUTE_DEFAULT
+        assertOutput("show running-config | include route 10.255.1.0 255.255.255.0 192.168.1.5",
+                "ip route 10.255.1.0 255.255.255.0 192.168.1.5 40");
+    }
+
+    @Test
+    public void testInterfaceAndAclCommands() {
+        // InterfaceReader.SH_INTERFACE
+        assertOutput("show running-config | include ^interface",
+                "interface Loopback0\n"
+                + "interface GigabitEthernet1\n"
+                + "interface GigabitEthernet1.100\n"
+                + "interface GigabitEthernet2");
+
+        // IngressAclSetReader.SH_ACL_INTF
+        assertOutput("show running-config interface GigabitEthernet1",
+                "interface GigabitEthernet1\n"
+                + " description uplink\n"
+                + " ip address 192.168.1.1 255.255.255.0\n"
+                + " ip access-group ACL_IN in\n"
+                + " ip ospf cost 10\n"
+                + " ip ospf 99 area 0\n"
+                + " negotiation auto\n"
+                + "end");
+
+        // AclSetReader.SH_ACCESS_LISTS
+        assertOutput("show running-config | include access-list",
+                "ip access-list extended ACL_IN");
+
+        assertOutput("show running-config interface GigabitEthernet5", "");
+    }
+
+    @Test
+    public void testPipeOperations() {
+        assertOutput("show running-config | section ^router ospf",
+                "router ospf 99\n"
+                + " router-id 5.5.5.5\n"
+                + " redistribute bgp 65000 subnets");
+
+        assertOutput("show running-config | section address-family ipv4 vrf",
+                " address-family ipv4 vrf vrf1\n"
+                + "  neighbor 1.2.3.4 remote-as 65000\n"
+                + "  neighbor 1.2.3.4 activate");
+
+        assertOutput("show running-config | begin ^ip access-list",
+                "ip access-list extended ACL_IN\n"
+                + " permit ip any any\n"
+                + "!\n"
+                + "end");
+
+        assertOutput("show running-config interface GigabitEthernet2 | exclude shutdown",
+                "interface GigabitEthernet2\n"
+                + " no ip address\n"
+                + "end");
+
+        assertOutput("show running-config | inc ^hostname", "hostname PE1");
+        assertOutput("show running-config", String.join("\n", lines));
+    }
+
+    @Test
+    public void testNotEvaluatedLocally() {
+        Assert.assertFalse(RunningConfigQuery.parse("show ip route | include 10.0.0.0").isPresent());
+        Assert.assertFalse(RunningConfigQuery.parse("show running-config all").isPresent());
+        Assert.assertFalse(RunningConfigQuery.parse("show running-config | count interface").isPresent());
+        Assert.assertFalse(RunningConfigQuery.parse("show running-config | include [abc").isPresent());
+        // abbreviated interface names are resolved by the device
+        Assert.assertFalse(RunningConfigQuery.parse("show running-config interface Gi1").isPresent());
+        Assert.assertFalse(RunningConfigQuery.parse("show running-config interface lo0 | include ip").isPresent());
+        Assert.assertTrue(RunningConfigQuery.parse("show running-config interface Port-channel1.10").isPresent());
+    }
+
+    @Test
+    public void testSnapshotReadOncePerContext() throws Exception {
+        CliReader reader = Mockito.mock(CliReader.class);
+        Cli cli = Mockito.mock(Cli.class);
+        InstanceIdentifier id = Mockito.mock(InstanceIdentifier.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        Mockito.when(reader.blockingRead(RunningConfigSnapshot.SH_RUN, cli, id, readContext))
+                .thenReturn(runningConfig);
+        Mockito.when(reader.blockingRead(ConfigFingerprintCache.SH_CONFIGURED_FROM, cli, id, readContext))
+                .thenReturn("");
+        Mockito.when(reader.blockingRead("show ip route", cli, id, readContext)).thenReturn("route");
+
+        Assert.assertEquals("hostname PE1",
+                RunningConfigSnapshot.blockingRead(reader, "show running-config | include ^hostname", cli, id,
+                        readContext));
+        Assert.assertEquals("router ospf 99\n router-id 5.5.5.5",
+                RunningConfigSnapshot.blockingRead(reader, "show running-config | include ^router ospf|^ router-id",
+                        cli, id, readContext));
+        Assert.assertEquals("route",
+                RunningConfigSnapshot.blockingRead(reader, "show ip route", cli, id, readContext));
+
+        Mockito.verify(reader, Mockito.times(1)).blockingRead(RunningConfigSnapshot.SH_RUN, cli, id, readContext);
+        Mockito.verify(reader, Mockito.times(1)).blockingRead("show ip route", cli, id, readContext);
+    }
+
+    @Test
+    public void testSnapshotReusedWhileFingerprintUnchanged() throws Exception {
+        CliReader reader = Mockito.mock(CliReader.class);
+        Cli cli = Mockito.mock(Cli.class);
+        InstanceIdentifier id = Mockito.mock(InstanceIdentifier.class);
+        Mockito.when(reader.blockingRead(Mockito.eq(RunningConfigSnapshot.SH_RUN), Mockito.eq(cli),
+                Mockito.eq(id), Mockito.any(ReadContext.class))).thenReturn(runningConfig);
+        Mockito.when(reader.blockingRead(Mockito.eq(ConfigFingerprintCache.SH_CONFIGURED_FROM), Mockito.eq(cli),
+                Mockito.eq(id), Mockito.any(ReadContext.class)))
+                .thenReturn(CONFIGURED_FROM + "11:20:43.936" + CONFIGURED_FROM_BY,
+                        CONFIGURED_FROM + "11:20:43.936" + CONFIGURED_FROM_BY,
+                        CONFIGURED_FROM + "11:24:16.670" + CONFIGURED_FROM_BY);
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("hostname PE1", RunningConfigSnapshot.blockingRead(reader,
+                    "show running-config | include ^hostname", cli, id, newReadContext()));
+        }
+        Mockito.verify(reader, Mockito.times(2)).blockingRead(Mockito.eq(RunningConfigSnapshot.SH_RUN),
+                Mockito.eq(cli), Mockito.eq(id), Mockito.any(ReadContext.class));
+
+        RunningConfigSnapshot.invalidate(cli);
+        Mockito.when(reader.blockingRead(Mockito.eq(ConfigFingerprintCache.SH_CONFIGURED_FROM), Mockito.eq(cli),
+                Mockito.eq(id), Mockito.any(ReadContext.class)))
+                .thenReturn(CONFIGURED_FROM + "11:24:16.670" + CONFIGURED_FROM_BY);
+        RunningConfigSnapshot.blockingRead(reader, "show running-config | include ^hostname", cli, id,
+                newReadContext());
+        Mockito.verify(reader, Mockito.times(3)).blockingRead(Mockito.eq(RunningConfigSnapshot.SH_RUN),
+                Mockito.eq(cli), Mockito.eq(id), Mockito.any(ReadContext.class));
+    }
+
+    @Test
+    public void testFingerprintNotProbedOnDeviceWithoutIt() throws Exception {
+        CliReader reader = Mockito.mock(CliReader.class);
+        Cli cli = Mockito.mock(Cli.class);
+        InstanceIdentifier id = Mockito.mock(InstanceIdentifier.class);
+        Mockito.when(reader.blockingRead(Mockito.eq(RunningConfigSnapshot.SH_RUN), Mockito.eq(cli),
+                Mockito.eq(id), Mockito.any(ReadContext.class))).thenReturn(runningConfig);
+        Mockito.when(reader.blockingRead(Mockito.eq(ConfigFingerprintCache.SH_CONFIGURED_FROM), Mockito.eq(cli),
+                Mockito.eq(id), Mockito.any(ReadContext.class))).thenReturn("% Invalid input detected");
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("hostname PE1", RunningConfigSnapshot.blockingRead(reader,
+                    "show running-config | include ^hostname", cli, id, newReadContext()));
+        }
+        Mockito.verify(reader, Mockito.times(1)).blockingRead(Mockito.eq(ConfigFingerprintCache.SH_CONFIGURED_FROM),
+                Mockito.eq(cli), Mockito.eq(id), Mockito.any(ReadContext.class));
+        Mockito.verify(reader, Mockito.times(3)).blockingRead(Mockito.eq(RunningConfigSnapshot.SH_RUN),
+                Mockito.eq(cli), Mockito.eq(id), Mockito.any(ReadContext.class));
+
+        // configuration committed, device may report a fingerprint now
+        RunningConfigSnapshot.invalidate(cli);
+        RunningConfigSnapshot.blockingRead(reader, "show running-config | include ^hostname", cli, id,
+                newReadContext());
+        Mockito.verify(reader, Mockito.times(2)).blockingRead(Mockito.eq(ConfigFingerprintCache.SH_CONFIGURED_FROM),
+                Mockito.eq(cli), Mockito.eq(id), Mockito.any(ReadContext.class));
+    }
+
+    private static ReadContext newReadContext() {
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        return readContext;
+    }
+
+    private void assertOutput(String command, String expected) {
+        Assert.assertEquals(command, expected, RunningConfigQuery.parse(command).get().evaluate(lines));
+    }
+}
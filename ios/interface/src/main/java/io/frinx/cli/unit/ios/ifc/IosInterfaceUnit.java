@@ -38,6 +38,7 @@ import io.frinx.cli.unit.ios.ifc.handler.subifc.ip6.Ipv6AddressReader;
 import io.frinx.cli.unit.ios.ifc.handler.subifc.ip6.Ipv6ConfigReader;
 import io.frinx.cli.unit.ios.ifc.handler.subifc.ip6.Ipv6ConfigWriter;
 import io.frinx.cli.unit.ios.init.IosDevices;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.openconfig.openconfig.interfaces.IIDs;
 import java.util.Set;
@@ -48,8 +49,19 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public final class IosInterfaceUnit extends AbstractUnit {
 
+    private final boolean runningConfigSnapshot;
+
     public IosInterfaceUnit(@Nonnull final TranslationUnitCollector registry) {
+        this(registry, false);
+    }
+
+    /**
+     * Unit whose readers answer "show running-config" commands from {@link RunningConfigSnapshot} if
+     * runningConfigSnapshot is set, or send each of them to the device otherwise.
+     */
+    public IosInterfaceUnit(@Nonnull final TranslationUnitCollector registry, final boolean runningConfigSnapshot) {
         super(registry);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -100,25 +112,25 @@ public final class IosInterfaceUnit extends AbstractUnit {
     }
 
     private void provideReaders(CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
-        readRegistry.add(IIDs.IN_INTERFACE, new InterfaceReader(cli));
+        readRegistry.add(IIDs.IN_INTERFACE, new InterfaceReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.IN_IN_STATE, new InterfaceStateReader(cli));
-        readRegistry.add(IIDs.IN_IN_CONFIG, new InterfaceConfigReader(cli));
+        readRegistry.add(IIDs.IN_IN_CONFIG, new InterfaceConfigReader(cli, runningConfigSnapshot));
 
-        readRegistry.add(IIDs.IN_IN_SU_SUBINTERFACE, new SubinterfaceReader(cli));
+        readRegistry.add(IIDs.IN_IN_SU_SUBINTERFACE, new SubinterfaceReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.IN_IN_SU_SU_CONFIG, new SubinterfaceConfigReader(cli));
         readRegistry.add(IIDs.IN_IN_SU_SU_STATE, new SubinterfaceStateReader(cli));
 
         readRegistry.add(io.frinx.openconfig.openconfig._if.ip.IIDs.IN_IN_SU_SU_AUG_SUBINTERFACE1_IP_AD_ADDRESS,
-                new Ipv4AddressReader(cli));
+                new Ipv4AddressReader(cli, runningConfigSnapshot));
         readRegistry.add(io.frinx.openconfig.openconfig._if.ip.IIDs.IN_IN_SU_SU_AUG_SUBINTERFACE1_IP_AD_AD_CONFIG,
-                new Ipv4ConfigReader(cli));
+                new Ipv4ConfigReader(cli, runningConfigSnapshot));
 
         readRegistry.add(io.frinx.openconfig.openconfig._if.ip.IIDs.IN_IN_SU_SU_AUG_SUBINTERFACE2_IP_AD_ADDRESS,
-                new Ipv6AddressReader(cli));
+                new Ipv6AddressReader(cli, runningConfigSnapshot));
         readRegistry.add(io.frinx.openconfig.openconfig._if.ip.IIDs.IN_IN_SU_SU_AUG_SUBINTERFACE2_IP_AD_AD_CONFIG,
-                new Ipv6ConfigReader(cli));
+                new Ipv6ConfigReader(cli, runningConfigSnapshot));
 
         readRegistry.add(io.frinx.openconfig.openconfig.vlan.IIDs.IN_IN_SU_SU_AUG_SUBINTERFACE1_VL_CONFIG,
-                new SubinterfaceVlanConfigReader(cli));
+                new SubinterfaceVlanConfigReader(cli, runningConfigSnapshot));
     }
 }
@@ -16,9 +16,20 @@
 
 package io.frinx.cli.unit.ios.ifc;
 
+import com.google.common.collect.ImmutableMap;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounters;
 import io.frinx.cli.unit.ios.ifc.handler.subifc.SubinterfaceReader;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import io.frinx.cli.unit.utils.CliReader;
 import java.util.Collections;
 import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
@@ -35,10 +46,77 @@ public final class Util {
     private static final Set<Class<? extends InterfaceType>> PHYS_IFC_TYPES =
             Collections.singleton(EthernetCsmacd.class);
 
+    private static final String SH_RUN_INTERFACES = "show running-config | section ^interface";
+    private static final Pattern INTERFACE_HEADER_LINE = Pattern.compile("^interface (?<name>\\S+)\\s*$");
+    private static final Pattern SH_RUN_INTERFACE = Pattern.compile("^show running-config interface (?<name>\\S+)"
+            + "(?:\\s*\\|\\s*include (?<include>.+))?$");
+
+    /**
+     * Interface configuration blocks read at once, see {@link InterfaceConfigBlocks}.
+     */
+    public static final InterfaceBlockRules INTERFACE_BLOCKS =
+            new InterfaceBlockRules(SH_RUN_INTERFACES, INTERFACE_HEADER_LINE, SH_RUN_INTERFACE);
+
+    private static final InterfaceBlockRules SNAPSHOT_INTERFACE_BLOCKS =
+            new InterfaceBlockRules(SH_RUN_INTERFACES, INTERFACE_HEADER_LINE, SH_RUN_INTERFACE) {
+
+                @Override
+                public String readBulk(@Nonnull CliReader<?, ?> reader, @Nonnull Cli cli,
+                                       @Nonnull InstanceIdentifier<?> id, @Nonnull ReadContext readContext)
+                        throws ReadFailedException {
+                    return RunningConfigSnapshot.blockingRead(reader, getBulkCommand(), cli, id, readContext);
+                }
+            };
+
+    /**
+     * Interface state blocks of "show interfaces", see {@link InterfaceConfigBlocks}. State output of an interface
+     * may contain empty lines, block ends with the next interface.
+     */
+    public static final InterfaceBlockRules INTERFACE_STATE_BLOCKS = new InterfaceBlockRules(
+            "show interfaces",
+            Pattern.compile("^(?<name>\\S+) is .*, line protocol is .*"),
+            Pattern.compile("^show interface (?<name>\\S+)(?:\\s*\\|\\s*include (?<include>.+))?$")) {
+
+        @Override
+        public boolean isBlockLine(@Nonnull String line) {
+            return line.isEmpty() || super.isBlockLine(line);
+        }
+    };
+
+    /**
+     * Counters in "show interface" output. Received broadcasts include multicasts, unicast input packets are the
+     * rest of the input packets. Output packets are not split by cast type.
+     */
+    public static final InterfaceCounters INTERFACE_COUNTERS = InterfaceCounters.of(
+            ImmutableMap.<InterfaceCounters.Counter, Pattern>builder()
+                    .put(InterfaceCounters.Counter.IN_PKTS, Pattern.compile("(?<value>\\d+) packets input, .*"))
+                    .put(InterfaceCounters.Counter.IN_OCTETS,
+                            Pattern.compile("\\d+ packets input, (?<value>\\d+) bytes.*"))
+                    .put(InterfaceCounters.Counter.IN_NON_UNICAST_PKTS,
+                            Pattern.compile("Received (?<value>\\d+) broadcasts.*"))
+                    .put(InterfaceCounters.Counter.IN_ERRORS, Pattern.compile("(?<value>\\d+) input errors.*"))
+                    .put(InterfaceCounters.Counter.IN_DISCARDS,
+                            Pattern.compile("Input queue: \\d+/\\d+/(?<value>\\d+)/.*"))
+                    .put(InterfaceCounters.Counter.OUT_PKTS, Pattern.compile("(?<value>\\d+) packets output, .*"))
+                    .put(InterfaceCounters.Counter.OUT_OCTETS,
+                            Pattern.compile("\\d+ packets output, (?<value>\\d+) bytes.*"))
+                    .put(InterfaceCounters.Counter.OUT_ERRORS, Pattern.compile("(?<value>\\d+) output errors.*"))
+                    .put(InterfaceCounters.Counter.OUT_DISCARDS,
+                            Pattern.compile(".*Total output drops: (?<value>\\d+).*"))
+                    .build());
+
     private Util() {
 
     }
 
+    /**
+     * Interface configuration blocks, with bulk command answered from the running configuration snapshot if
+     * runningConfigSnapshot is set.
+     */
+    public static InterfaceBlockRules getInterfaceBlocks(boolean runningConfigSnapshot) {
+        return runningConfigSnapshot ? SNAPSHOT_INTERFACE_BLOCKS : INTERFACE_BLOCKS;
+    }
+
     public static Class<? extends InterfaceType> parseType(String name) {
         if (name.startsWith("FastEther")) {
             return EthernetCsmacd.class;
@@ -18,6 +18,7 @@ package io.frinx.cli.unit.ios.ifc.handler;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import io.frinx.cli.unit.ios.ifc.Util;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
@@ -30,8 +31,15 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
     private static final Pattern MTU_LINE = Pattern.compile("\\s*mtu (?<mtu>.+)$");
     public static final Pattern DESCR_LINE = Pattern.compile("\\s*description (?<desc>.+)");
 
+    private final boolean runningConfigSnapshot;
+
     public InterfaceConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public InterfaceConfigReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -58,4 +66,9 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
     public Class<? extends InterfaceType> parseType(String name) {
         return Util.parseType(name);
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.getInterfaceBlocks(runningConfigSnapshot);
+    }
 }
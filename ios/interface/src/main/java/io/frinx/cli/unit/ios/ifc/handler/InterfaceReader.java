@@ -16,9 +16,17 @@
 
 package io.frinx.cli.unit.ios.ifc.handler;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceReader;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import java.util.List;
 import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class InterfaceReader extends AbstractInterfaceReader {
 
@@ -28,8 +36,27 @@ public final class InterfaceReader extends AbstractInterfaceReader {
 
     private static final Pattern SUBINTERFACE_NAME = Pattern.compile("(?<ifcId>.+)[.](?<subifcIndex>[0-9]+)");
 
+    private final Cli cli;
+    private final boolean runningConfigSnapshot;
+
     public InterfaceReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public InterfaceReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
+        this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
+    }
+
+    @Nonnull
+    @Override
+    public List<InterfaceKey> getAllIds(@Nonnull InstanceIdentifier<Interface> instanceIdentifier,
+                                        @Nonnull ReadContext readContext) throws ReadFailedException {
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, getReadCommand(), cli, instanceIdentifier, readContext)
+                : blockingRead(getReadCommand(), cli, instanceIdentifier, readContext);
+        return parseInterfaceIds(output);
     }
 
     @Override
@@ -19,6 +19,8 @@ package io.frinx.cli.unit.ios.ifc.handler;
 import com.google.common.annotations.VisibleForTesting;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceStateReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ifc.base.util.InterfaceCounters;
 import io.frinx.cli.unit.ios.ifc.Util;
 import java.util.regex.Pattern;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.StateBuilder;
@@ -66,4 +68,14 @@ public final class InterfaceStateReader extends AbstractInterfaceStateReader {
     protected Pattern getDescriptionLine() {
         return DESCR_LINE;
     }
+
+    @Override
+    protected InterfaceCounters getInterfaceCounters() {
+        return Util.INTERFACE_COUNTERS;
+    }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_STATE_BLOCKS;
+    }
 }
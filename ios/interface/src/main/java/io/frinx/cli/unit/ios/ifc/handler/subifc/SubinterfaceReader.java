@@ -24,6 +24,7 @@ import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceReader;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceReader;
 import io.frinx.cli.unit.ios.ifc.handler.subifc.ip4.Ipv4ConfigReader;
 import io.frinx.cli.unit.ios.ifc.handler.subifc.ip6.Ipv6ConfigReader;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,13 +44,19 @@ public final class SubinterfaceReader extends AbstractSubinterfaceReader {
     private Ipv4ConfigReader v4reader;
     private Ipv6ConfigReader v6reader;
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public SubinterfaceReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public SubinterfaceReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
         this.cli = cli;
-        this.ifaceReader = new InterfaceReader(cli);
-        this.v4reader = new Ipv4ConfigReader(cli);
-        this.v6reader = new Ipv6ConfigReader(cli);
+        this.runningConfigSnapshot = runningConfigSnapshot;
+        this.ifaceReader = new InterfaceReader(cli, runningConfigSnapshot);
+        this.v4reader = new Ipv4ConfigReader(cli, runningConfigSnapshot);
+        this.v6reader = new Ipv6ConfigReader(cli, runningConfigSnapshot);
     }
 
     @Nonnull
@@ -57,8 +64,10 @@ public final class SubinterfaceReader extends AbstractSubinterfaceReader {
     public List<SubinterfaceKey> getAllIds(@Nonnull InstanceIdentifier<Subinterface> instanceIdentifier,
                                            @Nonnull ReadContext readContext) throws ReadFailedException {
         String ifcName = instanceIdentifier.firstKeyOf(Interface.class).getName();
-        List<SubinterfaceKey> keys = parseSubinterfaceIds(blockingRead(getReadCommand(),
-                cli, instanceIdentifier, readContext), ifcName);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, getReadCommand(), cli, instanceIdentifier, readContext)
+                : blockingRead(getReadCommand(), cli, instanceIdentifier, readContext);
+        List<SubinterfaceKey> keys = parseSubinterfaceIds(output, ifcName);
         boolean hasIpv4Address = v4reader.hasIpAddress(instanceIdentifier, ifcName, readContext);
         boolean hasIpv6Address = v6reader.hasIpAddress(instanceIdentifier, ifcName, readContext);
 
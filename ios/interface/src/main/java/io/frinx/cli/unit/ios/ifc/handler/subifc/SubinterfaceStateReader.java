@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
 import io.frinx.cli.unit.ios.ifc.Util;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceConfigReader;
 import io.frinx.cli.unit.ios.ifc.handler.InterfaceStateReader;
@@ -54,7 +55,10 @@ public final class SubinterfaceStateReader implements CliOperReader<State, State
         String subIfcName = Util.getSubinterfaceName(id);
 
         String cmd = String.format(InterfaceStateReader.SH_SINGLE_INTERFACE, subIfcName);
-        parseInterfaceState(blockingRead(cmd, cli, id, ctx), builder, subKey.getIndex(), subIfcName);
+        String output = InterfaceConfigBlocks.blockingRead(this, Util.INTERFACE_STATE_BLOCKS, cmd, cli, id, ctx);
+        parseInterfaceState(output, builder, subKey.getIndex(), subIfcName);
+        Util.INTERFACE_COUNTERS.parse(output)
+            .ifPresent(builder::setCounters);
     }
 
     @VisibleForTesting
@@ -72,7 +76,7 @@ public final class SubinterfaceStateReader implements CliOperReader<State, State
 
         ParsingUtils.parseField(output,
             InterfaceStateReader.STATUS_LINE::matcher,
-            matcher -> InterfaceCommonState.OperStatus.valueOf(matcher.group("line").toUpperCase()),
+            matcher -> InterfaceCommonState.OperStatus.valueOf(matcher.group("oper").toUpperCase()),
                 builder::setOperStatus);
 
         ParsingUtils.parseField(output,
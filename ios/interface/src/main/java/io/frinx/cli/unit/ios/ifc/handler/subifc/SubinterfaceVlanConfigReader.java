@@ -20,6 +20,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceVlanConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import io.frinx.cli.unit.ios.ifc.Util;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -33,8 +34,15 @@ public class SubinterfaceVlanConfigReader extends AbstractSubinterfaceVlanConfig
     private static final Pattern VLAN_TAG_LINE = Pattern.compile("encapsulation dot1Q (?<tag>[0-9]+)");
     private static final String CONFIGURATION_INTERFACES = "show running-config interface %s";
 
+    private final boolean runningConfigSnapshot;
+
     public SubinterfaceVlanConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public SubinterfaceVlanConfigReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -63,4 +71,9 @@ public class SubinterfaceVlanConfigReader extends AbstractSubinterfaceVlanConfig
         }
         super.readCurrentAttributes(id, builder, ctx);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.getInterfaceBlocks(runningConfigSnapshot);
+    }
+}
@@ -18,6 +18,8 @@ package io.frinx.cli.unit.ios.ifc.handler.subifc.ip4;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ios.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
@@ -25,8 +27,15 @@ public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
     static final String SH_INTERFACE_IP = "show running-config interface %s | include ^ ip address";
     static final Pattern INTERFACE_IP_LINE = Pattern.compile("ip address (?<ip>\\S+) (?<prefix>\\S+)");
 
+    private final boolean runningConfigSnapshot;
+
     public Ipv4AddressReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public Ipv4AddressReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -38,4 +47,9 @@ public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
     protected Pattern getIpLine() {
         return INTERFACE_IP_LINE;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.getInterfaceBlocks(runningConfigSnapshot);
+    }
 }
@@ -18,12 +18,21 @@ package io.frinx.cli.unit.ios.ifc.handler.subifc.ip4;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4ConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ios.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
 
+    private final boolean runningConfigSnapshot;
+
     public Ipv4ConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public Ipv4ConfigReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -35,4 +44,9 @@ public final class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
     protected String getReadCommand(String ifcName, Long subId) {
         return f(Ipv4AddressReader.SH_INTERFACE_IP, ifcName);
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.getInterfaceBlocks(runningConfigSnapshot);
+    }
 }
@@ -18,12 +18,21 @@ package io.frinx.cli.unit.ios.ifc.handler.subifc.ip6;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ios.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv6AddressReader extends AbstractIpv6AddressesReader {
 
+    private final boolean runningConfigSnapshot;
+
     public Ipv6AddressReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public Ipv6AddressReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     static final String SH_INTERFACE_IP = "show running-config interface %s | include ^ ipv6 address";
@@ -45,4 +54,9 @@ public final class Ipv6AddressReader extends AbstractIpv6AddressesReader {
     protected Pattern getUnicastIpLine() {
         return IPV6_UNICAST_ADDRESS;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.getInterfaceBlocks(runningConfigSnapshot);
+    }
 }
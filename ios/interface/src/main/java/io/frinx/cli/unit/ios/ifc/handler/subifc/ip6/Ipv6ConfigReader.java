@@ -18,6 +18,8 @@ package io.frinx.cli.unit.ios.ifc.handler.subifc.ip6;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6ConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.ios.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv6ConfigReader extends AbstractIpv6ConfigReader {
@@ -25,8 +27,15 @@ public final class Ipv6ConfigReader extends AbstractIpv6ConfigReader {
     private static final Pattern IPV6_UNICAST_ADDRESS = Pattern.compile("ipv6 address (?<ip>[a-fA-F0-9:]+)/"
             + "(?<prefix>[\\d]+)");
 
+    private final boolean runningConfigSnapshot;
+
     public Ipv6ConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public Ipv6ConfigReader(Cli cli, boolean runningConfigSnapshot) {
         super(cli);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -38,4 +47,9 @@ public final class Ipv6ConfigReader extends AbstractIpv6ConfigReader {
     protected String getReadCommand(String ifcName) {
         return f(Ipv6AddressReader.SH_INTERFACE_IP, ifcName);
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.getInterfaceBlocks(runningConfigSnapshot);
+    }
 }
@@ -16,13 +16,21 @@
 
 package io.frinx.cli.unit.ios.ifc.handler;
 
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
+import io.frinx.openconfig.openconfig.interfaces.IIDs;
+import java.util.AbstractMap;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.EthernetCsmacd;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class InterfaceConfigReaderTest {
 
@@ -62,4 +70,23 @@ public class InterfaceConfigReaderTest {
                 .parseInterface(SH_INTERFACE_RUN2, parsed, "FastEthernet0/0");
         Assert.assertEquals(EXPECTED_INTERFACE2, parsed.build());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testScanKeptInReadContext() throws Exception {
+        InterfaceConfigReader reader = Mockito.spy(new InterfaceConfigReader(Mockito.mock(Cli.class)));
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        ModificationCache cache = new ModificationCache();
+        Mockito.when(readContext.getModificationCache()).thenReturn(cache);
+        Mockito.doReturn(SH_INTERFACE_RUN).when(reader).blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
+                Mockito.any(InstanceIdentifier.class), Mockito.eq(readContext));
+        InstanceIdentifier<Config> id = IIDs.INTERFACES
+                .child(Interface.class, new InterfaceKey("GigabitEthernet1/0"))
+                .child(Config.class);
+
+        ConfigBuilder parsed = new ConfigBuilder();
+        reader.readCurrentAttributes(id, parsed, readContext);
+        Assert.assertEquals(EXPECTED_INTERFACE, parsed.build());
+        Assert.assertTrue(cache.containsKey(new AbstractMap.SimpleEntry<>(AbstractInterfaceConfigReader.class,
+                "show running-config interface GigabitEthernet1/0")));
+    }
+}
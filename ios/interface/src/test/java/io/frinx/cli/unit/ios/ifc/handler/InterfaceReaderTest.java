@@ -17,13 +17,21 @@
 package io.frinx.cli.unit.ios.ifc.handler;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ifc.base.util.InterfaceConfigBlocks;
+import io.frinx.cli.unit.ios.ifc.Util;
+import io.frinx.cli.unit.ios.init.snapshot.ConfigFingerprintCache;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import io.frinx.cli.unit.utils.CliReader;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.InterfaceKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class InterfaceReaderTest {
 
@@ -49,6 +57,30 @@ public class InterfaceReaderTest {
             .map(InterfaceKey::new)
             .collect(Collectors.toList());
 
+    @Test
+    public void testInterfaceBlocksFromRunningConfig() throws Exception {
+        CliReader reader = Mockito.mock(CliReader.class);
+        Cli cli = Mockito.mock(Cli.class);
+        InstanceIdentifier id = Mockito.mock(InstanceIdentifier.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        Mockito.when(reader.blockingRead(ConfigFingerprintCache.SH_CONFIGURED_FROM, cli, id, readContext))
+                .thenReturn("");
+        Mockito.when(reader.blockingRead(RunningConfigSnapshot.SH_RUN, cli, id, readContext))
+                .thenReturn("hostname R1\n"
+                        + "interface Loopback0\n"
+                        + " ip address 10.0.0.1 255.255.255.255\n"
+                        + "!\n"
+                        + "router ospf 1\n");
+
+        Assert.assertEquals("interface Loopback0\n ip address 10.0.0.1 255.255.255.255",
+                InterfaceConfigBlocks.blockingRead(reader, Util.getInterfaceBlocks(true),
+                        "show running-config interface Loopback0", cli, id, readContext));
+        // bulk command is answered from the running configuration snapshot
+        Mockito.verify(reader, Mockito.never()).blockingRead(Util.INTERFACE_BLOCKS.getBulkCommand(), cli, id,
+                readContext);
+    }
+
     @Test
     public void testParseInterfaceIds() {
         Assert.assertEquals(IDS_EXPECTED,
@@ -60,4 +92,12 @@ public class InterfaceReaderTest {
         Assert.assertEquals(IDS_ALL_EXPECTED,
                 new InterfaceReader(Mockito.mock(Cli.class)).parseAllInterfaceIds(SH_INTERFACE));
     }
+
+    @Test
+    public void testParseInterfaceIdsFromRunningConfigSnapshot() {
+        String output = RunningConfigSnapshot.evaluate(InterfaceReader.SH_INTERFACE, SH_INTERFACE).get();
+        InterfaceReader reader = new InterfaceReader(Mockito.mock(Cli.class));
+        Assert.assertEquals(IDS_EXPECTED, reader.parseInterfaceIds(output));
+        Assert.assertEquals(IDS_ALL_EXPECTED, reader.parseAllInterfaceIds(output));
+    }
 }
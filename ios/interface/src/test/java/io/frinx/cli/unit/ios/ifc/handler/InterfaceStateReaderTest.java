@@ -17,13 +17,18 @@
 package io.frinx.cli.unit.ios.ifc.handler;
 
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.ifc.Util;
+import java.math.BigInteger;
+import java.util.Optional;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.InterfaceCommonState;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222._interface.counters.state.CountersBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.State;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.StateBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.iana._if.type.rev140508.EthernetCsmacd;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
 
 public class InterfaceStateReaderTest {
 
@@ -195,4 +200,33 @@ public class InterfaceStateReaderTest {
         reader.parseInterfaceState(SH_INTERFACE_FALLBACK, parsed, "GigabitEthernet0/2");
         Assert.assertEquals(EXPECTED_FALLBACK_INTERFACE_STATE, parsed.build());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParseInterfaceCounters() {
+        StateBuilder parsed = new StateBuilder();
+        new InterfaceStateReader(Mockito.mock(Cli.class)).parseInterfaceCounters(SH_INTERFACE, parsed);
+
+        Assert.assertEquals(new CountersBuilder()
+                .setInUnicastPkts(new Counter64(BigInteger.valueOf(2)))
+                .setInOctets(new Counter64(BigInteger.valueOf(60400)))
+                .setInErrors(new Counter64(BigInteger.ZERO))
+                .setInDiscards(new Counter64(BigInteger.ZERO))
+                .setOutOctets(new Counter64(BigInteger.valueOf(43646)))
+                .setOutErrors(new Counter64(BigInteger.ZERO))
+                .setOutDiscards(new Counter64(BigInteger.ZERO))
+                .build(), parsed.getCounters());
+    }
+
+    @Test
+    public void testStateBlockHeaders() {
+        Assert.assertEquals(Optional.of("GigabitEthernet1/0"),
+                Util.INTERFACE_STATE_BLOCKS.parseHeader("GigabitEthernet1/0 is administratively down, "
+                        + "line protocol is down"));
+        Assert.assertEquals(Optional.of("GigabitEthernet0/0"),
+                Util.INTERFACE_STATE_BLOCKS.parseHeader("GigabitEthernet0/0 is down, line protocol is down "
+                        + "(notconnect)"));
+        Assert.assertFalse(Util.INTERFACE_STATE_BLOCKS.parseHeader("  Description: a is b, line protocol is c")
+                .isPresent());
+        Assert.assertTrue(Util.INTERFACE_STATE_BLOCKS.isBlockLine(""));
+    }
+}
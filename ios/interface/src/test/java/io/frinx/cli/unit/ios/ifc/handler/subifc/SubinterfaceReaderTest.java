@@ -18,6 +18,8 @@ package io.frinx.cli.unit.ios.ifc.handler.subifc;
 
 import com.google.common.collect.Lists;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.ifc.handler.InterfaceReader;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Assert;
@@ -47,4 +49,11 @@ public class SubinterfaceReaderTest {
         Assert.assertEquals(IDS_EXPECTED,
                 new SubinterfaceReader(Mockito.mock(Cli.class)).parseSubinterfaceIds(SH_INTERFACE, "FastEthernet4/0"));
     }
+
+    @Test
+    public void testParseInterfaceIdsFromRunningConfigSnapshot() {
+        String output = RunningConfigSnapshot.evaluate(InterfaceReader.SH_INTERFACE, SH_INTERFACE).get();
+        Assert.assertEquals(IDS_EXPECTED,
+                new SubinterfaceReader(Mockito.mock(Cli.class)).parseSubinterfaceIds(output, "FastEthernet4/0"));
+    }
 }
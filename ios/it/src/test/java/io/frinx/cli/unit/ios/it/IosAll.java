@@ -44,6 +44,8 @@ import io.frinx.cli.unit.ios.bgp.BgpUnit;
 import io.frinx.cli.unit.ios.cdp.IosCdpUnit;
 import io.frinx.cli.unit.ios.ifc.IosInterfaceUnit;
 import io.frinx.cli.unit.ios.init.IosCliInitializerUnit;
+import io.frinx.cli.unit.ios.it.sim.SimulatedDevice;
+import io.frinx.cli.unit.ios.it.sim.Transcript;
 import io.frinx.cli.unit.ios.lldp.LldpUnit;
 import io.frinx.cli.unit.ios.local.routing.LocalRoutingUnit;
 import io.frinx.cli.unit.ios.mpls.MplsUnit;
@@ -52,10 +54,13 @@ import io.frinx.cli.unit.ios.rib.RibUnit;
 import io.frinx.cli.unit.ospf.OspfUnit;
 import io.frinx.openconfig.openconfig.interfaces.IIDs;
 import io.frinx.translate.unit.commons.utils.NoopDataBroker;
+import java.io.IOException;
 import java.io.StringWriter;
 import java.net.InetSocketAddress;
 import java.security.Security;
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
@@ -63,6 +68,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -112,32 +119,14 @@ import org.slf4j.LoggerFactory;
 
 public class IosAll {
 
+    private static final Logger LOG = (Logger) LoggerFactory.getLogger(IosAll.class);
+
     private static final Device IOS_ALL = new DeviceIdBuilder()
             .setDeviceType("ios")
             .setDeviceVersion("15.1")
             .build();
 
     private static final String MOUNT_ID = "ios-it";
-    private static final int PORT = 22;
-
-    private static final String HOST = "192.168.1.254";
-    private static final InetSocketAddress IOS_ADDR = new InetSocketAddress(HOST, PORT);
-    private static final CliNode CLI_CFG = new CliNodeBuilder()
-            .setPort(new PortNumber(PORT))
-            .setHost(new Host(new IpAddress(new Ipv4Address(HOST))))
-            .setDeviceType(IOS_ALL.getDeviceType())
-            .setDeviceVersion(IOS_ALL.getDeviceVersion())
-            .setTransportType(CliNodeConnectionParameters.TransportType.Ssh)
-            .setCredentials(new LoginPasswordBuilder()
-                    .setUsername("cisco")
-                    .setPassword("cisco")
-                    .build())
-            .setKeepaliveStrategy(new KeepaliveBuilder()
-                    .setKeepaliveDelay(30)
-                    .setKeepaliveTimeout(30)
-                    .setKeepaliveInitialDelay(30)
-                    .build())
-            .build();
 
     private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(4);
 
@@ -158,6 +147,11 @@ public class IosAll {
         }
     };
 
+    /**
+     * Round trip time of the simulated device, keeps the number of commands visible in test duration.
+     */
+    protected static final Duration DEVICE_LATENCY = Duration.ofMillis(5);
+
     public static final TopologyKey CLI_TOPO_KEY = new TopologyKey(new TopologyId("cli"));
 
     @Mock
@@ -174,6 +168,8 @@ public class IosAll {
     private Cli cli;
 
     protected boolean failFast = true;
+    protected SimulatedDevice device;
+    private List<String> mountCommands;
 
     @Before
     public void setUp() throws Exception {
@@ -181,6 +177,7 @@ public class IosAll {
         setRootLogLevel();
         MockitoAnnotations.initMocks(this);
         mockBroker();
+        device = createDevice();
 
         TranslateRegistryImpl reg = getTranslateRegistry(mockBroker);
 
@@ -202,6 +199,10 @@ public class IosAll {
         cli = ioConfigurationBuilder.getIO()
                 .toCompletableFuture()
                 .get();
+        mountCommands = device.getCommands();
+        LOG.info("Mounted {} in {} commands, {} bytes received", getDeviceId().getDeviceType(),
+                mountCommands.size(), device.getBytesSent());
+        device.reset();
 
         schemaCtx = translateContext.getSchemaContext();
         BindingToNormalizedNodeCodec codec = translateContext.getCodec();
@@ -233,8 +234,32 @@ public class IosAll {
         }.load(DataBroker.class).get());
     }
 
+    @After
+    public void tearDown() throws Exception {
+        if (cli != null) {
+            cli.close();
+        }
+        if (device != null) {
+            device.close();
+        }
+    }
+
+    /**
+     * Device the tests are executed against. Recorded outputs are in src/test/resources/sim.
+     */
+    protected SimulatedDevice createDevice() throws IOException {
+        return SimulatedDevice.builder("ios")
+                .prompt("R1>")
+                .enable("enable", "cisco", "R1#")
+                .configMode("configure terminal", "R1(config)#", "end")
+                .login("cisco", "cisco")
+                .latency(DEVICE_LATENCY)
+                .transcript(Transcript.fromResource("/sim/ios.transcript"))
+                .start();
+    }
+
     protected InetSocketAddress getAddress() {
-        return IOS_ADDR;
+        return device.getAddress();
     }
 
     protected Device getDeviceId() {
@@ -266,13 +291,13 @@ public class IosAll {
         TranslateRegistryImpl reg = new TranslateRegistryImpl(broker);
 
         new GenericTranslateUnit(reg).init();
-        new IosInterfaceUnit(reg).init();
-        new BgpUnit(reg).init();
+        new IosInterfaceUnit(reg, true).init();
+        new BgpUnit(reg, true).init();
         new RibUnit(reg).init();
-        new OspfUnit(reg).init();
+        new OspfUnit(reg, true).init();
         new MplsUnit(reg).init();
-        new LocalRoutingUnit(reg).init();
-        new IosNetworkInstanceUnit(reg).init();
+        new LocalRoutingUnit(reg, true).init();
+        new IosNetworkInstanceUnit(reg, true).init();
         new IosCdpUnit(reg).init();
         new LldpUnit(reg).init();
         new IosCliInitializerUnit(reg).init();
@@ -313,6 +338,7 @@ public class IosAll {
     @Test
     public void testConnectivity() throws Exception {
         cli.close();
+        cli = null;
 
         TranslateRegistryImpl reg = getTranslateRegistry(mockBroker);
         TranslateContext translateContext = reg.getTranslateContext(getDeviceId());
@@ -341,7 +367,38 @@ public class IosAll {
     }
 
     protected CliNode getCliNode() {
-        return CLI_CFG;
+        return cliNode(CliNodeConnectionParameters.TransportType.Ssh, "cisco", "cisco");
+    }
+
+    /**
+     * Configuration of a mount pointing to the simulated device.
+     */
+    protected CliNode cliNode(CliNodeConnectionParameters.TransportType transport, String username,
+                              String password) {
+        return new CliNodeBuilder()
+                .setPort(new PortNumber(getAddress().getPort()))
+                .setHost(new Host(new IpAddress(new Ipv4Address(getAddress().getAddress().getHostAddress()))))
+                .setDeviceType(getDeviceId().getDeviceType())
+                .setDeviceVersion(getDeviceId().getDeviceVersion())
+                .setTransportType(transport)
+                .setCredentials(new LoginPasswordBuilder()
+                        .setUsername(username)
+                        .setPassword(password)
+                        .build())
+                .setKeepaliveStrategy(new KeepaliveBuilder()
+                        .setKeepaliveDelay(30)
+                        .setKeepaliveTimeout(30)
+                        .setKeepaliveInitialDelay(30)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Mount executed by setUp against the simulated device.
+     */
+    @Test
+    public void testMount() throws Exception {
+        Assert.assertFalse("No command received by simulated device", mountCommands.isEmpty());
     }
 
     @Ignore
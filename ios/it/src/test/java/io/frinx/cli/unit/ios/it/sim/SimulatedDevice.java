@@ -0,0 +1,493 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.it.sim;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.command.Command;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local SSH or telnet server replaying recorded command outputs ({@link Transcript}) with prompts of a device.
+ *
+ * <p>Simulated device understands just enough to be mounted: login, privileged mode with optional secret,
+ * commands switching prompt (e.g. "vtysh") and configuration mode, in which any command is accepted. Other
+ * commands are answered from transcripts, unknown commands are answered with an error. Each answer can be
+ * delayed to simulate round trip time of a real device.
+ *
+ * <p>All executed commands are recorded, so that tests can count round trips of mount, reads and writes.
+ */
+public final class SimulatedDevice implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimulatedDevice.class);
+
+    private static final String CRLF = "\r\n";
+    private static final String PASSWORD_PROMPT = "Password: ";
+    private static final String USERNAME_PROMPT = "Username: ";
+    private static final String EXIT_CONFIG_MODE = "exit";
+    private static final List<String> LOGOUT_COMMANDS = Arrays.asList("exit", "logout", "quit");
+
+    private final Builder config;
+    private final ExecutorService executor;
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+    private final AtomicLong bytesSent = new AtomicLong();
+
+    private SshServer sshServer;
+    private ServerSocket telnetServer;
+    private InetSocketAddress address;
+
+    private SimulatedDevice(Builder config) {
+        this.config = config;
+        this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("simulated-" + config.name + "-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    @Nonnull
+    public static Builder builder(@Nonnull String name) {
+        return new Builder(name);
+    }
+
+    private void start() throws IOException {
+        InetAddress localhost = InetAddress.getLoopbackAddress();
+        if (config.telnet) {
+            telnetServer = new ServerSocket(0, 50, localhost);
+            address = new InetSocketAddress(localhost, telnetServer.getLocalPort());
+            executor.execute(this::acceptTelnet);
+        } else {
+            sshServer = SshServer.setUpDefaultServer();
+            sshServer.setHost(localhost.getHostAddress());
+            sshServer.setPort(0);
+            sshServer.setKeyPairProvider(new SimpleGeneratorHostKeyProvider());
+            sshServer.setPasswordAuthenticator((username, password, session) ->
+                    config.username.equals(username) && config.password.equals(password));
+            sshServer.setShellFactory(SshShell::new);
+            sshServer.start();
+            address = new InetSocketAddress(localhost, sshServer.getPort());
+        }
+        LOG.info("Simulated device {} listening on {} ({})", config.name, address, config.telnet ? "telnet" : "ssh");
+    }
+
+    /**
+     * Address where the device listens. Port is chosen when the device is started.
+     */
+    @Nonnull
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    /**
+     * Commands executed since the device was started or reset, in order of execution.
+     */
+    @Nonnull
+    public List<String> getCommands() {
+        return new ArrayList<>(commands);
+    }
+
+    /**
+     * Number of bytes sent to clients since the device was started or reset.
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public void reset() {
+        commands.clear();
+        bytesSent.set(0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (sshServer != null) {
+            sshServer.stop(true);
+        }
+        if (telnetServer != null) {
+            telnetServer.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptTelnet() {
+        while (!telnetServer.isClosed()) {
+            try {
+                Socket socket = telnetServer.accept();
+                executor.execute(() -> {
+                    try (Socket client = socket) {
+                        new DeviceShell(client.getInputStream(), client.getOutputStream(), true).run();
+                    } catch (IOException e) {
+                        LOG.debug("Telnet session of {} closed", config.name, e);
+                    }
+                });
+            } catch (IOException e) {
+                if (!telnetServer.isClosed()) {
+                    LOG.warn("Unable to accept telnet connection to {}", config.name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * SSH shell channel running {@link DeviceShell}.
+     */
+    private final class SshShell implements Command {
+
+        private InputStream in;
+        private OutputStream out;
+        private ExitCallback exitCallback;
+
+        @Override
+        public void setInputStream(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public void setOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void setErrorStream(OutputStream err) {
+            // not used
+        }
+
+        @Override
+        public void setExitCallback(ExitCallback callback) {
+            this.exitCallback = callback;
+        }
+
+        @Override
+        public void start(Environment env) {
+            executor.execute(() -> {
+                try {
+                    new DeviceShell(in, out, false).run();
+                } catch (IOException e) {
+                    LOG.debug("SSH session of {} closed", config.name, e);
+                } finally {
+                    exitCallback.onExit(0);
+                }
+            });
+        }
+
+        @Override
+        public void destroy() {
+            // session thread ends when input is closed
+        }
+    }
+
+    /**
+     * Single CLI session with the device.
+     */
+    private final class DeviceShell {
+
+        private final InputStream in;
+        private final OutputStream out;
+        private final boolean telnet;
+        private String prompt;
+        private String promptBeforeConfig;
+        private boolean lastCharCr;
+
+        DeviceShell(InputStream in, OutputStream out, boolean telnet) {
+            this.in = new BufferedInputStream(in);
+            this.out = out;
+            this.telnet = telnet;
+            this.prompt = config.prompt;
+        }
+
+        void run() throws IOException {
+            if (telnet && !login()) {
+                return;
+            }
+            write(CRLF + prompt);
+
+            String line;
+            while ((line = readLine()) != null) {
+                write(line + CRLF);
+                String command = line.trim();
+                commands.add(command);
+                if (promptBeforeConfig == null && LOGOUT_COMMANDS.contains(command)) {
+                    return;
+                }
+                Optional<String> output = execute(command);
+                delay(command);
+                write(output.orElse("") + prompt);
+            }
+        }
+
+        private boolean login() throws IOException {
+            write(CRLF + "User Access Verification" + CRLF + CRLF + USERNAME_PROMPT);
+            String username = readLine();
+            write(CRLF + PASSWORD_PROMPT);
+            String password = readLine();
+            if (config.username.equals(username) && config.password.equals(password)) {
+                return true;
+            }
+            write(CRLF + "% Login invalid" + CRLF);
+            return false;
+        }
+
+        private Optional<String> execute(String command) throws IOException {
+            if (command.isEmpty()) {
+                return Optional.empty();
+            }
+            if (promptBeforeConfig != null) {
+                if (command.equals(config.configEndCommand)) {
+                    prompt = promptBeforeConfig;
+                    promptBeforeConfig = null;
+                } else if (command.equals(EXIT_CONFIG_MODE)) {
+                    // sub-modes are not tracked, stay in configuration mode
+                    return Optional.empty();
+                }
+                return config.transcript.flatMap(t -> t.getOutput(command));
+            }
+            if (command.equals(config.enableCommand) && !prompt.equals(config.enablePrompt)) {
+                return enable();
+            }
+            if (command.equals(config.configCommand)) {
+                promptBeforeConfig = prompt;
+                prompt = config.configPrompt;
+                return Optional.of("Enter configuration commands, one per line.  End with CNTL/Z." + CRLF);
+            }
+            String shellPrompt = config.shells.get(command);
+            if (shellPrompt != null) {
+                prompt = shellPrompt;
+                return Optional.empty();
+            }
+            Optional<String> output = config.transcript.flatMap(t -> t.getOutput(command));
+            return output.isPresent() ? output : Optional.of(config.unknownCommandOutput);
+        }
+
+        private Optional<String> enable() throws IOException {
+            if (config.enableSecret != null) {
+                write(PASSWORD_PROMPT);
+                String secret = readLine();
+                write(CRLF);
+                if (!config.enableSecret.equals(secret)) {
+                    return Optional.of("% Access denied" + CRLF);
+                }
+            }
+            prompt = config.enablePrompt;
+            return Optional.empty();
+        }
+
+        private void delay(String command) {
+            Duration latency = config.latencies.getOrDefault(command, config.latency);
+            if (!latency.isZero()) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private void write(String text) throws IOException {
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            out.write(bytes);
+            out.flush();
+            bytesSent.addAndGet(bytes.length);
+        }
+
+        /**
+         * Read line terminated by CR, LF or CRLF. Telnet commands (IAC ...) are skipped.
+         */
+        @Nullable
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            while (true) {
+                int read = in.read();
+                if (read == -1) {
+                    return line.length() == 0 ? null : line.toString();
+                }
+                if (telnet && read == 0xFF) {
+                    skipTelnetCommand();
+                    continue;
+                }
+                boolean afterCr = lastCharCr;
+                lastCharCr = read == '\r';
+                if (read == '\n' && afterCr || read == 0) {
+                    continue;
+                }
+                if (read == '\r' || read == '\n') {
+                    return line.toString();
+                }
+                line.append((char) read);
+            }
+        }
+
+        private void skipTelnetCommand() throws IOException {
+            int command = in.read();
+            if (command >= 0xFB && command <= 0xFE) {
+                // WILL, WONT, DO, DONT + option
+                in.read();
+            } else if (command == 0xFA) {
+                // sub-negotiation until IAC SE
+                int previous = 0;
+                int read;
+                while ((read = in.read()) != -1 && !(previous == 0xFF && read == 0xF0)) {
+                    previous = read;
+                }
+            }
+        }
+    }
+
+    /**
+     * Configuration of simulated device.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private String prompt = "R1#";
+        private String enableCommand;
+        private String enablePrompt;
+        private String enableSecret;
+        private String configCommand;
+        private String configPrompt;
+        private String configEndCommand;
+        private final Map<String, String> shells = new HashMap<>();
+        private String username = "cisco";
+        private String password = "cisco";
+        private boolean telnet;
+        private Duration latency = Duration.ZERO;
+        private final Map<String, Duration> latencies = new HashMap<>();
+        private Optional<Transcript> transcript = Optional.empty();
+        private String unknownCommandOutput = "% Invalid input detected at '^' marker." + CRLF;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Prompt printed after login.
+         */
+        public Builder prompt(@Nonnull String prompt) {
+            this.prompt = prompt;
+            return this;
+        }
+
+        /**
+         * Command entering privileged mode.
+         *
+         * @param command e.g. "enable"
+         * @param secret secret requested by the device, null if not requested
+         * @param enablePrompt prompt in privileged mode
+         */
+        public Builder enable(@Nonnull String command, @Nullable String secret, @Nonnull String enablePrompt) {
+            this.enableCommand = command;
+            this.enableSecret = secret;
+            this.enablePrompt = enablePrompt;
+            return this;
+        }
+
+        /**
+         * Configuration mode. Any command is accepted in configuration mode.
+         */
+        public Builder configMode(@Nonnull String command, @Nonnull String configPrompt, @Nonnull String endCommand) {
+            this.configCommand = command;
+            this.configPrompt = configPrompt;
+            this.configEndCommand = endCommand;
+            return this;
+        }
+
+        /**
+         * Command switching prompt, e.g. from linux shell to device CLI.
+         */
+        public Builder shell(@Nonnull String command, @Nonnull String shellPrompt) {
+            this.shells.put(command, shellPrompt);
+            return this;
+        }
+
+        public Builder login(@Nonnull String username, @Nonnull String password) {
+            this.username = username;
+            this.password = password;
+            return this;
+        }
+
+        /**
+         * Listen for telnet instead of SSH connections.
+         */
+        public Builder telnet() {
+            this.telnet = true;
+            return this;
+        }
+
+        /**
+         * Delay of each answer.
+         */
+        public Builder latency(@Nonnull Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Delay of answer to a specific command.
+         */
+        public Builder latency(@Nonnull String command, @Nonnull Duration latency) {
+            this.latencies.put(command, latency);
+            return this;
+        }
+
+        public Builder transcript(@Nonnull Transcript transcript) {
+            this.transcript = Optional.of(transcript);
+            return this;
+        }
+
+        public Builder unknownCommandOutput(@Nonnull String output) {
+            this.unknownCommandOutput = output;
+            return this;
+        }
+
+        /**
+         * Start listening on a free local port.
+         */
+        @Nonnull
+        public SimulatedDevice start() throws IOException {
+            Preconditions.checkState(transcript.isPresent(), "No transcript for %s", name);
+            SimulatedDevice device = new SimulatedDevice(this);
+            device.start();
+            return device;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.it.sim;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.Resources;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+/**
+ * Command outputs recorded from a device.
+ *
+ * <p>Transcript file consists of entries. Each entry starts with a line "$ command" and the lines which follow,
+ * up to the next entry, are the output of the command. Lines starting with "#" before the first entry are
+ * comments. E.g.:
+ * <pre>
+ * # IOS 15.1
+ * $ show running-config | include ^hostname
+ * hostname R1
+ * $ terminal length 0
+ * </pre>
+ */
+public final class Transcript {
+
+    private static final String COMMAND_PREFIX = "$ ";
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Map<String, String> outputs;
+
+    private Transcript(Map<String, String> outputs) {
+        this.outputs = Collections.unmodifiableMap(outputs);
+    }
+
+    /**
+     * Load transcript from class path.
+     *
+     * @param resource name of the resource, e.g. "/sim/ios.transcript"
+     * @return transcript
+     */
+    @Nonnull
+    public static Transcript fromResource(@Nonnull String resource) throws IOException {
+        URL url = Transcript.class.getResource(resource);
+        Preconditions.checkArgument(url != null, "Transcript %s not found", resource);
+        return parse(Resources.readLines(url, StandardCharsets.UTF_8));
+    }
+
+    @Nonnull
+    static Transcript parse(@Nonnull List<String> lines) {
+        Map<String, String> outputs = new LinkedHashMap<>();
+        String command = null;
+        StringBuilder output = new StringBuilder();
+        for (String line : lines) {
+            if (line.startsWith(COMMAND_PREFIX)) {
+                if (command != null) {
+                    outputs.put(command, output.toString());
+                }
+                command = line.substring(COMMAND_PREFIX.length()).trim();
+                output.setLength(0);
+            } else if (command != null) {
+                output.append(line).append("\r\n");
+            } else {
+                Preconditions.checkArgument(line.isEmpty() || line.startsWith(COMMENT_PREFIX),
+                        "Output without command: %s", line);
+            }
+        }
+        if (command != null) {
+            outputs.put(command, output.toString());
+        }
+        return new Transcript(outputs);
+    }
+
+    /**
+     * Output of the command, lines are terminated by CRLF as printed by devices.
+     */
+    @Nonnull
+    public Optional<String> getOutput(@Nonnull String command) {
+        return Optional.ofNullable(outputs.get(command.trim()));
+    }
+
+    public int size() {
+        return outputs.size();
+    }
+}
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.unit.ios.init.IosDevices;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.ios.local.routing.handlers.NextHopConfigReader;
 import io.frinx.cli.unit.ios.local.routing.handlers.NextHopReader;
 import io.frinx.cli.unit.ios.local.routing.handlers.NextHopStateReader;
@@ -38,8 +39,19 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public class LocalRoutingUnit extends AbstractUnit {
 
+    private final boolean runningConfigSnapshot;
+
     public LocalRoutingUnit(@Nonnull final TranslationUnitCollector registry) {
+        this(registry, false);
+    }
+
+    /**
+     * Unit whose readers answer "show running-config" commands from {@link RunningConfigSnapshot} if
+     * runningConfigSnapshot is set, or send each of them to the device otherwise.
+     */
+    public LocalRoutingUnit(@Nonnull final TranslationUnitCollector registry, final boolean runningConfigSnapshot) {
         super(registry);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -81,11 +93,11 @@ public class LocalRoutingUnit extends AbstractUnit {
     }
 
     private void provideReaders(@Nonnull CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
-        readRegistry.add(IIDs.NE_NE_PR_PR_ST_STATIC, new StaticReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_ST_STATIC, new StaticReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_ST_ST_STATE, new StaticStateReader(cli));
         readRegistry.add(IIDs.NE_NE_PR_PR_ST_ST_CONFIG, new StaticConfigReader());
-        readRegistry.add(IIDs.NE_NE_PR_PR_ST_ST_NE_NEXTHOP, new NextHopReader(cli));
-        readRegistry.add(IIDs.NE_NE_PR_PR_ST_ST_NE_NE_CONFIG, new NextHopConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_ST_ST_NE_NEXTHOP, new NextHopReader(cli, runningConfigSnapshot));
+        readRegistry.add(IIDs.NE_NE_PR_PR_ST_ST_NE_NE_CONFIG, new NextHopConfigReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_ST_ST_NE_NE_STATE, new NextHopStateReader(cli));
     }
 
@@ -22,7 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
+import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.Static;
@@ -37,15 +37,18 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NextHopConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
-    private static final String SHOW_IP_STATIC_ROUTE_DEFAULT = "show running-config | include route %s %s";
-    private static final String SHOW_IP_STATIC_ROUTE_VRF = "show running-config | include route vrf %s %s %s";
-
     private static final Pattern SPACE = Pattern.compile(" ");
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NextHopConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public NextHopConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -59,11 +62,9 @@ public class NextHopConfigReader implements CliConfigReader<Config, ConfigBuilde
         NextHopKey nextHopKey = id.firstKeyOf(NextHop.class);
         String index = nextHopKey.getIndex();
 
-        String showCommand = vrfKey.equals(NetworInstance.DEFAULT_NETWORK)
-                ? String.format(SHOW_IP_STATIC_ROUTE_DEFAULT, ipPrefix, switchIndex(index))
-                : String.format(SHOW_IP_STATIC_ROUTE_VRF, vrfKey.getName(), ipPrefix, switchIndex(index));
-
-        parseMetric(blockingRead(showCommand, cli, id, ctx), builder);
+        List<String> lines = StaticRouteTable.getConfigLines(this, runningConfigSnapshot, cli, id, ctx, vrfKey,
+                ipPrefix, index);
+        parseMetric(String.join("\n", lines), builder);
 
         builder.setIndex(index);
     }
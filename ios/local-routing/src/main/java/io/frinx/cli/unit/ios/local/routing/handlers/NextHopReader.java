@@ -22,7 +22,6 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
-import io.frinx.openconfig.network.instance.NetworInstance;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -39,13 +38,16 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class NextHopReader implements CliConfigListReader<NextHop, NextHopKey, NextHopBuilder> {
 
-    private static final String SH_IP_STATIC_ROUTE = "show running-config | include route %s";
-    private static final String SH_IP_STATIC_ROUTE_VRF = "show running-config | include route vrf %s %s";
-
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public NextHopReader(final Cli cli) {
+        this(cli, false);
+    }
+
+    public NextHopReader(final Cli cli, final boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
@@ -57,13 +59,9 @@ public class NextHopReader implements CliConfigListReader<NextHop, NextHopKey, N
         StaticKey staticRouteKey = instanceIdentifier.firstKeyOf(Static.class);
         String ipPrefix = getDevicePrefix(staticRouteKey);
 
-        String cmd = vrfKey.equals(NetworInstance.DEFAULT_NETWORK)
-                ?
-                String.format(SH_IP_STATIC_ROUTE, ipPrefix) :
-                String.format(SH_IP_STATIC_ROUTE_VRF, vrfKey.getName(), ipPrefix);
-
-        return parseNextHopPrefixes(blockingRead(cmd, cli, instanceIdentifier, readContext),
-                ipPrefix, vrfKey);
+        List<String> lines = StaticRouteTable.getConfigLines(this, runningConfigSnapshot, cli, instanceIdentifier,
+                readContext, vrfKey, ipPrefix);
+        return parseNextHopPrefixes(String.join("\n", lines), ipPrefix, vrfKey);
     }
 
     static String getDevicePrefix(StaticKey staticRouteKey) {
@@ -99,6 +97,11 @@ public class NextHopReader implements CliConfigListReader<NextHop, NextHopKey, N
         return nextHopKeyes;
     }
 
+    static String getNextHopId(String line) {
+        Matcher matcher = StaticReader.getMatcher(line);
+        return matcher.matches() ? extractNextHopId(matcher) : null;
+    }
+
     private static String extractNextHopId(Matcher matcher) {
         String ip = matcher.group("ip");
         String ifc = matcher.group("ifc");
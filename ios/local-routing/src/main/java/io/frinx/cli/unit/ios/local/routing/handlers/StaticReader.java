@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -39,7 +40,7 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class StaticReader implements CliConfigListReader<Static, StaticKey, StaticBuilder> {
 
-    private static final String SH_IP_STATIC_ROUTE = "show running-config | include ip route|ipv6 route";
+    static final String SH_IP_STATIC_ROUTE = "show running-config | include ip route|ipv6 route";
 
     static final Pattern ROUTE_LINE_IP =
             Pattern.compile("ip route (vrf \\S+)?\\s*(?<net>[\\d.]+)\\s*(?<mask>[\\d.]+)\\s*(?<ifc>[A-Z][\\w.]+)?\\s*"
@@ -52,9 +53,15 @@ public class StaticReader implements CliConfigListReader<Static, StaticKey, Stat
     private static final String GROUP_IP = "net";
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public StaticReader(final Cli cli) {
+        this(cli, false);
+    }
+
+    public StaticReader(final Cli cli, final boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     private static StaticKey resolveStaticKey(HashMap<String, String> value) {
@@ -90,7 +97,10 @@ public class StaticReader implements CliConfigListReader<Static, StaticKey, Stat
         String vrfName = instanceIdentifier.firstKeyOf(Protocol.class)
                 .getName();
 
-        return parseStaticPrefixes(blockingRead(SH_IP_STATIC_ROUTE, cli, instanceIdentifier, readContext), vrfName);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_IP_STATIC_ROUTE, cli, instanceIdentifier, readContext)
+                : blockingRead(SH_IP_STATIC_ROUTE, cli, instanceIdentifier, readContext);
+        return parseStaticPrefixes(output, vrfName);
     }
 
     @VisibleForTesting
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.local.routing.handlers;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import io.frinx.openconfig.network.instance.NetworInstance;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.IpPrefix;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Static routes grouped by prefix, shared by static route readers within one read transaction.
+ *
+ * <p>Configuration is parsed from a single "show running-config | include ip route|ipv6 route" and operational
+ * state from a single "show ip static route" / "show ipv6 static" per VRF, instead of filtering the device output
+ * for every prefix and next hop. Readers get the lines of their prefix, the same lines the filtered commands used
+ * to return.
+ */
+final class StaticRouteTable {
+
+    static final String SH_IP_STATIC_ROUTE = "show running-config | include ip route|ipv6 route";
+
+    private static final String SH_IP_STATIC_ROUTE_STATE = "show ip static route";
+    private static final String SH_IP_STATIC_ROUTE_STATE_VRF = "show ip static route vrf %s";
+    private static final String SH_IPV6_STATIC_ROUTE_STATE = "show ipv6 static";
+    private static final String SH_IPV6_STATIC_ROUTE_STATE_VRF = "show ipv6 static vrf %s";
+
+    private static final Pattern ROUTE_VRF = Pattern.compile("ipv?6? route vrf (?<vrf>\\S+)\\s.*");
+    // next hop active in "show ip static route", installed in RIB in "show ipv6 static"
+    private static final Pattern INSTALLED_LINE = Pattern.compile("(\\*.*|.*\\[A])");
+    private static final Pattern STATE_PREFIX_LINE = Pattern.compile("\\S*\\s+(?<prefix>[\\p{XDigit}.:]+/\\d+)"
+            + "(\\s.*)?");
+
+    private StaticRouteTable() {
+
+    }
+
+    /**
+     * Configuration lines of a static route prefix.
+     * @param runningConfigSnapshot whether the static routes are read from {@link RunningConfigSnapshot}
+     * @param vrfKey network instance of the route
+     * @param devicePrefix prefix as used in device configuration, see {@link NextHopReader#getDevicePrefix}
+     */
+    static List<String> getConfigLines(@Nonnull CliReader<?, ?> reader, boolean runningConfigSnapshot,
+                                       @Nonnull Cli cli, @Nonnull InstanceIdentifier<?> id,
+                                       @Nonnull ReadContext readContext, @Nonnull NetworkInstanceKey vrfKey,
+                                       @Nonnull String devicePrefix) throws ReadFailedException {
+        Object key = new AbstractMap.SimpleEntry<>(StaticRouteTable.class, SH_IP_STATIC_ROUTE);
+        Map<String, Map<String, List<String>>> routes =
+                (Map<String, Map<String, List<String>>>) readContext.getModificationCache().get(key);
+        if (routes == null) {
+            routes = parseConfig(runningConfigSnapshot
+                    ? RunningConfigSnapshot.blockingRead(reader, SH_IP_STATIC_ROUTE, cli, id, readContext)
+                    : reader.blockingRead(SH_IP_STATIC_ROUTE, cli, id, readContext));
+            readContext.getModificationCache().put(key, routes);
+        }
+        return routes.getOrDefault(vrfKey.getName(), Collections.emptyMap())
+                .getOrDefault(devicePrefix, Collections.emptyList());
+    }
+
+    /**
+     * Configuration lines of a single next hop of a static route prefix.
+     */
+    static List<String> getConfigLines(@Nonnull CliReader<?, ?> reader, boolean runningConfigSnapshot,
+                                       @Nonnull Cli cli, @Nonnull InstanceIdentifier<?> id,
+                                       @Nonnull ReadContext readContext, @Nonnull NetworkInstanceKey vrfKey,
+                                       @Nonnull String devicePrefix, @Nonnull String nextHopIndex)
+            throws ReadFailedException {
+        return getConfigLines(reader, runningConfigSnapshot, cli, id, readContext, vrfKey, devicePrefix).stream()
+                .filter(line -> nextHopIndex.equals(NextHopReader.getNextHopId(line)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Lines of a static route prefix in "show ip static route" or "show ipv6 static" output.
+     */
+    static List<String> getStateLines(@Nonnull CliReader<?, ?> reader, @Nonnull Cli cli,
+                                      @Nonnull InstanceIdentifier<?> id, @Nonnull ReadContext readContext,
+                                      @Nonnull NetworkInstanceKey vrfKey, @Nonnull IpPrefix prefix)
+            throws ReadFailedException {
+        boolean ipv4 = prefix.getIpv4Prefix() != null;
+        String command = vrfKey.equals(NetworInstance.DEFAULT_NETWORK)
+                ? ipv4 ? SH_IP_STATIC_ROUTE_STATE : SH_IPV6_STATIC_ROUTE_STATE
+                : String.format(ipv4 ? SH_IP_STATIC_ROUTE_STATE_VRF : SH_IPV6_STATIC_ROUTE_STATE_VRF,
+                        vrfKey.getName());
+
+        Object key = new AbstractMap.SimpleEntry<>(StaticRouteTable.class, command);
+        Map<String, List<String>> routes = (Map<String, List<String>>) readContext.getModificationCache().get(key);
+        if (routes == null) {
+            routes = parseState(reader.blockingRead(command, cli, id, readContext));
+            readContext.getModificationCache().put(key, routes);
+        }
+        String cidr = ipv4 ? prefix.getIpv4Prefix().getValue() : prefix.getIpv6Prefix().getValue();
+        return routes.getOrDefault(cidr.toUpperCase(), Collections.emptyList());
+    }
+
+    /**
+     * Whether any next hop in the state lines of a prefix is installed in the routing table.
+     */
+    static boolean isInstalled(@Nonnull List<String> stateLines) {
+        return stateLines.stream()
+                .map(String::trim)
+                .anyMatch(line -> INSTALLED_LINE.matcher(line).matches());
+    }
+
+    /**
+     * Static route lines of running configuration grouped by VRF and by prefix.
+     */
+    @VisibleForTesting
+    static Map<String, Map<String, List<String>>> parseConfig(String output) {
+        Map<String, Map<String, List<String>>> routes = new HashMap<>();
+        ParsingUtils.NEWLINE.splitAsStream(output)
+                .map(String::trim)
+                .forEach(line -> {
+                    Matcher matcher = StaticReader.getMatcher(line);
+                    if (!matcher.matches()) {
+                        return;
+                    }
+                    Matcher vrfMatcher = ROUTE_VRF.matcher(line);
+                    String vrf = vrfMatcher.matches() ? vrfMatcher.group("vrf") : NetworInstance.DEFAULT_NETWORK_NAME;
+                    String prefix = matcher.pattern() == StaticReader.ROUTE_LINE_IP
+                            ? String.format("%s %s", matcher.group("net"), matcher.group("mask"))
+                            : matcher.group("net");
+                    routes.computeIfAbsent(vrf, v -> new HashMap<>())
+                            .computeIfAbsent(prefix, p -> new ArrayList<>())
+                            .add(line);
+                });
+        return routes;
+    }
+
+    /**
+     * Lines of "show ip static route" or "show ipv6 static" output grouped by prefix. Lines following a prefix line
+     * without a prefix of their own (further next hops, indented or starting with next hop codes) belong to the same
+     * prefix.
+     */
+    @VisibleForTesting
+    static Map<String, List<String>> parseState(String output) {
+        Map<String, List<String>> routes = new HashMap<>();
+        List<String> current = null;
+        for (String line : ParsingUtils.NEWLINE.split(output)) {
+            line = line.replace("\r", "");
+            Matcher matcher = STATE_PREFIX_LINE.matcher(line);
+            if (matcher.matches()) {
+                current = routes.computeIfAbsent(matcher.group("prefix").toUpperCase(), p -> new ArrayList<>());
+                current.add(line);
+            } else if (current != null && !line.trim().isEmpty()
+                    && (Character.isWhitespace(line.charAt(0)) || line.contains(" via "))) {
+                current.add(line);
+            } else {
+                current = null;
+            }
+        }
+        return routes;
+    }
+}
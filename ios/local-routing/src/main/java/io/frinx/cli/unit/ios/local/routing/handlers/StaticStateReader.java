@@ -16,67 +16,39 @@
 
 package io.frinx.cli.unit.ios.local.routing.handlers;
 
-import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliOperReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
-import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes.Static;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes._static.State;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.local.routing.rev170515.local._static.top._static.routes._static.StateBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.types.inet.rev170403.IpPrefix;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class StaticStateReader implements CliOperReader<State, StateBuilder> {
 
-    private static final String SH_IP_STATIC_ROUTE = "show ip route | include %s";
-    private static final String SH_IPV6_STATIC_ROUTE = "show ipv6 route | include %s";
-
-    private static final Pattern STATIC_IP_ROUTE =
-            Pattern.compile("(?<state>[A-Z]+)\\s*(?<net>[\\d.]+)\\s*\\["
-                    + "(?<metric>[\\d/]+)]\\s*via\\s*(?<ip>[\\d.]+).*");
-    private static final Pattern STATIC_IPV6_ROUTE =
-            Pattern.compile("(?<state>[A-Z]+)\\s*(?<net>[\\d:/A-F]+)\\s*\\[(?<metric>[\\d/]+)].*");
-    private static final Pattern IP_ROUTE = Pattern.compile("(?<address>[\\d.]+)/(?<mask>[\\d.]+)");
-
     private Cli cli;
 
     public StaticStateReader(final Cli cli) {
         this.cli = cli;
     }
 
-    private static Matcher getMatcher(String string) {
-        Matcher matcher = STATIC_IP_ROUTE.matcher(string);
-        return matcher.matches() ? matcher : STATIC_IPV6_ROUTE.matcher(string);
-    }
-
-    private static String getIpAddres(String fullAddress) {
-        Optional<String> ipAddress = ParsingUtils.parseField(fullAddress, 0, IP_ROUTE::matcher,
-            matcher -> matcher.group("address"));
-        return ipAddress.orElse(fullAddress);
-    }
-
-    @VisibleForTesting
-    static boolean isPrefixStatic(String output) {
-        Optional<String> state = ParsingUtils.parseField(output, 0, StaticStateReader::getMatcher,
-            matcher -> matcher.group("state"));
-        return state.isPresent() && state.get().equals("S");
-    }
-
     @Override
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<State> instanceIdentifier,
                                              @Nonnull StateBuilder stateBuilder,
                                              @Nonnull ReadContext readContext) throws ReadFailedException {
         IpPrefix ipPrefix = instanceIdentifier.firstKeyOf(Static.class).getPrefix();
-        String cmd = ipPrefix.getIpv6Prefix() == null
-                ? String.format(SH_IP_STATIC_ROUTE, getIpAddres(ipPrefix.getIpv4Prefix().getValue()))
-                : String.format(SH_IPV6_STATIC_ROUTE, ipPrefix.getIpv6Prefix().getValue());
-        if (isPrefixStatic(blockingRead(cmd, cli, instanceIdentifier, readContext))) {
+        NetworkInstanceKey vrfKey = instanceIdentifier.firstKeyOf(NetworkInstance.class);
+
+        // served from the static routes table shared with next hop state, not from the whole routing table
+        List<String> lines = StaticRouteTable.getStateLines(this, cli, instanceIdentifier, readContext, vrfKey,
+                ipPrefix);
+        if (StaticRouteTable.isInstalled(lines)) {
             stateBuilder.setPrefix(ipPrefix);
         }
     }
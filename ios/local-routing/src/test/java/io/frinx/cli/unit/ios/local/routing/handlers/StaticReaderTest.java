@@ -17,6 +17,7 @@
 package io.frinx.cli.unit.ios.local.routing.handlers;
 
 import com.google.common.collect.Lists;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import java.util.Collections;
 import java.util.List;
@@ -84,6 +85,13 @@ public class StaticReaderTest {
                 StaticReader.parseStaticPrefixes(STATIC_OUTPUT2, NetworInstance.DEFAULT_NETWORK_NAME));
     }
 
+    @Test
+    public void testParseStaticPrefixesFromRunningConfigSnapshot() {
+        String output = RunningConfigSnapshot.evaluate(StaticReader.SH_IP_STATIC_ROUTE, STATIC_OUTPUT2).get();
+        Assert.assertEquals(EXPECTED_IDS2,
+                StaticReader.parseStaticPrefixes(output, NetworInstance.DEFAULT_NETWORK_NAME));
+    }
+
     @Test
     public void testParseStaticPrefixesVrf() {
         Assert.assertEquals(EXPECTED_IDS_VRF, StaticReader.parseStaticPrefixes(STATIC_OUTPUT, VRF_NAME));
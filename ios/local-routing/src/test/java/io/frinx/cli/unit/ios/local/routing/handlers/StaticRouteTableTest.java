@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.local.routing.handlers;
+
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
+import io.frinx.openconfig.network.instance.NetworInstance;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StaticRouteTableTest {
+
+    private static final String CONFIG_OUTPUT = "ip route 192.0.2.0 255.255.255.0 15.3.0.1\n"
+            + "ip route 192.0.2.0 255.255.255.0 15.3.0.3 5\n"
+            + "ip route 10.0.0.0 255.0.0.0 GigabitEthernet1 10.1.1.1\n"
+            + "ip route vrf TMP 192.0.2.0 255.255.255.0 10.10.10.10\n"
+            + "ipv6 route 4001::/64 GigabitEthernet1 55\n"
+            + "ipv6 route vrf TMP 4009::/64 GigabitEthernet3 4005::2 33 1\n"
+            + " ip route-cache same-interface\n";
+
+    private static final String IP_STATE_OUTPUT = "Codes: M - Manual static, A - AAA download, N - IP NAT, D - DHCP,\n"
+            + "       G - GPRS, V - Crypto VPN, C - CASA, P - Channel interface processor,\n"
+            + "Codes in []: A - active, N - non-active, B - BFD-tracked, D - Not Tracked, P - permanent\n"
+            + "\n"
+            + "Static local RIB for default\n"
+            + "\n"
+            + "M  192.0.2.0/24 [1/0] via 15.3.0.1 [A]\n"
+            + "M             [5/0] via 15.3.0.3 [N]\n"
+            + "M  10.0.0.0/8 [1/0] via GigabitEthernet1 10.1.1.1 [A]\n";
+
+    private static final String IPV6_STATE_OUTPUT = "IPv6 Static routes Table - default\n"
+            + "Codes: * - installed in RIB, u/m - Unicast/Multicast only\n"
+            + "       U - Per-user Static route\n"
+            + "Static local RIB for default\n"
+            + "*   4001::/64 via GigabitEthernet1, distance 55\n"
+            + "    4001::/64 via 4005::2, distance 1\n"
+            + "*   4001:ab::/64 via GigabitEthernet2, distance 1\n";
+
+    @Test
+    public void testParseConfig() {
+        Map<String, Map<String, List<String>>> routes = StaticRouteTable.parseConfig(CONFIG_OUTPUT);
+
+        Assert.assertEquals(Arrays.asList("ip route 192.0.2.0 255.255.255.0 15.3.0.1",
+                "ip route 192.0.2.0 255.255.255.0 15.3.0.3 5"),
+                routes.get(NetworInstance.DEFAULT_NETWORK_NAME).get("192.0.2.0 255.255.255.0"));
+        Assert.assertEquals(Collections.singletonList("ip route vrf TMP 192.0.2.0 255.255.255.0 10.10.10.10"),
+                routes.get("TMP").get("192.0.2.0 255.255.255.0"));
+        Assert.assertEquals(Collections.singletonList("ipv6 route 4001::/64 GigabitEthernet1 55"),
+                routes.get(NetworInstance.DEFAULT_NETWORK_NAME).get("4001::/64"));
+        Assert.assertEquals(Collections.singletonList("ipv6 route vrf TMP 4009::/64 GigabitEthernet3 4005::2 33 1"),
+                routes.get("TMP").get("4009::/64"));
+        Assert.assertEquals(3, routes.get(NetworInstance.DEFAULT_NETWORK_NAME).size());
+    }
+
+    @Test
+    public void testParseConfigFromRunningConfigSnapshot() {
+        String output = RunningConfigSnapshot.evaluate(StaticRouteTable.SH_IP_STATIC_ROUTE, CONFIG_OUTPUT).get();
+        Assert.assertEquals(StaticRouteTable.parseConfig(CONFIG_OUTPUT), StaticRouteTable.parseConfig(output));
+    }
+
+    @Test
+    public void testParseState() {
+        Map<String, List<String>> routes = StaticRouteTable.parseState(IP_STATE_OUTPUT);
+
+        Assert.assertEquals(2, routes.size());
+        Assert.assertEquals(Arrays.asList("M  192.0.2.0/24 [1/0] via 15.3.0.1 [A]",
+                "M             [5/0] via 15.3.0.3 [N]"), routes.get("192.0.2.0/24"));
+        Assert.assertEquals(Collections.singletonList("M  10.0.0.0/8 [1/0] via GigabitEthernet1 10.1.1.1 [A]"),
+                routes.get("10.0.0.0/8"));
+
+        Map<String, List<String>> routes6 = StaticRouteTable.parseState(IPV6_STATE_OUTPUT);
+        Assert.assertEquals(2, routes6.size());
+        Assert.assertEquals(2, routes6.get("4001::/64").size());
+        Assert.assertEquals(Collections.singletonList("*   4001:ab::/64 via GigabitEthernet2, distance 1"),
+                routes6.get("4001:AB::/64"));
+    }
+}
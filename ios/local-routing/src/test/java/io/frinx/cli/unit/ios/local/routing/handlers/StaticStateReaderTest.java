@@ -16,23 +16,32 @@
 
 package io.frinx.cli.unit.ios.local.routing.handlers;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import org.junit.Assert;
 import org.junit.Test;
 
 public class StaticStateReaderTest {
 
-    private static final String IP_OUTPUT1 = "S        10.255.1.0 [1/0] via 192.168.1.5";
-    private static final String IP_OUTPUT2 = "C        192.168.1.0/24 is directly connected, GigabitEthernet1";
-    private static final String IP_OUTPUT3 = "";
-    private static final String IPV6_OUTPUT1 = "S        2001:DB8:3000:0/16 [200/45]";
-
-
+    private static final String IP_OUTPUT = "Static local RIB for default\n"
+            + "\n"
+            + "M  192.0.2.0/24 [1/0] via 15.3.0.1 [N]\n"
+            + "M             [5/0] via 15.3.0.3 [A]\n"
+            + "M  10.0.0.0/8 [1/0] via GigabitEthernet1 10.1.1.1 [N]\n";
+    private static final String IPV6_OUTPUT = "Static local RIB for default\n"
+            + "*   4001::/64 via GigabitEthernet1, distance 55\n"
+            + "    4001:ab::/64 via GigabitEthernet2, distance 1\n";
 
     @Test
     public void testParseStaticPrefixes() {
-        Assert.assertTrue(StaticStateReader.isPrefixStatic(IP_OUTPUT1));
-        Assert.assertFalse(StaticStateReader.isPrefixStatic(IP_OUTPUT2));
-        Assert.assertFalse(StaticStateReader.isPrefixStatic(IP_OUTPUT3));
-        Assert.assertTrue(StaticStateReader.isPrefixStatic(IPV6_OUTPUT1));
+        Map<String, List<String>> routes = StaticRouteTable.parseState(IP_OUTPUT);
+        Assert.assertTrue(StaticRouteTable.isInstalled(routes.get("192.0.2.0/24")));
+        Assert.assertFalse(StaticRouteTable.isInstalled(routes.get("10.0.0.0/8")));
+        Assert.assertFalse(StaticRouteTable.isInstalled(Collections.emptyList()));
+
+        Map<String, List<String>> routes6 = StaticRouteTable.parseState(IPV6_OUTPUT);
+        Assert.assertTrue(StaticRouteTable.isInstalled(routes6.get("4001::/64")));
+        Assert.assertFalse(StaticRouteTable.isInstalled(routes6.get("4001:AB::/64")));
     }
 }
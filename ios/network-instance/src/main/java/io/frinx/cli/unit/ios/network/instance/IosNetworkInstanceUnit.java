@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.unit.ios.init.IosDevices;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.ios.network.instance.handler.ConnectionPointsReader;
 import io.frinx.cli.unit.ios.network.instance.handler.ConnectionPointsWriter;
 import io.frinx.cli.unit.ios.network.instance.handler.NetworkInstanceConfigReader;
@@ -45,8 +46,20 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public class IosNetworkInstanceUnit extends AbstractUnit {
 
+    private final boolean runningConfigSnapshot;
+
     public IosNetworkInstanceUnit(@Nonnull final TranslationUnitCollector registry) {
+        this(registry, false);
+    }
+
+    /**
+     * Unit whose protocol and table connection readers answer "show running-config" commands from
+     * {@link RunningConfigSnapshot} if runningConfigSnapshot is set, or send each of them to the device otherwise.
+     */
+    public IosNetworkInstanceUnit(@Nonnull final TranslationUnitCollector registry,
+                                  final boolean runningConfigSnapshot) {
         super(registry);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -125,12 +138,12 @@ public class IosNetworkInstanceUnit extends AbstractUnit {
         readRegistry.add(IIDs.NE_NE_IN_INTERFACE, new VrfInterfaceReader(cli));
 
         // Protocols for VRF
-        readRegistry.add(IIDs.NE_NE_PR_PROTOCOL, new ProtocolReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PROTOCOL, new ProtocolReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_CONFIG, new ProtocolConfigReader());
         readRegistry.add(IIDs.NE_NE_PR_PR_STATE, new ProtocolStateReader());
 
         // Table connections for VRF
-        readRegistry.subtreeAdd(IIDs.NE_NE_TA_TABLECONNECTION, new TableConnectionReader(cli),
+        readRegistry.subtreeAdd(IIDs.NE_NE_TA_TABLECONNECTION, new TableConnectionReader(cli, runningConfigSnapshot),
                 Sets.newHashSet(IIDs.NE_NE_TA_TA_CONFIG));
 
         // Connection points for L2P2p
@@ -52,7 +52,7 @@ public class L2VSIConfigReader implements CliConfigReader<Config, ConfigBuilder>
     }
 
     private boolean isVSI(InstanceIdentifier<Config> id, ReadContext readContext) throws ReadFailedException {
-        return L2VSIReader.getAllIds(id, readContext, cli, this).contains(id.firstKeyOf(NetworkInstance.class));
+        return L2VSIReader.getL2Vfis(id, readContext, cli, this).contains(id.firstKeyOf(NetworkInstance.class));
     }
 
     @Override
@@ -23,16 +23,19 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ni.base.handler.NetworkInstanceCatalog;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeListReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L2VSI;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class L2VSIReader implements CliConfigListReader<NetworkInstance, NetworkInstanceKey, NetworkInstanceBuilder>,
@@ -59,12 +62,19 @@ public class L2VSIReader implements CliConfigListReader<NetworkInstance, Network
                                               @Nonnull ReadContext readContext,
                                               @Nonnull Cli cli,
                                               @Nonnull CliReader reader) throws ReadFailedException {
-        if (!instanceIdentifier.getTargetType()
-                .equals(NetworkInstance.class)) {
-            instanceIdentifier = RWUtils.cutId(instanceIdentifier, NetworkInstance.class);
-        }
+        return new ArrayList<>(getL2Vfis(instanceIdentifier, readContext, cli, reader).getKeys());
+    }
 
-        return parseL2Vfis(reader.blockingRead(SH_L2_VFI, cli, instanceIdentifier, readContext));
+    static NetworkInstanceCatalog.Instances<NetworkInstanceKey> getL2Vfis(
+            @Nonnull InstanceIdentifier<?> instanceIdentifier,
+            @Nonnull ReadContext readContext,
+            @Nonnull Cli cli,
+            @Nonnull CliReader reader) throws ReadFailedException {
+        InstanceIdentifier<?> id = !instanceIdentifier.getTargetType().equals(NetworkInstance.class)
+                ? RWUtils.cutId(instanceIdentifier, NetworkInstance.class)
+                : instanceIdentifier;
+        return NetworkInstanceCatalog.get(readContext).getKeys(L2VSI.class, SH_L2_VFI,
+            () -> parseL2Vfis(reader.blockingRead(SH_L2_VFI, cli, id, readContext)));
     }
 
     @VisibleForTesting
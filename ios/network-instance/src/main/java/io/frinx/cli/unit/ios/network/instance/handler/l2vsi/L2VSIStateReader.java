@@ -52,7 +52,7 @@ public class L2VSIStateReader implements CliOperReader<State, StateBuilder>,
     }
 
     private boolean isVSI(InstanceIdentifier<State> id, ReadContext readContext) throws ReadFailedException {
-        return L2VSIReader.getAllIds(id, readContext, cli, this).contains(id.firstKeyOf(NetworkInstance.class));
+        return L2VSIReader.getL2Vfis(id, readContext, cli, this).contains(id.firstKeyOf(NetworkInstance.class));
     }
 
     @Override
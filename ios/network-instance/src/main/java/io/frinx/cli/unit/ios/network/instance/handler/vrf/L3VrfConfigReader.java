@@ -17,16 +17,29 @@
 package io.frinx.cli.unit.ios.network.instance.handler.vrf;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ni.base.handler.NetworkInstanceCatalog;
 import io.frinx.cli.unit.ni.base.handler.vrf.AbstractL3VrfConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.ConfigBuilder;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L3VRF;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class L3VrfConfigReader extends AbstractL3VrfConfigReader {
 
     private static final String SH_IP_VRF_CFG = "show running-config | include ^ip vrf|^ rd";
     private static final Pattern RD_LINE = Pattern.compile(".*rd (?<rd>(\\S+):(\\S+)).*");
+    private static final Pattern VRF_CONFIG_LINE = Pattern.compile("ip vrf (?<vrfName>\\S+) .*");
 
     public L3VrfConfigReader(Cli cli) {
         super(new L3VrfReader(cli), cli);
@@ -37,6 +50,33 @@ public final class L3VrfConfigReader extends AbstractL3VrfConfigReader {
         return SH_IP_VRF_CFG;
     }
 
+    @Override
+    protected String readVrfConfig(@Nonnull InstanceIdentifier<Config> instanceIdentifier,
+                                   @Nonnull ReadContext readContext) throws ReadFailedException {
+        NetworkInstanceKey vrfKey = instanceIdentifier.firstKeyOf(NetworkInstance.class);
+        return NetworkInstanceCatalog.get(readContext)
+                .getInstances(L3VRF.class, SH_IP_VRF_CFG,
+                    () -> parseVrfConfigLines(super.readVrfConfig(instanceIdentifier, readContext)))
+                .get(vrfKey)
+                .orElse("");
+    }
+
+    /**
+     * Configuration line of each VRF in realigned output, see {@link #realignOutput(String)}.
+     */
+    @VisibleForTesting
+    static Map<NetworkInstanceKey, String> parseVrfConfigLines(String output) {
+        Map<NetworkInstanceKey, String> vrfConfigs = new LinkedHashMap<>();
+        ParsingUtils.NEWLINE.splitAsStream(realignOutput(output))
+                .forEach(vrfConfigLine -> {
+                    Matcher matcher = VRF_CONFIG_LINE.matcher(vrfConfigLine);
+                    if (matcher.matches()) {
+                        vrfConfigs.putIfAbsent(new NetworkInstanceKey(matcher.group("vrfName")), vrfConfigLine);
+                    }
+                });
+        return vrfConfigs;
+    }
+
     @VisibleForTesting
     @Override
     public void parseVrfConfig(String output, ConfigBuilder builder) {
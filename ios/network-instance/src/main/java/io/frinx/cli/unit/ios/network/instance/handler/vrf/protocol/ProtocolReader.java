@@ -31,10 +31,14 @@ public class ProtocolReader extends CompositeListReader<Protocol, ProtocolKey, P
         implements CliConfigListReader<Protocol, ProtocolKey, ProtocolBuilder> {
 
     public ProtocolReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public ProtocolReader(Cli cli, boolean runningConfigSnapshot) {
         super(new ArrayList<CompositeListReader.Child<Protocol, ProtocolKey, ProtocolBuilder>>() {
             {
-                add(new OspfProtocolReader(cli));
-                add(new BgpProtocolReader(cli));
+                add(new OspfProtocolReader(cli, runningConfigSnapshot));
+                add(new BgpProtocolReader(cli, runningConfigSnapshot));
                 add(new StaticLocalRoutingProtocolReader());
             }
         });
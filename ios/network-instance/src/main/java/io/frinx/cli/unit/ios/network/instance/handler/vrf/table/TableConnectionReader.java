@@ -33,9 +33,13 @@ public class TableConnectionReader
         implements CliConfigListReader<TableConnection, TableConnectionKey, TableConnectionBuilder> {
 
     public TableConnectionReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public TableConnectionReader(Cli cli, boolean runningConfigSnapshot) {
         super(new ArrayList<CompositeListReader.Child<TableConnection, TableConnectionKey, TableConnectionBuilder>>() {{
-                add(new BgpTableConnectionReader(cli));
-                add(new OspfTableConnectionReader(cli));
+                add(new BgpTableConnectionReader(cli, runningConfigSnapshot));
+                add(new OspfTableConnectionReader(cli, runningConfigSnapshot));
             }
         });
     }
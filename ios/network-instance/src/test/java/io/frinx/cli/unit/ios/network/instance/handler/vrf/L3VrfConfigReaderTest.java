@@ -17,9 +17,13 @@
 package io.frinx.cli.unit.ios.network.instance.handler.vrf;
 
 import io.frinx.cli.io.Cli;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.Config;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.RouteDistinguisher;
@@ -66,4 +70,18 @@ public class L3VrfConfigReaderTest {
         Assert.assertEquals(EXPECTED_VRF_WITHOUT_VRF, actualConfigBuilder.build());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParseVrfConfigLines() {
+        Map<NetworkInstanceKey, String> vrfConfigs = L3VrfConfigReader.parseVrfConfigLines(OUTPUT);
+
+        Assert.assertEquals(Arrays.asList("TMP", "TEST", "ANOTHER_TEST", "WITHOUT_RD"), vrfConfigs.keySet().stream()
+                .map(NetworkInstanceKey::getName)
+                .collect(Collectors.toList()));
+
+        L3VrfConfigReader reader = new L3VrfConfigReader(Mockito.mock(Cli.class));
+        ConfigBuilder actualConfigBuilder = new ConfigBuilder().setName("ANOTHER_TEST");
+        reader.parseVrfConfig(vrfConfigs.get(new NetworkInstanceKey("ANOTHER_TEST")), actualConfigBuilder);
+        Assert.assertEquals(EXPECTED_VRF_ANOTHER_TEST, actualConfigBuilder.build());
+    }
+}
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.unit.ios.init.IosDevices;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.ospf.handler.AreaConfigReader;
 import io.frinx.cli.unit.ospf.handler.AreaInterfaceConfigReader;
 import io.frinx.cli.unit.ospf.handler.AreaInterfaceConfigWriter;
@@ -41,8 +42,19 @@ import org.opendaylight.yangtools.yang.binding.YangModuleInfo;
 
 public class OspfUnit extends AbstractUnit {
 
+    private final boolean runningConfigSnapshot;
+
     public OspfUnit(@Nonnull final TranslationUnitCollector registry) {
+        this(registry, false);
+    }
+
+    /**
+     * Unit whose readers answer "show running-config" commands from {@link RunningConfigSnapshot} if
+     * runningConfigSnapshot is set, or send each of them to the device otherwise.
+     */
+    public OspfUnit(@Nonnull final TranslationUnitCollector registry, final boolean runningConfigSnapshot) {
         super(registry);
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -82,13 +94,14 @@ public class OspfUnit extends AbstractUnit {
     }
 
     private void provideReaders(@Nonnull CustomizerAwareReadRegistryBuilder readRegistry, Cli cli) {
-        readRegistry.add(IIDs.NE_NE_PR_PR_OS_GL_CONFIG, new GlobalConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_OS_GL_CONFIG, new GlobalConfigReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_OS_GL_STATE, new GlobalStateReader(cli));
-        readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AREA, new OspfAreaReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AREA, new OspfAreaReader(cli, runningConfigSnapshot));
         readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AR_CONFIG, new AreaConfigReader());
         readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AR_STATE, new AreaStateReader());
-        readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AR_IN_INTERFACE, new AreaInterfaceReader(cli));
-        readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AR_IN_IN_CONFIG, new AreaInterfaceConfigReader(cli));
+        readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AR_IN_INTERFACE, new AreaInterfaceReader(cli, runningConfigSnapshot));
+        readRegistry.add(IIDs.NE_NE_PR_PR_OS_AR_AR_IN_IN_CONFIG,
+                new AreaInterfaceConfigReader(cli, runningConfigSnapshot));
     }
 
     @Override
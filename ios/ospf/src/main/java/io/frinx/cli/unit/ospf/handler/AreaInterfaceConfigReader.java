@@ -19,6 +19,7 @@ package io.frinx.cli.unit.ospf.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.ospf.types.rev170228.OspfMetric;
@@ -32,9 +33,15 @@ public class AreaInterfaceConfigReader implements CliConfigReader<Config, Config
     private static final String SHOW_OSPF_IFC_COST = "show running-config interface %s | include ^ ip ospf cost";
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public AreaInterfaceConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public AreaInterfaceConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
@@ -45,7 +52,10 @@ public class AreaInterfaceConfigReader implements CliConfigReader<Config, Config
 
         configBuilder.setId(ifcName);
 
-        String output = blockingRead(String.format(SHOW_OSPF_IFC_COST, ifcName), cli, instanceIdentifier, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, String.format(SHOW_OSPF_IFC_COST, ifcName), cli,
+                        instanceIdentifier, readContext)
+                : blockingRead(String.format(SHOW_OSPF_IFC_COST, ifcName), cli, instanceIdentifier, readContext);
 
         if (!output.isEmpty()) {
             configBuilder.setMetric(new OspfMetric(Integer
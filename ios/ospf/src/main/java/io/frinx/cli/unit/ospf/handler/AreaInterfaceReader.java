@@ -19,6 +19,7 @@ package io.frinx.cli.unit.ospf.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -38,14 +39,20 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class AreaInterfaceReader implements CliConfigListReader<Interface, InterfaceKey, InterfaceBuilder> {
 
-    private static final String SHOW_OSPF_IFC = "show running-config | include ^interface |^ ip ospf";
+    static final String SHOW_OSPF_IFC = "show running-config | include ^interface |^ ip ospf";
 
     private static final Pattern ROUTER_ID = Pattern.compile(".*?interface (?<ifcId>[^\\s]+).*");
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public AreaInterfaceReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public AreaInterfaceReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
@@ -55,7 +62,9 @@ public class AreaInterfaceReader implements CliConfigListReader<Interface, Inter
         AreaKey areaKey = instanceIdentifier.firstKeyOf(Area.class);
         ProtocolKey protocolKey = instanceIdentifier.firstKeyOf(Protocol.class);
 
-        String output = blockingRead(SHOW_OSPF_IFC, cli, instanceIdentifier, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SHOW_OSPF_IFC, cli, instanceIdentifier, readContext)
+                : blockingRead(SHOW_OSPF_IFC, cli, instanceIdentifier, readContext);
 
         return parseInterfaceIds(protocolKey.getName(), output, areaKey.getIdentifier());
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Matcher;
@@ -34,9 +35,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class GlobalConfigReader implements CliConfigReader<Config, ConfigBuilder> {
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public GlobalConfigReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public GlobalConfigReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     static final String SH_OSPF = "show running-config | include ^router ospf|^ router-id";
@@ -47,7 +54,10 @@ public class GlobalConfigReader implements CliConfigReader<Config, ConfigBuilder
                                       @Nonnull ConfigBuilder configBuilder,
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         String ospfId = instanceIdentifier.firstKeyOf(Protocol.class).getName();
-        parseGlobal(blockingRead(SH_OSPF, cli, instanceIdentifier, readContext), configBuilder, ospfId);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_OSPF, cli, instanceIdentifier, readContext)
+                : blockingRead(SH_OSPF, cli, instanceIdentifier, readContext);
+        parseGlobal(output, configBuilder, ospfId);
     }
 
     @VisibleForTesting
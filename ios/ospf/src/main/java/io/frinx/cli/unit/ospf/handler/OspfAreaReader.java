@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -35,14 +36,20 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class OspfAreaReader implements CliConfigListReader<Area, AreaKey, AreaBuilder> {
 
-    private static final String SH_OSPF_AREAS = "show running-config | include ip ospf %s area";
+    static final String SH_OSPF_AREAS = "show running-config | include ip ospf %s area";
 
     private static final Pattern AREA_ID = Pattern.compile("\\s*ip ospf (?<ospf>\\S+) area (?<area>\\S+).*");
 
     private final Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public OspfAreaReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public OspfAreaReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Nonnull
@@ -50,7 +57,11 @@ public class OspfAreaReader implements CliConfigListReader<Area, AreaKey, AreaBu
     public List<AreaKey> getAllIds(@Nonnull InstanceIdentifier<Area> instanceIdentifier,
                                           @Nonnull ReadContext readContext) throws ReadFailedException {
         String id = instanceIdentifier.firstKeyOf(Protocol.class).getName();
-        return parseAreasIds(blockingRead(String.format(SH_OSPF_AREAS, id), cli, instanceIdentifier, readContext));
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, String.format(SH_OSPF_AREAS, id), cli, instanceIdentifier,
+                        readContext)
+                : blockingRead(String.format(SH_OSPF_AREAS, id), cli, instanceIdentifier, readContext);
+        return parseAreasIds(output);
     }
 
     @VisibleForTesting
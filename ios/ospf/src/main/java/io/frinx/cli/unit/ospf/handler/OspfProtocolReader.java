@@ -20,6 +20,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -41,9 +42,15 @@ public class OspfProtocolReader implements CliListReader<Protocol, ProtocolKey,
         CompositeListReader.Child<Protocol, ProtocolKey, ProtocolBuilder> {
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public OspfProtocolReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public OspfProtocolReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     private static final String SH_RUN_INCLUDE_OSPF = "show running-config | include ospf";
@@ -55,7 +62,9 @@ public class OspfProtocolReader implements CliListReader<Protocol, ProtocolKey,
     public List<ProtocolKey> getAllIds(@Nonnull InstanceIdentifier<Protocol> instanceIdentifier,
                                        @Nonnull ReadContext readContext)
             throws ReadFailedException {
-        String output = blockingRead(SH_RUN_INCLUDE_OSPF, cli, instanceIdentifier, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_RUN_INCLUDE_OSPF, cli, instanceIdentifier, readContext)
+                : blockingRead(SH_RUN_INCLUDE_OSPF, cli, instanceIdentifier, readContext);
         String vrfId = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
 
         if (vrfId.equals(NetworInstance.DEFAULT_NETWORK_NAME)) {
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -64,16 +65,24 @@ public class OspfTableConnectionReader implements
             Pattern.compile(".*route-map (?<policy>\\S+).*");
 
     private Cli cli;
+    private final boolean runningConfigSnapshot;
 
     public OspfTableConnectionReader(Cli cli) {
+        this(cli, false);
+    }
+
+    public OspfTableConnectionReader(Cli cli, boolean runningConfigSnapshot) {
         this.cli = cli;
+        this.runningConfigSnapshot = runningConfigSnapshot;
     }
 
     @Override
     public List<TableConnectionKey> getAllIds(@Nonnull InstanceIdentifier<TableConnection> id,
                                                      @Nonnull ReadContext readContext) throws ReadFailedException {
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
-        String output = blockingRead(SH_OSPF_REDIS, cli, id, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_OSPF_REDIS, cli, id, readContext)
+                : blockingRead(SH_OSPF_REDIS, cli, id, readContext);
         return parseRedistributes(vrfKey, output);
     }
 
@@ -170,7 +179,9 @@ public class OspfTableConnectionReader implements
                                              @Nonnull ReadContext readContext) throws ReadFailedException {
         NetworkInstanceKey vrfKey = id.firstKeyOf(NetworkInstance.class);
 
-        String output = blockingRead(SH_OSPF_REDIS, cli, id, readContext);
+        String output = runningConfigSnapshot
+                ? RunningConfigSnapshot.blockingRead(this, SH_OSPF_REDIS, cli, id, readContext)
+                : blockingRead(SH_OSPF_REDIS, cli, id, readContext);
         output = realignOutput(output);
 
         Predicate<String> vrf = getVrfMatch(vrfKey);
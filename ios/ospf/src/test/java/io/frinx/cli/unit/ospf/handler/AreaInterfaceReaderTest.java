@@ -17,6 +17,7 @@
 package io.frinx.cli.unit.ospf.handler;
 
 import com.google.common.collect.Lists;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Assert;
@@ -47,4 +48,13 @@ public class AreaInterfaceReaderTest {
         interfaceKeys = AreaInterfaceReader.parseInterfaceIds("991", OUTPUT, new OspfAreaIdentifier(7L));
         Assert.assertEquals(interfaceKeys, Lists.newArrayList(new InterfaceKey("GigabitEthernet3")));
     }
+
+    @Test
+    public void testAllIdsFromRunningConfigSnapshot() throws Exception {
+        String output = RunningConfigSnapshot.evaluate(AreaInterfaceReader.SHOW_OSPF_IFC, OUTPUT).get();
+        Assert.assertEquals(Lists.newArrayList(new InterfaceKey("GigabitEthernet2")),
+                AreaInterfaceReader.parseInterfaceIds("99", output, new OspfAreaIdentifier(new DottedQuad("7.7.7.7"))));
+        Assert.assertEquals(Lists.newArrayList(new InterfaceKey("GigabitEthernet3")),
+                AreaInterfaceReader.parseInterfaceIds("991", output, new OspfAreaIdentifier(7L)));
+    }
 }
\ No newline at end of file
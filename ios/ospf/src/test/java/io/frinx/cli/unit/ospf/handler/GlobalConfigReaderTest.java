@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.ospf.handler;
 
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import org.junit.Assert;
 import org.junit.Test;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.ospfv2.rev170228.ospfv2.global.structural.global.Config;
@@ -46,6 +47,19 @@ public class GlobalConfigReaderTest {
         Assert.assertEquals(new ConfigBuilder().build(), builder.build());
     }
 
+    @Test
+    public void testParseFromRunningConfigSnapshot() throws Exception {
+        String output = RunningConfigSnapshot.evaluate(GlobalConfigReader.SH_OSPF, OUTPUT).get();
+
+        ConfigBuilder builder = new ConfigBuilder();
+        GlobalConfigReader.parseGlobal(output, builder, "99");
+        Assert.assertEquals(getConfig("5.5.5.5"), builder.build());
+
+        builder = new ConfigBuilder();
+        GlobalConfigReader.parseGlobal(output, builder, "3737");
+        Assert.assertEquals(getConfig("99.6.7.4"), builder.build());
+    }
+
     static Config getConfig(String rd) {
         return new ConfigBuilder()
                         .setRouterId(new DottedQuad(rd))
@@ -17,6 +17,7 @@
 package io.frinx.cli.unit.ospf.handler;
 
 import com.google.common.collect.Lists;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Assert;
@@ -41,4 +42,10 @@ public class OspfAreaReaderTest {
         List<AreaKey> areaKeys = OspfAreaReader.parseAreasIds(OSPF_1);
         Assert.assertEquals(AREAS, areaKeys);
     }
+
+    @Test
+    public void testParseAreaFromRunningConfigSnapshot() throws Exception {
+        String output = RunningConfigSnapshot.evaluate(String.format(OspfAreaReader.SH_OSPF_AREAS, "1"), OSPF_1).get();
+        Assert.assertEquals(AREAS, OspfAreaReader.parseAreasIds(output));
+    }
 }
\ No newline at end of file
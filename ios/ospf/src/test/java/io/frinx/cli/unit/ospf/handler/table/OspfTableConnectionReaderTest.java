@@ -17,6 +17,7 @@
 package io.frinx.cli.unit.ospf.handler.table;
 
 import com.google.common.collect.Lists;
+import io.frinx.cli.unit.ios.init.snapshot.RunningConfigSnapshot;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import org.junit.Assert;
 import org.junit.Test;
@@ -77,4 +78,18 @@ public class OspfTableConnectionReaderTest {
                         new TableConnectionKey(IPV4.class, OSPF.class, OSPF.class)),
                 OspfTableConnectionReader.parseRedistributes(NetworInstance.DEFAULT_NETWORK, OUTPUT2));
     }
+
+    @Test
+    public void getAllIdsFromRunningConfigSnapshot() throws Exception {
+        String output = RunningConfigSnapshot.evaluate(OspfTableConnectionReader.SH_OSPF_REDIS, OUTPUT).get();
+        Assert.assertEquals(
+                Lists.newArrayList(
+                        new TableConnectionKey(IPV4.class, OSPF.class, OSPF.class),
+                        new TableConnectionKey(IPV4.class, OSPF.class, BGP.class)),
+                OspfTableConnectionReader.parseRedistributes(NetworInstance.DEFAULT_NETWORK, output));
+        Assert.assertEquals(
+                Lists.newArrayList(
+                        new TableConnectionKey(IPV4.class, OSPF.class, BGP.class)),
+                OspfTableConnectionReader.parseRedistributes(new NetworkInstanceKey("aaa"), output));
+    }
 }
\ No newline at end of file
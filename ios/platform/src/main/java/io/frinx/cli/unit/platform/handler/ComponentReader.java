@@ -19,6 +19,7 @@ package io.frinx.cli.unit.platform.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
 import io.frinx.cli.unit.utils.CliOperListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Collections;
@@ -58,7 +59,8 @@ public class ComponentReader implements CliOperListReader<Component, ComponentKe
     @Override
     public List<ComponentKey> getAllIds(@Nonnull InstanceIdentifier<Component> id, @Nonnull ReadContext context)
             throws ReadFailedException {
-        List<ComponentKey> componentKeys = getComponents(blockingRead(SH_MODULE, cli, id, context) + parseOS());
+        String output = DeviceFactsCache.getInstance().blockingRead(this, SH_MODULE, cli, id, context);
+        List<ComponentKey> componentKeys = getComponents(output + parseOS());
         componentKeys.addAll(parseOS());
         return componentKeys;
     }
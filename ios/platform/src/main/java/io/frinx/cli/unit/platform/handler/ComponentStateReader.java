@@ -18,6 +18,7 @@ package io.frinx.cli.unit.platform.handler;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.handlers.cache.DeviceFactsCache;
 import io.frinx.cli.unit.utils.CliOperReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -48,10 +49,11 @@ public class ComponentStateReader implements CliOperReader<State, StateBuilder>
         String name = instanceIdentifier.firstKeyOf(Component.class)
                 .getName();
         if (name.equals(OsComponent.OS_KEY.getName())) {
-            parseOSVersions(stateBuilder, blockingRead(f(SH_MODULE_VERSION), cli, instanceIdentifier, readContext));
+            parseOSVersions(stateBuilder, DeviceFactsCache.getInstance().blockingRead(this, f(SH_MODULE_VERSION), cli,
+                    instanceIdentifier, readContext));
         } else {
-            parseFields(stateBuilder, name, blockingRead(f(SH_MODULE_SINGLE, name), cli, instanceIdentifier,
-                    readContext));
+            parseFields(stateBuilder, name, DeviceFactsCache.getInstance().blockingRead(this,
+                    f(SH_MODULE_SINGLE, name), cli, instanceIdentifier, readContext));
         }
     }
 
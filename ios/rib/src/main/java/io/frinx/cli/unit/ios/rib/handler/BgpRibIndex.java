@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.rib.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+
+/**
+ * Per-prefix index of paths parsed from a single "show ip bgp" output.
+ *
+ * <p>The output is scanned by {@link BgpTableScanner} directly, so no per-line Strings are created. Only
+ * prefix and next hop values are copied out of the output and repeated values (status codes, next hops)
+ * are shared between paths. Multipath continuation lines are appended to the previous prefix.
+ */
+public final class BgpRibIndex {
+
+    private final Map<String, List<Path>> paths;
+
+    private BgpRibIndex(Map<String, List<Path>> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * Parse whole "show ip bgp" or "show bgp ipv6 unicast" output in a single pass.
+     */
+    @Nonnull
+    public static BgpRibIndex parse(@Nonnull String output) {
+        Map<String, List<Path>> paths = new LinkedHashMap<>();
+        Map<String, String> pool = new HashMap<>();
+        BgpTableScanner.scan(output, (prefix, statusCodes, nextHop, origin) ->
+                paths.computeIfAbsent(prefix, p -> new ArrayList<>(1))
+                        .add(new Path(pooled(pool, statusCodes), pooled(pool, nextHop), origin)));
+        return new BgpRibIndex(paths);
+    }
+
+    private static String pooled(Map<String, String> pool, String value) {
+        String existing = pool.putIfAbsent(value, value);
+        return existing == null ? value : existing;
+    }
+
+    /**
+     * Prefixes in the order they appeared in the output.
+     */
+    @Nonnull
+    public Iterable<String> getPrefixes() {
+        return Collections.unmodifiableSet(paths.keySet());
+    }
+
+    /**
+     * Paths of the prefix, first path is the one printed on the prefix line.
+     */
+    @Nonnull
+    public List<Path> getPaths(@Nonnull String prefix) {
+        return paths.getOrDefault(prefix, Collections.emptyList());
+    }
+
+    @Nonnull
+    public Optional<Path> getFirstPath(@Nonnull String prefix) {
+        List<Path> prefixPaths = getPaths(prefix);
+        return prefixPaths.isEmpty() ? Optional.empty() : Optional.of(prefixPaths.get(0));
+    }
+
+    public int size() {
+        return paths.size();
+    }
+
+    public static final class Path {
+
+        private final String statusCodes;
+        private final String nextHop;
+        private final char origin;
+
+        Path(String statusCodes, String nextHop, char origin) {
+            this.statusCodes = statusCodes;
+            this.nextHop = nextHop;
+            this.origin = origin;
+        }
+
+        public String getStatusCodes() {
+            return statusCodes;
+        }
+
+        public String getNextHop() {
+            return nextHop;
+        }
+
+        public String getOrigin() {
+            return String.valueOf(origin);
+        }
+
+        public boolean isValid() {
+            return statusCodes.indexOf('*') != -1;
+        }
+
+        public boolean isBest() {
+            return statusCodes.indexOf('>') != -1;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.rib.handler;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Token scanner for IOS "show ip bgp" and "show bgp ipv6 unicast" table output.
+ *
+ * <p>Each line is scanned exactly once, left to right, without regular expressions:
+ * <ul>
+ *   <li>leading tokens made of status code characters form the status codes,</li>
+ *   <li>first token containing '.' or ':' is an address, it is a network when it contains '/' or starts in
+ *       the network column (classful network without mask), otherwise it is the next hop of a multipath
+ *       continuation line (blank network column),</li>
+ *   <li>last token of the line is the origin code.</li>
+ * </ul>
+ * Networks too long for the network column (typically IPv6) are printed on a line of their own,
+ * the path then continues on the following line with blank status and network columns.
+ * Lines not following this layout (headers, legend, summary) are skipped.
+ */
+final class BgpTableScanner {
+
+    private static final String STATUS_CODES = "sdh*>irSmbfxac";
+    private static final String ORIGIN_CODES = "ie?";
+    private static final String NETWORK_HEADER = "Network";
+    private static final String NEXT_HOP_HEADER = "Next Hop";
+    // "     Network          Next Hop", used until the header is found
+    private static final int DEFAULT_NETWORK_COLUMN_END = 13;
+
+    /**
+     * Receives paths in the order they appear in the output.
+     */
+    interface PathListener {
+
+        void onPath(@Nonnull String prefix, @Nonnull String statusCodes, @Nonnull String nextHop, char origin);
+    }
+
+    private final String output;
+    private final PathListener listener;
+
+    // last accepted network, networks of multipath lines
+    private String currentPrefix;
+    // network printed on a line of its own and its status codes, path continues on the next line
+    private String wrapped;
+    private String wrappedStatusCodes;
+    private int networkColumnEnd = DEFAULT_NETWORK_COLUMN_END;
+
+    private BgpTableScanner(String output, PathListener listener) {
+        this.output = output;
+        this.listener = listener;
+    }
+
+    static void scan(@Nonnull String output, @Nonnull PathListener listener) {
+        new BgpTableScanner(output, listener).scan();
+    }
+
+    private void scan() {
+        int start = 0;
+        while (start < output.length()) {
+            int end = output.indexOf('\n', start);
+            if (end == -1) {
+                end = output.length();
+            }
+            scanLine(start, end);
+            start = end + 1;
+        }
+    }
+
+    private void scanLine(int start, int end) {
+        // status codes
+        int pos = skipSpaces(start, end);
+        if (output.startsWith(NETWORK_HEADER, pos)) {
+            scanHeader(start, pos, end);
+            return;
+        }
+        int statusStart = pos;
+        int statusEnd = pos;
+        int tokenEnd = tokenEnd(pos, end);
+        while (pos < end && !isAddress(pos, tokenEnd)) {
+            if (!isStatusCodes(pos, tokenEnd)) {
+                wrapped = null;
+                wrappedStatusCodes = null;
+                return;
+            }
+            statusEnd = tokenEnd;
+            pos = skipSpaces(tokenEnd, end);
+            tokenEnd = tokenEnd(pos, end);
+        }
+        if (pos == end) {
+            wrapped = null;
+            wrappedStatusCodes = null;
+            return;
+        }
+        String statusCodes = statusEnd == statusStart ? null : output.substring(statusStart, statusEnd);
+
+        // network, classful networks are printed without mask, next hop of a multipath line starts in its own column
+        String prefix;
+        if (contains(pos, tokenEnd, '/') || pos - start < networkColumnEnd) {
+            prefix = contains(pos, tokenEnd, '/') ? output.substring(pos, tokenEnd) : classful(pos, tokenEnd);
+            pos = skipSpaces(tokenEnd, end);
+            if (pos == end) {
+                wrapped = prefix;
+                wrappedStatusCodes = statusCodes == null ? "" : statusCodes;
+                return;
+            }
+            tokenEnd = tokenEnd(pos, end);
+            if (!isAddress(pos, tokenEnd)) {
+                reject();
+                return;
+            }
+        } else {
+            prefix = wrapped != null ? wrapped : currentPrefix;
+        }
+
+        // next hop
+        int nextHopStart = pos;
+        int nextHopEnd = tokenEnd;
+
+        // origin
+        int originPos = lastNonSpace(nextHopEnd, end);
+        if (prefix == null || originPos <= nextHopEnd
+                || !Character.isWhitespace(output.charAt(originPos - 1))
+                || ORIGIN_CODES.indexOf(output.charAt(originPos)) == -1) {
+            reject();
+            return;
+        }
+
+        if (statusCodes == null) {
+            statusCodes = wrappedStatusCodes == null ? "" : wrappedStatusCodes;
+        }
+        currentPrefix = prefix;
+        wrapped = null;
+        wrappedStatusCodes = null;
+        listener.onPath(prefix, statusCodes, output.substring(nextHopStart, nextHopEnd), output.charAt(originPos));
+    }
+
+    /**
+     * Rejected path line. Multipath lines following it do not belong to the previous prefix.
+     */
+    private void reject() {
+        currentPrefix = null;
+        wrapped = null;
+        wrappedStatusCodes = null;
+    }
+
+    /**
+     * Column header line, addresses starting in the left half between "Network" and "Next Hop" are networks.
+     */
+    private void scanHeader(int start, int networkStart, int end) {
+        int nextHopStart = output.indexOf(NEXT_HOP_HEADER, networkStart);
+        if (nextHopStart != -1 && nextHopStart < end) {
+            networkColumnEnd = (networkStart - start + nextHopStart - start) / 2;
+        }
+        wrapped = null;
+        wrappedStatusCodes = null;
+    }
+
+    /**
+     * IPv4 network printed without mask has the mask of its address class.
+     */
+    private String classful(int start, int end) {
+        String network = output.substring(start, end);
+        if (contains(start, end, ':')) {
+            return network;
+        }
+        int firstOctetEnd = output.indexOf('.', start);
+        int firstOctet;
+        try {
+            firstOctet = Integer.parseInt(output.substring(start, firstOctetEnd));
+        } catch (NumberFormatException e) {
+            return network;
+        }
+        return network + (firstOctet < 128 ? "/8" : firstOctet < 192 ? "/16" : "/24");
+    }
+
+    private int skipSpaces(int pos, int end) {
+        while (pos < end && Character.isWhitespace(output.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private int tokenEnd(int pos, int end) {
+        while (pos < end && !Character.isWhitespace(output.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Position of last non-whitespace character of the line, or -1.
+     */
+    private int lastNonSpace(int from, int end) {
+        int pos = end - 1;
+        while (pos >= from && Character.isWhitespace(output.charAt(pos))) {
+            pos--;
+        }
+        return pos < from ? -1 : pos;
+    }
+
+    private boolean isAddress(int start, int end) {
+        return contains(start, end, '.') || contains(start, end, ':');
+    }
+
+    private boolean contains(int start, int end, char character) {
+        for (int i = start; i < end; i++) {
+            if (output.charAt(i) == character) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isStatusCodes(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (STATUS_CODES.indexOf(output.charAt(i)) == -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -21,10 +21,8 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliOperListReader;
-import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.rib.bgp.rev161017.ipv4.loc.rib.top.loc.rib.routes.Route;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.rib.bgp.rev161017.ipv4.loc.rib.top.loc.rib.routes.RouteBuilder;
@@ -37,9 +35,6 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class Ipv4RoutesReader implements CliOperListReader<Route, RouteKey, RouteBuilder> {
 
     private static final String SH_IP_BGP = "show ip bgp";
-    private static final String SH_IP_BGP_PREFIX = "show ip bgp | section %s";
-    private static final Pattern ROUTE_LINE = Pattern.compile("(?<statusCodes>[sdh*>irSmbfxac\\s]+) "
-            + "(?<prefix>[\\S]+) (?<nextHop>.+) (?:.*) (?<origin>[ie?])");
     private static final String PATH_ID = "0";
 
     private Cli cli;
@@ -50,14 +45,16 @@ public class Ipv4RoutesReader implements CliOperListReader<Route, RouteKey, Rout
 
     @VisibleForTesting
     public void parseRoute(String output, RouteBuilder builder, RouteKey key) {
+        fillRoute(BgpRibIndex.parse(output), builder, key);
+    }
+
+    private static void fillRoute(BgpRibIndex index, RouteBuilder builder, RouteKey key) {
         final StateBuilder sBuilder = new StateBuilder();
         sBuilder.setPrefix(new Ipv4Prefix(key.getPrefix()));
 
         // * valid
-        ParsingUtils.parseField(output, 0,
-                ROUTE_LINE::matcher,
-            matcher -> matcher.group("statusCodes"))
-                .ifPresent(s -> sBuilder.setValidRoute(s.contains(Character.toString('*'))));
+        index.getFirstPath(key.getPrefix())
+                .ifPresent(path -> sBuilder.setValidRoute(path.isValid()));
 
         builder.setOrigin(key.getOrigin())
                 .setPathId(PATH_ID)
@@ -68,37 +65,43 @@ public class Ipv4RoutesReader implements CliOperListReader<Route, RouteKey, Rout
 
     @VisibleForTesting
     public List<RouteKey> getRouteKeys(String output) {
-        List<Ipv4Prefix> prefixes = ParsingUtils.parseFields(output, 0,
-                ROUTE_LINE::matcher,
-            matcher -> matcher.group("prefix"),
-                Ipv4Prefix::new);
-
-        List<String> origins = ParsingUtils.parseNonDistinctFields(output, 0,
-                ROUTE_LINE::matcher,
-            matcher -> matcher.group("origin"),
-                String::trim);
-
-        List<RouteKey> routeKeys = new ArrayList<>();
-        for (int i = 0; i < prefixes.size(); i++) {
-            RouteKey routeKey = new RouteKey(origins.get(i), PATH_ID, prefixes.get(i)
-                    .getValue());
-            routeKeys.add(routeKey);
+        return getRouteKeys(BgpRibIndex.parse(output));
+    }
+
+    private static List<RouteKey> getRouteKeys(BgpRibIndex index) {
+        List<RouteKey> routeKeys = new ArrayList<>(index.size());
+        for (String prefix : index.getPrefixes()) {
+            index.getFirstPath(prefix)
+                    .ifPresent(path -> routeKeys.add(new RouteKey(path.getOrigin(), PATH_ID, prefix)));
         }
         return routeKeys;
     }
 
+    /**
+     * Whole BGP table is read and indexed once per read transaction, all routes are then
+     * filled from the index instead of reading "show ip bgp | section PREFIX" per route.
+     */
+    private BgpRibIndex getIndex(InstanceIdentifier<Route> instanceIdentifier, ReadContext readContext)
+            throws ReadFailedException {
+        BgpRibIndex index = (BgpRibIndex) readContext.getModificationCache().get(BgpRibIndex.class);
+        if (index == null) {
+            index = BgpRibIndex.parse(blockingRead(SH_IP_BGP, cli, instanceIdentifier, readContext));
+            readContext.getModificationCache().put(BgpRibIndex.class, index);
+        }
+        return index;
+    }
+
     @Nonnull
     @Override
     public List<RouteKey> getAllIds(@Nonnull InstanceIdentifier<Route> instanceIdentifier, @Nonnull ReadContext
             readContext) throws ReadFailedException {
-        return getRouteKeys(blockingRead(SH_IP_BGP, cli, instanceIdentifier, readContext));
+        return getRouteKeys(getIndex(instanceIdentifier, readContext));
     }
 
     @Override
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<Route> instanceIdentifier, @Nonnull RouteBuilder
             routeBuilder, @Nonnull ReadContext readContext) throws ReadFailedException {
         RouteKey key = instanceIdentifier.firstKeyOf(Route.class);
-        parseRoute(blockingRead(String.format(SH_IP_BGP_PREFIX, key.getPrefix()), cli, instanceIdentifier,
-                readContext), routeBuilder, key);
+        fillRoute(getIndex(instanceIdentifier, readContext), routeBuilder, key);
     }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2018 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.rib.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark of {@link BgpRibIndex} over synthetic "show ip bgp" output, compared with the former
+ * ROUTE_LINE regex evaluated the way Ipv4RoutesReader used to (once for prefixes, once for origins).
+ * Run with the benchmark profile, allocations are reported with the gc profiler:
+ * mvn -Pbenchmark verify -pl ios/rib [-Djmh.args="-prof gc"]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BgpRibIndexBenchmark {
+
+    private static final Pattern LEGACY_ROUTE_LINE = Pattern.compile("(?<statusCodes>[sdh*>irSmbfxac\\s]+) "
+            + "(?<prefix>[\\S]+) (?<nextHop>.+) (?:.*) (?<origin>[ie?])");
+
+    @Param("1000000")
+    public int lines;
+
+    private String output;
+
+    @Setup
+    public void setUp() {
+        output = generate(lines);
+    }
+
+    @Benchmark
+    public int bgpRibIndex() {
+        return BgpRibIndex.parse(output).size();
+    }
+
+    @Benchmark
+    public int legacyRegex() {
+        return legacyParse(output);
+    }
+
+    private static int legacyParse(String output) {
+        List<String> prefixes = new ArrayList<>();
+        List<String> origins = new ArrayList<>();
+        for (String line : output.split("\n")) {
+            Matcher matcher = LEGACY_ROUTE_LINE.matcher(line);
+            if (matcher.find()) {
+                prefixes.add(matcher.group("prefix"));
+            }
+        }
+        for (String line : output.split("\n")) {
+            Matcher matcher = LEGACY_ROUTE_LINE.matcher(line);
+            if (matcher.find()) {
+                origins.add(matcher.group("origin"));
+            }
+        }
+        return Math.min(prefixes.size(), origins.size());
+    }
+
+    /**
+     * Every fourth prefix has an additional multipath continuation line.
+     */
+    static String generate(int lines) {
+        StringBuilder builder = new StringBuilder(lines * 72);
+        builder.append("BGP table version is 1, local router ID is 10.255.255.1\n")
+                .append("     Network          Next Hop            Metric LocPrf Weight Path\n");
+        int prefix = 0;
+        int line = 0;
+        while (line < lines) {
+            String network = String.format("%d.%d.%d.0/24", 1 + (prefix >> 16) % 223, (prefix >> 8) & 0xff,
+                    prefix & 0xff);
+            builder.append(String.format(" *>  %-18s 10.0.%d.1 %16d %6d 0 %d 65000 i\n", network, prefix % 8, 0,
+                    100, 64512 + prefix % 100));
+            line++;
+            if (prefix % 4 == 0 && line < lines) {
+                builder.append(String.format(" *m  %-18s 10.0.%d.2 %16d %6d 0 %d 65000 i\n", "", prefix % 8, 0,
+                        100, 64512 + prefix % 100));
+                line++;
+            }
+            prefix++;
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2018 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.rib.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BgpRibIndexTest {
+
+    private static final String OUTPUT = "BGP table version is 9, local router ID is 10.255.255.1\n"
+            + "Status codes: s suppressed, d damped, h history, * valid, > best, i - internal,\n"
+            + "              r RIB-failure, S Stale, m multipath, b backup-path, f RT-Filter,\n"
+            + "Origin codes: i - IGP, e - EGP, ? - incomplete\n"
+            + "\n"
+            + "     Network          Next Hop            Metric LocPrf Weight Path\n"
+            + " r>i 1.1.1.101/32     10.255.255.2             0    100      0 i\r\n"
+            + " *>  10.0.0.0/8       10.255.255.3             0             0 200 300 e\n"
+            + " *m                   10.255.255.4             0             0 200 300 e\n"
+            + " *                    10.255.255.5             0             0 400 300 e\n"
+            + " *>  192.168.100.128/25\n"
+            + "                      10.255.255.2             0             0 500 ?\n"
+            + " *>  10.255.1.0/24    0.0.0.0                  0         32768 i\n"
+            + "\n"
+            + "Total number of prefixes 4 ";
+
+    @Test
+    public void testPrefixes() {
+        BgpRibIndex index = BgpRibIndex.parse(OUTPUT);
+        List<String> prefixes = new ArrayList<>();
+        index.getPrefixes().forEach(prefixes::add);
+
+        Assert.assertEquals(4, index.size());
+        Assert.assertArrayEquals(new String[]{"1.1.1.101/32", "10.0.0.0/8", "192.168.100.128/25", "10.255.1.0/24"},
+                prefixes.toArray());
+    }
+
+    @Test
+    public void testPaths() {
+        BgpRibIndex index = BgpRibIndex.parse(OUTPUT);
+
+        BgpRibIndex.Path ribFailure = index.getFirstPath("1.1.1.101/32").get();
+        Assert.assertEquals("r>i", ribFailure.getStatusCodes());
+        Assert.assertEquals("10.255.255.2", ribFailure.getNextHop());
+        Assert.assertEquals("i", ribFailure.getOrigin());
+        Assert.assertFalse(ribFailure.isValid());
+
+        List<BgpRibIndex.Path> multipath = index.getPaths("10.0.0.0/8");
+        Assert.assertEquals(3, multipath.size());
+        Assert.assertTrue(multipath.get(0).isBest());
+        Assert.assertEquals("*m", multipath.get(1).getStatusCodes());
+        Assert.assertEquals("10.255.255.4", multipath.get(1).getNextHop());
+        Assert.assertFalse(multipath.get(2).isBest());
+        Assert.assertEquals("10.255.255.5", multipath.get(2).getNextHop());
+        Assert.assertEquals("e", multipath.get(2).getOrigin());
+
+        BgpRibIndex.Path wrapped = index.getFirstPath("192.168.100.128/25").get();
+        Assert.assertEquals("*>", wrapped.getStatusCodes());
+        Assert.assertEquals("10.255.255.2", wrapped.getNextHop());
+        Assert.assertEquals("?", wrapped.getOrigin());
+        Assert.assertTrue(wrapped.isValid());
+
+        Assert.assertTrue(index.getPaths("10.10.10.0/24").isEmpty());
+        Assert.assertFalse(index.getFirstPath("10.10.10.0/24").isPresent());
+    }
+
+    @Test
+    public void testPooledValues() {
+        BgpRibIndex index = BgpRibIndex.parse(OUTPUT);
+        Assert.assertSame(index.getFirstPath("1.1.1.101/32").get().getNextHop(),
+                index.getFirstPath("192.168.100.128/25").get().getNextHop());
+    }
+}
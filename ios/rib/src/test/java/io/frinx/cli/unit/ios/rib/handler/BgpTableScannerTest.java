@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2018 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ios.rib.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BgpTableScannerTest {
+
+    private static final String IPV6_OUTPUT = "BGP table version is 4, local router ID is 10.255.255.1\n"
+            + "Status codes: s suppressed, d damped, h history, * valid, > best, i - internal,\n"
+            + "              r RIB-failure, S Stale, m multipath, b backup-path, f RT-Filter,\n"
+            + "              x best-external, a additional-path, c RIB-compressed,\n"
+            + "Origin codes: i - IGP, e - EGP, ? - incomplete\n"
+            + "RPKI validation codes: V valid, I invalid, N Not found\n"
+            + "\n"
+            + "     Network          Next Hop            Metric LocPrf Weight Path\n"
+            + " *>  2001:DB8:1::/64  ::                       0         32768 i\n"
+            + " *>i 2001:DB8:2::/64  ::FFFF:10.255.255.2      0    100      0 i\n"
+            + " *>  2001:DB8:ABCD:1234::/64\n"
+            + "                       2001:DB8::1              0             0 100 ?\n"
+            + " *m                    2001:DB8::2              0             0 100 ?\n"
+            + " s>i 2001:DB8:3::/48\n"
+            + "                       ::FFFF:10.255.255.3      0    100      0 200 e\n";
+
+    private static final String IPV4_OUTPUT = "     Network          Next Hop            Metric LocPrf Weight Path\n"
+            + "*>  10.0.0.0/8       10.255.255.3             0             0 200 300 e\n"
+            + "* i                  10.255.255.4             0    100      0 200 300 e\n"
+            + "*>  10.1.0.0/16      10.255.255.3             0             0 200 300\n"
+            + "*>  10.2.0.0/16      10.255.255.3             0             0 200 300 i";
+
+    @Test
+    public void testIpv6() {
+        List<String> paths = scan(IPV6_OUTPUT);
+        Assert.assertEquals(5, paths.size());
+        Assert.assertEquals("2001:DB8:1::/64 *> :: i", paths.get(0));
+        Assert.assertEquals("2001:DB8:2::/64 *>i ::FFFF:10.255.255.2 i", paths.get(1));
+        Assert.assertEquals("2001:DB8:ABCD:1234::/64 *> 2001:DB8::1 ?", paths.get(2));
+        Assert.assertEquals("2001:DB8:ABCD:1234::/64 *m 2001:DB8::2 ?", paths.get(3));
+        Assert.assertEquals("2001:DB8:3::/48 s>i ::FFFF:10.255.255.3 e", paths.get(4));
+    }
+
+    @Test
+    public void testIpv4() {
+        List<String> paths = scan(IPV4_OUTPUT);
+        Assert.assertEquals(3, paths.size());
+        Assert.assertEquals("10.0.0.0/8 *> 10.255.255.3 e", paths.get(0));
+        // status codes keep their inner spacing
+        Assert.assertEquals("10.0.0.0/8 * i 10.255.255.4 e", paths.get(1));
+        // line without origin code is skipped
+        Assert.assertEquals("10.2.0.0/16 *> 10.255.255.3 i", paths.get(2));
+    }
+
+    @Test
+    public void testClassfulNetworks() {
+        List<String> paths = scan("     Network          Next Hop            Metric LocPrf Weight Path\n"
+                + " *>  10.0.0.0         0.0.0.0                  0         32768 i\n"
+                + " *>  172.16.0.0       0.0.0.0                  0         32768 i\n"
+                + " *   192.168.1.0      10.255.255.3             0             0 200 e\n"
+                + " *>                   10.255.255.4             0             0 200 e\n");
+        Assert.assertEquals(4, paths.size());
+        Assert.assertEquals("10.0.0.0/8 *> 0.0.0.0 i", paths.get(0));
+        Assert.assertEquals("172.16.0.0/16 *> 0.0.0.0 i", paths.get(1));
+        Assert.assertEquals("192.168.1.0/24 * 10.255.255.3 e", paths.get(2));
+        // next hop column of a multipath line is not taken as a network
+        Assert.assertEquals("192.168.1.0/24 *> 10.255.255.4 e", paths.get(3));
+    }
+
+    @Test
+    public void testMultipathOfRejectedLine() {
+        List<String> paths = scan(IPV4_OUTPUT.replace("10.255.255.3             0             0 200 300 e",
+                "10.255.255.3             0             0 200 300"));
+        // multipath line of the rejected prefix line is not assigned to any other prefix
+        Assert.assertEquals(1, paths.size());
+        Assert.assertEquals("10.2.0.0/16 *> 10.255.255.3 i", paths.get(0));
+    }
+
+    @Test
+    public void testNoRoutes() {
+        Assert.assertTrue(scan("").isEmpty());
+        Assert.assertTrue(scan("% BGP not active\n").isEmpty());
+    }
+
+    private static List<String> scan(String output) {
+        List<String> paths = new ArrayList<>();
+        BgpTableScanner.scan(output, (prefix, statusCodes, nextHop, origin) ->
+                paths.add(prefix + " " + statusCodes + " " + nextHop + " " + origin));
+        return paths;
+    }
+}
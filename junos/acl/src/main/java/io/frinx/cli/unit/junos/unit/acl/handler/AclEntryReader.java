@@ -21,6 +21,7 @@ import com.google.common.collect.ImmutableMap;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.junos.unit.acl.handler.util.AclUtil;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -56,7 +57,7 @@ public class AclEntryReader {
                                        @Nonnull final ReadContext readContext) throws ReadFailedException {
         AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
         String command = cliReader.f(SH_FIREWALL, AclUtil.getStringType(aclSetKey.getType()), aclSetKey.getName());
-        return parseAclEntryKey(cliReader.blockingRead(command, cli, instanceIdentifier, readContext));
+        return parseAclEntryKey(DisplaySetIndex.blockingRead(cliReader, command, cli, instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
@@ -81,7 +82,7 @@ public class AclEntryReader {
         final AclSetKey aclSetKey = instanceIdentifier.firstKeyOf(AclSet.class);
         final String command = cliReader.f(SH_FIREWALL, AclUtil.getStringType(
                 aclSetKey.getType()), aclSetKey.getName());
-        final String output = cliReader.blockingRead(command, cli, instanceIdentifier, readContext);
+        final String output = DisplaySetIndex.blockingRead(cliReader, command, cli, instanceIdentifier, readContext);
 
         final List<String> maybeLine = AclEntryLineParser.findLinesWithTermName(
                 sequenceTermMap.get(aclEntryBuilder.getKey().getSequenceId()), output);
@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -78,7 +79,7 @@ public class AclInterfaceReader implements CliConfigListReader<Interface, Interf
             InstanceIdentifier<O> instanceIdentifier,
             ReadContext readContext) throws ReadFailedException {
 
-        String output = cliReader.blockingRead(SH_IFACES, cli, instanceIdentifier, readContext);
+        String output = DisplaySetIndex.blockingRead(cliReader, SH_IFACES, cli, instanceIdentifier, readContext);
 
         // In Junos we can set ACLs(inet filter) only for subinterfaces,
         // so the format of interface-id is fixed to <interface-name>.<unit-number>.
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.junos.unit.acl.handler.util.NameTypeEntry;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -57,7 +58,7 @@ public class AclSetReader implements CliConfigListReader<AclSet, AclSetKey, AclS
     @Override
     public List<AclSetKey> getAllIds(@Nonnull InstanceIdentifier<AclSet> id, @Nonnull ReadContext context)
             throws ReadFailedException {
-        return parseAccessLists(blockingRead(SH_ACCESS_LISTS, cli, id, context));
+        return parseAccessLists(DisplaySetIndex.blockingRead(this, SH_ACCESS_LISTS, cli, id, context));
     }
 
     @VisibleForTesting
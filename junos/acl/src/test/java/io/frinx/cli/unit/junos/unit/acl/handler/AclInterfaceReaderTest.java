@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.unit.acl.handler;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.acl.IIDs;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -54,6 +56,7 @@ public class AclInterfaceReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new AclInterfaceReader(cli));
     }
 
@@ -61,7 +64,7 @@ public class AclInterfaceReaderTest {
     public void testGetAllIds() throws Exception {
         Mockito.doReturn(OUTPUT_IFACES).when(target)
                 .blockingRead(
-                    Mockito.eq(AclInterfaceReader.SH_IFACES),
+                    Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                     Mockito.eq(cli),
                     Mockito.eq(IIDs.AC_IN_INTERFACE),
                     Mockito.eq(readContext));
@@ -17,6 +17,7 @@
 package io.frinx.cli.unit.junos.unit.acl.handler;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
 import io.frinx.openconfig.openconfig.acl.IIDs;
@@ -68,6 +69,7 @@ public class EgressAclSetReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = new EgressAclSetReader(cli);
     }
 
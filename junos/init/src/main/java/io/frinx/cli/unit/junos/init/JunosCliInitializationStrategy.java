@@ -22,6 +22,7 @@ import io.frinx.cli.io.Command;
 import io.frinx.cli.io.Session;
 import io.frinx.cli.io.SessionException;
 import io.frinx.cli.io.SessionInitializationStrategy;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +37,7 @@ public class JunosCliInitializationStrategy implements SessionInitializationStra
     private static final Logger LOG = LoggerFactory.getLogger(JunosCliInitializationStrategy.class);
 
     private static final Pattern SHELL_PROMPT_PATTERN = Pattern.compile(".*@.*:.+#");//include ':'(collron)
+    private static final Pattern CLI_PROMPT_PATTERN = Pattern.compile("\\S+>[ \\t]*\\z");
     private static final String PRIVILEGED_PROMPT_SUFFIX = ">";
     private static final String CONFIG_PROMPT_SUFFIX = "#";
 
@@ -45,7 +47,7 @@ public class JunosCliInitializationStrategy implements SessionInitializationStra
     private static final String SET_TERMINAL_LENGTH_COMMAND = "set cli screen-length 0";
     private static final String SET_TERMINAL_WIDTH_COMMAND = "set cli screen-width 0";
 
-    private static final int READ_TIMEOUT_SECONDS = 1;
+    private static final int EXPECT_TIMEOUT_SECONDS = 10;
     private static final int WRITE_TIMEOUT_SECONDS = 10;
 
     private static final Command CONFIG_COMMAND = Command.writeCommand("configure");
@@ -61,11 +63,12 @@ public class JunosCliInitializationStrategy implements SessionInitializationStra
     @Override
     public void accept(Session session, String newline) {
         try {
+            SessionExpect expect = new SessionExpect(session, EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
             String initialPrompt = JunosPromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
 
             if (IS_SHELL_PROMPT.test(initialPrompt)) {
                 // enable cli mode
-                tryToEnterCliMode(session, newline);
+                tryToEnterCliMode(session, expect, newline);
             }
 
             String prompt = JunosPromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
@@ -75,16 +78,13 @@ public class JunosCliInitializationStrategy implements SessionInitializationStra
                     session, prompt);
 
             LOG.debug("{}: Setting terminal complete command on space to off", session);
-            write(session, newline, DISABLE_COMPLETE_ON_SPACE);
-            session.readUntilTimeout(READ_TIMEOUT_SECONDS);
+            expect.execute(newline, DISABLE_COMPLETE_ON_SPACE, prompt);
 
             LOG.debug("{}: Setting terminal length to 0 to prevent \"--More--\" situation", session);
-            write(session, newline, SET_TERMINAL_LENGTH_COMMAND);
-            session.readUntilTimeout(READ_TIMEOUT_SECONDS);
+            expect.execute(newline, SET_TERMINAL_LENGTH_COMMAND, prompt);
 
             LOG.debug("{}: Setting terminal width to 0", session);
-            write(session, newline, SET_TERMINAL_WIDTH_COMMAND);
-            session.readUntilTimeout(READ_TIMEOUT_SECONDS);
+            expect.execute(newline, SET_TERMINAL_WIDTH_COMMAND, prompt);
 
             LOG.info("{}: Junos cli session initialized successfully", session);
         } catch (InterruptedException e) {
@@ -96,12 +96,13 @@ public class JunosCliInitializationStrategy implements SessionInitializationStra
         }
     }
 
-    private void tryToEnterCliMode(@Nonnull Session session, @Nonnull String newline)
+    private void tryToEnterCliMode(@Nonnull Session session, @Nonnull SessionExpect expect,
+                                   @Nonnull String newline)
             throws InterruptedException, ExecutionException, TimeoutException {
 
         LOG.debug("{}: Entering cli mode.", session);
         write(session, newline, CLI_COMMAND);
-        String cliCommandOutput = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
+        String cliCommandOutput = expect.expect(CLI_PROMPT_PATTERN).getOutput().trim();
         LOG.debug("{}: Entering cli mode resulted in output: {}", session, cliCommandOutput);
     }
 
@@ -31,6 +31,7 @@ import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.registry.spi.TranslateUnit;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.init.ErrorPatternMatcher;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import java.util.Arrays;
@@ -52,6 +53,15 @@ public class JunosCliInitializerUnit extends AbstractUnit {
 
     private static final Logger LOG = LoggerFactory.getLogger(JunosCliInitializerUnit.class);
 
+    private static final ErrorPatternMatcher ERROR_PATTERNS = ErrorPatternMatcher.builder()
+            .add(Pattern.compile("(^|\\n)\\s+\\^.*", Pattern.DOTALL), "^")
+            .add(Pattern.compile("(^|\\n)(?i)unknown command\\.(?-i).*", Pattern.DOTALL), "unknown command.")
+            .add(Pattern.compile("(^|\\n)(?i)syntax error,(?-i) .*", Pattern.DOTALL), "syntax error,")
+            // quoted command may span lines, but the match starts at its opening quote
+            .add(Pattern.compile("(^|\\n)(?i)'.+' is ambiguous\\.(?-i).*", Pattern.DOTALL), "'")
+            .add(Pattern.compile("(^|\\n)(?i)error:(?-i) .*", Pattern.DOTALL), "error:")
+            .build();
+
     private static JunosCliInitializationStrategy INITIALIZER = new JunosCliInitializationStrategy();
 
     public JunosCliInitializerUnit(@Nonnull final TranslationUnitCollector registry) {
@@ -156,13 +166,14 @@ public class JunosCliInitializerUnit extends AbstractUnit {
 
     @Override
     public Set<Pattern> getErrorPatterns() {
-        return Sets.newLinkedHashSet(Arrays.asList(
-                Pattern.compile("(^|\\n)\\s+\\^.*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)(?i)unknown command\\.(?-i).*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)(?i)syntax error,(?-i) .*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)(?i)'.+' is ambiguous\\.(?-i).*", Pattern.DOTALL),
-                Pattern.compile("(^|\\n)(?i)error:(?-i) .*", Pattern.DOTALL)
-        ));
+        return Sets.newLinkedHashSet(ERROR_PATTERNS.getPatterns());
+    }
+
+    /**
+     * Junos error patterns compiled into a single matcher, see {@link #getErrorPatterns()}.
+     */
+    public ErrorPatternMatcher getErrorPatternMatcher() {
+        return ERROR_PATTERNS;
     }
 
     @Override
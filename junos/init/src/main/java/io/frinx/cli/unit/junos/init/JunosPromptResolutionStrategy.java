@@ -17,18 +17,18 @@
 package io.frinx.cli.unit.junos.init;
 
 import io.frinx.cli.io.PromptResolutionStrategy;
-import java.util.Arrays;
-import java.util.List;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public interface JunosPromptResolutionStrategy extends PromptResolutionStrategy {
     Logger LOG = LoggerFactory.getLogger(JunosPromptResolutionStrategy.class);
 
-    int INITIAL_TIME_TO_WAIT = 1;
+    int TIMEOUT_SECONDS = 15;
 
     Pattern JUNOS_GUIDANCE_PATTERN = Pattern.compile("^(\\{(master|backup)(:\\d)?})?(\\[edit.*])?$");
 
@@ -38,34 +38,17 @@ public interface JunosPromptResolutionStrategy extends PromptResolutionStrategy
      */
     @SuppressWarnings({"IllegalCatch", "ConstantName"})
     JunosPromptResolutionStrategy ENTER_AND_READ = (session, newline) -> {
-        int waitTime = INITIAL_TIME_TO_WAIT;
-        String lastRead = "";
-
         try {
-            while (true) {
-                session.write(newline + newline).toCompletableFuture().get();
-                lastRead = session.readUntilTimeout(waitTime);
-                List<String> split = Arrays.stream(lastRead.split(newline))
-                        .map(String::trim)
-                        .filter(line -> !JUNOS_GUIDANCE_PATTERN.matcher(line).matches())
-                        .collect(Collectors.toList());
-
-                if (split.size() == 2 && split.get(0).equals(split.get(1))) {
-                    return "\r\n" + split.get(0);
-                }
-
-                waitTime++;
-            }
-
+            return "\r\n" + new SessionExpect(session, TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .resolvePrompt(newline + newline, newline, line -> JUNOS_GUIDANCE_PATTERN.matcher(line).matches());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException(e);
-        } catch (ExecutionException | RuntimeException e) {
-            LOG.warn("{}: Unable to perform prompt resolution in {} attempts, last output from device: {}",
-                session, waitTime, lastRead, e);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            LOG.warn("{}: Unable to perform prompt resolution in {} seconds", session, TIMEOUT_SECONDS, e);
 
-            throw new IllegalStateException(session + ": Unable to parse prompt in " + waitTime
-                + " attempts, last output from device: " + lastRead, e);
+            throw new IllegalStateException(session + ": Unable to parse prompt in " + TIMEOUT_SECONDS
+                + " seconds", e);
         }
     };
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.junos.init.config;
+
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Junos configuration in set format indexed by set-path, shared by all readers within one read transaction.
+ *
+ * <p>Readers of Junos units read their "show configuration ... | display set" commands through
+ * {@link #blockingRead(CliReader, String, Cli, InstanceIdentifier, ReadContext)}. Whole configuration is fetched
+ * from the device only once per {@link ReadContext} and stored in a prefix trie keyed by tokens of the set-path
+ * (interfaces → ge-0/0/0 → unit → 0 ...). Each command is then answered by a subtree lookup evaluated by
+ * {@link DisplaySetQuery}. Commands which cannot be evaluated locally are sent to the device as usual.
+ */
+public final class DisplaySetIndex {
+
+    public static final String SH_CONFIGURATION = "show configuration | display set";
+
+    private static final Object INDEX_KEY = DisplaySetIndex.class;
+
+    private final List<String> lines;
+    private final Node root = new Node();
+
+    private DisplaySetIndex(List<String> lines) {
+        this.lines = lines;
+        for (int i = 0; i < lines.size(); i++) {
+            List<String> tokens = tokenize(lines.get(i));
+            // first token is the statement (set, deactivate, protect ...), not part of the path
+            if (tokens.size() < 2 || tokens.get(0).startsWith("#")) {
+                continue;
+            }
+            Node node = root;
+            for (String token : tokens.subList(1, tokens.size())) {
+                node = node.children.computeIfAbsent(token, t -> new Node());
+            }
+            node.lines.add(i);
+        }
+    }
+
+    /**
+     * Index output of {@link #SH_CONFIGURATION}.
+     */
+    @Nonnull
+    public static DisplaySetIndex parse(@Nonnull String output) {
+        return new DisplaySetIndex(Collections.unmodifiableList(ParsingUtils.NEWLINE.splitAsStream(output)
+                .map(line -> line.replace("\r", ""))
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Drop-in replacement for {@link CliReader#blockingRead(String, Cli, InstanceIdentifier, ReadContext)}.
+     *
+     * @param reader reader used to execute commands
+     * @param command command to be answered from the index
+     * @param cli cli
+     * @param id id of the data being read
+     * @param readContext context of current read transaction holding the index
+     * @return output of the command, as the device would have printed it
+     * @throws ReadFailedException if the configuration could not be read
+     */
+    public static String blockingRead(@Nonnull CliReader<?, ?> reader, @Nonnull String command, @Nonnull Cli cli,
+                                      @Nonnull InstanceIdentifier<?> id, @Nonnull ReadContext readContext)
+            throws ReadFailedException {
+        Optional<DisplaySetQuery> query = DisplaySetQuery.parse(command);
+        if (!query.isPresent()) {
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+
+        Object outputKey = new AbstractMap.SimpleEntry<>(INDEX_KEY, command);
+        String output = (String) readContext.getModificationCache().get(outputKey);
+        if (output == null) {
+            output = query.get().evaluate(getIndex(reader, cli, id, readContext));
+            readContext.getModificationCache().put(outputKey, output);
+        }
+        return output;
+    }
+
+    private static DisplaySetIndex getIndex(CliReader<?, ?> reader, Cli cli, InstanceIdentifier<?> id,
+                                            ReadContext readContext) throws ReadFailedException {
+        DisplaySetIndex index = (DisplaySetIndex) readContext.getModificationCache().get(INDEX_KEY);
+        if (index == null) {
+            index = parse(reader.blockingRead(SH_CONFIGURATION, cli, id, readContext));
+            readContext.getModificationCache().put(INDEX_KEY, index);
+        }
+        return index;
+    }
+
+    /**
+     * Lines whose set-path starts with given tokens, in the order printed by the device.
+     */
+    @Nonnull
+    public List<String> lookup(@Nonnull List<String> path) {
+        Node node = root;
+        for (String token : path) {
+            node = node.children.get(token);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<Integer> indices = new ArrayList<>();
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            Node current = stack.pop();
+            indices.addAll(current.lines);
+            current.children.values().forEach(stack::push);
+        }
+        Collections.sort(indices);
+        return indices.stream()
+                .map(lines::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Split set line (or path of show configuration command) into tokens. Double quoted strings, which may
+     * contain spaces, are kept as single token including the quotes, as that is how the device prints them.
+     */
+    @Nonnull
+    static List<String> tokenize(@Nonnull String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (quoted && character == '\\' && i + 1 < line.length()) {
+                token.append(character).append(line.charAt(++i));
+            } else if (character == '"') {
+                quoted = !quoted;
+                token.append(character);
+            } else if (!quoted && Character.isWhitespace(character)) {
+                if (token.length() > 0) {
+                    tokens.add(token.toString());
+                    token.setLength(0);
+                }
+            } else {
+                token.append(character);
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        return tokens;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Integer> lines = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.junos.init.config;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Local evaluation of a Junos "show configuration ... | display set" command.
+ *
+ * <p>Supported commands are:
+ * <ul>
+ *   <li>show configuration | display set</li>
+ *   <li>show configuration PATH | display set</li>
+ *   <li>either of the above followed by one "| match|except REGEX" pipe</li>
+ * </ul>
+ * The regular expression may be enclosed in double quotes. Junos matches it against each line separately and
+ * ignores case, so that is what is done here as well.
+ */
+public final class DisplaySetQuery {
+
+    private static final Pattern COMMAND = Pattern.compile("^show configuration(?<path>[^|]*)\\|\\s*display set"
+            + "\\s*(?:\\|\\s*(?<op>match|except) (?<regex>.+))?$");
+
+    private final List<String> path;
+    private final boolean except;
+    private final Pattern regex;
+
+    private DisplaySetQuery(@Nonnull List<String> path, boolean except, @Nullable Pattern regex) {
+        this.path = path;
+        this.except = except;
+        this.regex = regex;
+    }
+
+    /**
+     * Parse command into a query. Empty result means the command cannot be answered from configuration index
+     * and has to be sent to the device.
+     */
+    @Nonnull
+    public static Optional<DisplaySetQuery> parse(@Nonnull String command) {
+        Matcher matcher = COMMAND.matcher(command.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        List<String> path = DisplaySetIndex.tokenize(matcher.group("path"));
+        if (matcher.group("op") == null) {
+            return Optional.of(new DisplaySetQuery(path, false, null));
+        }
+
+        String regex = matcher.group("regex").trim();
+        if (regex.length() > 1 && regex.startsWith("\"") && regex.endsWith("\"")) {
+            regex = regex.substring(1, regex.length() - 1);
+        }
+        try {
+            return Optional.of(new DisplaySetQuery(path, "except".equals(matcher.group("op")),
+                    Pattern.compile(regex, Pattern.CASE_INSENSITIVE)));
+        } catch (PatternSyntaxException e) {
+            // Junos regex which is not valid java regex, let the device evaluate it
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Evaluate query against configuration index.
+     */
+    @Nonnull
+    public String evaluate(@Nonnull DisplaySetIndex index) {
+        List<String> lines = index.lookup(path);
+        if (regex == null) {
+            return String.join("\n", lines);
+        }
+        return lines.stream()
+                .filter(line -> regex.matcher(line).find() != except)
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -19,7 +19,7 @@ package io.frinx.cli.unit.junos.init;
 import io.frinx.cli.io.PromptResolutionStrategy;
 import io.frinx.cli.io.Session;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.Before;
@@ -35,9 +35,6 @@ public class JunosPromptResolutionStrategyTest {
     private static final String OUTPUT_UNEXPECTED = "root@VS002#\n"
         + "value1\n"
         + "root@VS002#";
-    private static final String OUTPUT_NOT_TWO_LINES = "root@VS003#\n"
-        + "root@VS003#\n"
-        + "root@VS003#";
     private static final String OUTPUT_UNMATCHED = "root@VS004#\n"
         + "root@VS00X#";
     private static final String OUTPUT_EXPECTED = EXPECTED_PROMPT + "\n"
@@ -61,12 +58,6 @@ public class JunosPromptResolutionStrategyTest {
     @Mock
     private Session session;
 
-    @Mock
-    private CompletionStage completion;
-
-    @Mock
-    private CompletableFuture future;
-
     private PromptResolutionStrategy target = JunosPromptResolutionStrategy.ENTER_AND_READ;
 
     private final String newline = "\n";
@@ -75,32 +66,27 @@ public class JunosPromptResolutionStrategyTest {
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
 
-        Mockito.doReturn(completion).when(session).write(Mockito.eq(newline + newline));
-        Mockito.doReturn(future).when(completion).toCompletableFuture();
-        Mockito.doReturn(null).when(future).get();
+        Mockito.doReturn(CompletableFuture.completedFuture(null)).when(session).write(Mockito.eq(newline + newline));
     }
 
     @Test
     public void testResolvePrompt() throws Exception {
         Mockito.doReturn(OUTPUT_EMPTY)
             .doReturn(OUTPUT_UNEXPECTED)
-            .doReturn(OUTPUT_NOT_TWO_LINES)
-            .doReturn(OUTPUT_UNMATCHED)
-            .doReturn(OUTPUT_EXPECTED)
+            .doReturn(newline + OUTPUT_UNMATCHED)
+            .doReturn(newline + OUTPUT_EXPECTED)
             .doThrow(new RuntimeException("the number of executions exceeded the assumed times.")) // never executed.
             .when(session).readUntilTimeout(Mockito.anyInt());
 
         // test
+        long start = System.nanoTime();
         String result = target.resolvePrompt(session, newline);
 
         //verify
         Assert.assertThat(result, CoreMatchers.equalTo(EXPECTED_PROMPT));
+        Assert.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
 
-        Mockito.verify(session).readUntilTimeout(Mockito.eq(1));
-        Mockito.verify(session).readUntilTimeout(Mockito.eq(2));
-        Mockito.verify(session).readUntilTimeout(Mockito.eq(3));
-        Mockito.verify(session).readUntilTimeout(Mockito.eq(4));
-        Mockito.verify(session).readUntilTimeout(Mockito.eq(5));
-        Mockito.verify(session, Mockito.never()).readUntilTimeout(Mockito.eq(6));
+        Mockito.verify(session).write(newline + newline);
+        Mockito.verify(session, Mockito.times(4)).readUntilTimeout(Mockito.eq(0));
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.junos.init.config;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Commands of Junos interface, acl, ospf and network-instance readers evaluated against recorded configuration,
+ * compared to output of the same command on the device.
+ */
+public class DisplaySetIndexTest {
+
+    private static final String CONFIGURATION = "set version 18.2R1.9\r\n"
+            + "set interfaces ge-0/0/0 description \"uplink to core\"\r\n"
+            + "set interfaces ge-0/0/0 unit 0 family inet address 10.0.0.1/24\r\n"
+            + "set interfaces ge-0/0/0 unit 0 family inet filter input FILTER01\r\n"
+            + "set interfaces ge-0/0/0 unit 100 vlan-id 100\r\n"
+            + "set interfaces ge-0/0/0 unit 100 family inet address 10.0.100.1/24\r\n"
+            + "set interfaces ge-0/0/1 disable\r\n"
+            + "set interfaces ge-0/0/10 unit 0 family inet address 10.0.10.1/24\r\n"
+            + "set firewall family inet filter FILTER01 term 1 then accept\r\n"
+            + "set routing-instances APTN instance-type virtual-router\r\n"
+            + "set routing-instances APTN interface ge-0/0/0.100\r\n"
+            + "set routing-instances APTN protocols ospf export OUT-FIL\r\n"
+            + "set routing-instances APTN protocols ospf area 10.51.246.21 interface ge-0/0/0.100 metric 500\r\n"
+            + "set routing-instances APTN protocols ospf area 10.51.246.21 interface ge-0/0/0.100"
+            + " bfd-liveness-detection multiplier 3\r\n"
+            + "set protocols ospf area 0.0.0.0 interface ge-0/0/0.0 retransmit-interval 151\r\n"
+            + "set interfaces ge-0/0/0 unit 100 description AREA-51\r\n"
+            + "deactivate interfaces ge-0/0/0 unit 100\r\n";
+
+    private DisplaySetIndex index;
+
+    @Before
+    public void setUp() {
+        index = DisplaySetIndex.parse(CONFIGURATION);
+    }
+
+    @Test
+    public void testInterfaceCommands() {
+        // InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, other interfaces with the same prefix are not included
+        assertOutput("show configuration interfaces ge-0/0/1 | display set",
+                "set interfaces ge-0/0/1 disable");
+
+        // InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG for subinterface, lines in device order
+        assertOutput("show configuration interfaces ge-0/0/0 unit 100 | display set",
+                "set interfaces ge-0/0/0 unit 100 vlan-id 100\n"
+                + "set interfaces ge-0/0/0 unit 100 family inet address 10.0.100.1/24\n"
+                + "set interfaces ge-0/0/0 unit 100 description AREA-51\n"
+                + "deactivate interfaces ge-0/0/0 unit 100");
+
+        // Ipv4AddressReader.SH_RUN_INT_IP
+        assertOutput("show configuration interfaces ge-0/0/0 | display set | match \" inet address \"",
+                "set interfaces ge-0/0/0 unit 0 family inet address 10.0.0.1/24\n"
+                + "set interfaces ge-0/0/0 unit 100 family inet address 10.0.100.1/24");
+
+        assertOutput("show configuration interfaces ge-0/0/0 | display set | except unit",
+                "set interfaces ge-0/0/0 description \"uplink to core\"");
+    }
+
+    @Test
+    public void testQuotedTokens() {
+        assertOutput("show configuration interfaces ge-0/0/0 description \"uplink to core\" | display set",
+                "set interfaces ge-0/0/0 description \"uplink to core\"");
+        assertOutput("show configuration interfaces ge-0/0/0 description uplink | display set", "");
+    }
+
+    @Test
+    public void testRoutingInstanceCommands() {
+        // OspfAreaReader.SH_RUN_OSPF_AREA
+        assertOutput("show configuration routing-instances APTN protocols ospf | display set | match area",
+                "set routing-instances APTN protocols ospf area 10.51.246.21 interface ge-0/0/0.100 metric 500\n"
+                + "set routing-instances APTN protocols ospf area 10.51.246.21 interface ge-0/0/0.100"
+                + " bfd-liveness-detection multiplier 3");
+
+        // AreaInterfaceBfdConfigReader.SHOW_OSPF_INT
+        assertOutput("show configuration routing-instances APTN protocols ospf area 10.51.246.21 interface "
+                        + "ge-0/0/0.100 bfd-liveness-detection | display set",
+                "set routing-instances APTN protocols ospf area 10.51.246.21 interface ge-0/0/0.100"
+                + " bfd-liveness-detection multiplier 3");
+
+        // L3VrfReader.SH_L3VRF, match is case insensitive
+        assertOutput("show configuration routing-instances | display set | match \"INSTANCE-TYPE virtual-router$\"",
+                "set routing-instances APTN instance-type virtual-router");
+
+        // AreaInterfaceTimersConfigReader.SHOW_OSPF_INT in default instance
+        assertOutput("show configuration protocols ospf area 0.0.0.0 interface ge-0/0/0.0 retransmit-interval "
+                        + "| display set",
+                "set protocols ospf area 0.0.0.0 interface ge-0/0/0.0 retransmit-interval 151");
+
+        assertOutput("show configuration routing-instances OTHER | display set", "");
+    }
+
+    @Test
+    public void testUnsupportedCommands() {
+        Assert.assertFalse(DisplaySetQuery.parse("show configuration policy-options\n").isPresent());
+        Assert.assertFalse(DisplaySetQuery.parse("show configuration | match \"^## Last commit:\"").isPresent());
+        Assert.assertFalse(DisplaySetQuery.parse("show configuration | display set | count").isPresent());
+        Assert.assertFalse(DisplaySetQuery.parse("show interfaces terse | display set").isPresent());
+    }
+
+    @Test
+    public void testTokenize() {
+        Assert.assertEquals(Arrays.asList("set", "interfaces", "ge-0/0/0", "description", "\"a \\\" b\""),
+                DisplaySetIndex.tokenize("set interfaces  ge-0/0/0 description \"a \\\" b\"\t"));
+    }
+
+    @Test
+    public void testConfigurationReadOncePerContext() throws Exception {
+        CliReader reader = Mockito.mock(CliReader.class);
+        Cli cli = Mockito.mock(Cli.class);
+        InstanceIdentifier id = Mockito.mock(InstanceIdentifier.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        Mockito.when(reader.blockingRead(DisplaySetIndex.SH_CONFIGURATION, cli, id, readContext))
+                .thenReturn(CONFIGURATION);
+        Mockito.when(reader.blockingRead("show configuration policy-options\n", cli, id, readContext))
+                .thenReturn("policy-statement OUT-FIL;");
+
+        Assert.assertEquals("set interfaces ge-0/0/1 disable", DisplaySetIndex.blockingRead(reader,
+                "show configuration interfaces ge-0/0/1 | display set", cli, id, readContext));
+        Assert.assertEquals("set firewall family inet filter FILTER01 term 1 then accept",
+                DisplaySetIndex.blockingRead(reader, "show configuration firewall | display set", cli, id,
+                        readContext));
+        Assert.assertEquals("policy-statement OUT-FIL;",
+                DisplaySetIndex.blockingRead(reader, "show configuration policy-options\n", cli, id, readContext));
+
+        Mockito.verify(reader, Mockito.times(1)).blockingRead(DisplaySetIndex.SH_CONFIGURATION, cli, id, readContext);
+        Mockito.verify(reader, Mockito.times(1))
+                .blockingRead("show configuration policy-options\n", cli, id, readContext);
+    }
+
+    private void assertOutput(String command, String expected) {
+        Assert.assertEquals(command, expected, DisplaySetQuery.parse(command).get().evaluate(index));
+    }
+}
@@ -16,11 +16,19 @@
 
 package io.frinx.cli.unit.junos.ifc.handler;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceConfigReader;
 import io.frinx.cli.unit.junos.ifc.Util;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.Config;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces._interface.ConfigBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev140508.InterfaceType;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
 
@@ -31,8 +39,19 @@ public final class InterfaceConfigReader extends AbstractInterfaceConfigReader {
     private static final Pattern DESCRIPTION_LINE =
             Pattern.compile("set interfaces (?<id>\\S+) description (?<desc>.*)");
 
+    private final Cli cli;
+
     public InterfaceConfigReader(Cli cli) {
         super(cli);
+        this.cli = cli;
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<Config> id,
+                                      @Nonnull final ConfigBuilder builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        String ifcName = id.firstKeyOf(Interface.class).getName();
+        parseInterface(DisplaySetIndex.blockingRead(this, getReadCommand(ifcName), cli, id, ctx), builder, ifcName);
     }
 
     @Override
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.AbstractInterfaceReader;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,15 +42,19 @@ public final class InterfaceReader extends AbstractInterfaceReader {
 
     public static final Pattern SUBINTERFACE_NAME = Pattern.compile("(?<ifcId>[\\S]+) unit (?<subifcIndex>[0-9]+)");
 
+    private final Cli cli;
+
     public InterfaceReader(Cli cli) {
         super(cli);
+        this.cli = cli;
     }
 
     @Nonnull
     @Override
     public List<InterfaceKey> getAllIds(@Nonnull InstanceIdentifier<Interface> instanceIdentifier,
         @Nonnull ReadContext readContext) throws ReadFailedException {
-        return super.getAllIds(instanceIdentifier, readContext).stream().distinct().collect(Collectors.toList());
+        return parseInterfaceIds(DisplaySetIndex.blockingRead(this, getReadCommand(), cli, instanceIdentifier,
+                readContext)).stream().distinct().collect(Collectors.toList());
     }
 
     @Override
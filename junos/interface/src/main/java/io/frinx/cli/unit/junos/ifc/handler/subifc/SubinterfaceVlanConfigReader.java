@@ -16,11 +16,16 @@
 
 package io.frinx.cli.unit.junos.ifc.handler.subifc;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceVlanConfigReader;
 import io.frinx.cli.unit.junos.ifc.Util;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.vlan.rev170714.vlan.logical.top.vlan.Config;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.vlan.rev170714.vlan.logical.top.vlan.ConfigBuilder;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class SubinterfaceVlanConfigReader extends AbstractSubinterfaceVlanConfigReader {
@@ -29,8 +34,20 @@ public class SubinterfaceVlanConfigReader extends AbstractSubinterfaceVlanConfig
 
     private static final String CONFIGURATION_INTERFACES = "show configuration interfaces %s | display set";
 
+    private final Cli cli;
+
     public SubinterfaceVlanConfigReader(Cli cli) {
         super(cli);
+        this.cli = cli;
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull InstanceIdentifier<Config> id,
+                                      @Nonnull ConfigBuilder builder,
+                                      @Nonnull ReadContext ctx) throws ReadFailedException {
+        String output = DisplaySetIndex.blockingRead(this,
+                String.format(getReadCommand(), getSubinterfaceName(id)), cli, id, ctx);
+        parseVlanTag(output, builder, getVlanTagLine());
     }
 
     @Override
@@ -16,11 +16,20 @@
 
 package io.frinx.cli.unit.junos.ifc.handler.subifc.ip4;
 
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4AddressesReader;
 import io.frinx.cli.unit.junos.ifc.Util;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.Address;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.ip.rev161222.ipv4.top.ipv4.addresses.AddressKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.interfaces.top.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.interfaces.rev161222.subinterfaces.top.subinterfaces.Subinterface;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
@@ -34,8 +43,24 @@ public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
 
     static boolean SUPPORTED_INTERFACE = true;
 
+    private final Cli cli;
+
     public Ipv4AddressReader(Cli cli) {
         super(cli);
+        this.cli = cli;
+    }
+
+    @Nonnull
+    @Override
+    public List<AddressKey> getAllIds(@Nonnull InstanceIdentifier<Address> instanceIdentifier,
+                                      @Nonnull ReadContext ctx) throws ReadFailedException {
+        if (!isSupportedInterface(instanceIdentifier)) {
+            return Collections.emptyList();
+        }
+        String ifcName = instanceIdentifier.firstKeyOf(Interface.class).getName();
+        Long subId = instanceIdentifier.firstKeyOf(Subinterface.class).getIndex();
+        return parseAddressIds(DisplaySetIndex.blockingRead(this, getReadCommand(getInterfaceName(ifcName, subId)),
+                cli, instanceIdentifier, ctx));
     }
 
     @Override
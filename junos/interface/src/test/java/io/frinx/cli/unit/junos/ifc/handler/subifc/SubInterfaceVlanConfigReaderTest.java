@@ -16,8 +16,10 @@
 
 package io.frinx.cli.unit.junos.ifc.handler.subifc;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -65,11 +67,14 @@ public class SubInterfaceVlanConfigReaderTest {
 
         final ConfigBuilder config1Builder = new ConfigBuilder();
         final ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
-        final String outputSingleInterface =
-            "set interfaces ge-0/0/4 unit 0 vlan-id 100";
+        final String outputConfiguration =
+            "set interfaces ge-0/0/3 unit 0 vlan-id 200\n"
+            + "set interfaces ge-0/0/4 unit 0 vlan-id 100";
 
-        Mockito.doReturn(outputSingleInterface).when(target).blockingRead(Mockito.anyString(), Mockito.eq(cli),
+        Mockito.doReturn(outputConfiguration).when(target).blockingRead(
+            Mockito.eq(DisplaySetIndex.SH_CONFIGURATION), Mockito.eq(cli),
             Mockito.eq(id), Mockito.eq(readContext));
 
         target.readCurrentAttributes(id, config1Builder, readContext);
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -65,7 +66,7 @@ public class PolicyForwardingInterfaceConfigReader implements CliConfigReader<Co
         Matcher matcher = INTERFACE_ID_PATTERN.matcher(interfaceId);
 
         matcher.matches();
-        String output = blockingRead(
+        String output = DisplaySetIndex.blockingRead(this,
             f(SHOW_CONFIG_TEMPLATE, matcher.group("ifname"), matcher.group("unit")),
             cli,
             id,
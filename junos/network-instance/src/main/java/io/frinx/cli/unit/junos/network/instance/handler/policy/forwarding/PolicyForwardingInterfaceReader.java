@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -57,7 +58,7 @@ public class PolicyForwardingInterfaceReader implements CliConfigListReader<Inte
             return Collections.emptyList();
         }
 
-        String output = blockingRead(SH_CONFIG, cli, id, context);
+        String output = DisplaySetIndex.blockingRead(this, SH_CONFIG, cli, id, context);
 
         return ParsingUtils.parseFields(output, 0,
             INET_PRECEDENCE_LINE::matcher,
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.junos.network.instance.handler.vrf.applypolicy;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -53,7 +54,7 @@ public class ApplyPolicyConfigReader implements CliConfigReader<Config, ConfigBu
             return;
         }
 
-        String output = blockingRead(f(SH_IMPORT_POLICY_TEMPLATE, vrfName), cli, id, readContext);
+        String output = DisplaySetIndex.blockingRead(this, f(SH_IMPORT_POLICY_TEMPLATE, vrfName), cli, id, readContext);
 
         List<String> policyList = ParsingUtils.parseFields(output, 0,
             IMPORT_POLICY_LINE_PATTERN::matcher,
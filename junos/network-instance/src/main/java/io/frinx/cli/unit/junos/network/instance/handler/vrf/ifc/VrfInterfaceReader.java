@@ -19,6 +19,7 @@ package io.frinx.cli.unit.junos.network.instance.handler.vrf.ifc;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -56,7 +57,7 @@ public class VrfInterfaceReader implements CliConfigListReader<Interface, Interf
             return Collections.emptyList();
         }
 
-        String output = blockingRead(f(SH_VRF_INTERFACES_TEMPLATE, vrfName), cli, id, ctx);
+        String output = DisplaySetIndex.blockingRead(this, f(SH_VRF_INTERFACES_TEMPLATE, vrfName), cli, id, ctx);
 
         return ParsingUtils.parseFields(output, 0,
             VRF_INTERFACE_LINE_PATTERN::matcher,
@@ -16,8 +16,10 @@
 
 package io.frinx.cli.unit.junos.network.instance.handler.policy.forwarding;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
@@ -42,10 +44,9 @@ public class PolicyForwardingInterfaceConfigReaderTest {
     private static final String INTERFACE_NAME = "ge-0/0/0";
     private static final String UNIT_NUMBER = "100";
     private static final String INTERFACE_ID_VALUE = String.format("%s.%s", INTERFACE_NAME, UNIT_NUMBER);
-    private static final String SHOW_CONFIG =
-        String.format(PolicyForwardingInterfaceConfigReader.SHOW_CONFIG_TEMPLATE, INTERFACE_NAME, UNIT_NUMBER);
     private static final String OUTPUT_PRECEDENCE =
-        "set class-of-service interfaces ge-0/0/0 unit 100 classifiers inet-precedence CLASS001\n";
+        "set class-of-service interfaces ge-0/0/0 unit 100 classifiers inet-precedence CLASS001\n"
+        + "set class-of-service interfaces ge-0/0/0 unit 101 classifiers inet-precedence CLASS002\n";
 
     @Mock
     private Cli cli;
@@ -57,6 +58,7 @@ public class PolicyForwardingInterfaceConfigReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new PolicyForwardingInterfaceConfigReader(cli));
     }
 
@@ -70,7 +72,7 @@ public class PolicyForwardingInterfaceConfigReaderTest {
             .child(Config.class);
 
         Mockito.doReturn(OUTPUT_PRECEDENCE).when(target).blockingRead(
-            SHOW_CONFIG,
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
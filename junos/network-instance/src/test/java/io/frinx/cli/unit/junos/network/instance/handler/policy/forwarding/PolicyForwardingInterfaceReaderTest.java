@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.network.instance.handler.policy.forwarding;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
@@ -59,6 +61,7 @@ public class PolicyForwardingInterfaceReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new PolicyForwardingInterfaceReader(cli));
     }
 
@@ -71,7 +74,7 @@ public class PolicyForwardingInterfaceReaderTest {
             .child(Interface.class);
 
         Mockito.doReturn(OUTPUT_PRECEDENCE).when(target).blockingRead(
-            PolicyForwardingInterfaceReader.SH_CONFIG,
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.network.instance.handler.vrf.applypolicy;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
@@ -43,8 +45,6 @@ public class ApplyPolicyConfigReaderTest {
         .child(InterInstancePolicies.class)
         .child(ApplyPolicy.class)
         .child(Config.class);
-    private static final String SH_CONFIG = "show configuration routing-instances VRF-001 "
-        + "routing-options instance-import | display set";
     private static final String SH_CONFIG_OUTPUT =
         "set routing-instances VRF-001 routing-options instance-import IMPORT-POLICY-999\n"
         + "set routing-instances VRF-001 routing-options instance-import IMPORT-POLICY-001\n"
@@ -62,6 +62,7 @@ public class ApplyPolicyConfigReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new ApplyPolicyConfigReader(cli));
     }
 
@@ -70,7 +71,8 @@ public class ApplyPolicyConfigReaderTest {
         ConfigBuilder configBuilder = new ConfigBuilder();
 
         Mockito.doReturn(SH_CONFIG_OUTPUT).when(target)
-            .blockingRead(Mockito.eq(SH_CONFIG), Mockito.eq(cli), Mockito.eq(IIDS_CONFIG), Mockito.eq(readContext));
+            .blockingRead(Mockito.eq(DisplaySetIndex.SH_CONFIGURATION), Mockito.eq(cli), Mockito.eq(IIDS_CONFIG),
+                Mockito.eq(readContext));
 
         target.readCurrentAttributes(IIDS_CONFIG, configBuilder , readContext);
 
@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.network.instance.handler.vrf.ifc;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -38,10 +40,10 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.insta
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class VrfInterfaceReaderTest {
-    private static final String SH_VRF_INTERFACES = "show configuration routing-instances VRF-001 | display set";
     private static final String SH_VRF_INTERFACES_OUTPUT = "set routing-instances VRF-001 interface ge-0/0/0.1\n"
         + "set routing-instances VRF-001 other-attribute ge-0/0/0.2\n"
-        + "set routing-instances VRF-001 interface ge-0/0/0.3\n";
+        + "set routing-instances VRF-001 interface ge-0/0/0.3\n"
+        + "set routing-instances VRF-002 interface ge-0/0/0.4\n";
     private static final List<String> EXPECTED_INTERFACES_NAME = Lists.newArrayList("ge-0/0/0.1", "ge-0/0/0.3");
 
     private static final String VRF_NAME = "VRF-001";
@@ -62,6 +64,7 @@ public class VrfInterfaceReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new VrfInterfaceReader(cli));
     }
 
@@ -71,7 +74,7 @@ public class VrfInterfaceReaderTest {
 
         Mockito.doReturn(SH_VRF_INTERFACES_OUTPUT).when(target)
                 .blockingRead(
-                    Mockito.eq(SH_VRF_INTERFACES),
+                    Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                     Mockito.eq(cli),
                     Mockito.eq(iid),
                     Mockito.eq(readContext));
@@ -86,7 +89,7 @@ public class VrfInterfaceReaderTest {
             CoreMatchers.equalTo(EXPECTED_INTERFACES_NAME));
 
         Mockito.verify(target, Mockito.times(1)).blockingRead(
-            SH_VRF_INTERFACES,
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -54,7 +55,7 @@ public class AreaInterfaceReader implements CliConfigListReader<Interface, Inter
         AreaKey areaKey = instanceIdentifier.firstKeyOf(Area.class);
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
 
-        String output = blockingRead(String.format(SHOW_OSPF_INT, nwInsName,
+        String output = DisplaySetIndex.blockingRead(this, String.format(SHOW_OSPF_INT, nwInsName,
                 areaIdToString(areaKey.getIdentifier())), cli, instanceIdentifier, readContext);
         return parseInterfaceIds(output);
     }
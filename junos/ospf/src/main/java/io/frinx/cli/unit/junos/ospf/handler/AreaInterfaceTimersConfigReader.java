@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -52,7 +53,7 @@ public class AreaInterfaceTimersConfigReader implements CliConfigReader<Config,
         final String areaId = AreaInterfaceReader.areaIdToString(instanceIdentifier.firstKeyOf(Area.class)
                 .getIdentifier());
 
-        String output = blockingRead(String.format(SHOW_OSPF_INT, areaId, interfaceId), cli,
+        String output = DisplaySetIndex.blockingRead(this, String.format(SHOW_OSPF_INT, areaId, interfaceId), cli,
                 instanceIdentifier, readContext);
         parseRetransmit(output, configBuilder);
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -51,7 +52,7 @@ public class OspfAreaReader implements CliConfigListReader<Area, AreaKey, AreaBu
                                           @Nonnull ReadContext readContext) throws ReadFailedException {
         String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
 
-        return parseAreasIds(blockingRead(String.format(SH_RUN_OSPF_AREA, nwInsName),
+        return parseAreasIds(DisplaySetIndex.blockingRead(this, String.format(SH_RUN_OSPF_AREA, nwInsName),
                 cli, instanceIdentifier, readContext));
     }
 
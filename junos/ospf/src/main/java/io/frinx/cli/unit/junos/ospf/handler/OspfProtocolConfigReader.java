@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
@@ -60,7 +61,7 @@ public class OspfProtocolConfigReader implements CliConfigReader<Config, ConfigB
 
         final String nwInsName = OspfProtocolReader.resolveVrfWithName(instanceIdentifier);
         ProtocolConfAugBuilder builder = new ProtocolConfAugBuilder();
-        String output = blockingRead(String.format(SHOW_EXPORT_POLICY, nwInsName), cli,
+        String output = DisplaySetIndex.blockingRead(this, String.format(SHOW_EXPORT_POLICY, nwInsName), cli,
                 instanceIdentifier, readContext);
         parseExportPolicy(output, builder);
         configBuilder.addAugmentation(ProtocolConfAug.class, builder.build());
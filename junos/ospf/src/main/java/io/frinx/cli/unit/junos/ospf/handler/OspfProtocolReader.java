@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.cli.unit.utils.CliListReader;
 import io.frinx.openconfig.network.instance.NetworInstance;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
@@ -59,8 +60,8 @@ public class OspfProtocolReader implements CliListReader<Protocol, ProtocolKey,
             throws ReadFailedException {
         List<ProtocolKey> rtn = new ArrayList<>();
 
-        String output = blockingRead(SH_RUN_OSPF, cli, instanceIdentifier, readContext);
-        String outputVrf = blockingRead(SH_RUN_OSPF_VRF, cli, instanceIdentifier, readContext);
+        String output = DisplaySetIndex.blockingRead(this, SH_RUN_OSPF, cli, instanceIdentifier, readContext);
+        String outputVrf = DisplaySetIndex.blockingRead(this, SH_RUN_OSPF_VRF, cli, instanceIdentifier, readContext);
         if (StringUtils.isNotEmpty(output) || StringUtils.isNotEmpty(outputVrf)) {
             rtn.add(new ProtocolKey(OSPF.class, OSPF_NAME));
         }
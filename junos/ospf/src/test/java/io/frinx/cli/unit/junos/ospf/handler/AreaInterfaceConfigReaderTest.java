@@ -16,8 +16,10 @@
 
 package io.frinx.cli.unit.junos.ospf.handler;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
@@ -75,6 +77,7 @@ public class AreaInterfaceConfigReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new AreaInterfaceConfigReader(cli));
     }
 
@@ -95,8 +98,7 @@ public class AreaInterfaceConfigReaderTest {
                 .child(Config.class);
 
         Mockito.doReturn(OUTPUT_AREAS).when(target).blockingRead(
-                Mockito.eq(String.format(AreaInterfaceConfigReader.SHOW_OSPF_INT,
-                        String.format(" routing-instances %s", vrfName), areaName, ifName)),
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.ospf.handler;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
@@ -79,6 +81,7 @@ public class AreaInterfaceReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new AreaInterfaceReader(cli));
     }
 
@@ -95,8 +98,7 @@ public class AreaInterfaceReaderTest {
                 .child(Interface.class);
 
         Mockito.doReturn(OUTPUT_AREAS).when(target).blockingRead(
-                Mockito.eq(String.format(AreaInterfaceReader.SHOW_OSPF_INT, " routing-instances APTN",
-                        "10.51.246.21")),
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -106,8 +108,7 @@ public class AreaInterfaceReaderTest {
         Assert.assertThat(result, CoreMatchers.equalTo(EXPECTED_INTERFACE_KEYS));
 
         Mockito.verify(target, Mockito.times(1)).blockingRead(
-            String.format(String.format(AreaInterfaceReader.SHOW_OSPF_INT, " routing-instances APTN",
-                    "10.51.246.21")),
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
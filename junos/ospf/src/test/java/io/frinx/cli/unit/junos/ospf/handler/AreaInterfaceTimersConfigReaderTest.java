@@ -16,8 +16,10 @@
 
 package io.frinx.cli.unit.junos.ospf.handler;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
@@ -54,11 +56,11 @@ public class AreaInterfaceTimersConfigReaderTest {
     private AreaInterfaceTimersConfigReader target;
     private static final String OUTPUT_TIERS =
             "set protocols ospf area 10.1.2.12 interface 235.0.0.0 retransmit-interval 151\r\n";
-    private static final String SH_RUN_OSPF = "show configuration protocols ospf area";
 
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new AreaInterfaceTimersConfigReader(cli));
     }
 
@@ -81,12 +83,7 @@ public class AreaInterfaceTimersConfigReaderTest {
                 .child(Config.class);
 
         Mockito.doReturn(OUTPUT_TIERS).when(target).blockingRead(
-            Mockito.eq(String.format(AreaInterfaceTimersConfigReader.SHOW_OSPF_INT, areaName, ifName)),
-            Mockito.eq(cli),
-            Mockito.eq(iid),
-            Mockito.eq(readContext));
-        Mockito.doReturn(OUTPUT_TIERS).when(target).blockingRead(
-                Mockito.eq(SH_RUN_OSPF),
+            Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.ospf.handler;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
@@ -76,6 +78,7 @@ public class OspfAreaReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new OspfAreaReader(cli));
     }
 
@@ -90,7 +93,7 @@ public class OspfAreaReaderTest {
                 .child(Area.class);
 
         Mockito.doReturn(OUTPUT_AREAS).when(target).blockingRead(
-                Mockito.eq(String.format(OspfAreaReader.SH_RUN_OSPF_AREA, " routing-instances APTN")),
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -100,7 +103,7 @@ public class OspfAreaReaderTest {
         Assert.assertThat(result, CoreMatchers.equalTo(EXPECTED_AREA_KEYS));
 
         Mockito.verify(target, Mockito.times(1)).blockingRead(
-            String.format(OspfAreaReader.SH_RUN_OSPF_AREA, " routing-instances APTN"),
+            DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.ospf.handler;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
@@ -71,6 +73,7 @@ public class OspfProtocolConfigReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new OspfProtocolConfigReader(cli));
     }
 
@@ -84,7 +87,7 @@ public class OspfProtocolConfigReaderTest {
                 .child(Config.class);
 
         Mockito.doReturn(OUTPUT).when(target).blockingRead(
-                Mockito.eq(String.format(OspfProtocolConfigReader.SHOW_EXPORT_POLICY, " routing-instances APTN")),
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -17,8 +17,10 @@
 package io.frinx.cli.unit.junos.ospf.handler;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.junos.init.config.DisplaySetIndex;
 import io.frinx.openconfig.openconfig.network.instance.IIDs;
 import java.util.List;
 import org.hamcrest.CoreMatchers;
@@ -70,6 +72,7 @@ public class OspfProtocolReaderTest {
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
         target = Mockito.spy(new OspfProtocolReader(cli));
     }
 
@@ -80,13 +83,8 @@ public class OspfProtocolReaderTest {
                 .child(Protocols.class)
                 .child(Protocol.class);
 
-        Mockito.doReturn(OUTPUT_VRF_PROTOCOLS).when(target).blockingRead(
-                Mockito.eq(OspfProtocolReader.SH_RUN_OSPF_VRF),
-                Mockito.eq(cli),
-                Mockito.eq(iid),
-                Mockito.eq(readContext));
-        Mockito.doReturn(OUTPUT_DEFAULT_PROTOCOLS).when(target).blockingRead(
-                Mockito.eq(OspfProtocolReader.SH_RUN_OSPF),
+        Mockito.doReturn(OUTPUT_DEFAULT_PROTOCOLS + OUTPUT_VRF_PROTOCOLS).when(target).blockingRead(
+                Mockito.eq(DisplaySetIndex.SH_CONFIGURATION),
                 Mockito.eq(cli),
                 Mockito.eq(iid),
                 Mockito.eq(readContext));
@@ -96,7 +94,7 @@ public class OspfProtocolReaderTest {
         Assert.assertThat(result, CoreMatchers.equalTo(EXPECTED_PROTOCOL_KEYS));
 
         Mockito.verify(target, Mockito.times(1)).blockingRead(
-                OspfProtocolReader.SH_RUN_OSPF_VRF,
+                DisplaySetIndex.SH_CONFIGURATION,
             cli,
             iid,
             readContext);
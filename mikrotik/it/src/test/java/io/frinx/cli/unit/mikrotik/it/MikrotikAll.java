@@ -18,22 +18,16 @@ package io.frinx.cli.unit.mikrotik.it;
 import io.frinx.cli.registry.impl.TranslateRegistryImpl;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
 import io.frinx.cli.unit.ios.it.IosAll;
+import io.frinx.cli.unit.ios.it.sim.SimulatedDevice;
+import io.frinx.cli.unit.ios.it.sim.Transcript;
 import io.frinx.cli.unit.mikrotik.init.MikrotikCliInitializerUnit;
-import io.frinx.cli.unit.mikrotik.init.MikrotikDevices;
-import java.net.InetSocketAddress;
+import java.io.IOException;
 import java.util.concurrent.CompletionStage;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNode;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeConnectionParameters;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.credentials.credentials.LoginPasswordBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.keepalive.keepalive.strategy.KeepaliveBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.Device;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.DeviceIdBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.unit.generic.rev191119.ExecuteAndReadInput;
@@ -49,33 +43,11 @@ public class MikrotikAll extends IosAll {
             .setDeviceVersion("*")
             .build();
 
-    private static final int PORT = 22;
-    private static final String HOST = "172.16.146.130";
-    private static final InetSocketAddress IOS_ADDR = new InetSocketAddress(HOST, PORT);
-
     public MikrotikAll() {
         // Set false to not fail immediately when a read exception occurs
         this.failFast = false;
     }
 
-    private static final CliNode CLI_CFG = new CliNodeBuilder()
-            .setPort(new PortNumber(PORT))
-            .setHost(new Host(new IpAddress(new Ipv4Address(HOST))))
-            .setDeviceType(MikrotikDevices.MIKROTIK_GENERIC.getDeviceType())
-            .setDeviceVersion(MikrotikDevices.MIKROTIK_GENERIC.getDeviceVersion())
-            .setTransportType(CliNodeConnectionParameters.TransportType.Ssh)
-            .setCredentials(new LoginPasswordBuilder()
-                    .setUsername("admin")
-                    .setPassword("admin")
-                    .build())
-            .setKeepaliveStrategy(new KeepaliveBuilder()
-                    .setKeepaliveDelay(30)
-                    .setKeepaliveTimeout(30)
-                    .setKeepaliveInitialDelay(30)
-                    .build())
-            .build();
-
-
     @Override
     protected Device getDeviceId() {
         return IOS_ALL;
@@ -83,11 +55,19 @@ public class MikrotikAll extends IosAll {
 
     @Override
     protected CliNode getCliNode() {
-        return CLI_CFG;
+        return cliNode(CliNodeConnectionParameters.TransportType.Ssh, "admin", "admin");
     }
 
-    protected InetSocketAddress getAddress() {
-        return IOS_ADDR;
+    @Override
+    protected SimulatedDevice createDevice() throws IOException {
+        return SimulatedDevice.builder("mikrotik")
+                .prompt("[admin@MikroTik] > ")
+                // console login options are appended to the user name, see MikrotikCliInitializerUnit
+                .login("admin+tc", "admin")
+                .unknownCommandOutput("bad command name\r\n")
+                .latency(DEVICE_LATENCY)
+                .transcript(Transcript.fromResource("/sim/mikrotik.transcript"))
+                .start();
     }
 
     @Override
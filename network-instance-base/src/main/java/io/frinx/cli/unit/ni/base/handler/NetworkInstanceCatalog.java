@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ni.base.handler;
+
+import com.google.common.collect.ImmutableList;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.NETWORKINSTANCETYPE;
+
+/**
+ * Network instances of a device by type, shared by all network-instance readers within one read transaction.
+ *
+ * <p>Every child of a composite network-instance reader loads instances of its type from its read command at most
+ * once per {@link ReadContext}. Its type checks ("is this instance an L3VRF?") and per-instance config readers are
+ * then answered by hash lookups instead of parsing the command output again for every network instance.
+ *
+ * <p>Instances are loaded per type and source, the source being the command the instances were parsed from.
+ * Together with the instance names, a loader may keep attributes parsed from the same output, e.g. configuration
+ * lines of each instance.
+ */
+public final class NetworkInstanceCatalog {
+
+    private final Map<Object, Instances<?>> instances = new HashMap<>();
+    private final Map<NetworkInstanceKey, Set<Class<? extends NETWORKINSTANCETYPE>>> types = new HashMap<>();
+
+    private NetworkInstanceCatalog() {
+
+    }
+
+    /**
+     * Loads instances with attributes parsed from the same output.
+     */
+    @FunctionalInterface
+    public interface Loader<T> {
+        Map<NetworkInstanceKey, T> load() throws ReadFailedException;
+    }
+
+    /**
+     * Loads instance keys only.
+     */
+    @FunctionalInterface
+    public interface KeyLoader {
+        List<NetworkInstanceKey> load() throws ReadFailedException;
+    }
+
+    /**
+     * Catalog of current read transaction.
+     */
+    @Nonnull
+    public static NetworkInstanceCatalog get(@Nonnull ReadContext readContext) {
+        NetworkInstanceCatalog catalog =
+                (NetworkInstanceCatalog) readContext.getModificationCache().get(NetworkInstanceCatalog.class);
+        if (catalog == null) {
+            catalog = new NetworkInstanceCatalog();
+            readContext.getModificationCache().put(NetworkInstanceCatalog.class, catalog);
+        }
+        return catalog;
+    }
+
+    /**
+     * Instances of a type with their attributes, loaded on first request.
+     *
+     * @param type type of the instances
+     * @param source command the instances are parsed from
+     * @param loader loader of the instances, in device order
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public synchronized <T> Instances<T> getInstances(@Nonnull Class<? extends NETWORKINSTANCETYPE> type,
+                                                      @Nonnull String source,
+                                                      @Nonnull Loader<T> loader) throws ReadFailedException {
+        Object key = new AbstractMap.SimpleEntry<>(type, source);
+        Instances<T> loaded = (Instances<T>) instances.get(key);
+        if (loaded == null) {
+            loaded = new Instances<>(loader.load());
+            instances.put(key, loaded);
+            for (NetworkInstanceKey name : loaded.getKeys()) {
+                types.computeIfAbsent(name, n -> new LinkedHashSet<>()).add(type);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Instances of a type without attributes, loaded on first request.
+     *
+     * @param type type of the instances
+     * @param source command the instances are parsed from
+     * @param loader loader of the instance keys, in device order; duplicates are ignored
+     */
+    @Nonnull
+    public Instances<NetworkInstanceKey> getKeys(@Nonnull Class<? extends NETWORKINSTANCETYPE> type,
+                                                 @Nonnull String source,
+                                                 @Nonnull KeyLoader loader) throws ReadFailedException {
+        return getInstances(type, source, () -> {
+            Map<NetworkInstanceKey, NetworkInstanceKey> keys = new LinkedHashMap<>();
+            loader.load().forEach(name -> keys.putIfAbsent(name, name));
+            return keys;
+        });
+    }
+
+    /**
+     * Types of the instance among the instances loaded so far.
+     */
+    @Nonnull
+    public synchronized Set<Class<? extends NETWORKINSTANCETYPE>> getTypes(@Nonnull NetworkInstanceKey name) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(types.getOrDefault(name, Collections.emptySet())));
+    }
+
+    /**
+     * Network instances of one type, in device order.
+     */
+    public static final class Instances<T> {
+
+        private final Map<NetworkInstanceKey, T> attributes;
+        private final List<NetworkInstanceKey> keys;
+
+        private Instances(Map<NetworkInstanceKey, T> attributes) {
+            this.attributes = new HashMap<>(attributes);
+            this.keys = ImmutableList.copyOf(attributes.keySet());
+        }
+
+        @Nonnull
+        public List<NetworkInstanceKey> getKeys() {
+            return keys;
+        }
+
+        public boolean contains(@Nonnull NetworkInstanceKey name) {
+            return attributes.containsKey(name);
+        }
+
+        /**
+         * Attributes of the instance, empty if there is no such instance.
+         */
+        @Nonnull
+        public Optional<T> get(@Nonnull NetworkInstanceKey name) {
+            return Optional.ofNullable(attributes.get(name));
+        }
+    }
+}
@@ -22,16 +22,19 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ni.base.handler.NetworkInstanceCatalog;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeListReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L2P2P;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public abstract class AbstractL2P2PReader
@@ -53,9 +56,13 @@ public abstract class AbstractL2P2PReader
     @Override
     public List<NetworkInstanceKey> getAllIds(@Nonnull InstanceIdentifier<NetworkInstance> instanceIdentifier,
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
-        return getAllIds(instanceIdentifier, readContext, this);
+        return new ArrayList<>(getP2Ps(instanceIdentifier, readContext).getKeys());
     }
 
+    /**
+     * L2P2P instances parsed from output of read commands by reader. Unlike {@link #getAllIds(InstanceIdentifier,
+     * ReadContext)} the output is always parsed again, not shared through {@link NetworkInstanceCatalog}.
+     */
     public List<NetworkInstanceKey> getAllIds(@Nonnull InstanceIdentifier<?> instanceIdentifier,
                                                  @Nonnull ReadContext ctx,
                                                  @Nonnull CliReader reader) throws ReadFailedException {
@@ -94,7 +101,15 @@ public abstract class AbstractL2P2PReader
     protected abstract Pattern getLocalRemoteLine();
 
     public boolean isP2P(InstanceIdentifier<?> id, ReadContext readContext) throws ReadFailedException {
-        return getAllIds(id, readContext, this).contains(id.firstKeyOf(NetworkInstance.class));
+        return getP2Ps(id, readContext).contains(id.firstKeyOf(NetworkInstance.class));
+    }
+
+    private NetworkInstanceCatalog.Instances<NetworkInstanceKey> getP2Ps(InstanceIdentifier<?> id,
+                                                                        ReadContext readContext)
+            throws ReadFailedException {
+        return NetworkInstanceCatalog.get(readContext).getKeys(L2P2P.class,
+                getReadLocalRemoteCommand() + "\n" + getReadLocalLocalCommand(),
+                () -> getAllIds(id, readContext, this));
     }
 
     @Override
@@ -23,6 +23,7 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.handlers.NetUtils;
+import io.frinx.cli.unit.ni.base.handler.NetworkInstanceCatalog;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -63,11 +64,20 @@ public abstract class AbstractL3VrfConfigReader implements CliConfigReader<Confi
             configBuilder.setName(niName);
             configBuilder.setType(L3VRF.class);
         }
-        parseVrfConfig(blockingRead(getReadCommand(), cli, instanceIdentifier, readContext), configBuilder);
+        parseVrfConfig(readVrfConfig(instanceIdentifier, readContext), configBuilder);
     }
 
     protected abstract String getReadCommand();
 
+    /**
+     * Output of read command to be parsed for a single VRF. Readers parsing the output of all VRFs can narrow it
+     * down to lines of the VRF, e.g. with attributes kept in {@link NetworkInstanceCatalog}.
+     */
+    protected String readVrfConfig(@Nonnull InstanceIdentifier<Config> instanceIdentifier,
+                                   @Nonnull ReadContext readContext) throws ReadFailedException {
+        return blockingRead(getReadCommand(), cli, instanceIdentifier, readContext);
+    }
+
     @VisibleForTesting
     public void parseVrfConfig(String output, ConfigBuilder builder) {
         ParsingUtils.parseField(output,
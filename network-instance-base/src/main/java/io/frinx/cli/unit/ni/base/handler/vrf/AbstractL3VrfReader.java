@@ -23,10 +23,12 @@ import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.fd.honeycomb.translate.util.RWUtils;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ni.base.handler.NetworkInstanceCatalog;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeListReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
@@ -34,6 +36,7 @@ import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.insta
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.network.instance.Config;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L3VRF;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public abstract class AbstractL3VrfReader
@@ -59,9 +62,13 @@ public abstract class AbstractL3VrfReader
         InstanceIdentifier<?> id = !instanceIdentifier.getTargetType().equals(NetworkInstance.class)
                 ? RWUtils.cutId(instanceIdentifier, NetworkInstance.class)
                 : instanceIdentifier;
-        return getAllIds(this, id, readContext);
+        return new ArrayList<>(getVrfs(id, readContext).getKeys());
     }
 
+    /**
+     * L3 VRFs parsed from output of read command by reader. Unlike {@link #getAllIds(InstanceIdentifier,
+     * ReadContext)} the output is always parsed again, not shared through {@link NetworkInstanceCatalog}.
+     */
     public List<NetworkInstanceKey> getAllIds(CliReader cliReader, InstanceIdentifier<?> id, ReadContext ctx)
             throws ReadFailedException {
         String output = cliReader.blockingRead(getReadCommand(), cli, id, ctx);
@@ -78,7 +85,12 @@ public abstract class AbstractL3VrfReader
     @VisibleForTesting
     public boolean isL3Vrf(NetworkInstanceKey name, InstanceIdentifier<Config> instanceIdentifier, ReadContext ctx)
             throws ReadFailedException {
-        return getAllIds(this, instanceIdentifier, ctx).contains(name);
+        return getVrfs(instanceIdentifier, ctx).contains(name);
+    }
+
+    private NetworkInstanceCatalog.Instances<NetworkInstanceKey> getVrfs(InstanceIdentifier<?> id, ReadContext ctx)
+            throws ReadFailedException {
+        return NetworkInstanceCatalog.get(ctx).getKeys(L3VRF.class, getReadCommand(), () -> getAllIds(this, id, ctx));
     }
 
     @Override
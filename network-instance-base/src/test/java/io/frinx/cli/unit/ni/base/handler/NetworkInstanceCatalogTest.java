@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.ni.base.handler;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L2VSI;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L3VRF;
+
+public class NetworkInstanceCatalogTest {
+
+    private static final NetworkInstanceKey VRF_1 = new NetworkInstanceKey("VRF_1");
+    private static final NetworkInstanceKey VRF_2 = new NetworkInstanceKey("VRF_2");
+    private static final NetworkInstanceKey VSI = new NetworkInstanceKey("VSI");
+
+    private ReadContext readContext;
+
+    @Before
+    public void setUp() {
+        readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+    }
+
+    @Test
+    public void testKeysLoadedOncePerReadContext() throws ReadFailedException {
+        AtomicInteger loads = new AtomicInteger();
+        NetworkInstanceCatalog.KeyLoader loader = () -> {
+            loads.incrementAndGet();
+            return Arrays.asList(VRF_2, VRF_1, VRF_2);
+        };
+
+        NetworkInstanceCatalog.Instances<NetworkInstanceKey> vrfs =
+                NetworkInstanceCatalog.get(readContext).getKeys(L3VRF.class, "show vrf", loader);
+        Assert.assertEquals(Arrays.asList(VRF_2, VRF_1), vrfs.getKeys());
+        Assert.assertTrue(vrfs.contains(VRF_1));
+        Assert.assertFalse(vrfs.contains(VSI));
+
+        Assert.assertSame(vrfs, NetworkInstanceCatalog.get(readContext).getKeys(L3VRF.class, "show vrf", loader));
+        Assert.assertEquals(1, loads.get());
+
+        NetworkInstanceCatalog.get(readContext).getKeys(L3VRF.class, "show vrf detail", loader);
+        Assert.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testAttributesAndTypes() throws ReadFailedException {
+        NetworkInstanceCatalog catalog = NetworkInstanceCatalog.get(readContext);
+        NetworkInstanceCatalog.Instances<String> vrfs = catalog.getInstances(L3VRF.class, "show vrf", () -> {
+            Map<NetworkInstanceKey, String> configs = new LinkedHashMap<>();
+            configs.put(VRF_1, "rd 1:1");
+            configs.put(VSI, "");
+            return configs;
+        });
+        catalog.getKeys(L2VSI.class, "show vsi", () -> Collections.singletonList(VSI));
+
+        Assert.assertEquals("rd 1:1", vrfs.get(VRF_1).get());
+        Assert.assertFalse(vrfs.get(VRF_2).isPresent());
+        Assert.assertEquals(Collections.singleton(L3VRF.class), catalog.getTypes(VRF_1));
+        Assert.assertEquals(2, catalog.getTypes(VSI).size());
+        Assert.assertTrue(catalog.getTypes(VRF_2).isEmpty());
+    }
+}
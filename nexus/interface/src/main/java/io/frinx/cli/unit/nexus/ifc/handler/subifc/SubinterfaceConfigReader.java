@@ -18,6 +18,7 @@ package io.frinx.cli.unit.nexus.ifc.handler.subifc;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.AbstractSubinterfaceConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
 import io.frinx.cli.unit.nexus.ifc.Util;
 import io.frinx.cli.unit.nexus.ifc.handler.InterfaceConfigReader;
 import java.util.regex.Pattern;
@@ -49,4 +50,9 @@ public final class SubinterfaceConfigReader extends AbstractSubinterfaceConfigRe
     protected Pattern getDescriptionLine() {
         return InterfaceConfigReader.DESCR_LINE;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
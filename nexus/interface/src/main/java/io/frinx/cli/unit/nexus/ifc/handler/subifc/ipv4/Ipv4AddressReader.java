@@ -18,6 +18,8 @@ package io.frinx.cli.unit.nexus.ifc.handler.subifc.ipv4;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.nexus.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
@@ -39,4 +41,9 @@ public final class Ipv4AddressReader extends AbstractIpv4AddressesReader {
     protected Pattern getIpLine() {
         return INTERFACE_IP_LINE;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
@@ -18,6 +18,8 @@ package io.frinx.cli.unit.nexus.ifc.handler.subifc.ipv4;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip4.AbstractIpv4ConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.nexus.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
@@ -35,4 +37,9 @@ public final class Ipv4ConfigReader extends AbstractIpv4ConfigReader {
     protected String getReadCommand(String ifcName, Long subId) {
         return f(Ipv4AddressReader.SH_RUN_INT_IP, ifcName);
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
@@ -18,6 +18,8 @@ package io.frinx.cli.unit.nexus.ifc.handler.subifc.ipv6;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6AddressesReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.nexus.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv6AddressReader extends AbstractIpv6AddressesReader {
@@ -38,4 +40,9 @@ public final class Ipv6AddressReader extends AbstractIpv6AddressesReader {
     protected Pattern getLocalIpLine() {
         return INTERFACE_IP_LINE;
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
@@ -18,6 +18,8 @@ package io.frinx.cli.unit.nexus.ifc.handler.subifc.ipv6;
 
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.ifc.base.handler.subifc.ip6.AbstractIpv6ConfigReader;
+import io.frinx.cli.unit.ifc.base.util.InterfaceBlockRules;
+import io.frinx.cli.unit.nexus.ifc.Util;
 import java.util.regex.Pattern;
 
 public final class Ipv6ConfigReader extends AbstractIpv6ConfigReader {
@@ -37,4 +39,9 @@ public final class Ipv6ConfigReader extends AbstractIpv6ConfigReader {
     protected String getReadCommand(String ifcName) {
         return f(Ipv6AddressReader.SH_INTERFACE_IP, ifcName);
     }
+
+    @Override
+    protected InterfaceBlockRules getInterfaceBlockRules() {
+        return Util.INTERFACE_BLOCKS;
+    }
 }
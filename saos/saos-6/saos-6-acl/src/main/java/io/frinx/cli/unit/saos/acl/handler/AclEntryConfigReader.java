@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -46,7 +47,8 @@ public class AclEntryConfigReader implements CliConfigReader<Config, ConfigBuild
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         String aclSetName = instanceIdentifier.firstKeyOf(AclSet.class).getName();
         Long sequenceId = instanceIdentifier.firstKeyOf(AclEntry.class).getSequenceId();
-        String output = blockingRead(AclSetReader.SHOW_COMMAND, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, AclSetReader.SHOW_COMMAND,
+                cli, instanceIdentifier, readContext);
 
         parseConfig(output, configBuilder, aclSetName, sequenceId);
     }
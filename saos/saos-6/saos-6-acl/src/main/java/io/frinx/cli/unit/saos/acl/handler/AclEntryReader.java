@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -44,7 +45,8 @@ public class AclEntryReader implements CliConfigListReader<AclEntry, AclEntryKey
     public List<AclEntryKey> getAllIds(@Nonnull InstanceIdentifier<AclEntry> instanceIdentifier,
                                        @Nonnull ReadContext readContext) throws ReadFailedException {
         String aclSetName = instanceIdentifier.firstKeyOf(AclSet.class).getName();
-        return getAllIds(blockingRead(AclSetReader.SHOW_COMMAND, cli, instanceIdentifier, readContext), aclSetName);
+        return getAllIds(ConfigurationSnapshot.blockingRead(this, AclSetReader.SHOW_COMMAND,
+                cli, instanceIdentifier, readContext), aclSetName);
     }
 
     @VisibleForTesting
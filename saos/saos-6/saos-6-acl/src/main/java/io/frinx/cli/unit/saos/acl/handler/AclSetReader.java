@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -46,7 +47,7 @@ public class AclSetReader implements CliConfigListReader<AclSet, AclSetKey, AclS
     @Override
     public List<AclSetKey> getAllIds(@Nonnull InstanceIdentifier<AclSet> id,
                                      @Nonnull ReadContext context) throws ReadFailedException {
-        return getAllIds(blockingRead(SHOW_COMMAND, cli, id, context));
+        return getAllIds(ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND, cli, id, context));
     }
 
     @VisibleForTesting
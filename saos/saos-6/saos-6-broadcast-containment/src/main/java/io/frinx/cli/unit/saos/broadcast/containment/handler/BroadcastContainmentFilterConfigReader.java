@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.math.BigInteger;
@@ -53,7 +54,7 @@ public class BroadcastContainmentFilterConfigReader implements CliConfigReader<C
         String filterName = instanceIdentifier.firstKeyOf(Filter.class).getName();
         String outputForFilter = "configuration search string \"broadcast-containment create filter "
                 + filterName + "\"";
-        String output = blockingRead(outputForFilter, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, outputForFilter, cli, instanceIdentifier, readContext);
         configBuilder.setName(filterName);
         parseAttributes(output, configBuilder);
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -59,7 +60,7 @@ public class BroadcastContainmentFilterInterfaceReader
                                      @Nonnull ReadContext readContext) throws ReadFailedException {
         String outputForFilter = "configuration search string \"broadcast-containment add filter "
                 + filterName + "\"";
-        String output = cliReader.blockingRead(outputForFilter, cli, id, readContext);
+        String output = ConfigurationSnapshot.blockingRead(cliReader, outputForFilter, cli, id, readContext);
         List<String> interfaceKeys = new ArrayList<>();
         ParsingUtils.parseFields(output, 0,
             BC_FILTER_PORTS_LINE_PATTERN::matcher,
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -54,8 +55,8 @@ public class BroadcastContainmentFilterReader implements CliConfigListReader<Fil
                                               @Nonnull InstanceIdentifier<?> id,
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
 
-        String output = cliReader.blockingRead(BroadcastContainmentReader.SH_BROADCAST_CONTAINMENT,
-                cli, id, readContext);
+        String output = ConfigurationSnapshot.blockingRead(cliReader,
+                BroadcastContainmentReader.SH_BROADCAST_CONTAINMENT, cli, id, readContext);
         return ParsingUtils.parseFields(output, 0,
             BC_FILTER_LINE_PATTERN::matcher,
             m -> m.group("filter"),
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -46,7 +47,8 @@ public class BroadcastContainmentReader implements CliConfigReader<Filters, Filt
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<Filters> instanceIdentifier,
                                       @Nonnull FiltersBuilder filtersBuilder,
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(SH_BROADCAST_CONTAINMENT, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, SH_BROADCAST_CONTAINMENT,
+                cli, instanceIdentifier, readContext);
         parseEnable(output, filtersBuilder);
     }
 
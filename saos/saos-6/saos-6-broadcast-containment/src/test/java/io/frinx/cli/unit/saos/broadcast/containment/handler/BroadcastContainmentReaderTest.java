@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos.broadcast.containment.handler;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -60,6 +61,8 @@ public class BroadcastContainmentReaderTest {
     @Test
     public void getAllFilters() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -69,7 +72,7 @@ public class BroadcastContainmentReaderTest {
                 new FilterKey(FILTER)
         );
 
-        Assert.assertEquals(expected, BroadcastContainmentFilterReader.getAllIds(null, cliReader, null, null));
+        Assert.assertEquals(expected, BroadcastContainmentFilterReader.getAllIds(null, cliReader, null, readContext));
     }
 
     @Test
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.saos.init.config;
+
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import io.frinx.cli.unit.utils.ParsingUtils;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * SAOS configuration shared by all readers within one read transaction.
+ *
+ * <p>Readers of SAOS units read their "configuration search string ..." commands through
+ * {@link #blockingRead(CliReader, String, Cli, InstanceIdentifier, ReadContext)}. Whole configuration is fetched
+ * from the device only once per {@link ReadContext} and each search is evaluated locally, with the same substring
+ * semantics as the device. Lines are bucketed by every word they contain, so a search only has to check lines
+ * sharing a word with the searched string instead of the whole configuration. Commands which are not plain
+ * searches are sent to the device as usual.
+ */
+public final class ConfigurationSnapshot {
+
+    public static final String SH_CONFIGURATION = "configuration show";
+
+    private static final Pattern SEARCH = Pattern.compile("^configuration search string (\"(?<quoted>[^\"]*)\"|"
+            + "(?<word>[^\"\\s]+))$");
+    private static final Pattern WORD = Pattern.compile("\\S+");
+    private static final Object SNAPSHOT_KEY = ConfigurationSnapshot.class;
+
+    private final List<String> lines;
+    private final Map<String, BitSet> words = new HashMap<>();
+
+    private ConfigurationSnapshot(List<String> lines) {
+        this.lines = lines;
+        for (int i = 0; i < lines.size(); i++) {
+            Matcher matcher = WORD.matcher(lines.get(i));
+            while (matcher.find()) {
+                words.computeIfAbsent(matcher.group(), w -> new BitSet()).set(i);
+            }
+        }
+    }
+
+    /**
+     * Snapshot of {@link #SH_CONFIGURATION} output.
+     */
+    @Nonnull
+    public static ConfigurationSnapshot parse(@Nonnull String output) {
+        return new ConfigurationSnapshot(Collections.unmodifiableList(ParsingUtils.NEWLINE.splitAsStream(output)
+                .map(line -> line.replace("\r", ""))
+                .collect(Collectors.toList())));
+    }
+
+    /**
+     * Drop-in replacement for {@link CliReader#blockingRead(String, Cli, InstanceIdentifier, ReadContext)}.
+     *
+     * @param reader reader used to execute commands
+     * @param command command to be answered from the snapshot
+     * @param cli cli
+     * @param id id of the data being read
+     * @param readContext context of current read transaction holding the snapshot
+     * @return output of the command, as the device would have printed it
+     * @throws ReadFailedException if the configuration could not be read
+     */
+    public static String blockingRead(@Nonnull CliReader<?, ?> reader, @Nonnull String command, @Nonnull Cli cli,
+                                      @Nonnull InstanceIdentifier<?> id, @Nonnull ReadContext readContext)
+            throws ReadFailedException {
+        Optional<String> searched = parseSearch(command);
+        if (!searched.isPresent()) {
+            return reader.blockingRead(command, cli, id, readContext);
+        }
+
+        Object outputKey = new AbstractMap.SimpleEntry<>(SNAPSHOT_KEY, command);
+        String output = (String) readContext.getModificationCache().get(outputKey);
+        if (output == null) {
+            // every line is terminated by new line, same as in device output
+            output = getSnapshot(reader, cli, id, readContext).search(searched.get()).stream()
+                    .map(line -> line + "\n")
+                    .collect(Collectors.joining());
+            readContext.getModificationCache().put(outputKey, output);
+        }
+        return output;
+    }
+
+    private static ConfigurationSnapshot getSnapshot(CliReader<?, ?> reader, Cli cli, InstanceIdentifier<?> id,
+                                                     ReadContext readContext) throws ReadFailedException {
+        ConfigurationSnapshot snapshot = (ConfigurationSnapshot) readContext.getModificationCache().get(SNAPSHOT_KEY);
+        if (snapshot == null) {
+            snapshot = parse(reader.blockingRead(SH_CONFIGURATION, cli, id, readContext));
+            readContext.getModificationCache().put(SNAPSHOT_KEY, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * String searched by "configuration search string" command. Empty result means the command is not a plain
+     * search and has to be sent to the device.
+     */
+    @Nonnull
+    static Optional<String> parseSearch(@Nonnull String command) {
+        Matcher matcher = SEARCH.matcher(command.trim());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String searched = matcher.group("quoted") != null ? matcher.group("quoted") : matcher.group("word");
+        return searched.trim().isEmpty() ? Optional.empty() : Optional.of(searched);
+    }
+
+    /**
+     * Lines containing given string, in the order printed by the device.
+     */
+    @Nonnull
+    public List<String> search(@Nonnull String searched) {
+        BitSet candidates = candidates(searched);
+        List<String> result = new ArrayList<>();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (lines.get(i).contains(searched)) {
+                result.add(lines.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Lines which may contain given string. A line contains it only if the first word of the string ends one of
+     * its words, the last word of the string starts one of its words and the words in between match exactly,
+     * e.g. "port 1" can only be found in lines with a word ending with "port" (port, sub-port ...) and a word
+     * starting with "1". Lines of the rarest of these words are the candidates.
+     */
+    private BitSet candidates(String searched) {
+        String[] parts = searched.trim().split("\\s+");
+        if (parts.length == 1) {
+            return union(word -> word.contains(parts[0]));
+        }
+
+        BitSet best = union(word -> word.endsWith(parts[0]));
+        for (int i = 1; i < parts.length - 1 && best.cardinality() > 0; i++) {
+            BitSet interior = words.getOrDefault(parts[i], new BitSet());
+            best = interior.cardinality() < best.cardinality() ? interior : best;
+        }
+        BitSet last = union(word -> word.startsWith(parts[parts.length - 1]));
+        return last.cardinality() < best.cardinality() ? last : best;
+    }
+
+    private BitSet union(Predicate<String> wordFilter) {
+        BitSet union = new BitSet();
+        words.forEach((word, lineIndices) -> {
+            if (wordFilter.test(word)) {
+                union.or(lineIndices);
+            }
+        });
+        return union;
+    }
+}
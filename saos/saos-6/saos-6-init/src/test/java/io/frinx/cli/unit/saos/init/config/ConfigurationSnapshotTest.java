@@ -0,0 +1,113 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.frinx.cli.unit.saos.init.config;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.utils.CliReader;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class ConfigurationSnapshotTest {
+
+    private static final String CONFIGURATION = "! CHASSIS CONFIG\r\n"
+            + "port set port 1 max-frame-size 9216 description \"uplink\"\r\n"
+            + "port set port 10 max-frame-size 9216\r\n"
+            + "port disable port 2\r\n"
+            + "aggregation create agg LP01\r\n"
+            + "aggregation add agg LP01 port 10\r\n"
+            + "virtual-switch ethernet create vs VLAN111222 encap-fixed-dot1dpri 1 vc vc2\r\n"
+            + "virtual-switch ethernet add vs VLAN111222 port 1\r\n"
+            + "sub-port create sub-port LP01_100 parent-port LP01 classifier-precedence 100\r\n"
+            + "traffic-profiling standard-profile create port 1 profile 1 name CIA_CoS0 cir 50048\r\n"
+            + "traffic-services queuing egress-port-queue-group set queue 3 port 4 scheduler-weight 6\r\n"
+            + "log flash add filter default traffic-profiling-mgr info\r\n";
+
+    private ConfigurationSnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        snapshot = ConfigurationSnapshot.parse(CONFIGURATION);
+    }
+
+    @Test
+    public void testSearch() {
+        Assert.assertEquals(Arrays.asList(
+                "port set port 1 max-frame-size 9216 description \"uplink\"",
+                "port set port 10 max-frame-size 9216",
+                "aggregation add agg LP01 port 10",
+                "virtual-switch ethernet add vs VLAN111222 port 1",
+                "traffic-profiling standard-profile create port 1 profile 1 name CIA_CoS0 cir 50048"),
+                snapshot.search("port 1"));
+
+        // substring, not word match
+        Assert.assertEquals(Arrays.asList(
+                "traffic-profiling standard-profile create port 1 profile 1 name CIA_CoS0 cir 50048",
+                "log flash add filter default traffic-profiling-mgr info"),
+                snapshot.search("traffic-profiling"));
+        Assert.assertEquals(Collections.singletonList("port disable port 2"), snapshot.search("disable port 2"));
+        Assert.assertEquals(Collections.singletonList("virtual-switch ethernet add vs VLAN111222 port 1"),
+                snapshot.search(" vs VLAN111222 port"));
+        Assert.assertEquals(Collections.singletonList("aggregation create agg LP01"),
+                snapshot.search("aggregation create"));
+        Assert.assertEquals(Collections.emptyList(), snapshot.search("aggregation create agg LP02"));
+        Assert.assertEquals(Collections.emptyList(), snapshot.search("ort set port 100"));
+    }
+
+    @Test
+    public void testParseSearch() {
+        Assert.assertEquals("port ", ConfigurationSnapshot.parseSearch("configuration search string \"port \"").get());
+        Assert.assertEquals("access-list",
+                ConfigurationSnapshot.parseSearch("configuration search string access-list").get());
+        Assert.assertFalse(ConfigurationSnapshot.parseSearch("configuration search running-config string "
+                + "\"traffic-profiling\"").isPresent());
+        Assert.assertFalse(ConfigurationSnapshot.parseSearch("configuration search string \" \"").isPresent());
+        Assert.assertFalse(ConfigurationSnapshot.parseSearch("port show port 1").isPresent());
+    }
+
+    @Test
+    public void testConfigurationReadOncePerContext() throws Exception {
+        CliReader reader = Mockito.mock(CliReader.class);
+        Cli cli = Mockito.mock(Cli.class);
+        InstanceIdentifier id = Mockito.mock(InstanceIdentifier.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
+        Mockito.when(reader.blockingRead(ConfigurationSnapshot.SH_CONFIGURATION, cli, id, readContext))
+                .thenReturn(CONFIGURATION);
+        Mockito.when(reader.blockingRead("port show", cli, id, readContext))
+                .thenReturn("| 1 | Up |");
+
+        Assert.assertEquals("port disable port 2\n", ConfigurationSnapshot.blockingRead(reader,
+                "configuration search string \"port 2\"", cli, id, readContext));
+        Assert.assertEquals("aggregation create agg LP01\n", ConfigurationSnapshot.blockingRead(reader,
+                "configuration search string \"aggregation create\"", cli, id, readContext));
+        Assert.assertEquals("", ConfigurationSnapshot.blockingRead(reader,
+                "configuration search string \"ring\"", cli, id, readContext));
+        Assert.assertEquals("| 1 | Up |",
+                ConfigurationSnapshot.blockingRead(reader, "port show", cli, id, readContext));
+
+        Mockito.verify(reader, Mockito.times(1))
+                .blockingRead(ConfigurationSnapshot.SH_CONFIGURATION, cli, id, readContext);
+        Mockito.verify(reader, Mockito.times(1)).blockingRead("port show", cli, id, readContext);
+    }
+}
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Optional;
@@ -55,8 +56,9 @@ public class InterfaceConfigReader implements CliConfigReader<Config, ConfigBuil
                                       @Nonnull final ConfigBuilder builder,
                                       @Nonnull final ReadContext ctx) throws ReadFailedException {
         String ifcName = id.firstKeyOf(Interface.class).getName();
-        parseInterface(blockingRead(f(SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx), builder, ifcName);
-        parseType(blockingRead(f(SH_TYPE, ifcName), cli, id, ctx), builder, ifcName);
+        parseInterface(ConfigurationSnapshot.blockingRead(this, f(SH_SINGLE_INTERFACE_CFG, ifcName),
+                cli, id, ctx), builder, ifcName);
+        parseType(ConfigurationSnapshot.blockingRead(this, f(SH_TYPE, ifcName), cli, id, ctx), builder, ifcName);
     }
 
     @VisibleForTesting
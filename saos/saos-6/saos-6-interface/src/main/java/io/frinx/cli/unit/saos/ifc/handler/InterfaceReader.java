@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.Arrays;
@@ -51,7 +52,8 @@ public class InterfaceReader implements CliConfigListReader<Interface, Interface
     @Override
     public List<InterfaceKey> getAllIds(@Nonnull InstanceIdentifier<Interface> instanceIdentifier,
                                         @Nonnull ReadContext readContext) throws ReadFailedException {
-        return getAllIds(blockingRead(SH_PORTS + LAG_PORTS, cli, instanceIdentifier, readContext));
+        return getAllIds(ConfigurationSnapshot.blockingRead(this, SH_PORTS, cli, instanceIdentifier, readContext)
+                + ConfigurationSnapshot.blockingRead(this, LAG_PORTS, cli, instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
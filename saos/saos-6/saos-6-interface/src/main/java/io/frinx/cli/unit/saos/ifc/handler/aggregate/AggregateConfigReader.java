@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.saos.ifc.handler.InterfaceReader;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -43,7 +44,8 @@ public class AggregateConfigReader  implements CliConfigReader<Config1, Config1B
                                       @Nonnull Config1Builder config1Builder,
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         String ifcName = instanceIdentifier.firstKeyOf(Interface.class).getName();
-        String output = blockingRead(InterfaceReader.SH_PORTS, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, InterfaceReader.SH_PORTS,
+                cli, instanceIdentifier, readContext);
         parseConfig(output, config1Builder, ifcName);
     }
 
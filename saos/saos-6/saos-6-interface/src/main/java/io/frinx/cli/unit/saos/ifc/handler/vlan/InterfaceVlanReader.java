@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.saos.ifc.handler.InterfaceConfigReader;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.ArrayList;
@@ -48,7 +49,8 @@ public class InterfaceVlanReader implements CliConfigReader<Config, ConfigBuilde
                                       @Nonnull ConfigBuilder configBuilder,
                                       @Nonnull ReadContext ctx) throws ReadFailedException {
         String ifcName = id.firstKeyOf(Interface.class).getName();
-        setVlanIds(blockingRead(f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName), cli, id, ctx),
+        setVlanIds(ConfigurationSnapshot.blockingRead(this, f(InterfaceConfigReader.SH_SINGLE_INTERFACE_CFG, ifcName),
+                cli, id, ctx),
                 configBuilder, ifcName);
     }
 
@@ -17,21 +17,16 @@ package io.frinx.cli.unit.saos.it;
 
 import io.frinx.cli.registry.impl.TranslateRegistryImpl;
 import io.frinx.cli.unit.generic.GenericTranslateUnit;
+import io.frinx.cli.unit.ios.it.sim.SimulatedDevice;
+import io.frinx.cli.unit.ios.it.sim.Transcript;
 import io.frinx.cli.unit.saos.conf.ConfigurationUnit;
 import io.frinx.cli.unit.saos.init.SaosCliInitializerUnit;
-import java.net.InetSocketAddress;
+import java.io.IOException;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.opendaylight.controller.md.sal.binding.api.DataBroker;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Host;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpAddress;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Address;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNode;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.CliNodeConnectionParameters;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.credentials.credentials.LoginPasswordBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.topology.rev170520.cli.node.keepalive.keepalive.strategy.KeepaliveBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.Device;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.cli.translate.registry.rev170520.DeviceIdBuilder;
 
@@ -42,32 +37,11 @@ public class SaosAll extends io.frinx.cli.unit.ios.it.IosAll {
             .setDeviceVersion("*")
             .build();
 
-    private static final int PORT = 22;
-    private static final String HOST = "172.16.1.100";
-    private static final InetSocketAddress ADDR = new InetSocketAddress(HOST, PORT);
-
     public SaosAll() {
         // Set false to not fail immediately when a read exception occurs
         this.failFast = false;
     }
 
-    private static final CliNode CLI_CFG = new CliNodeBuilder()
-            .setPort(new PortNumber(PORT))
-            .setHost(new Host(new IpAddress(new Ipv4Address(HOST))))
-            .setDeviceType(SAOS.getDeviceType())
-            .setDeviceVersion(SAOS.getDeviceVersion())
-            .setTransportType(CliNodeConnectionParameters.TransportType.Ssh)
-            .setCredentials(new LoginPasswordBuilder()
-                    .setUsername("ciena")
-                    .setPassword("ciena")
-                    .build())
-            .setKeepaliveStrategy(new KeepaliveBuilder()
-                    .setKeepaliveDelay(30)
-                    .setKeepaliveTimeout(30)
-                    .setKeepaliveInitialDelay(30)
-                    .build())
-            .build();
-
     @Override
     protected Device getDeviceId() {
         return SAOS;
@@ -75,11 +49,18 @@ public class SaosAll extends io.frinx.cli.unit.ios.it.IosAll {
 
     @Override
     protected CliNode getCliNode() {
-        return CLI_CFG;
+        return cliNode(CliNodeConnectionParameters.TransportType.Ssh, "ciena", "ciena");
     }
 
-    protected InetSocketAddress getAddress() {
-        return ADDR;
+    @Override
+    protected SimulatedDevice createDevice() throws IOException {
+        return SimulatedDevice.builder("saos")
+                .prompt("SAOS-3930>")
+                .login("ciena", "ciena")
+                .unknownCommandOutput("SHELL PARSER FAILURE: invalid input\r\n")
+                .latency(DEVICE_LATENCY)
+                .transcript(Transcript.fromResource("/sim/saos.transcript"))
+                .start();
     }
 
     @Override
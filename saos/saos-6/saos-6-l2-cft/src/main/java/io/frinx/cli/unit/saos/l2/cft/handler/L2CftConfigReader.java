@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -43,7 +44,8 @@ public class L2CftConfigReader implements CliConfigReader<Config, ConfigBuilder>
     public void readCurrentAttributes(@Nonnull InstanceIdentifier<Config> instanceIdentifier,
                                       @Nonnull ConfigBuilder configBuilder,
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
-        parseCftConfig(blockingRead(SHOW_COMMAND, cli, instanceIdentifier, readContext), configBuilder);
+        parseCftConfig(ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND,
+                cli, instanceIdentifier, readContext), configBuilder);
     }
 
     @VisibleForTesting
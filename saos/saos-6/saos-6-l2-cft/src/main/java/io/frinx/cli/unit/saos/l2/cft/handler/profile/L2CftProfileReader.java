@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -45,7 +46,7 @@ public class L2CftProfileReader implements CliConfigListReader<Profile, ProfileK
     @Override
     public List<ProfileKey> getAllIds(@Nonnull InstanceIdentifier<Profile> instanceIdentifier,
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
-        return getAllIds(blockingRead(SHOW_COMMAND, cli, instanceIdentifier, readContext));
+        return getAllIds(ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND, cli, instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
@@ -22,17 +22,21 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.ni.base.handler.NetworkInstanceCatalog;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
 import io.frinx.translate.unit.commons.handler.spi.CompositeListReader;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstance;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceBuilder;
 import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.rev170228.network.instance.top.network.instances.NetworkInstanceKey;
+import org.opendaylight.yang.gen.v1.http.frinx.openconfig.net.yang.network.instance.types.rev170228.L2VSI;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public final class L2VSIReader implements
@@ -66,13 +70,21 @@ public final class L2VSIReader implements
     static List<NetworkInstanceKey> getAllIds(Cli cli, CliReader cliReader,
                                               @Nonnull InstanceIdentifier<?> id,
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
+        return new ArrayList<>(getVirtualSwitches(cli, cliReader, id, readContext).getKeys());
+    }
 
-        String output = cliReader.blockingRead(SH_VIRTUAL_SWITCH_TEMPLATE, cli, id, readContext);
-
-        return ParsingUtils.parseFields(output, 0,
-            VIRTUAL_SWITCH_LINE_PATTERN::matcher,
-            m -> m.group("vsid"),
-            NetworkInstanceKey::new);
+    static NetworkInstanceCatalog.Instances<NetworkInstanceKey> getVirtualSwitches(Cli cli, CliReader cliReader,
+                                                                                  @Nonnull InstanceIdentifier<?> id,
+                                                                                  @Nonnull ReadContext readContext)
+            throws ReadFailedException {
+        return NetworkInstanceCatalog.get(readContext).getKeys(L2VSI.class, SH_VIRTUAL_SWITCH_TEMPLATE, () -> {
+            String output =
+                    ConfigurationSnapshot.blockingRead(cliReader, SH_VIRTUAL_SWITCH_TEMPLATE, cli, id, readContext);
+            return ParsingUtils.parseFields(output, 0,
+                VIRTUAL_SWITCH_LINE_PATTERN::matcher,
+                m -> m.group("vsid"),
+                NetworkInstanceKey::new);
+        });
     }
 
     @Override
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos.network.instance.handler.l2vsi.L2VSIReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -50,7 +51,8 @@ public class L2VSIPointsReader
     public List<ConnectionPointKey> getAllIds(@Nonnull InstanceIdentifier<ConnectionPoint> instanceIdentifier,
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
         String vsId = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
-        String output = blockingRead(L2VSIReader.SH_VIRTUAL_SWITCH_TEMPLATE, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, L2VSIReader.SH_VIRTUAL_SWITCH_TEMPLATE,
+                cli, instanceIdentifier, readContext);
 
         return getAllIds(output, vsId);
     }
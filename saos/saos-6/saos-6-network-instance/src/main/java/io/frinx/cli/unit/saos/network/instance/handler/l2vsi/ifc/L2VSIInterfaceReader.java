@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos.network.instance.handler.l2vsi.L2VSIReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
@@ -53,7 +54,7 @@ public class L2VSIInterfaceReader implements CompositeListReader.Child<Interface
                                         @Nonnull InstanceIdentifier<?> id,
                                         @Nonnull ReadContext readContext) throws ReadFailedException {
 
-        String output = cliReader.blockingRead(SH_VIRTUAL_SWITCH_TEMPLATE, cli, id, readContext);
+        String output = ConfigurationSnapshot.blockingRead(cliReader, SH_VIRTUAL_SWITCH_TEMPLATE, cli, id, readContext);
 
         Pattern pattern = Pattern.compile("virtual-switch ethernet (remove|add) vs " + vsId + " port (?<id>\\d+).*");
         return ParsingUtils.parseFields(output, 0,
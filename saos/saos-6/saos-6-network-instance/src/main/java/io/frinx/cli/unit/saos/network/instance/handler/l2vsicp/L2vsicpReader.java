@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.ChecksMap;
@@ -55,7 +56,7 @@ public final class L2vsicpReader implements
     @Override
     public List<NetworkInstanceKey> getAllIds(@Nonnull InstanceIdentifier<NetworkInstance> instanceIdentifier,
                                               @Nonnull ReadContext readContext) throws ReadFailedException {
-        return getAllIds(blockingRead(SHOW_VC, cli, instanceIdentifier, readContext));
+        return getAllIds(ConfigurationSnapshot.blockingRead(this, SHOW_VC, cli, instanceIdentifier, readContext));
     }
 
     @VisibleForTesting
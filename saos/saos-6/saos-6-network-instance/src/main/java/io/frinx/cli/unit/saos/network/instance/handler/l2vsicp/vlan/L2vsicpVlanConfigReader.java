@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos.network.instance.handler.l2vsicp.L2vsicpReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -59,7 +60,7 @@ public class L2vsicpVlanConfigReader implements CompositeReader.Child<Config, Co
         VlanId vlanId = id.firstKeyOf(Vlan.class).getVlanId();
         String name = id.firstKeyOf(NetworkInstance.class).getName();
 
-        String output = blockingRead(L2vsicpReader.SHOW_VC, cli, id, ctx);
+        String output = ConfigurationSnapshot.blockingRead(this, L2vsicpReader.SHOW_VC, cli, id, ctx);
 
         fillBuilder(builder, output, vlanId, name);
     }
@@ -21,6 +21,7 @@ import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos.network.instance.handler.l2vsicp.L2vsicpReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -48,7 +49,8 @@ public class L2vsicpVlanReader implements CompositeListReader.Child<Vlan, VlanKe
     @Override
     public List<VlanKey> getAllIds(@Nonnull InstanceIdentifier<Vlan> instanceIdentifier,
                                    @Nonnull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(L2vsicpReader.SHOW_VC, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, L2vsicpReader.SHOW_VC,
+                cli, instanceIdentifier, readContext);
         String vcName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
         return getVlanKeys(output, vcName);
     }
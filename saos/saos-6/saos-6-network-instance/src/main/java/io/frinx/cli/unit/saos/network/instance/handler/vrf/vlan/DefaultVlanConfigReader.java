@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.openconfig.network.instance.NetworInstance;
@@ -66,8 +67,10 @@ public class DefaultVlanConfigReader implements CompositeReader.Child<Config, Co
         }
 
         VlanId vlanId = instanceIdentifier.firstKeyOf(Vlan.class).getVlanId();
-        String output = blockingRead(f(SH_RENAMES, vlanId.getValue()), cli, instanceIdentifier, readContext)
-                + "\n" + blockingRead(f(SH_TPID, vlanId.getValue()), cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, f(SH_RENAMES, vlanId.getValue()),
+                cli, instanceIdentifier, readContext)
+                + "\n" + ConfigurationSnapshot.blockingRead(this, f(SH_TPID, vlanId.getValue()),
+                        cli, instanceIdentifier, readContext);
 
         parseVlanConfig(output, configBuilder, new Config1Builder(), vlanId);
     }
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -78,7 +79,7 @@ public class DefaultVlanReader implements CompositeListReader.Child<Vlan, VlanKe
     static List<VlanKey> getIds(Cli cli, CliReader cliReader, @Nonnull InstanceIdentifier<?> instanceIdentifier,
                                    @Nonnull ReadContext readContext) throws ReadFailedException {
 
-        String output = cliReader.blockingRead(SHOW_VLANS, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(cliReader, SHOW_VLANS, cli, instanceIdentifier, readContext);
         List<VlanKey> ids = new ArrayList<>();
 
         ids.addAll(parseAllIds(output, VLAN_ONE));
@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos.network.instance.handler.l2vsi;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -47,6 +48,8 @@ public class VirtualSwitchReaderTest {
     @Test
     public void getAllVsIds() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -57,12 +60,14 @@ public class VirtualSwitchReaderTest {
                 new NetworkInstanceKey(VS_ID_1)
         );
 
-        Assert.assertEquals(expected, L2VSIReader.getAllIds(null, cliReader, null, null));
+        Assert.assertEquals(expected, L2VSIReader.getAllIds(null, cliReader, null, readContext));
     }
 
     @Test
     public void getAllPorts() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -70,10 +75,10 @@ public class VirtualSwitchReaderTest {
 
         List<InterfaceKey> expected1 = Collections.singletonList(new InterfaceKey("1"));
         Assert.assertEquals(expected1, L2VSIInterfaceReader
-                .getAllIds(null, cliReader, VS_ID_1, null, null));
+                .getAllIds(null, cliReader, VS_ID_1, null, readContext));
 
         List<InterfaceKey> expected2 = Collections.singletonList(new InterfaceKey("3"));
         Assert.assertEquals(expected2, L2VSIInterfaceReader
-                .getAllIds(null, cliReader, VS_ID_2, null, null));
+                .getAllIds(null, cliReader, VS_ID_2, null, readContext));
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos.network.instance.handler.vrf.vlan;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -38,6 +39,8 @@ public class DefaultVlanReaderTest {
     @Test
     public void testGetAllIds() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class))).thenReturn(OUTPUT);
@@ -50,7 +53,7 @@ public class DefaultVlanReaderTest {
                 new VlanKey(new VlanId(9)), new VlanKey(new VlanId(10)),
                 new VlanKey(new VlanId(11)), new VlanKey(new VlanId(12)));
 
-        List<VlanKey> allIds = DefaultVlanReader.getIds(null, cliReader, null, null);
+        List<VlanKey> allIds = DefaultVlanReader.getIds(null, cliReader, null, readContext);
         Assert.assertEquals(ids, allIds);
     }
 }
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -54,7 +55,8 @@ public class ProfileSchedulerConfigReader implements CompositeReader.Child<Confi
         if (isProfile(instanceIdentifier, readContext)) {
             String policyName = instanceIdentifier.firstKeyOf(SchedulerPolicy.class).getName();
             Long sequence = instanceIdentifier.firstKeyOf(Scheduler.class).getSequence();
-            String output = blockingRead(SHOW_COMMAND, cli, instanceIdentifier, readContext);
+            String output = ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND,
+                    cli, instanceIdentifier, readContext);
             parseSchedulerConfig(output, configBuilder, policyName, sequence);
         }
     }
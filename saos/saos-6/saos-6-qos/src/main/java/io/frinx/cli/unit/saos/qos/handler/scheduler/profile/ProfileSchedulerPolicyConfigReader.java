@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -51,7 +52,8 @@ public class ProfileSchedulerPolicyConfigReader implements CompositeReader.Child
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         if (isProfile(instanceIdentifier, readContext)) {
             String policyName = instanceIdentifier.firstKeyOf(SchedulerPolicy.class).getName();
-            String output = blockingRead(SHOW_COMMAND, cli, instanceIdentifier, readContext);
+            String output = ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND,
+                    cli, instanceIdentifier, readContext);
             parseSchedulerPolicyConfig(output, configBuilder, policyName);
         }
     }
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -58,7 +59,7 @@ public class ServiceSchedulerPolicyReader
     static List<SchedulerPolicyKey> getAllIds(Cli cli, CliReader cliReader,
                                               InstanceIdentifier<?> id,
                                               ReadContext context) throws ReadFailedException {
-        String output = cliReader.blockingRead(SHOW_COMMAND, cli, id, context);
+        String output = ConfigurationSnapshot.blockingRead(cliReader, SHOW_COMMAND, cli, id, context);
 
         return ParsingUtils.parseFields(output, 0,
             ALL_IDS::matcher,
@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeListReader;
@@ -50,7 +51,7 @@ public class ServiceSchedulerReader implements CompositeListReader.Child<Schedul
     public List<SchedulerKey> getAllIds(@Nonnull InstanceIdentifier<Scheduler> instanceIdentifier,
                                         @Nonnull ReadContext readContext) throws ReadFailedException {
         String portId = instanceIdentifier.firstKeyOf(SchedulerPolicy.class).getName();
-        String output = blockingRead(SHOW_COMMAND, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND, cli, instanceIdentifier, readContext);
         return getAllIds(output, portId);
     }
 
@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos.qos.handler.scheduler.profile;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -52,6 +53,8 @@ public class ProfileSchedulerPolicyReaderTest {
     @Test
     public void getAllIdsTest() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -63,6 +66,6 @@ public class ProfileSchedulerPolicyReaderTest {
                 new SchedulerPolicyKey("Test1"),
                 new SchedulerPolicyKey("Test2"));
 
-        Assert.assertEquals(ids, ProfileSchedulerPolicyReader.getAllIds(null, cliReader, null, null));
+        Assert.assertEquals(ids, ProfileSchedulerPolicyReader.getAllIds(null, cliReader, null, readContext));
     }
 }
@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos.qos.handler.scheduler.service;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -45,6 +46,8 @@ public class ServiceSchedulerPolicyReaderTest {
     @Test
     public void getAllIdsTest() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -56,6 +59,6 @@ public class ServiceSchedulerPolicyReaderTest {
                 new SchedulerPolicyKey("5"),
                 new SchedulerPolicyKey("6"));
 
-        Assert.assertEquals(ids, ServiceSchedulerPolicyReader.getAllIds(null, cliReader, null, null));
+        Assert.assertEquals(ids, ServiceSchedulerPolicyReader.getAllIds(null, cliReader, null, readContext));
     }
 }
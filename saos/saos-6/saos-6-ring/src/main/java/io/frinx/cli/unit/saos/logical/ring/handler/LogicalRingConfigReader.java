@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.regex.Pattern;
@@ -42,7 +43,8 @@ public class LogicalRingConfigReader implements CliConfigReader<Config, ConfigBu
                                       @Nonnull ConfigBuilder configBuilder,
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         String logicalRingName = instanceIdentifier.firstKeyOf(LogicalRing.class).getName();
-        String output = blockingRead(LogicalRingReader.SH_LOGICAL_RING, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, LogicalRingReader.SH_LOGICAL_RING,
+                cli, instanceIdentifier, readContext);
 
         parseConfig(output, configBuilder, logicalRingName);
     }
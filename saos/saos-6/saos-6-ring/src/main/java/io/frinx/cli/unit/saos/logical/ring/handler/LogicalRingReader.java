@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -47,7 +48,7 @@ public class LogicalRingReader implements CliConfigListReader<LogicalRing, Logic
     @Override
     public List<LogicalRingKey> getAllIds(@Nonnull InstanceIdentifier<LogicalRing> instanceIdentifier,
                                           @Nonnull ReadContext readContext) throws ReadFailedException {
-        String output = blockingRead(SH_LOGICAL_RING, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, SH_LOGICAL_RING, cli, instanceIdentifier, readContext);
         return getAllIds(output);
     }
 
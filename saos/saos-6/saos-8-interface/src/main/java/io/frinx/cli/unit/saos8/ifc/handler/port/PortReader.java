@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -74,8 +75,8 @@ public class PortReader implements CliConfigListReader<Interface, InterfaceKey,
                                                @Nonnull InstanceIdentifier id,
                                                @Nonnull ReadContext context) throws ReadFailedException {
 
-        String portOutput = reader.blockingRead(SH_PORTS, cli, id, context);
-        String lagOutput = reader.blockingRead(LAG_PORTS, cli, id, context);
+        String portOutput = ConfigurationSnapshot.blockingRead(reader, SH_PORTS, cli, id, context);
+        String lagOutput = ConfigurationSnapshot.blockingRead(reader, LAG_PORTS, cli, id, context);
 
         List<Pattern> patterns = Arrays.asList(INTERFACE_ID_LINE, LAG_INTERFACE_ID_LINE);
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -44,7 +45,8 @@ public class AggregateConfigReader  implements CliConfigReader<Config1, Config1B
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         if (isPort(instanceIdentifier, readContext)) {
             String ifcName = instanceIdentifier.firstKeyOf(Interface.class).getName();
-            String output = blockingRead(PortReader.SH_PORTS, cli, instanceIdentifier, readContext);
+            String output = ConfigurationSnapshot.blockingRead(this, PortReader.SH_PORTS,
+                    cli, instanceIdentifier, readContext);
             parseConfig(output, config1Builder, ifcName);
         }
     }
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -49,7 +50,8 @@ public class SubPortConfigReader implements CliConfigReader<Config, ConfigBuilde
         if (isPort(instanceIdentifier, readContext)) {
             String parentPort = instanceIdentifier.firstKeyOf(Interface.class).getName();
             Long index = instanceIdentifier.firstKeyOf(Subinterface.class).getIndex();
-            String output = blockingRead(SubPortReader.SHOW_COMMAND, cli, instanceIdentifier, readContext);
+            String output = ConfigurationSnapshot.blockingRead(this, SubPortReader.SHOW_COMMAND,
+                    cli, instanceIdentifier, readContext);
             parseSubPortConfig(output, configBuilder, parentPort, index);
         }
     }
@@ -19,6 +19,7 @@ package io.frinx.cli.unit.saos8.ifc.handler.port.subport;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -44,7 +45,8 @@ public class SubPortPmInstanceConfigReader implements CliConfigReader<Config, Co
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         if (isPort(instanceIdentifier, readContext)) {
             String pmInstanceName = instanceIdentifier.firstKeyOf(PmInstance.class).getName();
-            String output = blockingRead(SubPortPmInstanceReader.SHOW_COMMAND, cli, instanceIdentifier, readContext);
+            String output = ConfigurationSnapshot.blockingRead(this, SubPortPmInstanceReader.SHOW_COMMAND,
+                    cli, instanceIdentifier, readContext);
 
             parsePmInstanceConfig(output, configBuilder, pmInstanceName);
         }
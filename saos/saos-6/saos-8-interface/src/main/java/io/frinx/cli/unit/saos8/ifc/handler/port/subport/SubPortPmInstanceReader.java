@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -56,7 +57,8 @@ public class SubPortPmInstanceReader implements CliConfigListReader<PmInstance,
             Optional<String> subPortName = getSubPortName(instanceIdentifier, readContext, parentPort, index);
 
             if (subPortName.isPresent()) {
-                String output = blockingRead(SHOW_COMMAND, cli, instanceIdentifier, readContext);
+                String output = ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND,
+                        cli, instanceIdentifier, readContext);
                 return getAllIds(output, subPortName.get());
             }
         }
@@ -86,7 +88,7 @@ public class SubPortPmInstanceReader implements CliConfigListReader<PmInstance,
                                             @Nonnull ReadContext readContext,
                                             String parentPort,
                                             Long index) throws ReadFailedException {
-        String subPortNameOutput = blockingRead(SubPortReader.SHOW_COMMAND, cli,
+        String subPortNameOutput = ConfigurationSnapshot.blockingRead(this, SubPortReader.SHOW_COMMAND, cli,
                 instanceIdentifier, readContext);
 
         return SubPortConfigReader.getSubPortName(subPortNameOutput, parentPort, index);
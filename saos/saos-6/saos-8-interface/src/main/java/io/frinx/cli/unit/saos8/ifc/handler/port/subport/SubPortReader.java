@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -49,7 +50,8 @@ public class SubPortReader implements CliConfigListReader<Subinterface, Subinter
                                            @Nonnull ReadContext readContext) throws ReadFailedException {
         if (isPort(instanceIdentifier, readContext)) {
             String parentPort = instanceIdentifier.firstKeyOf(Interface.class).getName();
-            String output = blockingRead(f(SHOW_COMMAND, parentPort), cli, instanceIdentifier, readContext);
+            String output = ConfigurationSnapshot.blockingRead(this, f(SHOW_COMMAND, parentPort),
+                    cli, instanceIdentifier, readContext);
             return getAllIds(output, parentPort);
         }
         return Collections.emptyList();
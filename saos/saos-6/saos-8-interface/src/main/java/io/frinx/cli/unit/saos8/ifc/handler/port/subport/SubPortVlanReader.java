@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.saos8.ifc.handler.port.PortReader;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -59,11 +60,11 @@ public class SubPortVlanReader implements CliConfigReader<Vlan, VlanBuilder> {
             String parentPort = instanceIdentifier.firstKeyOf(Interface.class).getName();
             Long index = instanceIdentifier.firstKeyOf(Subinterface.class).getIndex();
 
-            Optional<String> subPortName = getSubPortName(blockingRead(f(SUB_PORT_NAME_COMMAND, parentPort, index),
-                    cli, instanceIdentifier, readContext));
+            Optional<String> subPortName = getSubPortName(ConfigurationSnapshot.blockingRead(this,
+                    f(SUB_PORT_NAME_COMMAND, parentPort, index), cli, instanceIdentifier, readContext));
 
             if (subPortName.isPresent()) {
-                String output = blockingRead(f(SH_ELEMENTS_COMMAND, subPortName.get()),
+                String output = ConfigurationSnapshot.blockingRead(this, f(SH_ELEMENTS_COMMAND, subPortName.get()),
                         cli, instanceIdentifier, readContext);
                 parseVlan(output, vlanBuilder);
             }
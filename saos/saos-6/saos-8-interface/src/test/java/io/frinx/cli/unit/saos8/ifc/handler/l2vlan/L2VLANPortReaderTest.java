@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos8.ifc.handler.l2vlan;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -38,6 +39,8 @@ public class L2VLANPortReaderTest {
     @Test
     public void getAllIdsTest() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -48,6 +51,6 @@ public class L2VLANPortReaderTest {
                 new InterfaceKey("LP01"),
                 new InterfaceKey("LM01W"),
                 new InterfaceKey("LM01E"));
-        Assert.assertEquals(expected, L2VLANInterfaceReader.getAllIds(null, cliReader, null, null));
+        Assert.assertEquals(expected, L2VLANInterfaceReader.getAllIds(null, cliReader, null, readContext));
     }
 }
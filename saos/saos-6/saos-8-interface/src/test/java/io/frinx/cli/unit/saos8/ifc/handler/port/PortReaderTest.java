@@ -18,6 +18,7 @@
 package io.frinx.cli.unit.saos8.ifc.handler.port;
 
 import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -109,12 +110,14 @@ public class PortReaderTest {
     @Test
     public void getAllIdsTest() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
-                .thenReturn(SH_INTERFACE, SH_AGG_IFACE);
+                .thenReturn(SH_INTERFACE + SH_AGG_IFACE);
 
         Assert.assertEquals(IDS_EXPECTED,
-                PortReader.getAllIds(null, cliReader, null, null));
+                PortReader.getAllIds(null, cliReader, null, readContext));
     }
 }
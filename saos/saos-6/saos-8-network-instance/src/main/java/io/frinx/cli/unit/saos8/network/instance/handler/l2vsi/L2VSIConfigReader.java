@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import io.frinx.translate.unit.commons.handler.spi.CompositeReader;
@@ -50,7 +51,8 @@ public final class L2VSIConfigReader implements CliConfigReader<Config, ConfigBu
                                       @Nonnull ReadContext readContext) throws ReadFailedException {
         if (isVSI(instanceIdentifier, readContext)) {
             String vsName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
-            String output = blockingRead(SH_VIRTUAL_SWITCH_TEMPLATE, cli, instanceIdentifier, readContext);
+            String output = ConfigurationSnapshot.blockingRead(this, SH_VIRTUAL_SWITCH_TEMPLATE,
+                    cli, instanceIdentifier, readContext);
             parseL2VSIConfig(output, configBuilder, vsName);
         }
     }
@@ -67,7 +69,7 @@ public final class L2VSIConfigReader implements CliConfigReader<Config, ConfigBu
     }
 
     private boolean isVSI(InstanceIdentifier<Config> id, ReadContext readContext) throws ReadFailedException {
-        return L2VSIReader.getAllIds(cli, this, id, readContext)
+        return L2VSIReader.getVirtualSwitches(cli, this, id, readContext)
                 .contains(id.firstKeyOf(NetworkInstance.class));
     }
 
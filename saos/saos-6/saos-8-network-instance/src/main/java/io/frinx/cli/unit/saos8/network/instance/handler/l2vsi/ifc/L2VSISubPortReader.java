@@ -22,6 +22,7 @@ import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.builder.BasicCheck;
 import io.fd.honeycomb.translate.spi.builder.Check;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.CliReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
@@ -60,7 +61,7 @@ public class L2VSISubPortReader implements CliConfigListReader<Interface, Interf
                                                      @Nonnull InstanceIdentifier<?> id,
                                                      @Nonnull ReadContext readContext,
                                                      String vsName) throws ReadFailedException {
-        String output = cliReader.blockingRead(SHOW_COMMAND, cli, id, readContext);
+        String output = ConfigurationSnapshot.blockingRead(cliReader, SHOW_COMMAND, cli, id, readContext);
         Pattern subPortPattern = Pattern.compile("virtual-switch interface attach sub-port (?<name>\\S+)"
                 + " vs " + vsName);
 
@@ -20,6 +20,7 @@ import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
+import io.frinx.cli.unit.saos.init.config.ConfigurationSnapshot;
 import io.frinx.cli.unit.utils.CliConfigListReader;
 import io.frinx.cli.unit.utils.ParsingUtils;
 import java.util.List;
@@ -46,7 +47,7 @@ public class VirtualRingReader implements CliConfigListReader<VirtualRing, Virtu
     public List<VirtualRingKey> getAllIds(@Nonnull InstanceIdentifier<VirtualRing> instanceIdentifier,
                                           @Nonnull ReadContext readContext) throws ReadFailedException {
         String vsName = instanceIdentifier.firstKeyOf(NetworkInstance.class).getName();
-        String output = blockingRead(SHOW_COMMAND, cli, instanceIdentifier, readContext);
+        String output = ConfigurationSnapshot.blockingRead(this, SHOW_COMMAND, cli, instanceIdentifier, readContext);
         return getAllIds(output, vsName);
     }
 
@@ -16,6 +16,8 @@
 
 package io.frinx.cli.unit.saos8.network.instance.handler.l2vsi;
 
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
 import io.frinx.cli.unit.utils.CliReader;
@@ -39,6 +41,8 @@ public class L2VSIReaderTest {
     @Test
     public void getAllIds() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         List<NetworkInstanceKey> expected = Arrays.asList(
                 new NetworkInstanceKey("IPVPN_1201"),
@@ -51,6 +55,6 @@ public class L2VSIReaderTest {
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class), Mockito.any(), Mockito.any()))
                 .thenReturn(OUTPUT);
 
-        Assert.assertEquals(expected, L2VSIReader.getAllIds(null, cliReader, null, null));
+        Assert.assertEquals(expected, L2VSIReader.getAllIds(null, cliReader, null, readContext));
     }
 }
@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos8.network.instance.handler.l2vsi.ifc;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -39,6 +40,8 @@ public class L2VSICpuSubinterfaceReaderTest {
     @Test
     public void getAllIdsTest() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -50,7 +53,8 @@ public class L2VSICpuSubinterfaceReaderTest {
                 new InterfaceKey("LM01W"),
                 new InterfaceKey("LM01E"));
 
-        Assert.assertEquals(ids, L2VSICpuSubinterfaceReader.getAllIds(null, cliReader, null, null, "IPVPN 1201"));
+        Assert.assertEquals(ids,
+                L2VSICpuSubinterfaceReader.getAllIds(null, cliReader, null, readContext, "IPVPN 1201"));
     }
 }
 
@@ -16,6 +16,7 @@
 
 package io.frinx.cli.unit.saos8.network.instance.handler.l2vsi.ifc;
 
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.frinx.cli.io.Cli;
@@ -43,6 +44,8 @@ public class L2VSISubPortReaderTest {
     @Test
     public void getAllIdsTest() throws ReadFailedException {
         CliReader cliReader = Mockito.mock(CliReader.class);
+        ReadContext readContext = Mockito.mock(ReadContext.class);
+        Mockito.when(readContext.getModificationCache()).thenReturn(new ModificationCache());
 
         Mockito.when(cliReader.blockingRead(Mockito.anyString(), Mockito.any(Cli.class),
                 Mockito.any(InstanceIdentifier.class), Mockito.any(ReadContext.class)))
@@ -54,6 +57,6 @@ public class L2VSISubPortReaderTest {
                 new InterfaceKey("LAG=LP01_IPTV_800_1"),
                 new InterfaceKey("LAG=LS02W_IPTV_800_1"));
 
-        Assert.assertEquals(ids, L2VSISubPortReader.getAllIds(null, cliReader, null, null, "IPTV_800"));
+        Assert.assertEquals(ids, L2VSISubPortReader.getAllIds(null, cliReader, null, readContext, "IPTV_800"));
     }
 }
@@ -22,6 +22,7 @@ import io.frinx.cli.io.Command;
 import io.frinx.cli.io.Session;
 import io.frinx.cli.io.SessionException;
 import io.frinx.cli.io.SessionInitializationStrategy;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -38,7 +39,7 @@ public class SrosCliInitializationStrategy implements SessionInitializationStrat
     private static final Pattern CONFIG_PROMPT_SUFFIX_PATTERN = Pattern.compile("^.*>edit-cfg.*#.*$");
     private static final String SET_TERMINAL_LENGTH_COMMAND = "environment no more";
 
-    private static final int READ_TIMEOUT_SECONDS = 1;
+    private static final int EXPECT_TIMEOUT_SECONDS = 10;
     private static final int WRITE_TIMEOUT_SECONDS = 10;
 
     private static final Command CONFIG_COMMAND = Command.writeCommand("candidate edit exclusive");
@@ -62,8 +63,8 @@ public class SrosCliInitializationStrategy implements SessionInitializationStrat
                     session, prompt);
 
             LOG.debug("{}: Disable pager to prevent \"Press any key to continue (Q to quit)\" situation", session);
-            write(session, newline, SET_TERMINAL_LENGTH_COMMAND);
-            session.readUntilTimeout(READ_TIMEOUT_SECONDS);
+            new SessionExpect(session, EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .execute(newline, SET_TERMINAL_LENGTH_COMMAND, prompt);
 
             LOG.info("{}: SROS cli session initialized successfully", session);
         } catch (InterruptedException e) {
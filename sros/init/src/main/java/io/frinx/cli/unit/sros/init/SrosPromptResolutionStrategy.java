@@ -17,17 +17,17 @@
 package io.frinx.cli.unit.sros.init;
 
 import io.frinx.cli.io.PromptResolutionStrategy;
-import java.util.Arrays;
-import java.util.List;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public interface SrosPromptResolutionStrategy extends PromptResolutionStrategy {
     Logger LOG = LoggerFactory.getLogger(SrosPromptResolutionStrategy.class);
 
-    int INITIAL_TIME_TO_WAIT = 1;
+    int TIMEOUT_SECONDS = 15;
 
     /**
      * Simple resolution strategy writing newline with space at head and expecting a prompt to be printed.<br>
@@ -37,34 +37,17 @@ public interface SrosPromptResolutionStrategy extends PromptResolutionStrategy {
      */
     @SuppressWarnings({"IllegalCatch", "ConstantName"})
     SrosPromptResolutionStrategy ENTER_AND_READ = (session, newLine) -> {
-        int waitTime = INITIAL_TIME_TO_WAIT;
-        String lastRead = "";
-
         try {
-            while (true) {
-                session.write(" " + newLine + " " + newLine).toCompletableFuture().get();
-                lastRead = session.readUntilTimeout(waitTime);
-                List<String> split = Arrays.stream(lastRead.split(newLine))
-                        .map(String::trim)
-                        .filter(line -> !"".equals(line))
-                        .collect(Collectors.toList());
-
-                if (split.size() == 2 && split.get(0).equals(split.get(1))) {
-                    return split.get(0);
-                }
-
-                waitTime++;
-            }
-
+            return new SessionExpect(session, TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .resolvePrompt(" " + newLine + " " + newLine, newLine, String::isEmpty);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException(e);
-        } catch (ExecutionException | RuntimeException e) {
-            LOG.warn("{}: Unable to perform prompt resolution in {} attempts, last output from device: {}",
-                    session, waitTime, lastRead, e);
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            LOG.warn("{}: Unable to perform prompt resolution in {} seconds", session, TIMEOUT_SECONDS, e);
 
-            throw new IllegalStateException(session + ": Unable to parse prompt in " + waitTime
-                    + " attempts, last output from device: " + lastRead, e);
+            throw new IllegalStateException(session + ": Unable to parse prompt in " + TIMEOUT_SECONDS
+                    + " seconds", e);
         }
     };
 }
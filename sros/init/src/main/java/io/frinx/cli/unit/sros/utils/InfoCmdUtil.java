@@ -16,17 +16,15 @@
 
 package io.frinx.cli.unit.sros.utils;
 
-import io.frinx.translate.unit.commons.handler.spi.ChunkFormatter;
+import io.frinx.cli.unit.handlers.template.TemplateRegistry;
 
 public final class InfoCmdUtil {
 
-    private static final ChunkFormatter FORMAT = new ChunkFormatter(){};
-
     private InfoCmdUtil() {
 
     }
 
-    private static final String INFO_COMMAND_TEMPLATE = "/configure\n"
+    static final String INFO_COMMAND_TEMPLATE = "/configure\n"
         + "{% if ($location) %}"
         + "{$location}\n"
         + "{% endif %}"
@@ -35,6 +33,8 @@ public final class InfoCmdUtil {
         + "\n"
         + "exit all";
 
+    static final TemplateRegistry FORMAT = TemplateRegistry.of(INFO_COMMAND_TEMPLATE);
+
     public static String genInfoCommand(String location, String pipe) {
         return FORMAT.fT(INFO_COMMAND_TEMPLATE,
             "location", location,
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2020 Frinx and others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.frinx.cli.unit.sros.utils;
+
+import io.frinx.translate.unit.commons.handler.spi.ChunkFormatter;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InfoCmdUtilTest {
+
+    private static final ChunkFormatter CHUNK_FORMATTER = new ChunkFormatter(){};
+
+    @Test
+    public void testCompiledTemplate() {
+        Assert.assertTrue(InfoCmdUtil.FORMAT.isCompiled(InfoCmdUtil.INFO_COMMAND_TEMPLATE));
+        assertSameAsChunkFormatter("router Base", "match \"interface\" context all");
+        assertSameAsChunkFormatter("router Base", null);
+        assertSameAsChunkFormatter(null, "match \"ipsec\" context all");
+        assertSameAsChunkFormatter(null, null);
+    }
+
+    @Test
+    public void testGenInfoCommand() {
+        Assert.assertEquals("/configure\nrouter \"Base\"\ninfo | match interface\nexit all",
+                InfoCmdUtil.genInfoCommand(new InfoCmdUtil.Settings("router \"{$name}\"", "match {$what}"),
+                        "name", "Base", "what", "interface"));
+        Assert.assertEquals("/configure\nipsec\ninfo\nexit all",
+                InfoCmdUtil.genInfoCommand(new InfoCmdUtil.Settings("ipsec")));
+    }
+
+    private static void assertSameAsChunkFormatter(String location, String pipe) {
+        Assert.assertEquals(CHUNK_FORMATTER.fT(InfoCmdUtil.INFO_COMMAND_TEMPLATE, "location", location, "pipe", pipe),
+                InfoCmdUtil.genInfoCommand(location, pipe));
+    }
+}
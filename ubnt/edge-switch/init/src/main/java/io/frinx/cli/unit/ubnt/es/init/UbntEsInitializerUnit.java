@@ -21,12 +21,12 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareReadRegistryBuilder;
 import io.fd.honeycomb.translate.spi.builder.CustomizerAwareWriteRegistryBuilder;
-import io.frinx.cli.io.PromptResolutionStrategy;
 import io.frinx.cli.io.Session;
 import io.frinx.cli.io.SessionException;
 import io.frinx.cli.io.SessionInitializationStrategy;
 import io.frinx.cli.registry.api.TranslationUnitCollector;
 import io.frinx.cli.topology.RemoteDeviceId;
+import io.frinx.cli.unit.handlers.init.SessionExpect;
 import io.frinx.cli.unit.utils.AbstractUnit;
 import java.util.Arrays;
 import java.util.Collections;
@@ -104,12 +104,10 @@ public class UbntEsInitializerUnit extends AbstractUnit {
      * Initialize IOS CLI session to be usable by various CRUD and RPC handlers.
      */
     public static class UbntEsInitializer implements SessionInitializationStrategy {
-        private static final String PASSWORD_PROMPT = "Password:";
         private static final String PRIVILEGED_PROMPT_SUFFIX = "#";
         private static final String ENABLE_COMMAND = "enable";
         private static final String SET_TERMINAL_LENGTH_COMMAND = "terminal length 0";
-        private static final int WRITE_TIMEOUT_SECONDS = 10;
-        private static final int READ_TIMEOUT_SECONDS = 1;
+        private static final int EXPECT_TIMEOUT_SECONDS = 10;
 
         private final CliNode context;
         private final RemoteDeviceId id;
@@ -122,19 +120,19 @@ public class UbntEsInitializerUnit extends AbstractUnit {
         @Override
         public void accept(@Nonnull Session session, @Nonnull String newline) {
             try {
-                final String initialPrompt =
-                        PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
+                SessionExpect expect = new SessionExpect(session, EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                final String initialPrompt = expect.resolvePrompt(newline);
 
                 // If already in privileged mode, don't do anything else
                 if (initialPrompt.endsWith(PRIVILEGED_PROMPT_SUFFIX)) {
                     LOG.info("{}: {} cli session already privileged", id, getOsNameForLogging());
                 } else {
                     // Enable privileged mode
-                    tryToEnterPrivilegedMode(session, newline);
+                    tryToEnterPrivilegedMode(session, expect, newline);
                 }
 
                 // Check if we are actually in privileged mode
-                String prompt = PromptResolutionStrategy.ENTER_AND_READ.resolvePrompt(session, newline).trim();
+                String prompt = expect.resolvePrompt(newline);
 
                 // If not, fail
                 Preconditions.checkState(prompt.endsWith(PRIVILEGED_PROMPT_SUFFIX),
@@ -147,9 +145,7 @@ public class UbntEsInitializerUnit extends AbstractUnit {
                 LOG.debug("{}: Setting terminal length to 0 to prevent \"--More--\" situation", id);
                 write(session, newline, SET_TERMINAL_LENGTH_COMMAND);
 
-                String initOutput = session.readUntilOutput(prompt)
-                        .toCompletableFuture()
-                        .get();
+                String initOutput = expect.expectPrompt(prompt);
 
                 LOG.debug("{}: {} cli session initialized output: {}", id, getOsNameForLogging(), initOutput);
             } catch (InterruptedException e) {
@@ -165,39 +161,36 @@ public class UbntEsInitializerUnit extends AbstractUnit {
             return "Ubiquiti edgeSwitch";
         }
 
-        private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull String newline)
+        private void tryToEnterPrivilegedMode(@Nonnull Session session, @Nonnull SessionExpect expect,
+                                              @Nonnull String newline)
                 throws InterruptedException, ExecutionException, TimeoutException {
 
             write(session, newline, ENABLE_COMMAND);
-            String enableCommandOutput = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
+            SessionExpect.Match enableCommandOutput = expect.expect(SessionExpect.PASSWORD_PROMPT,
+                    SessionExpect.PROMPT);
 
             // password is requested
-            // TODO When reading from session, we can see all previously
-            // unread output, that is also previous commands, prompt, etc.
-            // That's why we have to use String#endWith method to check
-            // if command's output matches something.
-            // Can we hide this in session's API?
-            if (enableCommandOutput.endsWith(PASSWORD_PROMPT)) {
+            if (enableCommandOutput.is(SessionExpect.PASSWORD_PROMPT)) {
                 String password = getEnablePasswordFromCliNode();
                 write(session, newline, password);
 
-                String output = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
-                if (output.endsWith(PASSWORD_PROMPT)) {
+                SessionExpect.Match output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
+                if (output.is(SessionExpect.PASSWORD_PROMPT)) {
                     LOG.warn("{}: Specified enable password is not correct", id);
 
                     // We have entered incorrect password and we can be asked for
                     // correct one multiple times. Just skip those requests.
-                    while (output.endsWith(PASSWORD_PROMPT)) {
-                        session.write(newline).toCompletableFuture().get(WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                        output = session.readUntilTimeout(READ_TIMEOUT_SECONDS).trim();
+                    while (output.is(SessionExpect.PASSWORD_PROMPT)) {
+                        session.write(newline).toCompletableFuture().get(EXPECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        output = expect.expect(SessionExpect.PASSWORD_PROMPT, SessionExpect.PROMPT);
                     }
 
                 } else {
-                    LOG.debug("{}: Entering enable password resulted in output: {}", id, output);
+                    LOG.debug("{}: Entering enable password resulted in output: {}", id, output.getOutput());
                 }
             } else {
                 LOG.debug("{}: enable command did not resulted in password prompt, enable command output: {}",
-                        id, enableCommandOutput);
+                        id, enableCommandOutput.getOutput());
             }
         }
 